@@ -0,0 +1,59 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.benchmarks.data.SyntheticData;
+import com.appsmith.git.helpers.DSLTransformerHelper;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flattening of a page DSL into one entry per widget, as done for every page when a git connected application is
+ * written to the file system.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DSLTransformerHelperBenchmark {
+
+    @Param({"50", "500", "2000"})
+    public int widgetCount;
+
+    private String dsl;
+
+    private JSONObject dslObject;
+
+    @Setup(Level.Trial)
+    public void generateDsl() {
+        dsl = SyntheticData.dsl(widgetCount);
+    }
+
+    /**
+     * Flattening removes the children of the widgets it walks, so every invocation gets a DSL of its own. Even the
+     * smallest DSL takes long enough to flatten for the per invocation setup to not skew the measurement.
+     */
+    @Setup(Level.Invocation)
+    public void parseDsl() {
+        dslObject = new JSONObject(dsl);
+    }
+
+    @Benchmark
+    public Map<String, JSONObject> flatten() {
+        return DSLTransformerHelper.flatten(dslObject);
+    }
+}
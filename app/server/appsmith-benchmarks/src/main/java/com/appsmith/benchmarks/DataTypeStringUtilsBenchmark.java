@@ -0,0 +1,60 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.benchmarks.data.SyntheticData;
+import com.appsmith.external.helpers.DataTypeStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detection of the data type of a string, which runs for every parameter of a prepared statement and every value
+ * compared while filtering. Run with `-prof gc` to see the allocation per converted string.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataTypeStringUtilsBenchmark {
+
+    private static final int SAMPLE_COUNT = 1200;
+
+    private String[] samples;
+
+    @Setup
+    public void setUp() {
+        samples = SyntheticData.dataTypeSamples(SAMPLE_COUNT);
+    }
+
+    /**
+     * Reported per converted string, over a mix of all the data types.
+     */
+    @Benchmark
+    @OperationsPerInvocation(SAMPLE_COUNT)
+    public void stringToKnownDataTypeConverter(Blackhole blackhole) {
+        for (String sample : samples) {
+            blackhole.consume(DataTypeStringUtils.stringToKnownDataTypeConverter(sample));
+        }
+    }
+
+    /**
+     * Reported per converted string, for the same values classified together as a column.
+     */
+    @Benchmark
+    @OperationsPerInvocation(SAMPLE_COUNT)
+    public void stringToKnownDataTypes(Blackhole blackhole) {
+        blackhole.consume(DataTypeStringUtils.stringToKnownDataTypes(samples));
+    }
+}
@@ -0,0 +1,102 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.benchmarks.data.SyntheticData;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.FilterDataServiceCE;
+import com.appsmith.external.services.ce.H2FilterDataService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
+
+/**
+ * In memory filtering, sorting and pagination of query results, as done for the UQI where clause of the plugins that
+ * can not filter on the datasource itself. The H2 based implementation that the columnar engine replaced is measured
+ * on the same data, for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterDataServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rowCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final FilterDataServiceCE filterDataService = new FilterDataServiceCE();
+
+    private final H2FilterDataService h2FilterDataService = new H2FilterDataService();
+
+    private ArrayNode rows;
+
+    private UQIDataFilterParams whereOnlyParams;
+
+    private UQIDataFilterParams whereSortAndPaginateParams;
+
+    @Setup
+    public void setUp() {
+        rows = SyntheticData.tableRows(objectMapper, rowCount);
+
+        Condition condition = parseWhereClause(Map.of(
+                "condition",
+                "AND",
+                "children",
+                List.of(
+                        Map.of("key", "age", "condition", "GTE", "value", "30"),
+                        Map.of("key", "active", "condition", "EQ", "value", "true"),
+                        Map.of(
+                                "condition",
+                                "OR",
+                                "children",
+                                List.of(
+                                        Map.of("key", "city", "condition", "EQ", "value", "Berlin"),
+                                        Map.of("key", "salary", "condition", "LT", "value", "100000"))))));
+
+        whereOnlyParams = new UQIDataFilterParams(condition, null, null, null);
+        whereSortAndPaginateParams = new UQIDataFilterParams(
+                condition,
+                List.of("id", "name", "email", "salary"),
+                List.of(Map.of("column", "salary", "order", "Descending")),
+                Map.of("limit", "20", "offset", "100"));
+    }
+
+    @Benchmark
+    public ArrayNode filterDataNew_where() {
+        return filterDataService.filterDataNew(rows, whereOnlyParams);
+    }
+
+    @Benchmark
+    public ArrayNode filterDataNew_whereSortAndPaginate() {
+        return filterDataService.filterDataNew(rows, whereSortAndPaginateParams);
+    }
+
+    @Benchmark
+    public ArrayNode filterDataUsingH2_where() {
+        return h2FilterDataService.filterData(rows, whereOnlyParams, null);
+    }
+
+    @Benchmark
+    public ArrayNode filterDataUsingH2_whereSortAndPaginate() {
+        return h2FilterDataService.filterData(rows, whereSortAndPaginateParams, null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.benchmarks.data.SyntheticData;
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.MustacheBindingToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokenizing and rendering of mustache templates, which happens for every field of every action that is executed.
+ * Run with `-prof gc` to see the allocation per execution next to the latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MustacheHelperBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int bindingCount;
+
+    private String template;
+
+    private Map<String, String> context;
+
+    @Setup
+    public void setUp() {
+        template = SyntheticData.queryWithBindings(bindingCount);
+        context = SyntheticData.bindingValues(bindingCount);
+    }
+
+    @Benchmark
+    public List<MustacheBindingToken> tokenize() {
+        return MustacheHelper.tokenize(template);
+    }
+
+    @Benchmark
+    public String render() {
+        return MustacheHelper.render(template, context);
+    }
+
+    @Benchmark
+    public String renderCompiled() {
+        return MustacheHelper.compile(template).render(context);
+    }
+
+    /**
+     * Rendering replaces the field values in place, so every invocation renders a configuration of its own. Creating
+     * the configuration is cheap in comparison to walking it.
+     */
+    @Benchmark
+    public ActionConfiguration renderFieldValues() {
+        return MustacheHelper.renderFieldValues(SyntheticData.actionConfiguration(bindingCount), context);
+    }
+
+    /**
+     * What `PluginExecutor.variableSubstitution` does for a REST API action: render the datasource configuration,
+     * and then the action configuration.
+     */
+    @Benchmark
+    public ActionConfiguration variableSubstitutionForRestApi() {
+        MustacheHelper.renderFieldValues(SyntheticData.datasourceConfiguration(), context);
+        return MustacheHelper.renderFieldValues(SyntheticData.actionConfiguration(bindingCount), context);
+    }
+
+    /**
+     * What `PluginExecutor.variableSubstitution` does for a SQL query action.
+     */
+    @Benchmark
+    public ActionConfiguration variableSubstitutionForSqlQuery() {
+        MustacheHelper.renderFieldValues(SyntheticData.datasourceConfiguration(), context);
+        return MustacheHelper.renderFieldValues(SyntheticData.sqlActionConfiguration(bindingCount), context);
+    }
+}
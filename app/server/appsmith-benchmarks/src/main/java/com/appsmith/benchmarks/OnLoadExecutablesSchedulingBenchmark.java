@@ -0,0 +1,132 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.benchmarks.data.SyntheticData;
+import com.appsmith.external.dtos.DslExecutableDTO;
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.CreatorContextType;
+import com.appsmith.external.models.Executable;
+import com.appsmith.server.domains.ExecutableDependencyEdge;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.onload.executables.ExecutableOnLoadService;
+import com.appsmith.server.onload.internal.OnLoadExecutablesUtilImpl;
+import com.appsmith.server.services.AstService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Computing the on page load schedule of a page: building the dependency graph between widgets and actions, and
+ * walking it level by level. This runs every time a page layout is saved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OnLoadExecutablesSchedulingBenchmark {
+
+    private static final int EVALUATION_VERSION = 2;
+
+    @Param({"20", "100"})
+    public int actionCount;
+
+    @Param({"100", "1000"})
+    public int widgetCount;
+
+    private OnLoadExecutablesUtilImpl onLoadExecutablesUtil;
+
+    private Set<String> widgetNames;
+
+    private Map<String, Set<String>> widgetBindings;
+
+    @Setup
+    public void setUp() {
+        List<Executable> executables = new ArrayList<>(SyntheticData.pageActions(actionCount));
+        onLoadExecutablesUtil = new OnLoadExecutablesUtilImpl(
+                wordBasedAstService(), new ObjectMapper(), inMemoryExecutableOnLoadService(executables));
+        widgetNames = SyntheticData.widgetNames(widgetCount);
+        widgetBindings = SyntheticData.widgetBindings(widgetCount, actionCount);
+    }
+
+    @Benchmark
+    public List<Set<DslExecutableDTO>> findAllOnLoadExecutables() {
+        Set<ExecutableDependencyEdge> edges = new HashSet<>();
+        List<Executable> flatPageLoadExecutables = new ArrayList<>();
+        Set<String> executablesUsedInDsl = new HashSet<>();
+
+        return onLoadExecutablesUtil
+                .findAllOnLoadExecutables(
+                        "page",
+                        EVALUATION_VERSION,
+                        widgetNames,
+                        edges,
+                        widgetBindings,
+                        flatPageLoadExecutables,
+                        executablesUsedInDsl,
+                        CreatorContextType.PAGE)
+                .block();
+    }
+
+    /**
+     * Finds references the way the server does when RTS is not available, so that the benchmark measures the
+     * scheduling itself rather than the calls to RTS. Only the method called while scheduling is stubbed.
+     */
+    private static AstService wordBasedAstService() {
+        AstService astService = mock(AstService.class, withSettings().stubOnly());
+        when(astService.getPossibleReferencesFromDynamicBinding(anyList(), anyInt()))
+                .thenAnswer(invocation -> {
+                    List<String> bindingValues = invocation.getArgument(0);
+                    return Flux.fromIterable(bindingValues)
+                            .map(bindingValue -> Tuples.of(
+                                    bindingValue, new HashSet<>(MustacheHelper.getPossibleParentsOld(bindingValue))));
+                });
+        return astService;
+    }
+
+    /**
+     * Serves the actions of the page from memory instead of the database. Only the methods called while scheduling
+     * are stubbed.
+     */
+    @SuppressWarnings("unchecked")
+    private static ExecutableOnLoadService<NewPage> inMemoryExecutableOnLoadService(List<Executable> executables) {
+        ExecutableOnLoadService<NewPage> executableOnLoadService =
+                mock(ExecutableOnLoadService.class, withSettings().stubOnly());
+        when(executableOnLoadService.getAllExecutablesByCreatorIdFlux(anyString()))
+                .thenAnswer(invocation -> Flux.fromIterable(executables));
+        when(executableOnLoadService.fillSelfReferencingPaths(any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(executableOnLoadService.getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(anyString()))
+                .thenAnswer(invocation -> Flux.fromIterable(executables)
+                        .filter(executable -> Boolean.TRUE.equals(executable.getUserSetOnLoad())
+                                && Boolean.TRUE.equals(executable.getExecuteOnLoad())));
+        return executableOnLoadService;
+    }
+}
@@ -0,0 +1,112 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.benchmarks.data.SyntheticData;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.repositories.ActionCollectionRepository;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.ThemeRepository;
+import com.appsmith.server.solutions.ApplicationPermission;
+import com.appsmith.server.solutions.DatasourcePermission;
+import com.appsmith.server.solutions.PagePermission;
+import com.appsmith.server.solutions.PolicySolution;
+import com.appsmith.server.solutions.PolicySolutionImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Merging of policies into domain objects and deriving the policies of child entities, which runs for every page,
+ * action and datasource when permissions of an application or workspace change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolicySolutionBenchmark {
+
+    @Param({"5", "50", "500"})
+    public int permissionGroupCount;
+
+    private PolicySolution policySolution;
+
+    private Map<String, Policy> existingPolicies;
+
+    private Map<String, Policy> newPolicies;
+
+    @Setup
+    public void setUp() {
+        PolicyGenerator policyGenerator = new PolicyGenerator();
+        policyGenerator.createPolicyGraph();
+
+        // Only the methods that do not touch the database are measured, so the repositories are never stubbed
+        policySolution = new PolicySolutionImpl(
+                policyGenerator,
+                mock(ApplicationRepository.class, withSettings().stubOnly()),
+                mock(DatasourceRepository.class, withSettings().stubOnly()),
+                mock(NewPageRepository.class, withSettings().stubOnly()),
+                mock(NewActionRepository.class, withSettings().stubOnly()),
+                mock(ActionCollectionRepository.class, withSettings().stubOnly()),
+                mock(ThemeRepository.class, withSettings().stubOnly()),
+                mock(DatasourcePermission.class, withSettings().stubOnly()),
+                mock(ApplicationPermission.class, withSettings().stubOnly()),
+                mock(PagePermission.class, withSettings().stubOnly()));
+
+        existingPolicies = SyntheticData.applicationPolicies(permissionGroupCount, "existing-");
+        newPolicies = SyntheticData.applicationPolicies(permissionGroupCount, "new-");
+    }
+
+    /**
+     * Adding policies changes the object in place, so every invocation merges into a fresh copy of the existing
+     * policies.
+     */
+    @Benchmark
+    public Datasource addPoliciesToExistingObject() {
+        Set<Policy> policies = new HashSet<>();
+        existingPolicies.values().forEach(policy -> policies.add(Policy.builder()
+                .permission(policy.getPermission())
+                .permissionGroups(new HashSet<>(policy.getPermissionGroups()))
+                .build()));
+
+        Datasource datasource = new Datasource();
+        datasource.setPolicies(policies);
+        return policySolution.addPoliciesToExistingObject(newPolicies, datasource);
+    }
+
+    @Benchmark
+    public Map<String, Policy> generateInheritedPoliciesForPages() {
+        return policySolution.generateInheritedPoliciesFromSourcePolicies(
+                existingPolicies, Application.class, NewPage.class);
+    }
+
+    @Benchmark
+    public Map<String, Policy> generateInheritedPoliciesForActions() {
+        return policySolution.generateInheritedPoliciesFromSourcePolicies(
+                existingPolicies, Application.class, NewAction.class);
+    }
+}
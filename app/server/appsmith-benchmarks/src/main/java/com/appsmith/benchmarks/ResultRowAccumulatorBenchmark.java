@@ -0,0 +1,66 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.benchmarks.data.SyntheticData;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.helpers.ResultRowAccumulator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Materializing the rows of a JDBC result set into the json body of the action execution result, compared with
+ * collecting them into maps and converting the whole list at the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultRowAccumulatorBenchmark {
+
+    @Param({"1000", "100000"})
+    public int rowCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<Map<String, Object>> rows;
+
+    @Setup
+    public void setUp() {
+        rows = SyntheticData.resultSetRows(rowCount);
+    }
+
+    @Benchmark
+    public ArrayNode accumulateRows() {
+        ResultRowAccumulator accumulator =
+                new ResultRowAccumulator(objectMapper, Long.MAX_VALUE, AppsmithPluginError.PLUGIN_ERROR);
+        for (Map<String, Object> row : rows) {
+            accumulator.startRow();
+            for (Map.Entry<String, Object> cell : row.entrySet()) {
+                accumulator.addCell(cell.getKey(), cell.getValue());
+            }
+        }
+        return accumulator.getRows();
+    }
+
+    @Benchmark
+    public JsonNode valueToTree() {
+        return objectMapper.valueToTree(rows);
+    }
+}
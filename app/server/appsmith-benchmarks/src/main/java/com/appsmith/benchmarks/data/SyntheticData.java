@@ -0,0 +1,344 @@
+package com.appsmith.benchmarks.data;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Policy;
+import com.appsmith.external.models.Property;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Application;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generators for the data that the benchmarks run on. All the data is derived from a fixed seed, so that every run
+ * of a benchmark works on exactly the same input, without needing a database or any other service.
+ */
+public class SyntheticData {
+
+    public static final long SEED = 42L;
+
+    private static final String[] FIRST_NAMES = {"Ada", "Grace", "Alan", "Linus", "Margaret", "Dennis", "Barbara"};
+
+    private static final String[] CITIES = {"Bengaluru", "San Francisco", "Berlin", "Lagos", "São Paulo", "Tokyo"};
+
+    private SyntheticData() {}
+
+    /**
+     * A query body like the ones written in the query editor, with the given number of mustache bindings in it.
+     */
+    public static String queryWithBindings(int bindingCount) {
+        StringBuilder query = new StringBuilder("SELECT * FROM users WHERE 1 = 1");
+        for (int i = 0; i < bindingCount; i++) {
+            query.append("\n  AND column_")
+                    .append(i)
+                    .append(" = {{ Table1.selectedRow.column_")
+                    .append(i)
+                    .append(" || Input")
+                    .append(i)
+                    .append(".text }}");
+        }
+        return query.append("\nLIMIT {{ Table1.pageSize }} OFFSET {{ Table1.pageOffset }};")
+                .toString();
+    }
+
+    /**
+     * The values that the bindings in {@link #queryWithBindings(int)} and {@link #actionConfiguration(int)} evaluate
+     * to, keyed by the binding.
+     */
+    public static Map<String, String> bindingValues(int bindingCount) {
+        Map<String, String> context = new HashMap<>();
+        for (int i = 0; i < bindingCount; i++) {
+            context.put(" Table1.selectedRow.column_" + i + " || Input" + i + ".text ", "value-" + i);
+            context.put(" Input" + i + ".text ", "header-" + i);
+        }
+        context.put(" Table1.pageSize ", "20");
+        context.put(" Table1.pageOffset ", "40");
+        return context;
+    }
+
+    /**
+     * An API action configuration with bindings in its body, headers and query parameters.
+     */
+    public static ActionConfiguration actionConfiguration(int bindingCount) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("/api/v1/users/{{ Table1.pageSize }}");
+        actionConfiguration.setBody(queryWithBindings(bindingCount));
+
+        List<Property> headers = new ArrayList<>();
+        List<Property> queryParameters = new ArrayList<>();
+        for (int i = 0; i < bindingCount; i++) {
+            headers.add(new Property("X-Header-" + i, "{{ Input" + i + ".text }}"));
+            queryParameters.add(new Property("param" + i, "{{ Table1.selectedRow.column_" + i + " || Input" + i
+                    + ".text }}"));
+        }
+        actionConfiguration.setHeaders(headers);
+        actionConfiguration.setQueryParameters(queryParameters);
+        return actionConfiguration;
+    }
+
+    /**
+     * A SQL query action configuration as it is saved by the query editor, with the bindings in the body and a few
+     * plugin specific settings in the form data.
+     */
+    public static ActionConfiguration sqlActionConfiguration(int bindingCount) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(queryWithBindings(bindingCount));
+        actionConfiguration.setTimeoutInMillisecond("10000");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "true")));
+
+        Map<String, Object> formData = new HashMap<>();
+        formData.put("preparedStatement", Map.of("data", true));
+        formData.put("limit", Map.of("data", "{{ Table1.pageSize }}"));
+        actionConfiguration.setFormData(formData);
+        return actionConfiguration;
+    }
+
+    /**
+     * A datasource configuration with an endpoint, credentials and connection properties, none of which have bindings
+     * in them, as is the case for nearly all datasources.
+     */
+    public static DatasourceConfiguration datasourceConfiguration() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("https://api.example.com");
+        datasourceConfiguration.setEndpoints(List.of(new Endpoint("db.example.com", 5432L)));
+
+        DBAuth authentication = new DBAuth();
+        authentication.setUsername("appsmith");
+        authentication.setPassword("secret");
+        authentication.setDatabaseName("users");
+        datasourceConfiguration.setAuthentication(authentication);
+
+        Connection connection = new Connection();
+        connection.setMode(Connection.Mode.READ_WRITE);
+        connection.setSsl(new SSLDetails());
+        datasourceConfiguration.setConnection(connection);
+
+        datasourceConfiguration.setHeaders(List.of(new Property("Content-Type", "application/json")));
+        datasourceConfiguration.setProperties(List.of(new Property("Use mongo connection string URI", "No")));
+        return datasourceConfiguration;
+    }
+
+    /**
+     * Strings of all the shapes that the data type detection has to tell apart: integers, longs, floats, booleans,
+     * dates, times, timestamps, JSON objects and arrays, and plain text.
+     */
+    public static String[] dataTypeSamples(int sampleCount) {
+        Random random = new Random(SEED);
+        String[] samples = new String[sampleCount];
+        for (int i = 0; i < sampleCount; i++) {
+            samples[i] = switch (i % 12) {
+                case 0 -> String.valueOf(random.nextInt(100_000));
+                case 1 -> String.format("%,d", random.nextInt(10_000_000));
+                case 2 -> String.valueOf(random.nextLong());
+                case 3 -> String.valueOf(random.nextDouble() * 1000);
+                case 4 -> String.valueOf(random.nextBoolean());
+                case 5 -> LocalDate.of(2000 + random.nextInt(30), 1 + random.nextInt(12), 1 + random.nextInt(28))
+                        .toString();
+                case 6 -> String.format("%02d:%02d:%02d", random.nextInt(24), random.nextInt(60), random.nextInt(60));
+                case 7 -> String.format(
+                        "2023-%02d-%02d %02d:%02d:%02d",
+                        1 + random.nextInt(12),
+                        1 + random.nextInt(28),
+                        random.nextInt(24),
+                        random.nextInt(60),
+                        random.nextInt(60));
+                case 8 -> "{\"id\": " + random.nextInt(1000) + ", \"name\": \"" + name(random) + "\"}";
+                case 9 -> "[" + random.nextInt(10) + ", " + random.nextInt(10) + ", " + random.nextInt(10) + "]";
+                case 10 -> "null";
+                default -> name(random) + " lives in " + CITIES[random.nextInt(CITIES.length)];
+            };
+        }
+        return samples;
+    }
+
+    /**
+     * Rows of a users table, as they would be returned by a query and then filtered on the server.
+     */
+    public static ArrayNode tableRows(ObjectMapper objectMapper, int rowCount) {
+        Random random = new Random(SEED);
+        ArrayNode rows = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode row = rows.addObject();
+            row.put("id", i);
+            row.put("name", name(random));
+            row.put("email", "user" + i + "@example.com");
+            row.put("age", 18 + random.nextInt(60));
+            row.put("salary", String.valueOf(20_000 + random.nextInt(200_000)));
+            row.put("city", CITIES[random.nextInt(CITIES.length)]);
+            row.put("joinedOn", LocalDate.of(2010 + random.nextInt(14), 1 + random.nextInt(12), 1 + random.nextInt(28))
+                    .toString());
+            row.put("active", random.nextBoolean());
+        }
+        return rows;
+    }
+
+    /**
+     * Rows as they are read from a JDBC result set, with the value types that the drivers return.
+     */
+    public static List<Map<String, Object>> resultSetRows(int rowCount) {
+        Random random = new Random(SEED);
+        List<Map<String, Object>> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("account_id", (long) i * Integer.MAX_VALUE);
+            row.put("name", name(random));
+            row.put("email", "user" + i + "@example.com");
+            row.put("balance", BigDecimal.valueOf(random.nextInt(10_000_000), 2));
+            row.put("score", random.nextDouble());
+            row.put("active", random.nextBoolean());
+            row.put("created_at", "2023-01-01T10:15:30Z");
+            row.put("deleted_at", null);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * A page DSL with the given number of widgets, spread across containers and tabs, serialized to a string so that
+     * every benchmark invocation can parse its own copy.
+     */
+    public static String dsl(int widgetCount) {
+        JSONObject mainContainer = canvas("MainContainer");
+        JSONArray mainChildren = mainContainer.getJSONArray("children");
+
+        int widgetsPerContainer = 10;
+        int index = 0;
+        while (index < widgetCount) {
+            JSONObject container = widget("Container" + index, "CONTAINER_WIDGET");
+            JSONObject containerCanvas = canvas("Canvas" + index);
+            container.put("children", new JSONArray().put(containerCanvas));
+            mainChildren.put(container);
+            index++;
+
+            for (int i = 0; i < widgetsPerContainer && index < widgetCount; i++, index++) {
+                JSONObject child = index % 3 == 0
+                        ? widget("Table" + index, "TABLE_WIDGET_V2")
+                        : widget("Text" + index, "TEXT_WIDGET");
+                child.put("text", "{{ Query" + (index % 50) + ".data[0].name }}");
+                child.put(
+                        "dynamicBindingPathList", new JSONArray().put(new JSONObject().put("key", "text")));
+                containerCanvas.getJSONArray("children").put(child);
+            }
+        }
+        return mainContainer.toString();
+    }
+
+    private static JSONObject canvas(String widgetName) {
+        return widget(widgetName, "CANVAS_WIDGET").put("children", new JSONArray());
+    }
+
+    private static JSONObject widget(String widgetName, String type) {
+        return new JSONObject()
+                .put("widgetName", widgetName)
+                .put("widgetId", widgetName.toLowerCase())
+                .put("type", type)
+                .put("topRow", 0)
+                .put("bottomRow", 10)
+                .put("leftColumn", 0)
+                .put("rightColumn", 64);
+    }
+
+    /**
+     * Queries on a page where each query reads the result of the previous few, so that the on load schedule has
+     * several levels.
+     */
+    public static List<ActionDTO> pageActions(int actionCount) {
+        List<ActionDTO> actions = new ArrayList<>(actionCount);
+        for (int i = 0; i < actionCount; i++) {
+            ActionDTO action = new ActionDTO();
+            action.setId("action" + i);
+            action.setName("Query" + i);
+            action.setPageId("page");
+            action.setPluginType(PluginType.DB);
+            action.setExecuteOnLoad(false);
+
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            Set<String> jsonPathKeys = new HashSet<>();
+            if (i % 5 == 0) {
+                actionConfiguration.setBody("SELECT * FROM users LIMIT 10;");
+            } else {
+                String dependency = "Query" + (i - 1 - i % 3) + ".data[0].id";
+                actionConfiguration.setBody("SELECT * FROM orders WHERE user_id = {{ " + dependency + " }};");
+                jsonPathKeys.add(" " + dependency + " ");
+                action.setDynamicBindingPathList(List.of(new Property("body", null)));
+            }
+            action.setActionConfiguration(actionConfiguration);
+            action.setJsonPathKeys(jsonPathKeys);
+            actions.add(action);
+        }
+        return actions;
+    }
+
+    /**
+     * Bindings of the widgets on a page, keyed by the widget property path, as they are found when walking the DSL.
+     */
+    public static Map<String, Set<String>> widgetBindings(int widgetCount, int actionCount) {
+        Map<String, Set<String>> widgetBindings = new HashMap<>();
+        for (int i = 0; i < widgetCount; i++) {
+            widgetBindings.put(
+                    "Text" + i + ".text",
+                    Set.of("Query" + (i % actionCount) + ".data[0].name", "Input" + (i % 10) + ".text"));
+        }
+        return widgetBindings;
+    }
+
+    public static Set<String> widgetNames(int widgetCount) {
+        Set<String> widgetNames = new HashSet<>();
+        for (int i = 0; i < widgetCount; i++) {
+            widgetNames.add("Text" + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            widgetNames.add("Input" + i);
+        }
+        return widgetNames;
+    }
+
+    /**
+     * Policies of the given application permissions, each of them shared by the given number of permission groups.
+     */
+    public static Map<String, Policy> applicationPolicies(int permissionGroupCount, String permissionGroupPrefix) {
+        Map<String, Policy> policies = new HashMap<>();
+        for (AclPermission permission : AclPermission.values()) {
+            if (!AclPermission.isPermissionForEntity(
+                    permission, Application.class)) {
+                continue;
+            }
+            Set<String> permissionGroups = new HashSet<>();
+            for (int i = 0; i < permissionGroupCount; i++) {
+                permissionGroups.add(permissionGroupPrefix + i);
+            }
+            policies.put(
+                    permission.getValue(),
+                    Policy.builder()
+                            .permission(permission.getValue())
+                            .permissionGroups(permissionGroups)
+                            .build());
+        }
+        return policies;
+    }
+
+    private static String name(Random random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + (char) ('A' + random.nextInt(26)) + ".";
+    }
+}
@@ -0,0 +1,99 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.MustacheBindingToken;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Mustache template that has been tokenized once, so that it can be rendered any number of times with different
+ * values without being parsed again. Instances are immutable and can be shared between threads.
+ * <p>
+ * The template is held as the plain text around each binding: `texts[i]` is the text before the binding at index `i`,
+ * and the last element of `texts` is the text after the last binding.
+ */
+public final class CompiledMustacheTemplate {
+
+    private final String template;
+
+    private final String[] texts;
+
+    // The bindings with the double braces stripped and trimmed, which is how they are looked up in the values
+    private final String[] keys;
+
+    // The bindings as they are written in the template, which are rendered as is when there is no value for them
+    private final String[] bindings;
+
+    private CompiledMustacheTemplate(String template, String[] texts, String[] keys, String[] bindings) {
+        this.template = template;
+        this.texts = texts;
+        this.keys = keys;
+        this.bindings = bindings;
+    }
+
+    public static CompiledMustacheTemplate compile(String template) {
+        final List<String> texts = new ArrayList<>();
+        final List<String> keys = new ArrayList<>();
+        final List<String> bindings = new ArrayList<>();
+
+        final StringBuilder text = new StringBuilder();
+        for (MustacheBindingToken token : MustacheHelper.tokenize(template)) {
+            final String value = token.getValue();
+            if (value.startsWith("{{") && value.endsWith("}}")) {
+                texts.add(text.toString());
+                text.setLength(0);
+                keys.add(value.substring(2, value.length() - 2).trim());
+                bindings.add(value);
+            } else {
+                text.append(value);
+            }
+        }
+        texts.add(text.toString());
+
+        return new CompiledMustacheTemplate(
+                template == null ? "" : template,
+                texts.toArray(String[]::new),
+                keys.toArray(String[]::new),
+                bindings.toArray(String[]::new));
+    }
+
+    public int getBindingCount() {
+        return keys.length;
+    }
+
+    /**
+     * Appends the template to the given builder, with each binding replaced by its value. Bindings that have no value
+     * are appended as they are written in the template.
+     *
+     * @param keyValueMap Values of the bindings, keyed by the trimmed binding without the double braces
+     * @param rendered    Builder to append the rendered template to
+     */
+    public void renderTo(Map<String, String> keyValueMap, StringBuilder rendered) {
+        for (int i = 0; i < keys.length; i++) {
+            rendered.append(texts[i]);
+            final String bindingValue = keyValueMap.get(keys[i]);
+            rendered.append(bindingValue != null ? bindingValue : bindings[i]);
+        }
+        rendered.append(texts[keys.length]);
+    }
+
+    /**
+     * @return The template with each binding replaced by its value, in a builder that fits it exactly
+     */
+    public String render(Map<String, String> keyValueMap) {
+        if (keys.length == 0) {
+            return template;
+        }
+
+        int length = texts[keys.length].length();
+        for (int i = 0; i < keys.length; i++) {
+            final String bindingValue = keyValueMap.get(keys[i]);
+            length += texts[i].length() + (bindingValue != null ? bindingValue : bindings[i]).length();
+        }
+
+        final StringBuilder rendered = new StringBuilder(length);
+        renderTo(keyValueMap, rendered);
+        return rendered.toString();
+    }
+}
@@ -57,6 +57,25 @@ public class DataTypeStringUtils {
 
     private static final TypeAdapter<JsonObject> strictGsonObjectAdapter = new Gson().getAdapter(JsonObject.class);
 
+    private static final DateTimeFormatter timestampFormatter = new DateTimeFormatterBuilder()
+            //                    .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"))
+            .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+            .toFormatter();
+
+    private static final DateTimeFormatter dateFormatter = new DateTimeFormatterBuilder()
+            .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE)
+            .toFormatter();
+
+    private static final DateTimeFormatter timeFormatter = new DateTimeFormatterBuilder()
+            .appendOptional(DateTimeFormatter.ISO_LOCAL_TIME)
+            .toFormatter();
+
+    /**
+     * Identifies the data type of the given string. Numbers are recognised with a single lexical scan that accepts
+     * exactly what `Integer.parseInt`, `Long.parseLong` and `Float.parseFloat` accept once the input is trimmed and
+     * its commas are dropped, and the date, time and JSON parsers only run for inputs that have the shape that they
+     * require. Hence, the common inputs are classified without allocating or throwing anything.
+     */
     @Deprecated(
             since =
                     "With the implementation of Data Type handling this function is marked as deprecated and is discouraged for further use")
@@ -66,101 +85,71 @@ public class DataTypeStringUtils {
             return DataType.NULL;
         }
 
-        String strNumericValue = input.trim().replaceAll(",", "");
-
         if (input.startsWith("[") && input.endsWith("]")) {
-            String betweenBraces = input.substring(1, input.length() - 1);
-            String trimmedInputBetweenBraces = betweenBraces.trim();
             // In case of no values in the array, set this as null. Otherwise plugins like postgres and ms-sql
             // would break while creating a SQL array.
-            if (trimmedInputBetweenBraces.isEmpty()) {
+            if (isBlank(input, 1, input.length() - 1)) {
                 return DataType.NULL;
             }
             return DataType.ARRAY;
         }
 
-        try {
-            Integer.parseInt(strNumericValue);
-            return DataType.INTEGER;
-        } catch (NumberFormatException e) {
-            // Not an integer
+        DataType numericDataType = getNumericDataType(input);
+        if (numericDataType != null) {
+            return numericDataType;
         }
 
-        try {
-            Long.parseLong(strNumericValue);
-            return DataType.LONG;
-        } catch (NumberFormatException e1) {
-            // Not long
-        }
-
-        try {
-            Float.parseFloat(strNumericValue);
-            return DataType.FLOAT;
-        } catch (NumberFormatException e2) {
-            // Not float
-        }
-
-        try {
-            Double.parseDouble(strNumericValue);
-            return DataType.DOUBLE;
-        } catch (NumberFormatException e3) {
-            // Not double
-        }
-
-        // Creating a copy of the input in lower case form to do simple string equality to check for boolean/null types.
-        String copyInput = String.valueOf(input).toLowerCase().trim();
-        if (copyInput.equals("true") || copyInput.equals("false")) {
+        if (equalsIgnoreCaseTrimmed(input, "true") || equalsIgnoreCaseTrimmed(input, "false")) {
             return DataType.BOOLEAN;
         }
 
-        if (copyInput.equals("null")) {
+        if (equalsIgnoreCaseTrimmed(input, "null")) {
             return DataType.NULL;
         }
 
-        try {
-            final DateTimeFormatter dateTimeFormatter = new DateTimeFormatterBuilder()
-                    //                    .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"))
-                    .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
-                    .toFormatter();
-            LocalDateTime.parse(input, dateTimeFormatter);
-            return DataType.TIMESTAMP;
-        } catch (DateTimeParseException ex) {
-            // Not timestamp
+        if (hasTimestampShape(input)) {
+            try {
+                LocalDateTime.parse(input, timestampFormatter);
+                return DataType.TIMESTAMP;
+            } catch (DateTimeParseException ex) {
+                // Not timestamp
+            }
         }
 
-        try {
-            final DateTimeFormatter dateFormatter = new DateTimeFormatterBuilder()
-                    .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE)
-                    .toFormatter();
-            LocalDate.parse(input, dateFormatter);
-            return DataType.DATE;
-        } catch (DateTimeParseException ex) {
-            // Not date
+        if (hasDateShape(input)) {
+            try {
+                LocalDate.parse(input, dateFormatter);
+                return DataType.DATE;
+            } catch (DateTimeParseException ex) {
+                // Not date
+            }
         }
 
-        try {
-            final DateTimeFormatter timeFormatter = new DateTimeFormatterBuilder()
-                    .appendOptional(DateTimeFormatter.ISO_LOCAL_TIME)
-                    .toFormatter();
-            LocalTime.parse(input, timeFormatter);
-            return DataType.TIME;
-        } catch (DateTimeParseException ex) {
-            // Not time
+        if (hasTimeShape(input)) {
+            try {
+                LocalTime.parse(input, timeFormatter);
+                return DataType.TIME;
+            } catch (DateTimeParseException ex) {
+                // Not time
+            }
         }
 
-        try (JsonReader reader = new JsonReader(new StringReader(input))) {
-            strictGsonObjectAdapter.read(reader);
-            reader.hasNext(); // throws on multiple top level values
-            return DataType.JSON_OBJECT;
-        } catch (IOException | JsonSyntaxException e) {
-            // Not a strict JSON object
-        }
+        // Both a strict JSON object and a BSON document have to start with a brace, after any whitespace
+        if (startsWithBrace(input)) {
+            try (JsonReader reader = new JsonReader(new StringReader(input))) {
+                strictGsonObjectAdapter.read(reader);
+                reader.hasNext(); // throws on multiple top level values
+                return DataType.JSON_OBJECT;
+            } catch (IOException | JsonSyntaxException e) {
+                // Not a strict JSON object
+            }
 
-        try {
-            Document.parse(input);
-            return DataType.BSON;
-        } catch (JsonParseException | BsonInvalidOperationException e) {
-            // Not BSON
+            try {
+                Document.parse(input);
+                return DataType.BSON;
+            } catch (JsonParseException | BsonInvalidOperationException e) {
+                // Not BSON
+            }
         }
 
         /**
@@ -188,6 +177,302 @@ public class DataTypeStringUtils {
         return DataType.STRING;
     }
 
+    /**
+     * Identifies the data types of all the values of a column, exactly as
+     * {@link #stringToKnownDataTypeConverter(String)} would identify each one of them. A value that is the same as the
+     * one before it, like in columns of statuses or flags, is not classified again.
+     *
+     * @param values values of the column, which may contain nulls
+     * @return data type of each value, at the same index as the value
+     */
+    public static DataType[] stringToKnownDataTypes(String[] values) {
+        DataType[] dataTypes = new DataType[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0 && values[i] != null && values[i].equals(values[i - 1])) {
+                dataTypes[i] = dataTypes[i - 1];
+            } else {
+                dataTypes[i] = stringToKnownDataTypeConverter(values[i]);
+            }
+        }
+        return dataTypes;
+    }
+
+    /**
+     * Finds the numeric data type of the input, as trying `Integer.parseInt`, `Long.parseLong` and `Float.parseFloat`
+     * in that order on the trimmed input without its commas would find it. A `Double.parseDouble` attempt is not
+     * needed, since it accepts the same strings as `Float.parseFloat`.
+     *
+     * @return INTEGER, LONG or FLOAT, or null if the input is not a number
+     */
+    private static DataType getNumericDataType(String input) {
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        DataType integralDataType = getIntegralDataType(input, start, end);
+        if (integralDataType != null) {
+            return integralDataType;
+        }
+
+        // `Float.parseFloat` trims its input again, which also drops the whitespace that was next to a removed comma
+        while (start < end && (input.charAt(start) <= ' ' || input.charAt(start) == ',')) {
+            start++;
+        }
+        while (end > start && (input.charAt(end - 1) <= ' ' || input.charAt(end - 1) == ',')) {
+            end--;
+        }
+
+        return isFloatingPoint(input, start, end) ? DataType.FLOAT : null;
+    }
+
+    /**
+     * Mirrors `Integer.parseInt` and `Long.parseLong`, which accept an optional sign followed by digits of any script.
+     */
+    private static DataType getIntegralDataType(String input, int start, int end) {
+        boolean negative = false;
+        boolean signAllowed = true;
+        int digitCount = 0;
+        int significantDigitCount = 0;
+        // A value of up to 19 digits always fits in 64 bits when read as unsigned
+        long magnitude = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c == ',') {
+                continue;
+            }
+            if (signAllowed && (c == '-' || c == '+')) {
+                negative = c == '-';
+                signAllowed = false;
+                continue;
+            }
+            signAllowed = false;
+
+            int digit = Character.digit(c, 10);
+            if (digit < 0) {
+                return null;
+            }
+            digitCount++;
+            if (significantDigitCount > 0 || digit != 0) {
+                significantDigitCount++;
+                magnitude = magnitude * 10 + digit;
+            }
+        }
+
+        if (digitCount == 0 || significantDigitCount > 19) {
+            return null;
+        }
+        if (Long.compareUnsigned(magnitude, negative ? 1L + Integer.MAX_VALUE : Integer.MAX_VALUE) <= 0) {
+            return DataType.INTEGER;
+        }
+        if (Long.compareUnsigned(magnitude, negative ? Long.MIN_VALUE : Long.MAX_VALUE) <= 0) {
+            return DataType.LONG;
+        }
+        return null;
+    }
+
+    /**
+     * Mirrors the grammar of `Float.parseFloat` for an already trimmed input: an optional sign followed by `NaN`,
+     * `Infinity`, a decimal number with an optional exponent or a hexadecimal number with a binary exponent, where
+     * numbers may end with one of the `f`, `F`, `d` or `D` suffixes. Only ASCII digits are accepted.
+     */
+    private static boolean isFloatingPoint(String input, int start, int end) {
+        String literal = null;
+        int literalIndex = 0;
+        FloatState state = FloatState.START;
+
+        for (int i = start; i < end && state != FloatState.INVALID; i++) {
+            char c = input.charAt(i);
+            if (c == ',') {
+                continue;
+            }
+            if (literal != null) {
+                if (literalIndex == literal.length() || literal.charAt(literalIndex++) != c) {
+                    return false;
+                }
+                continue;
+            }
+
+            boolean isDigit = c >= '0' && c <= '9';
+            boolean isHexDigit = isDigit || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            boolean isSign = c == '-' || c == '+';
+            boolean isSuffix = c == 'f' || c == 'F' || c == 'd' || c == 'D';
+            boolean isExponent = c == 'e' || c == 'E';
+            boolean isBinaryExponent = c == 'p' || c == 'P';
+
+            state = switch (state) {
+                case START, SIGN -> {
+                    if (state == FloatState.START && isSign) {
+                        yield FloatState.SIGN;
+                    }
+                    if (c == 'N' || c == 'I') {
+                        literal = c == 'N' ? "aN" : "nfinity";
+                        yield FloatState.LITERAL;
+                    }
+                    if (c == '0') {
+                        yield FloatState.LEADING_ZERO;
+                    }
+                    yield isDigit ? FloatState.INTEGER_PART : c == '.' ? FloatState.POINT : FloatState.INVALID;
+                }
+                case LEADING_ZERO, INTEGER_PART -> {
+                    if (state == FloatState.LEADING_ZERO && (c == 'x' || c == 'X')) {
+                        yield FloatState.HEX_PREFIX;
+                    }
+                    if (isDigit) {
+                        yield FloatState.INTEGER_PART;
+                    }
+                    if (c == '.') {
+                        yield FloatState.FRACTION;
+                    }
+                    yield isExponent ? FloatState.EXPONENT : isSuffix ? FloatState.SUFFIX : FloatState.INVALID;
+                }
+                case POINT -> isDigit ? FloatState.FRACTION : FloatState.INVALID;
+                case FRACTION -> isDigit
+                        ? FloatState.FRACTION
+                        : isExponent ? FloatState.EXPONENT : isSuffix ? FloatState.SUFFIX : FloatState.INVALID;
+                case EXPONENT -> isSign
+                        ? FloatState.EXPONENT_SIGN
+                        : isDigit ? FloatState.EXPONENT_DIGITS : FloatState.INVALID;
+                case EXPONENT_SIGN -> isDigit ? FloatState.EXPONENT_DIGITS : FloatState.INVALID;
+                case EXPONENT_DIGITS -> isDigit
+                        ? FloatState.EXPONENT_DIGITS
+                        : isSuffix ? FloatState.SUFFIX : FloatState.INVALID;
+                case HEX_PREFIX -> isHexDigit
+                        ? FloatState.HEX_INTEGER_PART
+                        : c == '.' ? FloatState.HEX_POINT : FloatState.INVALID;
+                case HEX_INTEGER_PART -> isHexDigit
+                        ? FloatState.HEX_INTEGER_PART
+                        : c == '.'
+                                ? FloatState.HEX_FRACTION
+                                : isBinaryExponent ? FloatState.BINARY_EXPONENT : FloatState.INVALID;
+                case HEX_POINT -> isHexDigit ? FloatState.HEX_FRACTION : FloatState.INVALID;
+                case HEX_FRACTION -> isHexDigit
+                        ? FloatState.HEX_FRACTION
+                        : isBinaryExponent ? FloatState.BINARY_EXPONENT : FloatState.INVALID;
+                case BINARY_EXPONENT -> isSign
+                        ? FloatState.BINARY_EXPONENT_SIGN
+                        : isDigit ? FloatState.BINARY_EXPONENT_DIGITS : FloatState.INVALID;
+                case BINARY_EXPONENT_SIGN -> isDigit ? FloatState.BINARY_EXPONENT_DIGITS : FloatState.INVALID;
+                case BINARY_EXPONENT_DIGITS -> isDigit
+                        ? FloatState.BINARY_EXPONENT_DIGITS
+                        : isSuffix ? FloatState.SUFFIX : FloatState.INVALID;
+                default -> FloatState.INVALID;
+            };
+        }
+
+        if (literal != null) {
+            return literalIndex == literal.length();
+        }
+        return state.isComplete;
+    }
+
+    /**
+     * States of the scan in {@link #isFloatingPoint(String, int, int)}, after reading a character.
+     */
+    private enum FloatState {
+        START(false),
+        SIGN(false),
+        LITERAL(false),
+        LEADING_ZERO(true),
+        INTEGER_PART(true),
+        POINT(false),
+        FRACTION(true),
+        EXPONENT(false),
+        EXPONENT_SIGN(false),
+        EXPONENT_DIGITS(true),
+        HEX_PREFIX(false),
+        HEX_INTEGER_PART(false),
+        HEX_POINT(false),
+        HEX_FRACTION(false),
+        BINARY_EXPONENT(false),
+        BINARY_EXPONENT_SIGN(false),
+        BINARY_EXPONENT_DIGITS(true),
+        SUFFIX(true),
+        INVALID(false);
+
+        private final boolean isComplete;
+
+        FloatState(boolean isComplete) {
+            this.isComplete = isComplete;
+        }
+    }
+
+    private static boolean isBlank(String input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (input.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as comparing the lower case and trimmed input with the given lower case word, without creating the copies.
+     */
+    private static boolean equalsIgnoreCaseTrimmed(String input, String word) {
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (end - start != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = input.charAt(start + i);
+            if (c != word.charAt(i) && Character.toLowerCase(c) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the input ends with the fixed width `-MM-dd HH:mm:ss` that the timestamp pattern requires after the year.
+     */
+    private static boolean hasTimestampShape(String input) {
+        int length = input.length();
+        return length >= 19
+                && input.charAt(length - 15) == '-'
+                && input.charAt(length - 12) == '-'
+                && input.charAt(length - 9) == ' '
+                && input.charAt(length - 6) == ':'
+                && input.charAt(length - 3) == ':';
+    }
+
+    /**
+     * Whether the input ends with the fixed width `-MM-dd` that an ISO local date requires after the year.
+     */
+    private static boolean hasDateShape(String input) {
+        int length = input.length();
+        return length >= 10 && input.charAt(length - 6) == '-' && input.charAt(length - 3) == '-';
+    }
+
+    /**
+     * Whether the input starts with the fixed width `HH:` that an ISO local time requires.
+     */
+    private static boolean hasTimeShape(String input) {
+        return input.length() >= 5 && input.charAt(2) == ':';
+    }
+
+    private static boolean startsWithBrace(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c > ' ' && !Character.isWhitespace(c)) {
+                return c == '{';
+            }
+        }
+        return false;
+    }
+
     /**
      *
      * @param input input string which has a mustache expression that will be substituted by the replacement value
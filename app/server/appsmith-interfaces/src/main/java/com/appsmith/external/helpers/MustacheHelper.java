@@ -4,17 +4,22 @@ import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.EntityDependencyNode;
 import com.appsmith.external.models.EntityReferenceType;
 import com.appsmith.external.models.MustacheBindingToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.StringEscapeUtils;
-import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -66,6 +71,40 @@ public class MustacheHelper {
 
     private static final Pattern nestedPathTokenSplitter = Pattern.compile("\\[.*\\]\\.?|\\.");
 
+    // Templates that have been tokenized, keyed by the template. Weighed by the length of the template, so that a few
+    // very large query bodies can't keep all the other templates out.
+    private static final Cache<String, CompiledMustacheTemplate> compiledTemplates = Caffeine.newBuilder()
+            .maximumWeight(8 * 1024 * 1024)
+            .weigher((String template, CompiledMustacheTemplate compiledTemplate) -> template.length())
+            .build();
+
+    /**
+     * A property of a domain model that can be both read and written, with the accessor methods looked up once per
+     * class instead of on every render.
+     */
+    private record BeanProperty(String name, Class<?> type, Method readMethod, Method writeMethod) {}
+
+    private static final ClassValue<List<BeanProperty>> beanProperties = new ClassValue<>() {
+        @Override
+        protected List<BeanProperty> computeValue(Class<?> type) {
+            List<BeanProperty> properties = new ArrayList<>();
+            for (PropertyDescriptor propertyDescriptor : BeanUtils.getPropertyDescriptors(type)) {
+                // For properties like `class` that don't have a set method, just ignore them.
+                if (propertyDescriptor.getWriteMethod() == null || propertyDescriptor.getReadMethod() == null) {
+                    continue;
+                }
+                ReflectionUtils.makeAccessible(propertyDescriptor.getReadMethod());
+                ReflectionUtils.makeAccessible(propertyDescriptor.getWriteMethod());
+                properties.add(new BeanProperty(
+                        propertyDescriptor.getName(),
+                        ClassUtils.resolvePrimitiveIfNecessary(propertyDescriptor.getPropertyType()),
+                        propertyDescriptor.getReadMethod(),
+                        propertyDescriptor.getWriteMethod()));
+            }
+            return List.copyOf(properties);
+        }
+    };
+
     // Possible types of entity references that we want to be filtering
     // from the global identifiers found in a dynamic binding
     public static final int EXECUTABLE_ENTITY_REFERENCES = 0b01;
@@ -287,22 +326,25 @@ public class MustacheHelper {
 
         if (isDomainModel(object.getClass())) {
             try {
-                final BeanWrapper sourceBeanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(object);
-                for (PropertyDescriptor propertyDescriptor : sourceBeanWrapper.getPropertyDescriptors()) {
-                    // For properties like `class` that don't have a set method, just ignore them.
-                    if (propertyDescriptor.getWriteMethod() == null) {
+                for (BeanProperty property : beanProperties.get(object.getClass())) {
+                    Object value = property.readMethod().invoke(object);
+                    Object renderedValue = renderFieldValues(value, context);
+                    if (renderedValue == value) {
                         continue;
                     }
-
-                    String name = propertyDescriptor.getName();
-                    Object value = sourceBeanWrapper.getPropertyValue(name);
-                    sourceBeanWrapper.setPropertyValue(name, renderFieldValues(value, context));
+                    if (property.type().isInstance(renderedValue)) {
+                        property.writeMethod().invoke(object, renderedValue);
+                    } else {
+                        // Let the bean wrapper convert the rendered value to the type of the property
+                        PropertyAccessorFactory.forBeanPropertyAccess(object)
+                                .setPropertyValue(property.name(), renderedValue);
+                    }
                 }
-            } catch (BeansException e) {
+            } catch (BeansException | ReflectiveOperationException e) {
                 log.error("Exception caught while substituting values in mustache template.", e);
             }
         } else if (object instanceof List) {
-            List renderedList = new ArrayList<>();
+            List renderedList = new ArrayList<>(((List) object).size());
             for (Object childValue : (List) object) {
                 renderedList.add(renderFieldValues(childValue, context));
             }
@@ -333,33 +375,43 @@ public class MustacheHelper {
      * @return It finally returns the string in which all the keys in template have been replaced with values.
      */
     public static String render(String template, Map<String, String> keyValueMap) {
-        final StringBuilder rendered = new StringBuilder();
+        if (!StringUtils.hasLength(template)) {
+            return "";
+        }
 
-        for (MustacheBindingToken token : tokenize(template)) {
-            if (token.getValue().startsWith("{{") && token.getValue().endsWith("}}")) {
-                // If there is no entry found for the current token in keyValueMap that means the binding is part of the
-                // text
-                // and hence reflecting the value in the rendered string as is.
-                // Example: {{Input.text}} = "This whole string is the value of Input1.text. Even this {{one}}."
-                String bindingValue = keyValueMap.get(token.getValue()
-                        .substring(2, token.getValue().length() - 2)
-                        .trim());
-                if (bindingValue != null) {
-                    rendered.append(bindingValue);
-                } else {
-                    rendered.append(token.getValue());
-                }
-            } else {
-                rendered.append(token.getValue());
-            }
+        // If there is no entry found for a binding in keyValueMap that means the binding is part of the text and hence
+        // it is reflected in the rendered string as is.
+        // Example: {{Input.text}} = "This whole string is the value of Input1.text. Even this {{one}}."
+        final String rendered = template.contains("{{")
+                ? compile(template).render(keyValueMap)
+                : template;
+
+        return unescapeRendered(rendered);
+    }
+
+    /**
+     * Returns the compiled form of the given template, which is tokenized only the first time it is seen and then
+     * served from memory, for as long as it is in use.
+     */
+    public static CompiledMustacheTemplate compile(String template) {
+        if (!StringUtils.hasLength(template)) {
+            return CompiledMustacheTemplate.compile(template);
+        }
+        return compiledTemplates.get(template, CompiledMustacheTemplate::compile);
+    }
+
+    /**
+     * Replace is used to escape the double quotes symbol with \" so that
+     * JSON remains valid.
+     * &quot; and &#34; both are HTML reserved characters for double quotes (")
+     * Without an `&` in the string, there is nothing to escape or unescape.
+     */
+    private static String unescapeRendered(String rendered) {
+        if (rendered.indexOf('&') < 0) {
+            return rendered;
         }
-        /**
-         * ReplaceAll is used to escape the double quotes symbol with \" so that
-         * JSON remains valid.
-         * &quot; and &#34; both are HTML reserved characters for double quotes (")
-         */
         return StringEscapeUtils.unescapeHtml4(
-                rendered.toString().replaceAll("&quot;", "\\\\&quot;").replaceAll("&#34;", "\\\\&#34;"));
+                rendered.replace("&quot;", "\\&quot;").replace("&#34;", "\\&#34;"));
     }
 
     /**
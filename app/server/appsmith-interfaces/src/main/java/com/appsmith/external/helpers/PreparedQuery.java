@@ -0,0 +1,63 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.MustacheBindingToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * A query body with Mustache bindings, rewritten once into the form that a JDBC prepared statement expects. The
+ * bindings are replaced with `?` and kept in the order of the `?` that they are bound to, i.e. the binding at index `i`
+ * is bound to the parameter `i + 1` of the statement. Instances are immutable and can be shared between threads.
+ */
+public final class PreparedQuery {
+
+    // Rewritten queries, keyed by the query body. Weighed by the length of the body, in the same way as the compiled
+    // Mustache templates.
+    private static final Cache<String, PreparedQuery> preparedQueries = Caffeine.newBuilder()
+            .maximumWeight(8 * 1024 * 1024)
+            .weigher((String query, PreparedQuery preparedQuery) -> query.length())
+            .build();
+
+    private final List<MustacheBindingToken> bindings;
+
+    private final String questionMarkQuery;
+
+    private PreparedQuery(List<MustacheBindingToken> bindings, String questionMarkQuery) {
+        this.bindings = bindings;
+        this.questionMarkQuery = questionMarkQuery;
+    }
+
+    /**
+     * Returns the prepared form of the given query body, which is rewritten only the first time it is seen and then
+     * served from memory, since a query is run with different values far more often than it is edited.
+     */
+    public static PreparedQuery of(String query) {
+        if (!StringUtils.hasLength(query)) {
+            return prepare(query);
+        }
+        return preparedQueries.get(query, PreparedQuery::prepare);
+    }
+
+    private static PreparedQuery prepare(String query) {
+        List<MustacheBindingToken> bindings = MustacheHelper.extractMustacheKeysInOrder(query);
+        String questionMarkQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, bindings);
+        return new PreparedQuery(List.copyOf(bindings), questionMarkQuery);
+    }
+
+    /**
+     * @return The bindings without the double braces, in the order of the `?` in {@link #getQuestionMarkQuery()}
+     */
+    public List<MustacheBindingToken> getBindings() {
+        return bindings;
+    }
+
+    /**
+     * @return The query with each binding replaced by a `?`
+     */
+    public String getQuestionMarkQuery() {
+        return questionMarkQuery;
+    }
+}
@@ -0,0 +1,184 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.exceptions.pluginExceptions.BasePluginError;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Collects the rows of a query result directly into a Jackson tree, while keeping a running estimate of the size of
+ * the result once serialized to JSON. The estimate is updated as each cell is added, so a result larger than the
+ * supported size is rejected as soon as it crosses the limit, without ever measuring the rows collected so far.
+ * <p>
+ * The tree is the same as the one {@link ObjectMapper#valueToTree(Object)} would create for a list of rows, so it can
+ * be set as the body of the execution result as is.
+ */
+@Slf4j
+public class ResultRowAccumulator {
+
+    // Quotes around the field name, the colon and the comma
+    private static final int FIELD_OVERHEAD_IN_BYTES = 4;
+
+    // Braces around the row and the comma
+    private static final int ROW_OVERHEAD_IN_BYTES = 3;
+
+    private static final int NULL_SIZE_IN_BYTES = 4;
+    private static final int BOOLEAN_SIZE_IN_BYTES = 5;
+    private static final int INT_SIZE_IN_BYTES = 11;
+    private static final int LONG_SIZE_IN_BYTES = 20;
+    private static final int FLOATING_POINT_SIZE_IN_BYTES = 24;
+
+    private final ObjectMapper objectMapper;
+    private final JsonNodeFactory nodeFactory;
+    private final long maxSizeInBytes;
+    private final BasePluginError sizeLimitError;
+    private final ArrayNode rows;
+
+    private ObjectNode currentRow;
+    private long estimatedSizeInBytes = 2;
+
+    /**
+     * @param objectMapper   mapper used to convert the values that don't map directly to a json node
+     * @param maxSizeInBytes maximum supported size of the serialized result
+     * @param sizeLimitError plugin error thrown when the result grows beyond the maximum supported size. It is given
+     *                       the maximum supported size in MB as its argument.
+     */
+    public ResultRowAccumulator(ObjectMapper objectMapper, long maxSizeInBytes, BasePluginError sizeLimitError) {
+        this.objectMapper = objectMapper;
+        this.nodeFactory = objectMapper.getNodeFactory();
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.sizeLimitError = sizeLimitError;
+        this.rows = nodeFactory.arrayNode();
+    }
+
+    /**
+     * Starts a new row. The cells added after this call are added to the new row.
+     */
+    public void startRow() throws AppsmithPluginException {
+        currentRow = rows.addObject();
+        addToEstimatedSize(ROW_OVERHEAD_IN_BYTES);
+    }
+
+    /**
+     * Adds a cell to the current row.
+     *
+     * @param columnName name of the column
+     * @param value      value of the cell, as read from the result set
+     * @throws AppsmithPluginException if the result grows beyond the maximum supported size
+     */
+    public void addCell(String columnName, Object value) throws AppsmithPluginException {
+        final JsonNode node = toJsonNode(value);
+        currentRow.set(columnName, node);
+        addToEstimatedSize(columnName.length() + FIELD_OVERHEAD_IN_BYTES + estimateSize(node));
+    }
+
+    /**
+     * Adds a complete row.
+     *
+     * @param row values of the row, by column name
+     * @throws AppsmithPluginException if the result grows beyond the maximum supported size
+     */
+    public void addRow(Map<String, Object> row) throws AppsmithPluginException {
+        startRow();
+        for (Map.Entry<String, Object> cell : row.entrySet()) {
+            addCell(cell.getKey(), cell.getValue());
+        }
+    }
+
+    /**
+     * @return the rows collected so far, as a json array
+     */
+    public ArrayNode getRows() {
+        return rows;
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    public long getEstimatedSizeInBytes() {
+        return estimatedSizeInBytes;
+    }
+
+    private void addToEstimatedSize(long sizeInBytes) {
+        estimatedSizeInBytes += sizeInBytes;
+        if (estimatedSizeInBytes > maxSizeInBytes) {
+            log.debug(
+                    "Result size greater than maximum supported size of {} bytes. Current size : {}",
+                    maxSizeInBytes,
+                    estimatedSizeInBytes);
+            throw new AppsmithPluginException(sizeLimitError, maxSizeInBytes / (1024f * 1024f));
+        }
+    }
+
+    private JsonNode toJsonNode(Object value) {
+        if (value == null) {
+            return nodeFactory.nullNode();
+        } else if (value instanceof String stringValue) {
+            return nodeFactory.textNode(stringValue);
+        } else if (value instanceof Integer intValue) {
+            return nodeFactory.numberNode(intValue);
+        } else if (value instanceof Long longValue) {
+            return nodeFactory.numberNode(longValue);
+        } else if (value instanceof Boolean booleanValue) {
+            return nodeFactory.booleanNode(booleanValue);
+        } else if (value instanceof Double doubleValue) {
+            return nodeFactory.numberNode(doubleValue);
+        } else if (value instanceof JsonNode jsonNode) {
+            return jsonNode;
+        }
+
+        // Everything else, like big decimals, arrays and dates, is converted the same way as it was done for the
+        // complete list of rows before, so that the configuration of the mapper is respected.
+        return objectMapper.valueToTree(value);
+    }
+
+    private static long estimateSize(JsonNode node) {
+        switch (node.getNodeType()) {
+            case STRING:
+                return node.textValue().length() + 2L;
+            case NUMBER:
+                switch (node.numberType()) {
+                    case INT:
+                        return INT_SIZE_IN_BYTES;
+                    case LONG:
+                        return LONG_SIZE_IN_BYTES;
+                    case BIG_INTEGER:
+                        return node.bigIntegerValue().bitLength() / 3 + 2L;
+                    case BIG_DECIMAL:
+                        return node.decimalValue().precision() + 2L;
+                    default:
+                        return FLOATING_POINT_SIZE_IN_BYTES;
+                }
+            case BOOLEAN:
+                return BOOLEAN_SIZE_IN_BYTES;
+            case BINARY:
+                // Serialized as a base64 string
+                return (((BinaryNode) node).binaryValue().length + 2L) / 3 * 4 + 2;
+            case ARRAY:
+                long arraySize = 2;
+                for (JsonNode element : node) {
+                    arraySize += estimateSize(element) + 1;
+                }
+                return arraySize;
+            case OBJECT:
+                long objectSize = 2;
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    objectSize += field.getKey().length() + FIELD_OVERHEAD_IN_BYTES + estimateSize(field.getValue());
+                }
+                return objectSize;
+            default:
+                return NULL_SIZE_IN_BYTES;
+        }
+    }
+}
@@ -4,6 +4,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 
+/**
+ * @deprecated Measuring a result this way serializes all of it again on every call. Use
+ * {@link ResultRowAccumulator}, which accounts for the size of the result as it is being collected, instead.
+ */
+@Deprecated
 public class Sizeof {
 
     public static int sizeof(Object obj) throws IOException {
@@ -1,24 +1,25 @@
 package com.appsmith.external.helpers;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
-
 public class SmartSubstitutionHelper {
 
     public static final String APPSMITH_SUBSTITUTION_PLACEHOLDER = "#_appsmith_placeholder#";
 
     public static String replaceQuestionMarkWithDollarIndex(String query) {
-        final AtomicInteger counter = new AtomicInteger();
-        String updatedQuery = query.chars()
-                .mapToObj(c -> {
-                    if (c == '?') {
-                        return "$" + counter.incrementAndGet();
-                    }
+        int index = query.indexOf('?');
+        if (index < 0) {
+            return query;
+        }
 
-                    return Character.toString(c);
-                })
-                .collect(Collectors.joining());
+        final StringBuilder updatedQuery = new StringBuilder(query.length() + 8);
+        int counter = 0;
+        int start = 0;
+        while (index >= 0) {
+            updatedQuery.append(query, start, index).append('$').append(++counter);
+            start = index + 1;
+            index = query.indexOf('?', start);
+        }
+        updatedQuery.append(query, start, query.length());
 
-        return updatedQuery;
+        return updatedQuery.toString();
     }
 }
@@ -0,0 +1,60 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Reports the connection pools of a connection provider as totals over all of them. The connection provider keeps a
+ * pool for every remote address, and the metrics it registers by default are tagged with that address, which gives an
+ * unbounded number of series for the hosts called by the REST API executions. The totals have a fixed set of series.
+ */
+class ConnectionPoolMeterRegistrar implements ConnectionProvider.MeterRegistrar {
+
+    private static final String METRIC_PREFIX = "appsmith.rest-api.connections.";
+
+    private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    ConnectionPoolMeterRegistrar(MeterRegistry meterRegistry) {
+        registerGauge(meterRegistry, "active", "Connections in use", ConnectionPoolMetrics::acquiredSize);
+        registerGauge(
+                meterRegistry, "idle", "Connections kept alive for the next requests", ConnectionPoolMetrics::idleSize);
+        registerGauge(
+                meterRegistry,
+                "pending",
+                "Requests waiting for a connection to be released",
+                ConnectionPoolMetrics::pendingAcquireSize);
+        Gauge.builder(METRIC_PREFIX + "pools", pools, Map::size)
+                .description("Remote addresses that connections are pooled for")
+                .register(meterRegistry);
+    }
+
+    private void registerGauge(
+            MeterRegistry meterRegistry,
+            String name,
+            String description,
+            ToIntFunction<ConnectionPoolMetrics> poolMetric) {
+        Gauge.builder(METRIC_PREFIX + name, pools, pools -> pools.values().stream()
+                        .mapToInt(poolMetric)
+                        .sum())
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void registerMetrics(
+            String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(id + remoteAddress, metrics);
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(id + remoteAddress);
+    }
+}
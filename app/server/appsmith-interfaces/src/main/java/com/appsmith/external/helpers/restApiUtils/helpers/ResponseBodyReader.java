@@ -0,0 +1,291 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Reads the body of an API response as its buffers arrive, instead of aggregating it into a single array first. JSON
+ * bodies are parsed into a tree by a non-blocking parser, and image and binary bodies are Base64-encoded a buffer at a
+ * time. The size of the body is checked as every buffer arrives, so that a response over the limit is cancelled as
+ * soon as it goes over.
+ * <p>
+ * The buffers of a JSON body are kept until the body has been parsed, as it is returned as text when it is not a
+ * valid JSON. Text bodies are decoded once all of their buffers have arrived, as a character may be split across two
+ * buffers. A reader is meant to read the body of a single response.
+ */
+@Slf4j
+public class ResponseBodyReader {
+
+    // Size of the chunks in which the buffers of a JSON body are handed to the parser
+    private static final int PARSER_CHUNK_SIZE = 8192;
+
+    /**
+     * @param body     The body of the response, null when the response has no body
+     * @param dataType The data type of the body, UNDEFINED when a JSON body could not be parsed and is returned as text
+     */
+    public record ResponseBody(Object body, ResponseDataType dataType) {}
+
+    private final ResponseDataType dataType;
+    private final int maxBodySize;
+    private final List<DataBuffer> buffers = new ArrayList<>();
+    private long bodySize;
+
+    private JsonParser parser;
+    private JsonNodeFactory nodeFactory;
+    private DeserializationConfig deserializationConfig;
+    private byte[] chunk;
+    private final Deque<ContainerNode<?>> containers = new ArrayDeque<>();
+    private String fieldName;
+    private JsonNode root;
+    private boolean invalidJson;
+
+    private StringBuilder encoded;
+    private OutputStream encoder;
+
+    /**
+     * @param dataType      The data type the body is read as, one of JSON, IMAGE, BINARY and TEXT
+     * @param maxBodySize   The number of bytes over which the response is cancelled
+     * @param contentLength The length of the body given by the response headers, or -1 when it is not known
+     */
+    public ResponseBodyReader(
+            ObjectMapper objectMapper, ResponseDataType dataType, int maxBodySize, long contentLength) {
+        this.dataType = dataType;
+        this.maxBodySize = maxBodySize;
+
+        if (dataType == ResponseDataType.JSON) {
+            try {
+                parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+            nodeFactory = objectMapper.getNodeFactory();
+            deserializationConfig = objectMapper.getDeserializationConfig();
+            chunk = new byte[PARSER_CHUNK_SIZE];
+        } else if (dataType == ResponseDataType.IMAGE || dataType == ResponseDataType.BINARY) {
+            encoded = contentLength > 0 && contentLength <= maxBodySize
+                    ? new StringBuilder((int) (4 * ((contentLength + 2) / 3)))
+                    : new StringBuilder();
+            encoder = Base64.getEncoder().wrap(new StringBuilderOutputStream(encoded));
+        }
+    }
+
+    public Mono<ResponseBody> read(Flux<DataBuffer> body) {
+        return body.doOnNext(this::accept)
+                .then(Mono.fromCallable(this::finish))
+                .doFinally(signalType -> release());
+    }
+
+    private void accept(DataBuffer buffer) {
+        buffers.add(buffer);
+        bodySize += buffer.readableByteCount();
+        if (bodySize > maxBodySize) {
+            throw new DataBufferLimitException("Exceeded limit on max bytes to buffer : " + maxBodySize);
+        }
+
+        switch (dataType) {
+            case JSON -> {
+                parse(buffer);
+                if (isParsed()) {
+                    // The body is a valid JSON, so it won't be returned as text
+                    release();
+                }
+            }
+            case IMAGE, BINARY -> {
+                encode(buffer);
+                buffers.remove(buffers.size() - 1);
+                DataBufferUtils.release(buffer);
+            }
+            default -> {
+                // Decoded once the whole body has arrived
+            }
+        }
+    }
+
+    private ResponseBody finish() throws IOException {
+        if (bodySize == 0) {
+            return new ResponseBody(null, dataType);
+        }
+
+        switch (dataType) {
+            case JSON -> {
+                if (!invalidJson) {
+                    try {
+                        parser.getNonBlockingInputFeeder().endOfInput();
+                        buildTree();
+                        if (root != null && containers.isEmpty()) {
+                            return new ResponseBody(root, ResponseDataType.JSON);
+                        }
+                        if (root == null) {
+                            // The body is only made of whitespace, which is read as a missing node
+                            return new ResponseBody(MissingNode.getInstance(), ResponseDataType.JSON);
+                        }
+                    } catch (IOException e) {
+                        log.debug("Unable to parse response JSON", e);
+                    }
+                }
+                return new ResponseBody(decodeText().trim(), ResponseDataType.UNDEFINED);
+            }
+            case IMAGE, BINARY -> {
+                // Writes the padding of the last bytes
+                encoder.close();
+                return new ResponseBody(encoded.toString(), dataType);
+            }
+            default -> {
+                return new ResponseBody(decodeText().trim(), dataType);
+            }
+        }
+    }
+
+    private void parse(DataBuffer buffer) {
+        if (invalidJson || isParsed()) {
+            return;
+        }
+
+        int readPosition = buffer.readPosition();
+        try {
+            ByteArrayFeeder feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            while (buffer.readableByteCount() > 0 && !isParsed()) {
+                int length = Math.min(chunk.length, buffer.readableByteCount());
+                buffer.read(chunk, 0, length);
+                feeder.feedInput(chunk, 0, length);
+                buildTree();
+            }
+        } catch (IOException e) {
+            log.debug("Unable to parse response JSON", e);
+            invalidJson = true;
+        } finally {
+            // The buffer is kept unread, in case the body has to be returned as text
+            buffer.readPosition(readPosition);
+        }
+    }
+
+    /**
+     * Adds the tokens that the parser can read out of the input fed so far to the tree. Like
+     * {@link ObjectMapper#readTree}, only the first value of the body is read.
+     */
+    private void buildTree() throws IOException {
+        JsonToken token;
+        while (!isParsed() && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_OBJECT -> startContainer(nodeFactory.objectNode());
+                case START_ARRAY -> startContainer(nodeFactory.arrayNode());
+                case END_OBJECT, END_ARRAY -> containers.pop();
+                case FIELD_NAME -> fieldName = parser.getCurrentName();
+                case VALUE_STRING -> addValue(nodeFactory.textNode(parser.getText()));
+                case VALUE_NUMBER_INT -> addValue(createIntegerNode());
+                case VALUE_NUMBER_FLOAT -> addValue(
+                        deserializationConfig.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                                ? nodeFactory.numberNode(parser.getDecimalValue())
+                                : nodeFactory.numberNode(parser.getDoubleValue()));
+                case VALUE_TRUE -> addValue(nodeFactory.booleanNode(true));
+                case VALUE_FALSE -> addValue(nodeFactory.booleanNode(false));
+                case VALUE_NULL -> addValue(nodeFactory.nullNode());
+                default -> addValue(nodeFactory.pojoNode(parser.getEmbeddedObject()));
+            }
+        }
+    }
+
+    private JsonNode createIntegerNode() throws IOException {
+        if (deserializationConfig.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)) {
+            return nodeFactory.numberNode(parser.getBigIntegerValue());
+        }
+
+        return switch (parser.getNumberType()) {
+            case INT -> nodeFactory.numberNode(parser.getIntValue());
+            case LONG -> nodeFactory.numberNode(parser.getLongValue());
+            default -> nodeFactory.numberNode(parser.getBigIntegerValue());
+        };
+    }
+
+    private void startContainer(ContainerNode<?> container) {
+        addValue(container);
+        containers.push(container);
+    }
+
+    private void addValue(JsonNode value) {
+        if (containers.isEmpty()) {
+            root = value;
+        } else if (containers.peek() instanceof ObjectNode objectNode) {
+            objectNode.set(fieldName, value);
+        } else {
+            ((ArrayNode) containers.peek()).add(value);
+        }
+    }
+
+    private boolean isParsed() {
+        return root != null && containers.isEmpty();
+    }
+
+    private void encode(DataBuffer buffer) {
+        try (InputStream inputStream = buffer.asInputStream()) {
+            inputStream.transferTo(encoder);
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private String decodeText() {
+        DataBuffer joined = buffers.get(0).factory().join(List.copyOf(buffers));
+        // The joined buffer holds the others now, and is released along with the rest
+        buffers.clear();
+        buffers.add(joined);
+        return joined.toString(StandardCharsets.UTF_8);
+    }
+
+    private void release() {
+        buffers.forEach(DataBufferUtils::release);
+        buffers.clear();
+    }
+
+    /**
+     * Collects the Base64 characters written by the encoder, which are all ASCII.
+     */
+    private static class StringBuilderOutputStream extends OutputStream {
+
+        private final StringBuilder builder;
+
+        StringBuilderOutputStream(StringBuilder builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public void write(int b) {
+            builder.append((char) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                builder.append((char) bytes[i]);
+            }
+        }
+    }
+}
@@ -8,16 +8,22 @@ import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Connection;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
+import com.appsmith.external.models.SSLDetails;
 import com.appsmith.util.WebClientUtils;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.NoArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
@@ -28,19 +34,16 @@ import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 
 import javax.crypto.SecretKey;
-import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -62,6 +65,45 @@ public class RestAPIActivateUtils {
             "application/x-binary");
     public static HeaderUtils headerUtils = new HeaderUtils();
 
+    // Connections to a single host, beyond which requests wait for a connection to be released
+    private static final int MAX_CONNECTIONS_PER_HOST = 500;
+
+    // Requests waiting for a connection to a single host, beyond which they fail right away instead of piling up
+    private static final int MAX_PENDING_REQUESTS_PER_HOST = 2 * MAX_CONNECTIONS_PER_HOST;
+
+    private static final ConnectionPoolMeterRegistrar CONNECTION_POOL_METER_REGISTRAR =
+            new ConnectionPoolMeterRegistrar(Metrics.globalRegistry);
+
+    /*
+     The connection provider keeps a pool of connections for every host, which the HTTP clients of all the executions
+     share. Idle connections are closed well before most servers drop them, so that a connection closed by the server
+     is rarely picked up, and the pools of hosts that are not called any more are disposed of. The pools are reported
+     as totals, without a tag for every host.
+    */
+    private static final ConnectionProvider CONNECTION_PROVIDER = ConnectionProvider.builder("rest-api-provider")
+            .maxConnections(MAX_CONNECTIONS_PER_HOST)
+            .pendingAcquireMaxCount(MAX_PENDING_REQUESTS_PER_HOST)
+            .maxIdleTime(Duration.ofSeconds(30))
+            .maxLifeTime(Duration.ofSeconds(600))
+            .evictInBackground(Duration.ofSeconds(30))
+            .disposeInactivePoolsInBackground(Duration.ofMinutes(1), Duration.ofMinutes(10))
+            .metrics(true, () -> CONNECTION_POOL_METER_REGISTRAR)
+            .build();
+
+    // HTTP clients, keyed by the settings they are built with. A client holds its SSL context, which is expensive to
+    // build, while the connections are held by the connection provider.
+    private static final Cache<HttpClientKey, HttpClient> HTTP_CLIENTS = CaffeineCacheMetrics.monitor(
+            Metrics.globalRegistry,
+            Caffeine.newBuilder()
+                    .maximumSize(1000)
+                    .expireAfterAccess(Duration.ofMinutes(30))
+                    .recordStats()
+                    .build(),
+            "restApiHttpClients");
+
+    /**
+     * @param maxBodySize The number of bytes of the response body over which the call fails
+     */
     public Mono<ActionExecutionResult> triggerApiCall(
             WebClient client,
             HttpMethod httpMethod,
@@ -71,108 +113,87 @@ public class RestAPIActivateUtils {
             ObjectMapper objectMapper,
             Set<String> hintMessages,
             ActionExecutionResult errorResult,
-            RequestCaptureFilter requestCaptureFilter) {
-        return httpCall(client, httpMethod, uri, requestBody, 0)
-                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                .map(stringResponseEntity -> {
-                    HttpHeaders headers = stringResponseEntity.getHeaders();
-                    /*
-                       Find the media type of the response to parse the body as required. In case the content-type
-                       header is not present in the response then set it to our default i.e. "text/plain" although
-                       the RFC 7231 standard suggests assuming "application/octet-stream" content-type in case
-                       it's not present in response header.
-                    */
-                    MediaType contentType = headers.getContentType();
-                    if (contentType == null) {
-                        contentType = MediaType.TEXT_PLAIN;
-                    }
-                    byte[] body = stringResponseEntity.getBody();
-                    HttpStatusCode statusCode = stringResponseEntity.getStatusCode();
-
-                    ActionExecutionResult result = new ActionExecutionResult();
-
-                    // Set the request fields
-                    boolean isBodySentWithApiRequest = requestBody == null ? false : true;
-                    result.setRequest(requestCaptureFilter.populateRequestFields(
-                            actionExecutionRequest, isBodySentWithApiRequest));
-
-                    result.setStatusCode(statusCode.toString());
-
-                    // if something has moved permanently should we mark it as an execution failure?
-                    // here marking a redirection as an execution success if the url has moved permanently without a
-                    // forwarding Location
-                    boolean isExecutionSuccess = statusCode.is2xxSuccessful() || statusCode.is3xxRedirection();
-                    result.setIsExecutionSuccess(isExecutionSuccess);
-
-                    // Convert the headers into json tree to store in the results
-                    String headerInJsonString;
-                    try {
-                        headerInJsonString = objectMapper.writeValueAsString(headers);
-                    } catch (JsonProcessingException e) {
-                        throw Exceptions.propagate(e);
-                    }
-
-                    // Set headers in the result now
-                    try {
-                        result.setHeaders(objectMapper.readTree(headerInJsonString));
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR, headerInJsonString, e.getMessage()));
+            RequestCaptureFilter requestCaptureFilter,
+            int maxBodySize) {
+        return httpCall(client, httpMethod, uri, requestBody, 0).flatMap(clientResponse -> {
+            HttpHeaders headers = clientResponse.headers().asHttpHeaders();
+            /*
+               Find the media type of the response to parse the body as required. In case the content-type
+               header is not present in the response then set it to our default i.e. "text/plain" although
+               the RFC 7231 standard suggests assuming "application/octet-stream" content-type in case
+               it's not present in response header.
+            */
+            MediaType contentType = headers.getContentType();
+            if (contentType == null) {
+                contentType = MediaType.TEXT_PLAIN;
+            }
+            HttpStatusCode statusCode = clientResponse.statusCode();
+
+            /**TODO
+             * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
+             * are kept as is and returned as a string.
+             */
+            ResponseDataType responseDataType;
+            if (contentType.includes(MediaType.APPLICATION_JSON)) {
+                responseDataType = ResponseDataType.JSON;
+            } else if (MediaType.IMAGE_GIF.equals(contentType)
+                    || MediaType.IMAGE_JPEG.equals(contentType)
+                    || MediaType.IMAGE_PNG.equals(contentType)) {
+                responseDataType = ResponseDataType.IMAGE;
+            } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
+                responseDataType = ResponseDataType.BINARY;
+            } else {
+                // If the body is not of JSON type, just set it as is.
+                responseDataType = ResponseDataType.TEXT;
+            }
+
+            ResponseBodyReader bodyReader =
+                    new ResponseBodyReader(objectMapper, responseDataType, maxBodySize, headers.getContentLength());
+
+            return bodyReader.read(clientResponse.bodyToFlux(DataBuffer.class)).map(responseBody -> {
+                ActionExecutionResult result = new ActionExecutionResult();
+
+                // Set the request fields
+                boolean isBodySentWithApiRequest = requestBody == null ? false : true;
+                result.setRequest(
+                        requestCaptureFilter.populateRequestFields(actionExecutionRequest, isBodySentWithApiRequest));
+
+                result.setStatusCode(statusCode.toString());
+
+                // if something has moved permanently should we mark it as an execution failure?
+                // here marking a redirection as an execution success if the url has moved permanently without a
+                // forwarding Location
+                boolean isExecutionSuccess = statusCode.is2xxSuccessful() || statusCode.is3xxRedirection();
+                result.setIsExecutionSuccess(isExecutionSuccess);
+
+                // Set headers in the result now
+                ObjectNode headersObjectNode = objectMapper.createObjectNode();
+                headers.forEach((name, values) -> {
+                    ArrayNode valuesArrayNode = headersObjectNode.putArray(name);
+                    values.forEach(valuesArrayNode::add);
+                });
+                result.setHeaders(headersObjectNode);
+
+                if (responseBody.body() != null) {
+                    result.setBody(responseBody.body());
+
+                    if (responseBody.dataType() == ResponseDataType.UNDEFINED) {
+                        // Warn user that the API response is not a valid JSON.
+                        hintMessages.add("The response returned by this API is not a valid JSON. Please "
+                                + "be careful when using the API response anywhere a valid JSON is required"
+                                + ". You may resolve this issue either by modifying the 'Content-Type' "
+                                + "Header to indicate a non-JSON response or by modifying the API response "
+                                + "to return a valid JSON.");
                     }
 
-                    if (body != null) {
-
-                        ResponseDataType responseDataType = ResponseDataType.UNDEFINED;
-
-                        /**TODO
-                         * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
-                         * are kept as is and returned as a string.
-                         */
-                        if (contentType.includes(MediaType.APPLICATION_JSON)) {
-                            try {
-                                String jsonBody = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(objectMapper.readTree(jsonBody));
-                                responseDataType = ResponseDataType.JSON;
-                            } catch (IOException e) {
-                                System.out.println("Unable to parse response JSON. Setting response body as string.");
-                                String bodyString = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(bodyString.trim());
-
-                                // Warn user that the API response is not a valid JSON.
-                                hintMessages.add("The response returned by this API is not a valid JSON. Please "
-                                        + "be careful when using the API response anywhere a valid JSON is required"
-                                        + ". You may resolve this issue either by modifying the 'Content-Type' "
-                                        + "Header to indicate a non-JSON response or by modifying the API response "
-                                        + "to return a valid JSON.");
-                            }
-                        } else if (MediaType.IMAGE_GIF.equals(contentType)
-                                || MediaType.IMAGE_JPEG.equals(contentType)
-                                || MediaType.IMAGE_PNG.equals(contentType)) {
-                            String encode = Base64.getEncoder().encodeToString(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.IMAGE;
-
-                        } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
-                            String encode = Base64.getEncoder().encodeToString(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.BINARY;
-                        } else {
-                            // If the body is not of JSON type, just set it as is.
-                            String bodyString = new String(body, StandardCharsets.UTF_8);
-                            result.setBody(bodyString.trim());
-                            responseDataType = ResponseDataType.TEXT;
-                        }
-
-                        // Now add a new header which specifies the data type of the response as per Appsmith
-                        JsonNode headersJsonNode = result.getHeaders();
-                        ObjectNode headersObjectNode = (ObjectNode) headersJsonNode;
-                        headersObjectNode.putArray(RESPONSE_DATA_TYPE).add(String.valueOf(responseDataType));
-                        result.setHeaders(headersObjectNode);
-                    }
+                    // Now add a new header which specifies the data type of the response as per Appsmith
+                    headersObjectNode.putArray(RESPONSE_DATA_TYPE).add(String.valueOf(responseBody.dataType()));
+                }
 
-                    result.setMessages(hintMessages);
-                    return result;
-                });
+                result.setMessages(hintMessages);
+                return result;
+            });
+        });
     }
 
     protected Mono<ClientResponse> httpCall(
@@ -300,21 +321,42 @@ public class RestAPIActivateUtils {
                 .forEach(header -> webClientBuilder.defaultHeader(header.getKey(), (String) header.getValue()));
     }
 
+    /**
+     * Returns the HTTP client for the protocol and the SSL settings of the datasource. Clients are shared by every
+     * execution with the same protocol and SSL settings, and all of them share a single connection provider, so the
+     * connections to a host are kept alive and reused across executions instead of being opened for every call. With
+     * HTTP/2, the requests to a host are multiplexed on the same connection.
+     */
     protected HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
         if (httpProtocol == null) {
             httpProtocol = HttpProtocol.HTTP11;
         }
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider.builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
-
-        HttpClient httpClient = HttpClient.create(provider)
-                .protocol(httpProtocol)
+
+        final HttpClientKey httpClientKey = HttpClientKey.of(datasourceConfiguration, httpProtocol);
+        return HTTP_CLIENTS.get(httpClientKey, key -> HttpClient.create(CONNECTION_PROVIDER)
+                .protocol(key.httpProtocol())
                 .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
-                .compress(true);
+                .compress(true));
+    }
 
-        return httpClient;
+    /**
+     * The settings that an HTTP client is built with. Only a self-signed certificate changes the SSL context of the
+     * client, so that is the only part of the SSL settings that is kept.
+     */
+    record HttpClientKey(HttpProtocol httpProtocol, SSLDetails.AuthType sslAuthType, String trustedCertificate) {
+
+        static HttpClientKey of(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+            final Connection connection = datasourceConfiguration.getConnection();
+            if (connection == null || connection.getSsl() == null) {
+                return new HttpClientKey(httpProtocol, null, null);
+            }
+
+            final SSLDetails ssl = connection.getSsl();
+            final String trustedCertificate = ssl.getAuthType() == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE
+                            && ssl.getCertificateFile() != null
+                    ? ssl.getCertificateFile().getBase64Content()
+                    : null;
+            return new HttpClientKey(httpProtocol, ssl.getAuthType(), trustedCertificate);
+        }
     }
 }
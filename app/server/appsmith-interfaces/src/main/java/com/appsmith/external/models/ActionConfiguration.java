@@ -33,6 +33,9 @@ public class ActionConfiguration implements AppsmithDomain, ExecutableConfigurat
     private static final int MAX_TIMEOUT_VALUE = 60000; // in Milliseconds
     private static final String TIMEOUT_OUT_OF_RANGE_MESSAGE =
             "'Query timeout' field must be an integer between " + MIN_TIMEOUT_VALUE + " and " + MAX_TIMEOUT_VALUE;
+    private static final String COALESCING_OUT_OF_RANGE_MESSAGE =
+            "'Share results of identical runs' field must be an integer between " + MIN_TIMEOUT_VALUE + " and "
+                    + MAX_TIMEOUT_VALUE;
     /*
      * Any of the fields mentioned below could be represented in mustache
      * template. If the mustache template is found, it would be replaced
@@ -45,6 +48,15 @@ public class ActionConfiguration implements AppsmithDomain, ExecutableConfigurat
     @Range(min = MIN_TIMEOUT_VALUE, max = MAX_TIMEOUT_VALUE, message = TIMEOUT_OUT_OF_RANGE_MESSAGE)
     Integer timeoutInMillisecond;
 
+    /*
+     * When set on an action of a read-only datasource, the executions of the action in view mode with the same
+     * evaluated params that start while one of them is running, or within this many milliseconds after it returned,
+     * get the result of that one, instead of running the action again. Actions of other datasources may write, so
+     * they always run.
+     */
+    @Range(min = MIN_TIMEOUT_VALUE, max = MAX_TIMEOUT_VALUE, message = COALESCING_OUT_OF_RANGE_MESSAGE)
+    Integer coalesceExecutionsInMillisecond;
+
     PaginationType paginationType = PaginationType.NONE;
 
     // API fields
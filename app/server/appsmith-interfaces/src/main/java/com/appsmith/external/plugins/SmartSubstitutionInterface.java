@@ -7,9 +7,9 @@ import com.appsmith.external.models.MustacheBindingToken;
 import com.appsmith.external.models.Param;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public interface SmartSubstitutionInterface {
 
@@ -35,18 +35,23 @@ public interface SmartSubstitutionInterface {
 
         if (mustacheValuesInOrder != null && !mustacheValuesInOrder.isEmpty()) {
 
+            // Index the params by their key once, instead of searching all of them for every binding. The first param
+            // with a key wins, as it did with the search.
+            Map<String, Param> paramsByKey = new HashMap<>(evaluatedParams.size() * 2);
+            for (Param param : evaluatedParams) {
+                paramsByKey.putIfAbsent(param.getKey().trim(), param);
+            }
+
             for (int i = 0; i < mustacheValuesInOrder.size(); i++) {
                 String key = mustacheValuesInOrder.get(i).getValue();
-                Optional<Param> matchingParam = evaluatedParams.stream()
-                        .filter(param -> param.getKey().trim().equals(key))
-                        .findFirst();
+                Param matchingParam = paramsByKey.get(key);
 
                 // If the evaluated value of the mustache binding is present, set it in the prepared statement
-                if (matchingParam.isPresent()) {
-                    String value = matchingParam.get().getValue();
+                if (matchingParam != null) {
+                    String value = matchingParam.getValue();
 
                     input = substituteValueInInput(
-                            i + 1, key, value, input, insertedParams, append(args, matchingParam.get()));
+                            i + 1, key, value, input, insertedParams, append(args, matchingParam));
                 } else {
                     throw new AppsmithPluginException(AppsmithPluginError.SMART_SUBSTITUTION_VALUE_MISSING, key);
                 }
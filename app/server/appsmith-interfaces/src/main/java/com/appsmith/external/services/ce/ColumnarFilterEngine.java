@@ -0,0 +1,1035 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.DataTypeStringUtils;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.getBindValue;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * In memory, pure Java filtering engine used by {@link FilterDataServiceCE}. The data is loaded once into typed
+ * column vectors (a primitive array per column along with a null bitmap) and the UQI where clause, sorting,
+ * pagination and projection are evaluated directly on these vectors, instead of creating, populating, querying and
+ * dropping a table in the shared H2 database for every request.
+ *
+ * The type handling deliberately mirrors what the H2 based implementation did with the generated prepared
+ * statements, so that the filtered results stay the same:
+ *   o every cell and every condition value is bound exactly the way `getBindValue` binds it
+ *   o the bound value is then coerced to the column's storage type (INT, BIGINT, REAL, DOUBLE, BOOLEAN, VARCHAR,
+ *     DATE, TIMESTAMP) the same way H2 coerces a parameter to the type of the column it is compared with
+ *   o comparisons follow SQL three valued logic, i.e. a comparison with NULL is unknown and filters the row out
+ *   o NULL values sort first in ascending order and last in descending order
+ */
+class ColumnarFilterEngine {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT);
+
+    private static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN, ConditionalOperator.NOT_EQ, ConditionalOperator.GTE, ConditionalOperator.GT);
+
+    private static final Set<ConditionalOperator> SUPPORTED_OPERATORS = Set.of(
+            ConditionalOperator.LT,
+            ConditionalOperator.LTE,
+            ConditionalOperator.EQ,
+            ConditionalOperator.NOT_EQ,
+            ConditionalOperator.GT,
+            ConditionalOperator.GTE,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.IN,
+            ConditionalOperator.NOT_IN);
+
+    // Results of evaluating a condition on a row, as per SQL three valued logic.
+    private static final int FALSE = 0;
+    private static final int TRUE = 1;
+    private static final int UNKNOWN = -1;
+
+    private final Map<String, Column> columns;
+    private final Map<String, DataType> schema;
+    private final int rowCount;
+
+    private ColumnarFilterEngine(Map<String, Column> columns, Map<String, DataType> schema, int rowCount) {
+        this.columns = columns;
+        this.schema = schema;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Loads the data into column vectors as per the schema.
+     *
+     * @param items                 - data
+     * @param schema                - column name to data type mapping, as generated by
+     *                              {@link FilterDataServiceCE#generateSchema(ArrayNode, Map)}
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return engine holding the loaded data
+     */
+    static ColumnarFilterEngine load(
+            ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap) {
+
+        final int rowCount = items.size();
+        final JsonNode[] rows = new JsonNode[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = items.get(i);
+        }
+
+        Map<String, Column> columns = new LinkedHashMap<>();
+        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+            String columnName = entry.getKey();
+            DataType columnDataType = entry.getValue();
+            StorageType storageType = StorageType.of(columnDataType);
+            Column column = storageType.newColumn(rowCount);
+
+            // The values of the column are classified together, a null value stands for a missing field
+            String[] values = new String[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                JsonNode fieldNode = rows[row].get(columnName);
+                values[row] = fieldNode == null ? null : fieldNode.asText();
+            }
+            DataType[] valueDataTypes = DataTypeStringUtils.stringToKnownDataTypes(values);
+
+            for (int row = 0; row < rowCount; row++) {
+                String value = values[row];
+                if (value == null) {
+                    column.setNull(row);
+                    continue;
+                }
+
+                Object boundValue = getBindValue(value, valueDataTypes[row], columnDataType, dataTypeConversionMap);
+                Object storedValue;
+                try {
+                    storedValue = storageType.coerce(boundValue);
+                } catch (IllegalArgumentException e) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                            "Error in ingesting the data : " + e.getMessage());
+                }
+
+                if (storedValue == null) {
+                    column.setNull(row);
+                } else {
+                    column.set(row, storedValue);
+                }
+            }
+
+            columns.put(columnName, column);
+        }
+
+        return new ColumnarFilterEngine(columns, schema, rowCount);
+    }
+
+    /**
+     * Applies the where clause, sorting, pagination and projection on the loaded data.
+     *
+     * @param uqiDataFilterParams - filter conditions to apply on data
+     * @return filtered rows, with null values replaced by empty strings
+     */
+    List<Map<String, Object>> execute(UQIDataFilterParams uqiDataFilterParams) {
+        Condition condition = uqiDataFilterParams.getCondition();
+        List<String> projectionColumns = uqiDataFilterParams.getProjectionColumns();
+        List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
+        Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
+
+        // Resolve everything that may fail before touching the data, so that bad inputs are reported early.
+        List<Map.Entry<String, Column>> projection = resolveProjection(projectionColumns);
+
+        RowPredicate predicate = null;
+        if (Condition.isValid(condition)) {
+            predicate = compileLogicalExpression((List<Condition>) condition.getValue(), condition.getOperator());
+        }
+
+        Comparator<Integer> comparator = compileSort(sortBy);
+        int[] pagination = resolvePagination(paginateBy);
+
+        // Filter
+        int[] selectedRows = new int[rowCount];
+        int selectedCount = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (predicate == null || predicate.test(row) == TRUE) {
+                selectedRows[selectedCount++] = row;
+            }
+        }
+
+        // Sort
+        if (comparator != null) {
+            Integer[] boxedRows = new Integer[selectedCount];
+            for (int i = 0; i < selectedCount; i++) {
+                boxedRows[i] = selectedRows[i];
+            }
+            Arrays.sort(boxedRows, comparator);
+            for (int i = 0; i < selectedCount; i++) {
+                selectedRows[i] = boxedRows[i];
+            }
+        }
+
+        // Paginate
+        int from = 0;
+        int to = selectedCount;
+        if (pagination != null) {
+            from = (int) Math.min((long) pagination[1], selectedCount);
+            to = (int) Math.min((long) from + pagination[0], selectedCount);
+        }
+
+        // Project
+        List<Map<String, Object>> rowsList = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            int row = selectedRows[i];
+            Map<String, Object> resultRow = new LinkedHashMap<>(projection.size());
+            for (Map.Entry<String, Column> entry : projection) {
+                Column column = entry.getValue();
+                // Set null values to empty strings
+                resultRow.put(entry.getKey(), column.isNull(row) ? "" : column.getResultObject(row));
+            }
+            rowsList.add(resultRow);
+        }
+
+        return rowsList;
+    }
+
+    private List<Map.Entry<String, Column>> resolveProjection(List<String> projectionColumns) {
+        if (CollectionUtils.isEmpty(projectionColumns)) {
+            return new ArrayList<>(columns.entrySet());
+        }
+
+        List<Map.Entry<String, Column>> projection = new ArrayList<>(projectionColumns.size());
+        for (String columnName : projectionColumns) {
+            projection.add(Map.entry(columnName, getColumn(columnName)));
+        }
+        return projection;
+    }
+
+    private Column getColumn(String columnName) {
+        Column column = columns.get(columnName);
+        if (column == null) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Column \"" + columnName + "\" not found");
+        }
+        return column;
+    }
+
+    /**
+     * Returns the `[limit, offset]` pair for the pagination condition or null if no pagination was requested. An
+     * unset limit or offset defaults to 20 and 0 respectively, same as the `LIMIT ? OFFSET ?` clause used to.
+     */
+    private int[] resolvePagination(Map<String, String> paginateBy) {
+        if (CollectionUtils.isEmpty(paginateBy)) {
+            return null;
+        }
+
+        String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
+        if (isBlank(limit)) {
+            limit = "20";
+        }
+
+        String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
+        if (isBlank(offset)) {
+            offset = "0";
+        }
+
+        Integer limitValue = (Integer) getBindValue(limit, DataType.INTEGER, null);
+        Integer offsetValue = (Integer) getBindValue(offset, DataType.INTEGER, null);
+
+        if ((limitValue != null && limitValue < 0) || (offsetValue != null && offsetValue < 0)) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Invalid value for limit (" + limit + ") or offset (" + offset + ")");
+        }
+
+        return new int[] {
+            limitValue == null ? Integer.MAX_VALUE : limitValue, offsetValue == null ? 0 : offsetValue
+        };
+    }
+
+    private Comparator<Integer> compileSort(List<Map<String, String>> sortBy) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return null;
+        }
+
+        Comparator<Integer> comparator = null;
+        for (Map<String, String> sortCondition : sortBy) {
+            String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+
+            SortType sortType;
+            try {
+                sortType = SortType.valueOf(sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_ERROR,
+                        "Appsmith server failed "
+                                + "to parse the type of sort condition. Please reach out to Appsmith customer support "
+                                + "to resolve this.");
+            }
+
+            final Column column = getColumn(columnName);
+            // Null values are considered smaller than any other value.
+            Comparator<Integer> columnComparator = (a, b) -> {
+                boolean aIsNull = column.isNull(a);
+                boolean bIsNull = column.isNull(b);
+                if (aIsNull || bIsNull) {
+                    return aIsNull == bIsNull ? 0 : (aIsNull ? -1 : 1);
+                }
+                return column.compareRows(a, b);
+            };
+            if (SortType.DESCENDING.equals(sortType)) {
+                columnComparator = columnComparator.reversed();
+            }
+
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+
+        return comparator;
+    }
+
+    /**
+     * Compiles the list of conditions joined by the logical operator into a row predicate. Returns null if none of
+     * the conditions ends up filtering anything, e.g. an empty list of conditions.
+     */
+    private RowPredicate compileLogicalExpression(List<Condition> conditions, ConditionalOperator logicOp) {
+        List<RowPredicate> predicates = new ArrayList<>();
+
+        for (Condition condition : conditions) {
+            ConditionalOperator operator = condition.getOperator();
+            Object objValue = condition.getValue();
+
+            RowPredicate predicate;
+            if (ConditionalOperator.AND.equals(operator) || ConditionalOperator.OR.equals(operator)) {
+                predicate = compileLogicalExpression((List<Condition>) objValue, operator);
+            } else {
+                predicate = compileCondition(condition.getPath(), operator, objValue);
+            }
+
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+
+        if (predicates.isEmpty()) {
+            return null;
+        }
+
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+
+        final RowPredicate[] operands = predicates.toArray(new RowPredicate[0]);
+        if (ConditionalOperator.OR.equals(logicOp)) {
+            return row -> {
+                int result = FALSE;
+                for (RowPredicate operand : operands) {
+                    int operandResult = operand.test(row);
+                    if (operandResult == TRUE) {
+                        return TRUE;
+                    }
+                    if (operandResult == UNKNOWN) {
+                        result = UNKNOWN;
+                    }
+                }
+                return result;
+            };
+        }
+
+        return row -> {
+            int result = TRUE;
+            for (RowPredicate operand : operands) {
+                int operandResult = operand.test(row);
+                if (operandResult == FALSE) {
+                    return FALSE;
+                }
+                if (operandResult == UNKNOWN) {
+                    result = UNKNOWN;
+                }
+            }
+            return result;
+        };
+    }
+
+    private RowPredicate compileCondition(String path, ConditionalOperator operator, Object objValue) {
+        if (StringUtils.isEmpty(path)) {
+            return null;
+        }
+
+        final Column column = getColumn(path);
+        final DataType columnDataType = schema.get(path);
+        final StorageType storageType = column.storageType;
+        String value = objValue == null ? null : String.valueOf(objValue);
+
+        if (value == null || value.equals(StringUtils.EMPTY)) {
+            if (IS_NULL_OPERATORS.contains(operator)) {
+                return row -> column.isNull(row) ? TRUE : FALSE;
+            } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                return row -> column.isNull(row) ? FALSE : TRUE;
+            }
+        }
+
+        if (!SUPPORTED_OPERATORS.contains(operator)) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    operator + " is not supported currently for filtering.");
+        }
+
+        switch (operator) {
+            case IN:
+            case NOT_IN: {
+                List<Object> arrayValues;
+                try {
+                    arrayValues = objectMapper.readValue(value, List.class);
+                } catch (IOException e) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            value + " could not be parsed into an array");
+                }
+
+                boolean hasNullValue = false;
+                List<Object> coercedValues = new ArrayList<>(arrayValues.size());
+                for (Object fieldValue : arrayValues) {
+                    Object coercedValue = coerceConditionValue(String.valueOf(fieldValue), columnDataType, storageType);
+                    if (coercedValue == null) {
+                        hasNullValue = true;
+                    } else {
+                        coercedValues.add(coercedValue);
+                    }
+                }
+
+                final Object[] inValues = coercedValues.toArray();
+                final int noMatchResult = hasNullValue ? UNKNOWN : FALSE;
+                final boolean negate = ConditionalOperator.NOT_IN.equals(operator);
+                return row -> {
+                    if (column.isNull(row)) {
+                        return UNKNOWN;
+                    }
+                    int result = noMatchResult;
+                    for (Object inValue : inValues) {
+                        if (column.compareToValue(row, inValue) == 0) {
+                            result = TRUE;
+                            break;
+                        }
+                    }
+                    if (negate && result != UNKNOWN) {
+                        return result == TRUE ? FALSE : TRUE;
+                    }
+                    return result;
+                };
+            }
+            case CONTAINS: {
+                final String escapedLikeValue = value.replace("!", "!!")
+                        .replace("%", "!%")
+                        .replace("_", "!_")
+                        .replace("[", "![");
+                Object boundValue = getBindValue("%" + escapedLikeValue + "%", columnDataType, null);
+                if (boundValue == null) {
+                    return row -> UNKNOWN;
+                }
+
+                // A string pattern is a plain `%value%` match. Any other bound value has no wildcards left in it and
+                // hence can only match the textual representation of the column value exactly.
+                final boolean isSubstringMatch = boundValue instanceof String;
+                final String pattern = isSubstringMatch ? value : (String) StorageType.VARCHAR.coerce(boundValue);
+                return row -> {
+                    if (column.isNull(row)) {
+                        return UNKNOWN;
+                    }
+                    String columnValue = column.getString(row);
+                    boolean matches = isSubstringMatch ? columnValue.contains(pattern) : columnValue.equals(pattern);
+                    return matches ? TRUE : FALSE;
+                };
+            }
+            default: {
+                final Object coercedValue = coerceConditionValue(value, columnDataType, storageType);
+                if (coercedValue == null) {
+                    return row -> UNKNOWN;
+                }
+
+                return row -> {
+                    if (column.isNull(row)) {
+                        return UNKNOWN;
+                    }
+                    int comparison = column.compareToValue(row, coercedValue);
+                    boolean result;
+                    switch (operator) {
+                        case LT:
+                            result = comparison < 0;
+                            break;
+                        case LTE:
+                            result = comparison <= 0;
+                            break;
+                        case EQ:
+                            result = comparison == 0;
+                            break;
+                        case NOT_EQ:
+                            result = comparison != 0;
+                            break;
+                        case GT:
+                            result = comparison > 0;
+                            break;
+                        case GTE:
+                        default:
+                            result = comparison >= 0;
+                            break;
+                    }
+                    return result ? TRUE : FALSE;
+                };
+            }
+        }
+    }
+
+    private Object coerceConditionValue(String value, DataType columnDataType, StorageType storageType) {
+        Object boundValue = getBindValue(value, columnDataType, null);
+        try {
+            return storageType.coerce(boundValue);
+        } catch (IllegalArgumentException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Filtering failure seen : " + e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowPredicate {
+        /**
+         * @return one of TRUE, FALSE or UNKNOWN
+         */
+        int test(int row);
+    }
+
+    /**
+     * Types in which the column values are stored. Each data type maps to a storage type in the same way it used to
+     * map to an SQL type for the H2 table, with anything that doesn't have a native representation being stored as
+     * text.
+     */
+    private enum StorageType {
+        INT,
+        BIGINT,
+        REAL,
+        DOUBLE,
+        BOOLEAN,
+        VARCHAR,
+        DATE,
+        TIMESTAMP;
+
+        static StorageType of(DataType dataType) {
+            if (dataType == null) {
+                return VARCHAR;
+            }
+
+            switch (dataType) {
+                case INTEGER:
+                    return INT;
+                case LONG:
+                    return BIGINT;
+                case FLOAT:
+                    return REAL;
+                case DOUBLE:
+                    return DOUBLE;
+                case BOOLEAN:
+                    return BOOLEAN;
+                case DATE:
+                    return DATE;
+                case TIMESTAMP:
+                    return TIMESTAMP;
+                default:
+                    return VARCHAR;
+            }
+        }
+
+        Column newColumn(int size) {
+            switch (this) {
+                case INT:
+                    return new IntColumn(size);
+                case BIGINT:
+                    return new LongColumn(size);
+                case REAL:
+                    return new FloatColumn(size);
+                case DOUBLE:
+                    return new DoubleColumn(size);
+                case BOOLEAN:
+                    return new BooleanColumn(size);
+                case DATE:
+                    return new DateColumn(size);
+                case TIMESTAMP:
+                    return new TimestampColumn(size);
+                case VARCHAR:
+                default:
+                    return new StringColumn(size);
+            }
+        }
+
+        /**
+         * Converts a bound value (null, Integer, Long, BigDecimal, Boolean or String) into the Java type used to
+         * store values of this storage type.
+         *
+         * @throws IllegalArgumentException if the value cannot be represented in this storage type
+         */
+        Object coerce(Object value) {
+            if (value == null) {
+                return null;
+            }
+
+            try {
+                switch (this) {
+                    case INT:
+                        if (value instanceof Integer) {
+                            return value;
+                        } else if (value instanceof Boolean) {
+                            return ((Boolean) value) ? 1 : 0;
+                        } else if (value instanceof String) {
+                            return Integer.parseInt(((String) value).trim());
+                        }
+                        return toBigDecimal(value).setScale(0, RoundingMode.HALF_UP).intValueExact();
+                    case BIGINT:
+                        if (value instanceof Long) {
+                            return value;
+                        } else if (value instanceof Boolean) {
+                            return ((Boolean) value) ? 1L : 0L;
+                        } else if (value instanceof String) {
+                            return Long.parseLong(((String) value).trim());
+                        }
+                        return toBigDecimal(value).setScale(0, RoundingMode.HALF_UP).longValueExact();
+                    case REAL:
+                        if (value instanceof Boolean) {
+                            return ((Boolean) value) ? 1f : 0f;
+                        } else if (value instanceof String) {
+                            return Float.parseFloat(((String) value).trim());
+                        }
+                        return ((Number) value).floatValue();
+                    case DOUBLE:
+                        if (value instanceof Boolean) {
+                            return ((Boolean) value) ? 1d : 0d;
+                        } else if (value instanceof String) {
+                            return Double.parseDouble(((String) value).trim());
+                        }
+                        return ((Number) value).doubleValue();
+                    case BOOLEAN:
+                        if (value instanceof Boolean) {
+                            return value;
+                        } else if (value instanceof String) {
+                            return parseBoolean((String) value);
+                        }
+                        return toBigDecimal(value).signum() != 0;
+                    case DATE:
+                        if (value instanceof String) {
+                            return parseDate((String) value);
+                        }
+                        break;
+                    case TIMESTAMP:
+                        if (value instanceof String) {
+                            return parseTimestamp((String) value);
+                        }
+                        break;
+                    case VARCHAR:
+                    default:
+                        if (value instanceof Boolean) {
+                            return ((Boolean) value) ? "TRUE" : "FALSE";
+                        }
+                        return String.valueOf(value);
+                }
+            } catch (NumberFormatException | ArithmeticException | DateTimeParseException | ClassCastException e) {
+                throw new IllegalArgumentException(
+                        "Data conversion error converting \"" + value + "\" to " + this + " : " + e.getMessage(), e);
+            }
+
+            throw new IllegalArgumentException("Data conversion error converting \"" + value + "\" to " + this);
+        }
+
+        private static BigDecimal toBigDecimal(Object value) {
+            if (value instanceof BigDecimal) {
+                return (BigDecimal) value;
+            }
+            return new BigDecimal(String.valueOf(value));
+        }
+
+        private static Boolean parseBoolean(String value) {
+            String trimmedValue = value.trim().toLowerCase();
+            switch (trimmedValue) {
+                case "true":
+                case "t":
+                case "yes":
+                case "y":
+                case "1":
+                    return true;
+                case "false":
+                case "f":
+                case "no":
+                case "n":
+                case "0":
+                    return false;
+                default:
+                    throw new IllegalArgumentException("Data conversion error converting \"" + value + "\" to BOOLEAN");
+            }
+        }
+
+        private static LocalDate parseDate(String value) {
+            String trimmedValue = value.trim();
+            if (trimmedValue.length() == 10) {
+                return LocalDate.parse(trimmedValue);
+            }
+            return parseTimestamp(trimmedValue).toLocalDate();
+        }
+
+        private static LocalDateTime parseTimestamp(String value) {
+            String trimmedValue = value.trim();
+            if (trimmedValue.length() == 10) {
+                return LocalDate.parse(trimmedValue).atStartOfDay();
+            }
+            // Both `yyyy-MM-dd HH:mm:ss` and `yyyy-MM-ddTHH:mm:ss` forms are accepted.
+            return LocalDateTime.parse(trimmedValue.replace(' ', 'T'));
+        }
+    }
+
+    /**
+     * A typed column vector. Each implementation stores the values in a primitive array where possible, with the null
+     * values tracked separately in a bitmap.
+     */
+    private abstract static class Column {
+        final StorageType storageType;
+        private final BitSet nulls;
+
+        Column(StorageType storageType, int size) {
+            this.storageType = storageType;
+            this.nulls = new BitSet(size);
+        }
+
+        final void setNull(int row) {
+            nulls.set(row);
+        }
+
+        final boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        /**
+         * @param value value already coerced to this column's storage type
+         */
+        abstract void set(int row, Object value);
+
+        abstract int compareRows(int a, int b);
+
+        /**
+         * @param value value already coerced to this column's storage type
+         */
+        abstract int compareToValue(int row, Object value);
+
+        /**
+         * @return value as returned by a JDBC `ResultSet.getObject` on the equivalent SQL column
+         */
+        abstract Object getResultObject(int row);
+
+        /**
+         * @return textual representation of the value, as used for `LIKE` comparisons
+         */
+        abstract String getString(int row);
+    }
+
+    private static final class IntColumn extends Column {
+        private final int[] values;
+
+        IntColumn(int size) {
+            super(StorageType.INT, size);
+            values = new int[size];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (Integer) value;
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return Integer.compare(values[a], values[b]);
+        }
+
+        @Override
+        int compareToValue(int row, Object value) {
+            return Integer.compare(values[row], (Integer) value);
+        }
+
+        @Override
+        Object getResultObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        String getString(int row) {
+            return Integer.toString(values[row]);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        private final long[] values;
+
+        LongColumn(int size) {
+            super(StorageType.BIGINT, size);
+            values = new long[size];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (Long) value;
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return Long.compare(values[a], values[b]);
+        }
+
+        @Override
+        int compareToValue(int row, Object value) {
+            return Long.compare(values[row], (Long) value);
+        }
+
+        @Override
+        Object getResultObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        String getString(int row) {
+            return Long.toString(values[row]);
+        }
+    }
+
+    private static final class FloatColumn extends Column {
+        private final float[] values;
+
+        FloatColumn(int size) {
+            super(StorageType.REAL, size);
+            values = new float[size];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (Float) value;
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return Float.compare(values[a], values[b]);
+        }
+
+        @Override
+        int compareToValue(int row, Object value) {
+            return Float.compare(values[row], (Float) value);
+        }
+
+        @Override
+        Object getResultObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        String getString(int row) {
+            return Float.toString(values[row]);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        private final double[] values;
+
+        DoubleColumn(int size) {
+            super(StorageType.DOUBLE, size);
+            values = new double[size];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (Double) value;
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return Double.compare(values[a], values[b]);
+        }
+
+        @Override
+        int compareToValue(int row, Object value) {
+            return Double.compare(values[row], (Double) value);
+        }
+
+        @Override
+        Object getResultObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        String getString(int row) {
+            return Double.toString(values[row]);
+        }
+    }
+
+    private static final class BooleanColumn extends Column {
+        private final BitSet values;
+
+        BooleanColumn(int size) {
+            super(StorageType.BOOLEAN, size);
+            values = new BitSet(size);
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values.set(row, (Boolean) value);
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return Boolean.compare(values.get(a), values.get(b));
+        }
+
+        @Override
+        int compareToValue(int row, Object value) {
+            return Boolean.compare(values.get(row), (Boolean) value);
+        }
+
+        @Override
+        Object getResultObject(int row) {
+            return values.get(row);
+        }
+
+        @Override
+        String getString(int row) {
+            return values.get(row) ? "TRUE" : "FALSE";
+        }
+    }
+
+    private static final class StringColumn extends Column {
+        private final String[] values;
+
+        StringColumn(int size) {
+            super(StorageType.VARCHAR, size);
+            values = new String[size];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (String) value;
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return values[a].compareTo(values[b]);
+        }
+
+        @Override
+        int compareToValue(int row, Object value) {
+            return values[row].compareTo((String) value);
+        }
+
+        @Override
+        Object getResultObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        String getString(int row) {
+            return values[row];
+        }
+    }
+
+    private static final class DateColumn extends Column {
+        // Dates are stored as the number of days since the epoch
+        private final long[] values;
+
+        DateColumn(int size) {
+            super(StorageType.DATE, size);
+            values = new long[size];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = ((LocalDate) value).toEpochDay();
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return Long.compare(values[a], values[b]);
+        }
+
+        @Override
+        int compareToValue(int row, Object value) {
+            return Long.compare(values[row], ((LocalDate) value).toEpochDay());
+        }
+
+        @Override
+        Object getResultObject(int row) {
+            return Date.valueOf(LocalDate.ofEpochDay(values[row]));
+        }
+
+        @Override
+        String getString(int row) {
+            return LocalDate.ofEpochDay(values[row]).toString();
+        }
+    }
+
+    private static final class TimestampColumn extends Column {
+        private final LocalDateTime[] values;
+
+        TimestampColumn(int size) {
+            super(StorageType.TIMESTAMP, size);
+            values = new LocalDateTime[size];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (LocalDateTime) value;
+        }
+
+        @Override
+        int compareRows(int a, int b) {
+            return values[a].compareTo(values[b]);
+        }
+
+        @Override
+        int compareToValue(int row, Object value) {
+            return values[row].compareTo((LocalDateTime) value);
+        }
+
+        @Override
+        Object getResultObject(int row) {
+            return Timestamp.valueOf(values[row]);
+        }
+
+        @Override
+        String getString(int row) {
+            // Same format as an SQL timestamp literal, e.g. `2021-09-01 00:01:00` or `2021-09-01 00:01:00.5`
+            return Timestamp.valueOf(values[row]).toString().replaceFirst("\\.0$", "");
+        }
+    }
+}
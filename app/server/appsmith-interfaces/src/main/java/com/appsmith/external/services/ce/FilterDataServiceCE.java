@@ -1,9 +1,6 @@
 package com.appsmith.external.services.ce;
 
-import com.appsmith.external.constants.ConditionalOperator;
 import com.appsmith.external.constants.DataType;
-import com.appsmith.external.constants.SortType;
-import com.appsmith.external.dtos.PreparedStatementValueDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
@@ -11,38 +8,34 @@ import com.appsmith.external.models.UQIDataFilterParams;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.lang3.StringUtils;
-import org.bson.types.ObjectId;
-import org.h2.jdbc.JdbcSQLSyntaxErrorException;
-import org.springframework.util.CollectionUtils;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
-import java.io.IOException;
 import java.math.BigDecimal;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
-import java.sql.SQLException;
-import java.sql.Statement;
-import java.sql.Types;
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
 import static com.appsmith.external.models.Condition.addValueDataType;
-import static org.apache.commons.lang3.StringUtils.isBlank;
 
-@Slf4j
 public class FilterDataServiceCE implements IFilterDataServiceCE {
 
     public static final String SORT_BY_COLUMN_NAME_KEY = "column";
@@ -50,31 +43,56 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public static final String PAGINATE_LIMIT_KEY = "limit";
     public static final String PAGINATE_OFFSET_KEY = "offset";
 
+    // Default limits on the in memory filtering work done at any point in time.
+    public static final int DEFAULT_MAX_CONCURRENT_FILTER_REQUESTS =
+            Math.max(1, Runtime.getRuntime().availableProcessors());
+    public static final long DEFAULT_MAX_CELLS_PER_FILTER_REQUEST = 5_000_000L;
+    public static final Duration DEFAULT_FILTER_QUEUE_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final String FILTER_METRIC_PREFIX = "appsmith.filter.";
+    private static final String FILTER_THREAD_NAME_PREFIX = "in-memory-filter";
+    private static final int FILTER_THREAD_TTL_SECONDS = 60;
+    private static final String PHASE_TAG = "phase";
+
     private final ObjectMapper objectMapper;
-    private Connection connection;
-
-    private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE";
-
-    private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
-            DataType.INTEGER, "INT",
-            DataType.LONG, "BIGINT",
-            DataType.FLOAT, "REAL",
-            DataType.DOUBLE, "DOUBLE",
-            DataType.BOOLEAN, "BOOLEAN",
-            DataType.STRING, "VARCHAR",
-            DataType.DATE, "DATE",
-            DataType.TIMESTAMP, "TIMESTAMP");
-
-    private static final Map<ConditionalOperator, String> SQL_OPERATOR_MAP = Map.of(
-            ConditionalOperator.LT, "<",
-            ConditionalOperator.LTE, "<=",
-            ConditionalOperator.EQ, "=",
-            ConditionalOperator.NOT_EQ, "<>",
-            ConditionalOperator.GT, ">",
-            ConditionalOperator.GTE, ">=",
-            ConditionalOperator.CONTAINS, "LIKE",
-            ConditionalOperator.IN, "IN",
-            ConditionalOperator.NOT_IN, "NOT IN");
+
+    /*
+     * Filtering is CPU and memory heavy. The number of requests being filtered in parallel is bounded by these
+     * permits, and requests beyond that wait in a first come, first served queue for up to the queue timeout.
+     */
+    private final FilterPermits filterPermits;
+    private final long maxCellsPerRequest;
+    private final Duration queueTimeout;
+
+    /*
+     * Runs the filtering of reactive callers once they have a permit, so that it never runs on the caller's thread.
+     * It is shared by all the instances, as are the meters, which are registered once.
+     */
+    private static final Scheduler FILTER_SCHEDULER = Schedulers.newBoundedElastic(
+            DEFAULT_MAX_CONCURRENT_FILTER_REQUESTS,
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+            FILTER_THREAD_NAME_PREFIX,
+            FILTER_THREAD_TTL_SECONDS,
+            true);
+
+    private static final Timer QUEUE_WAIT_TIMER = Timer.builder(FILTER_METRIC_PREFIX + "queue.wait")
+            .description("Time spent waiting for a permit to filter data in memory")
+            .register(Metrics.globalRegistry);
+    private static final Timer SCHEMA_PHASE_TIMER = phaseTimer("schema");
+    private static final Timer LOAD_PHASE_TIMER = phaseTimer("load");
+    private static final Timer EXECUTE_PHASE_TIMER = phaseTimer("execute");
+    private static final Timer SERIALIZE_PHASE_TIMER = phaseTimer("serialize");
+    private static final DistributionSummary ROWS_IN_SUMMARY = DistributionSummary.builder(
+                    FILTER_METRIC_PREFIX + "rows.in")
+            .description("Number of rows given for in memory filtering")
+            .register(Metrics.globalRegistry);
+    private static final DistributionSummary ROWS_OUT_SUMMARY = DistributionSummary.builder(
+                    FILTER_METRIC_PREFIX + "rows.out")
+            .description("Number of rows returned by in memory filtering")
+            .register(Metrics.globalRegistry);
+    private static final Counter REJECTED_COUNTER = Counter.builder(FILTER_METRIC_PREFIX + "rejected")
+            .description("Number of in memory filtering requests rejected due to the configured limits")
+            .register(Metrics.globalRegistry);
 
     private static final Map<DataType, Set<DataType>> datatypeCompatibilityMap = Map.of(
             DataType.INTEGER, Set.of(),
@@ -96,17 +114,28 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             DataType.TIMESTAMP, Set.of());
 
     public FilterDataServiceCE() {
+        this(DEFAULT_MAX_CONCURRENT_FILTER_REQUESTS, DEFAULT_MAX_CELLS_PER_FILTER_REQUEST, DEFAULT_FILTER_QUEUE_TIMEOUT);
+    }
+
+    /**
+     * @param maxConcurrentRequests - number of requests that may be filtered in parallel
+     * @param maxCellsPerRequest    - maximum number of cells (rows x columns) accepted in a single request
+     * @param queueTimeout          - maximum time a request waits for its turn before being rejected
+     */
+    public FilterDataServiceCE(int maxConcurrentRequests, long maxCellsPerRequest, Duration queueTimeout) {
 
         objectMapper = new ObjectMapper();
 
-        try {
-            connection = DriverManager.getConnection(URL);
-        } catch (SQLException e) {
-            log.error(e.getMessage());
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
-        }
+        this.filterPermits = new FilterPermits(maxConcurrentRequests);
+        this.maxCellsPerRequest = maxCellsPerRequest;
+        this.queueTimeout = queueTimeout;
+    }
+
+    private static Timer phaseTimer(String phase) {
+        return Timer.builder(FILTER_METRIC_PREFIX + "phase")
+                .description("Time spent in each phase of in memory filtering")
+                .tag(PHASE_TAG, phase)
+                .register(Metrics.globalRegistry);
     }
 
     /**
@@ -120,465 +149,166 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         return this.filterDataNew(items, uqiDataFilterParams, null);
     }
 
+    /**
+     * Filters the data on the calling thread, which waits for its turn to filter for up to the queue timeout. Hence,
+     * this must not be called on a non-blocking thread, like the event loop a response is received on. Reactive
+     * callers use {@link #filterDataNewMono(ArrayNode, UQIDataFilterParams, Map)} instead.
+     */
     public ArrayNode filterDataNew(
             ArrayNode items, UQIDataFilterParams uqiDataFilterParams, Map<DataType, DataType> dataTypeConversionMap) {
         if (items == null || items.size() == 0) {
             return items;
         }
 
-        Condition condition = uqiDataFilterParams.getCondition();
-        if (Condition.isValid(condition)) {
-            Condition updatedCondition = addValueDataType(condition);
-            uqiDataFilterParams.setCondition(updatedCondition);
-        }
-
-        Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
-        String tableName = generateTable(schema);
-
-        // insert the data
-        insertAllData(tableName, items, schema, dataTypeConversionMap);
-
-        // Filter the data
-        List<Map<String, Object>> finalResults =
-                executeFilterQueryNew(tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
-
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
-
-        ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
-
-        return finalResultsNode;
+        return filterDataWithPermit(items, uqiDataFilterParams, dataTypeConversionMap, System.nanoTime());
     }
 
-    private List<Map<String, Object>> executeFilterQueryNew(
-            String tableName,
-            Map<String, DataType> schema,
-            UQIDataFilterParams uqiDataFilterParams,
-            Map<DataType, DataType> dataTypeConversionMap) {
-
-        Condition condition = uqiDataFilterParams.getCondition();
-        List<String> projectionColumns = uqiDataFilterParams.getProjectionColumns();
-        List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
-        Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
-
-        Connection conn = checkAndGetConnection();
-
-        StringBuilder sb = new StringBuilder();
-
-        // Add projection columns condition otherwise use `select *`
-        addProjectionCondition(sb, projectionColumns, tableName);
-
-        /**
-         * Moving this from a LinkedHashMap to an ArrayList of objects because with LinkedHashMap we were using
-         * the data value as key. Hence, if two identical data values existed then they would overwrite each other. E.g.
-         * if there was where clause like `Name == John` Or `Name != John, (which is a perfectly valid query) then
-         * the prepared statement substitution would fail because instead of two values to substitute it would only
-         * fine one i.e. {"John" -> DataType.String} is the only entry it would find whereas two entries are
-         * actually required {"John" -> DataType.String, "John" -> DataType.String} - one for each condition in the
-         * where clause. JUnit TC `testProjectionSortingAndPaginationTogether` takes care of this case as well.
-         */
-        List<PreparedStatementValueDTO> values = new ArrayList<>();
-
-        if (Condition.isValid(condition)) {
-            ConditionalOperator operator = condition.getOperator();
-            List<Condition> conditions = (List<Condition>) condition.getValue();
-
-            String whereClause = generateLogicalExpression(conditions, values, schema, operator);
-
-            if (StringUtils.isNotEmpty(whereClause)) {
-                sb.append(" WHERE ");
-                sb.append(whereClause);
-            }
-        }
-
-        // Add `order by` condition
-        addSortCondition(sb, sortBy);
-
-        // Add `limit <num> offset <num>` condition
-        addPaginationCondition(sb, paginateBy, values);
-
-        sb.append(";");
-
-        List<Map<String, Object>> rowsList = new ArrayList<>(50);
-
-        String selectQuery = sb.toString();
-        log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), selectQuery);
-
-        try (PreparedStatement preparedStatement = conn.prepareStatement(selectQuery)) {
-            Iterator<PreparedStatementValueDTO> iterator = values.iterator();
-            for (int i = 0; iterator.hasNext(); i++) {
-                PreparedStatementValueDTO dataInfo = iterator.next();
-                String value = dataInfo.getValue();
-                DataType dataType = dataInfo.getDataType();
-                setValueInStatement(preparedStatement, i + 1, value, dataType, null);
-            }
-
-            ResultSet resultSet = preparedStatement.executeQuery();
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-
-            while (resultSet.next()) {
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-                for (int i = 1; i <= colCount; i++) {
-                    Object resultValue = resultSet.getObject(i);
-
-                    // Set null values to empty strings
-                    if (null == resultValue) {
-                        resultValue = "";
-                    }
-
-                    row.put(metaData.getColumnName(i), resultValue);
-                }
-                rowsList.add(row);
-            }
-        } catch (SQLException e) {
-            // Getting an SQL Exception here means that our generated query is incorrect. Raise an alarm!
-            log.error(e.getMessage());
-            if (e instanceof JdbcSQLSyntaxErrorException) {
-                throw new AppsmithPluginException(
-                        AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                        "Filtering failure seen : " + ((JdbcSQLSyntaxErrorException) e).getOriginalMessage());
-            }
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Filtering failure seen : " + e);
-        }
-
-        return rowsList;
-    }
-
-    /**
-     * This method adds the following clause to the SQL query: `LIMIT <num> OFFSET <num>`
-     *
-     * @param sb         - SQL query builder
-     * @param paginateBy - values for limit and offset
-     * @param values     - list to hold values to be substituted in prepared statement
-     */
-    private void addPaginationCondition(
-            StringBuilder sb, Map<String, String> paginateBy, List<PreparedStatementValueDTO> values) {
-        if (CollectionUtils.isEmpty(paginateBy)) {
-            return;
-        }
-
-        sb.append(" LIMIT ? OFFSET ?");
-
-        // Set limit value and data type for prepared statement substitution
-        String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
-        if (isBlank(limit)) {
-            limit = "20";
-        }
-        values.add(new PreparedStatementValueDTO(limit, DataType.INTEGER));
-
-        // Set offset value and data type for prepared statement substitution
-        String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
-        if (isBlank(offset)) {
-            offset = "0";
-        }
-        values.add(new PreparedStatementValueDTO(offset, DataType.INTEGER));
-    }
-
-    /**
-     * Display only those columns that the user has chosen to display.
-     * E.g. if the projectionColumns is a list that contains ["ID, Name"], then this method will add the following
-     * SQL line: `SELECT ID, Name from tableName`, otherwise it will add: `SELECT * FROM tableName`
-     *
-     * @param sb                - SQL query builder
-     * @param projectionColumns - list of columns that need to be displayed
-     * @param tableName         - table name in database
-     */
-    private void addProjectionCondition(StringBuilder sb, List<String> projectionColumns, String tableName) {
-        if (!CollectionUtils.isEmpty(projectionColumns)) {
-            sb.append("SELECT");
-            projectionColumns.stream().forEach(columnName -> sb.append(" `" + columnName + "`,"));
-
-            sb.setLength(sb.length() - 1);
-            sb.append(" FROM " + tableName);
-        } else {
-            sb.append("SELECT * FROM " + tableName);
-        }
+    public Mono<ArrayNode> filterDataNewMono(ArrayNode items, UQIDataFilterParams uqiDataFilterParams) {
+        return this.filterDataNewMono(items, uqiDataFilterParams, null);
     }
 
     /**
-     * This method adds `ORDER BY` clause to the SQL query. E.g. if the sortBy list is
-     * [
-     * {"columnName": "ID", "type": "ASCENDING"},
-     * {"columnName": "Name", "type": "DESCENDING"}
-     * ]
-     * then this method will add the following line to the SQL query: `ORDER BY ID ASC, Name DESC`
-     *
-     * @param sb     - SQL query builder
-     * @param sortBy - list of columns to sort by and sort type (ascending / descending)
-     * @throws AppsmithPluginException
+     * Filters the data on a thread dedicated to in memory filtering. While the request waits for its turn, it is
+     * queued without holding any thread, and it is rejected if its turn has not come within the queue timeout.
      */
-    private void addSortCondition(StringBuilder sb, List<Map<String, String>> sortBy) throws AppsmithPluginException {
-
-        /**
-         * Checks if:
-         *  o `sortBy` condition list is null or empty
-         *  o all column names in the sortBy list are empty
-         */
-        if (isSortConditionEmpty(sortBy)) {
-            return;
+    public Mono<ArrayNode> filterDataNewMono(
+            ArrayNode items, UQIDataFilterParams uqiDataFilterParams, Map<DataType, DataType> dataTypeConversionMap) {
+        if (items == null || items.size() == 0) {
+            return Mono.justOrEmpty(items);
         }
 
-        sb.append(" ORDER BY");
-        sortBy.stream()
-                .filter(sortCondition -> !isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)))
-                .forEachOrdered(sortCondition -> {
-                    String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
-                    SortType sortType;
-                    try {
-                        sortType = SortType.valueOf(
-                                sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
-                    } catch (IllegalArgumentException e) {
-                        throw new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_ERROR,
-                                "Appsmith server failed "
-                                        + "to parse the type of sort condition. Please reach out to Appsmith customer support "
-                                        + "to resolve this.");
-                    }
-                    sb.append(" `" + columnName + "` " + sortType + ",");
-                });
-
-        sb.setLength(sb.length() - 1);
+        return Mono.create(sink -> {
+            final long waitStartNanos = System.nanoTime();
+            final Disposable.Swap queueTimeoutTask = Disposables.swap();
+            final FilterPermits.PermitRequest permitRequest = filterPermits.request(() -> {
+                queueTimeoutTask.dispose();
+                QUEUE_WAIT_TIMER.record(System.nanoTime() - waitStartNanos, TimeUnit.NANOSECONDS);
+                try {
+                    FILTER_SCHEDULER.schedule(() -> {
+                        try {
+                            sink.success(filterDataWithinLimits(items, uqiDataFilterParams, dataTypeConversionMap));
+                        } catch (RuntimeException e) {
+                            sink.error(e);
+                        } finally {
+                            filterPermits.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    filterPermits.release();
+                    REJECTED_COUNTER.increment();
+                    sink.error(tooManyFilterRequestsException());
+                }
+            });
+
+            queueTimeoutTask.update(Schedulers.parallel()
+                    .schedule(
+                            () -> {
+                                if (permitRequest.withdraw()) {
+                                    QUEUE_WAIT_TIMER.record(
+                                            System.nanoTime() - waitStartNanos, TimeUnit.NANOSECONDS);
+                                    REJECTED_COUNTER.increment();
+                                    sink.error(tooManyFilterRequestsException());
+                                }
+                            },
+                            queueTimeout.toNanos(),
+                            TimeUnit.NANOSECONDS));
+            sink.onCancel(() -> {
+                permitRequest.withdraw();
+                queueTimeoutTask.dispose();
+            });
+        });
     }
 
-    /**
-     * Checks if:
-     * o `sortBy` condition list is null or empty
-     * o all column names in the sortBy list are empty
-     */
-    private boolean isSortConditionEmpty(List<Map<String, String>> sortBy) {
-        if (CollectionUtils.isEmpty(sortBy)) {
-            return true;
+    private ArrayNode filterDataWithPermit(
+            ArrayNode items,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap,
+            long waitStartNanos) {
+        acquireFilterPermit(waitStartNanos);
+        try {
+            return filterDataWithinLimits(items, uqiDataFilterParams, dataTypeConversionMap);
+        } finally {
+            filterPermits.release();
         }
-
-        return sortBy.stream().allMatch(sortCondition -> isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)));
     }
 
     /**
-     * Overloaded Method to handle plugin-based DataType conversion.
+     * Waits for a turn to filter data. Since filtering only ever uses CPU and memory, there is nothing to gain by
+     * filtering more requests in parallel than the configured limit. Rejects the request if the wait is longer than
+     * the queue timeout, instead of piling up work that the caller would likely have given up on anyway.
      *
-     * @param tableName             - table name in database
-     * @param items                 - Data
-     * @param schema                - The Schema
-     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @param waitStartNanos - time at which the request started waiting for its turn
      */
-    public void insertAllData(
-            String tableName,
-            ArrayNode items,
-            Map<String, DataType> schema,
-            Map<DataType, DataType> dataTypeConversionMap) {
-
-        List<String> columnNames = schema.keySet().stream().collect(Collectors.toList());
-
-        List<String> quotedColumnNames =
-                columnNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.toList());
-
-        StringBuilder insertQueryBuilder = new StringBuilder("INSERT INTO ");
-        insertQueryBuilder.append(tableName);
-
-        StringBuilder columnNamesBuilder = new StringBuilder("(");
-        columnNamesBuilder.append(String.join(", ", quotedColumnNames));
-        columnNamesBuilder.append(")");
-
-        // In order data types of all the columns
-        List<DataType> columnTypes = new ArrayList<>();
-        for (String columnName : columnNames) {
-            columnTypes.add(schema.get(columnName));
-        }
-
-        insertQueryBuilder.append(columnNamesBuilder);
-        insertQueryBuilder.append(" VALUES ");
-
-        StringBuilder valuesMasterBuilder = new StringBuilder();
-
-        int counter = 0;
-        List<String> inOrderValues = new ArrayList<>();
-
-        for (JsonNode item : items) {
-
-            // If the number of values inserted is greater than 1000, the insert would fail. Once we have reached 1000
-            // rows, execute the insert for rows so far and start afresh for the rest of the rows
-            if (counter == 1000) {
-
-                insertReadyData(
-                        insertQueryBuilder.toString(),
-                        valuesMasterBuilder,
-                        inOrderValues,
-                        columnTypes,
-                        dataTypeConversionMap);
-                // Reset the values builder and counter for new insert queries.
-                valuesMasterBuilder = new StringBuilder();
-                counter = 0;
-                inOrderValues = new ArrayList<>();
-            }
-
-            StringBuilder valuesBuilder = new StringBuilder();
-
-            if (counter != 0) {
-                // If not the first row, add a separator between rows
-                valuesBuilder.append(",");
-            }
-
-            // Start the row
-            valuesBuilder.append("(");
-
-            Boolean firstEntry = true;
-            for (String columnName : columnNames) {
-
-                if (!firstEntry) {
-                    // Add a separator before adding a new entry
-                    valuesBuilder.append(",");
-                } else {
-                    // For future iterations, set flag to false
-                    firstEntry = false;
-                }
-
-                JsonNode fieldNode = item.get(columnName);
-                if (fieldNode != null) {
-                    valuesBuilder.append("?");
-                    inOrderValues.add(fieldNode.asText());
-                }
-            }
-
-            // End the row
-            valuesBuilder.append(")");
-
-            valuesMasterBuilder.append(valuesBuilder);
-            counter++;
+    private void acquireFilterPermit(long waitStartNanos) {
+        boolean acquired;
+        try {
+            acquired = filterPermits.tryAcquire(queueTimeout.minusNanos(System.nanoTime() - waitStartNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            QUEUE_WAIT_TIMER.record(System.nanoTime() - waitStartNanos, TimeUnit.NANOSECONDS);
         }
 
-        if (valuesMasterBuilder.length() > 0) {
-            insertReadyData(
-                    insertQueryBuilder.toString(),
-                    valuesMasterBuilder,
-                    inOrderValues,
-                    columnTypes,
-                    dataTypeConversionMap);
+        if (!acquired) {
+            REJECTED_COUNTER.increment();
+            throw tooManyFilterRequestsException();
         }
     }
 
-    private void executeDbQuery(String query) {
-
-        Connection conn = checkAndGetConnection();
-        log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), query);
-
-        try (Statement statement = conn.createStatement()) {
-            statement.execute(query);
-        } catch (SQLException e) {
-            log.error(e.getMessage());
-            // Getting a SQL Exception here means that our generated query is incorrect. Raise an alarm!
-            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, e.getMessage());
-        }
+    private static AppsmithPluginException tooManyFilterRequestsException() {
+        return new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                "Too many filtering requests are being processed at the moment. Please try again later.");
     }
 
-    private void insertReadyData(
-            String partialInsertQuery,
-            StringBuilder valuesBuilder,
-            List<String> inOrderValues,
-            List<DataType> columnTypes,
-            Map<DataType, DataType> dataTypeConversionMap) {
-
-        Connection conn = checkAndGetConnection();
-
-        StringBuilder insertQueryBuilder = new StringBuilder(partialInsertQuery);
-        insertQueryBuilder.append(valuesBuilder);
-        insertQueryBuilder.append(";");
-
-        String finalInsertQuery = insertQueryBuilder.toString();
-
-        try (PreparedStatement preparedStatement = conn.prepareStatement(finalInsertQuery)) {
-            int valueCounter = 0;
-            while (valueCounter < inOrderValues.size()) {
-
-                for (int columnTypeCounter = 0;
-                        columnTypeCounter < columnTypes.size();
-                        columnTypeCounter++, valueCounter++) {
-                    setValueInStatement(
-                            preparedStatement,
-                            valueCounter + 1,
-                            inOrderValues.get(valueCounter),
-                            columnTypes.get(columnTypeCounter),
-                            dataTypeConversionMap);
-                }
-            }
-
-            preparedStatement.executeUpdate();
+    private ArrayNode filterDataWithinLimits(
+            ArrayNode items, UQIDataFilterParams uqiDataFilterParams, Map<DataType, DataType> dataTypeConversionMap) {
+        ROWS_IN_SUMMARY.record(items.size());
 
-        } catch (SQLException e) {
-            e.printStackTrace();
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Error in ingesting the data : " + e.getMessage());
+        Condition condition = uqiDataFilterParams.getCondition();
+        if (Condition.isValid(condition)) {
+            Condition updatedCondition = addValueDataType(condition);
+            uqiDataFilterParams.setCondition(updatedCondition);
         }
-    }
 
-    private Connection checkAndGetConnection() {
-        try {
-            if (connection == null || connection.isClosed() || !connection.isValid(5)) {
-                connection = DriverManager.getConnection(URL);
-            }
-        } catch (SQLException e) {
+        // Every row gets a cell for each of the columns found in the first row
+        long cellCount = (long) items.size() * items.get(0).size();
+        if (cellCount > maxCellsPerRequest) {
+            REJECTED_COUNTER.increment();
             throw new AppsmithPluginException(
                     AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Failed to connect to the filtering database");
+                    "The data to be filtered has " + cellCount + " cells, which is more than the " + maxCellsPerRequest
+                            + " cells that can be filtered in a single request. Please reduce the number of rows or "
+                            + "columns being fetched.");
         }
 
-        return connection;
-    }
-
-    public String generateTable(Map<String, DataType> schema) {
-
-        // Generate table name
-        String generateUniqueId = new ObjectId().toString().toUpperCase();
-
-        // Appending tbl_ before the generated unique id since using the string directly was throwing a SQL error
-        // which I couldnt solve. Just appending a string to it though works perfectly.
-        String tableName = new StringBuilder("tbl_").append(generateUniqueId).toString();
-
-        StringBuilder sb = new StringBuilder("CREATE TABLE ");
-
-        sb.append(tableName);
-
-        sb.append(" (");
-
-        Boolean columnsAdded = false;
-        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
-
-            if (columnsAdded) {
-                // If columns have been added before, add a separator
-                sb.append(",");
-            }
+        long phaseStartNanos = System.nanoTime();
+        Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
+        phaseStartNanos = recordPhase(SCHEMA_PHASE_TIMER, phaseStartNanos);
 
-            String fieldName = entry.getKey();
-            DataType dataType = entry.getValue();
+        // Load the data into typed column vectors and filter it in place
+        ColumnarFilterEngine engine = ColumnarFilterEngine.load(items, schema, dataTypeConversionMap);
+        phaseStartNanos = recordPhase(LOAD_PHASE_TIMER, phaseStartNanos);
 
-            String sqlDataType = SQL_DATATYPE_MAP.get(dataType);
-            if (sqlDataType == null) {
-                // the data type recognized does not have a native support in appsmith right now
-                // default to String
-                sqlDataType = SQL_DATATYPE_MAP.get(DataType.STRING);
-            }
-            columnsAdded = true;
-            sb.append("\"" + fieldName + "\"");
-            sb.append(" ");
-            sb.append(sqlDataType);
-        }
+        List<Map<String, Object>> finalResults = engine.execute(uqiDataFilterParams);
+        phaseStartNanos = recordPhase(EXECUTE_PHASE_TIMER, phaseStartNanos);
 
-        sb.append(");");
-
-        String createTableQuery = sb.toString();
+        ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
+        recordPhase(SERIALIZE_PHASE_TIMER, phaseStartNanos);
 
-        executeDbQuery(createTableQuery);
+        ROWS_OUT_SUMMARY.record(finalResultsNode.size());
 
-        return tableName;
+        return finalResultsNode;
     }
 
-    public void dropTable(String tableName) {
-
-        String dropTableQuery = "DROP TABLE " + tableName + ";";
-
-        executeDbQuery(dropTableQuery);
+    /**
+     * Records the time elapsed since the start of the phase and returns the start time of the next phase.
+     */
+    private static long recordPhase(Timer phaseTimer, long phaseStartNanos) {
+        long now = System.nanoTime();
+        phaseTimer.record(now - phaseStartNanos, TimeUnit.NANOSECONDS);
+        return now;
     }
 
     /**
@@ -651,8 +381,9 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         columns.addAll(missingColumnDataTypes);
 
         for (String columnName : columns) {
-            for (JsonNode entry : items) {
-                String value = entry.get(columnName).asText();
+            // The last row with a value decides the data type, so the rows are looked at from the end
+            for (int row = items.size() - 1; row >= 0; row--) {
+                String value = items.get(row).get(columnName).asText();
                 if (!StringUtils.isEmpty(value)) {
                     DataType foundDataType = stringToKnownDataTypeConverter(value);
                     DataType dataType = foundDataType;
@@ -661,6 +392,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
                     }
                     schema.put(columnName, dataType);
                     missingColumnDataTypes.remove(columnName);
+                    break;
                 }
             }
         }
@@ -674,24 +406,30 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         return schema;
     }
 
-    private void setValueInStatement(PreparedStatement preparedStatement, int index, String value, DataType dataType) {
-        setValueInStatement(preparedStatement, index, value, dataType, null);
+    /**
+     * Converts a value into the Java object that it is bound as, for a column of the given data type.
+     *
+     * @param value                 - value as text
+     * @param topRowDataType        - data type of the column, as found in the first row
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return one of null, Integer, Long, BigDecimal, Boolean or String
+     */
+    static Object getBindValue(String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
+        // The data type of an empty value is not looked at
+        DataType valueDataType = StringUtils.isEmpty(value) ? null : stringToKnownDataTypeConverter(value);
+        return getBindValue(value, valueDataType, topRowDataType, dataTypeConversionMap);
     }
 
     /**
-     * Overloaded Method to handle plugin-based DataType conversion.
+     * Same as {@link #getBindValue(String, DataType, Map)}, for a value whose data type has already been found, like
+     * when all the values of a column are classified together with
+     * {@link com.appsmith.external.helpers.DataTypeStringUtils#stringToKnownDataTypes(String[])}.
      *
-     * @param preparedStatement
-     * @param index
-     * @param value
-     * @param topRowDataType
-     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
-     * @return
+     * @param valueDataType data type of the value, as found by `stringToKnownDataTypeConverter`
      */
-    private PreparedStatement setValueInStatement(
-            PreparedStatement preparedStatement,
-            int index,
+    static Object getBindValue(
             String value,
+            DataType valueDataType,
             DataType topRowDataType,
             Map<DataType, DataType> dataTypeConversionMap) {
 
@@ -701,67 +439,49 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
         }
 
-        String strNumericValue = value.trim().replaceAll(",", "");
-
         // Override datatype to null for empty values
         if (StringUtils.isEmpty(value)) {
-            dataType = DataType.NULL;
-        } else {
-            // value is not empty.
-            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
-            DataType inputDataType = currentRowDataType;
-            if (dataTypeConversionMap != null) {
-                // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
-                inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
-            }
-            if (DataType.NULL.equals(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-            // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
-            if (dataTypeConversionMap != null
-                    && inputDataType != dataType
-                    && !datatypeCompatibilityMap
-                            .getOrDefault(dataType, Set.of())
-                            .contains(inputDataType)) {
-                dataType = DataType.NULL;
-            }
+            return null;
+        }
+
+        // value is not empty.
+        DataType currentRowDataType = valueDataType;
+        DataType inputDataType = currentRowDataType;
+        if (dataTypeConversionMap != null) {
+            // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
+            inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+        }
+        if (DataType.NULL.equals(inputDataType)) {
+            return null;
+        }
+        // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
+        if (dataTypeConversionMap != null
+                && inputDataType != dataType
+                && !datatypeCompatibilityMap.getOrDefault(dataType, Set.of()).contains(inputDataType)) {
+            return null;
+        }
+
+        if (dataType == null) {
+            return value;
         }
 
+        String strNumericValue = value.trim().replaceAll(",", "");
+
         try {
             switch (dataType) {
-                case NULL: {
-                    preparedStatement.setNull(index, Types.NULL);
-                    break;
-                }
-                case INTEGER: {
-                    preparedStatement.setInt(index, Integer.parseInt(strNumericValue));
-                    break;
-                }
-                case LONG: {
-                    preparedStatement.setLong(index, Long.parseLong(strNumericValue));
-                    break;
-                }
+                case INTEGER:
+                    return Integer.parseInt(strNumericValue);
+                case LONG:
+                    return Long.parseLong(strNumericValue);
                 case FLOAT:
-                case DOUBLE: {
-                    preparedStatement.setBigDecimal(index, new BigDecimal(String.valueOf(strNumericValue)));
-                    break;
-                }
-                case BOOLEAN: {
-                    preparedStatement.setBoolean(index, Boolean.parseBoolean(value));
-                    break;
-                }
+                case DOUBLE:
+                    return new BigDecimal(String.valueOf(strNumericValue));
+                case BOOLEAN:
+                    return Boolean.parseBoolean(value);
                 case STRING:
                 default:
-                    preparedStatement.setString(index, value);
-                    break;
+                    return value;
             }
-
-        } catch (SQLException e) {
-            // Alarm! This should never fail since appsmith is the creator of the query and supporter of it. Raise
-            // an alarm and fix quickly!
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Error while interacting with value " + value + " : " + e.getMessage());
         } catch (IllegalArgumentException e) {
             // The data type recognized does not match the data type of the value being set via Prepared Statement
             // Add proper handling here.
@@ -770,8 +490,6 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
                     "Error while interacting with value " + value + " : " + e.getMessage()
                             + ". The data type value was being parsed to was : " + dataType);
         }
-
-        return preparedStatement;
     }
 
     public boolean validConditionList(List<Condition> conditionList, Map<String, DataType> schema) {
@@ -802,115 +520,4 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         // thrown. If reached here, everything is hunky-dory.
         return true;
     }
-
-    public String generateLogicalExpression(
-            List<Condition> conditions,
-            List<PreparedStatementValueDTO> values,
-            Map<String, DataType> schema,
-            ConditionalOperator logicOp) {
-
-        StringBuilder sb = new StringBuilder();
-
-        Boolean firstCondition = true;
-        for (Condition condition : conditions) {
-            String path = condition.getPath();
-            ConditionalOperator operator = condition.getOperator();
-            Object objValue = condition.getValue();
-            if (operator.equals(ConditionalOperator.AND) || operator.equals(ConditionalOperator.OR)) {
-                List<Condition> subConditions = (List<Condition>) objValue;
-                String logicalExpression = generateLogicalExpression(subConditions, values, schema, operator);
-                if (StringUtils.isNotEmpty(logicalExpression)) {
-                    sb.append(" " + logicOp + " ( ");
-                    sb.append(logicalExpression);
-                    sb.append(" ) ");
-                }
-            } else {
-                String value = (String) objValue;
-
-                if (firstCondition) {
-                    firstCondition = false;
-                } else {
-                    // This is not the first valid condition. Append the operator before adding the next condition
-                    sb.append(" " + logicOp);
-                }
-                if (StringUtils.isNotEmpty(path)) {
-                    if (value == null || value.equals(StringUtils.EMPTY)) {
-                        sb.append(" ( ");
-                        sb.append("\"" + path + "\"");
-                        sb.append(" ");
-                        if (Set.of(
-                                        ConditionalOperator.EQ,
-                                        ConditionalOperator.IN,
-                                        ConditionalOperator.CONTAINS,
-                                        ConditionalOperator.LTE,
-                                        ConditionalOperator.LT)
-                                .contains(operator)) {
-                            sb.append("IS NULL ) ");
-                        } else if (Set.of(
-                                        ConditionalOperator.NOT_IN,
-                                        ConditionalOperator.NOT_EQ,
-                                        ConditionalOperator.GTE,
-                                        ConditionalOperator.GT)
-                                .contains(operator)) {
-                            sb.append("IS NOT NULL ) ");
-                        }
-                    } else {
-                        String sqlOp = SQL_OPERATOR_MAP.get(operator);
-                        if (sqlOp == null) {
-                            throw new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    operator + " is not supported currently for filtering.");
-                        }
-                        sb.append(" ( ");
-                        sb.append("\"" + path + "\"");
-                        sb.append(" ");
-                        sb.append(sqlOp);
-                        sb.append(" ");
-
-                        // These are array operations. Convert value into appropriate format and then append
-                        if (operator == ConditionalOperator.IN || operator == ConditionalOperator.NOT_IN) {
-
-                            StringBuilder valueBuilder = new StringBuilder("(");
-
-                            try {
-                                List<Object> arrayValues = objectMapper.readValue(value, List.class);
-                                List<String> updatedStringValues = arrayValues.stream()
-                                        .map(fieldValue -> {
-                                            values.add(new PreparedStatementValueDTO(
-                                                    String.valueOf(fieldValue), schema.get(path)));
-                                            return "?";
-                                        })
-                                        .collect(Collectors.toList());
-                                String finalValues = String.join(",", updatedStringValues);
-                                valueBuilder.append(finalValues);
-                            } catch (IOException e) {
-                                throw new AppsmithPluginException(
-                                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                        value + " could not be parsed into an array");
-                            }
-
-                            valueBuilder.append(")");
-                            value = valueBuilder.toString();
-                            sb.append(value);
-
-                        } else if (operator == ConditionalOperator.CONTAINS) {
-                            final String escapedLikeValue = value.replace("!", "!!")
-                                    .replace("%", "!%")
-                                    .replace("_", "!_")
-                                    .replace("[", "![");
-                            sb.append("? ESCAPE '!'");
-                            values.add(new PreparedStatementValueDTO("%" + escapedLikeValue + "%", schema.get(path)));
-                        } else {
-                            // Not an array. Simply add a placeholder
-                            sb.append("?");
-                            values.add(new PreparedStatementValueDTO(value, schema.get(path)));
-                        }
-
-                        sb.append(" ) ");
-                    }
-                }
-            }
-        }
-        return sb.toString();
-    }
 }
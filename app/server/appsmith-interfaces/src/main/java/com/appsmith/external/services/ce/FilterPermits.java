@@ -0,0 +1,102 @@
+package com.appsmith.external.services.ce;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Permits to filter data in memory, shared by blocking and reactive callers. Blocking callers wait for a permit on
+ * their own thread. Reactive callers are queued without holding any thread, and are handed a permit as soon as one is
+ * released.
+ */
+class FilterPermits {
+
+    private final Semaphore semaphore;
+
+    private final Queue<PermitRequest> pendingRequests = new ConcurrentLinkedQueue<>();
+
+    FilterPermits(int permits) {
+        // Fair, so that blocking callers are served in the order they started waiting
+        this.semaphore = new Semaphore(permits, true);
+    }
+
+    /**
+     * Waits on the calling thread for a permit, for up to the given timeout.
+     *
+     * @return true if a permit was acquired, which must then be released
+     */
+    boolean tryAcquire(Duration timeout) throws InterruptedException {
+        return semaphore.tryAcquire(Math.max(0, timeout.toNanos()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Queues a request for a permit, without waiting for it. The action runs as soon as a permit is acquired for the
+     * request, on the thread that made it available, hence it must only hand the work off. The action is responsible
+     * for releasing the permit.
+     *
+     * @return the request, which can be withdrawn for as long as it has not been granted
+     */
+    PermitRequest request(Runnable onPermit) {
+        final PermitRequest request = new PermitRequest(onPermit);
+        pendingRequests.add(request);
+        grantPendingRequests();
+        return request;
+    }
+
+    void release() {
+        semaphore.release();
+        grantPendingRequests();
+    }
+
+    /**
+     * Hands the available permits to the queued requests. Runs after every request and every release, so a request
+     * is never left waiting while a permit is available.
+     */
+    private void grantPendingRequests() {
+        while (!pendingRequests.isEmpty() && tryAcquireNow()) {
+            final PermitRequest request = pendingRequests.poll();
+            if (request == null || !request.grant()) {
+                // The request was taken by another thread or withdrawn, so the permit is put back for the next one
+                semaphore.release();
+            }
+        }
+    }
+
+    private boolean tryAcquireNow() {
+        try {
+            // Unlike tryAcquire(), this honours the fairness, and does not take a permit from a waiting blocking caller
+            return semaphore.tryAcquire(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static class PermitRequest {
+
+        private final AtomicReference<Runnable> onPermit;
+
+        private PermitRequest(Runnable onPermit) {
+            this.onPermit = new AtomicReference<>(onPermit);
+        }
+
+        private boolean grant() {
+            final Runnable action = onPermit.getAndSet(null);
+            if (action == null) {
+                return false;
+            }
+            action.run();
+            return true;
+        }
+
+        /**
+         * @return true if the request was withdrawn, false if it had already been granted or withdrawn
+         */
+        boolean withdraw() {
+            return onPermit.getAndSet(null) != null;
+        }
+    }
+}
@@ -6,5 +6,14 @@ public interface SharedConfigCE {
 
     int getMaxResponseSize();
 
+    /**
+     * @return the maximum number of rows a query returns, after which the rest of its result is dropped. 0 when the
+     * number of rows is not limited. Only applied by the MySQL plugin. The DynamoDB plugin also stops reading further
+     * pages of a scan or query once it has read this many items.
+     */
+    default int getMaxResponseRows() {
+        return 0;
+    }
+
     String getRemoteExecutionUrl();
 }
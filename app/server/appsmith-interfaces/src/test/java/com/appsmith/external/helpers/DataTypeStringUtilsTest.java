@@ -8,12 +8,28 @@ import com.appsmith.external.models.ParsedDataType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import org.bson.BsonInvalidOperationException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static com.appsmith.external.helpers.DataTypeStringUtils.getDisplayDataTypes;
 import static com.appsmith.external.helpers.DataTypeStringUtils.jsonSmartReplacementPlaceholderWithValue;
@@ -267,4 +283,261 @@ public class DataTypeStringUtilsTest {
         final String expectedValue = "[{\"Address\":\"Line1.\\nLine2.\\nLine3\"}]";
         assertThat(expectedValue).isEqualTo(replacedValue);
     }
+
+    /**
+     * The exception driven implementation of `stringToKnownDataTypeConverter`, which the current one has to agree with.
+     */
+    private static DataType legacyStringToKnownDataTypeConverter(String input) {
+        if (input == null) {
+            return DataType.NULL;
+        }
+
+        String strNumericValue = input.trim().replaceAll(",", "");
+
+        if (input.startsWith("[") && input.endsWith("]")) {
+            String betweenBraces = input.substring(1, input.length() - 1);
+            if (betweenBraces.trim().isEmpty()) {
+                return DataType.NULL;
+            }
+            return DataType.ARRAY;
+        }
+
+        try {
+            Integer.parseInt(strNumericValue);
+            return DataType.INTEGER;
+        } catch (NumberFormatException e) {
+            // Not an integer
+        }
+
+        try {
+            Long.parseLong(strNumericValue);
+            return DataType.LONG;
+        } catch (NumberFormatException e1) {
+            // Not long
+        }
+
+        try {
+            Float.parseFloat(strNumericValue);
+            return DataType.FLOAT;
+        } catch (NumberFormatException e2) {
+            // Not float
+        }
+
+        try {
+            Double.parseDouble(strNumericValue);
+            return DataType.DOUBLE;
+        } catch (NumberFormatException e3) {
+            // Not double
+        }
+
+        String copyInput = String.valueOf(input).toLowerCase().trim();
+        if (copyInput.equals("true") || copyInput.equals("false")) {
+            return DataType.BOOLEAN;
+        }
+
+        if (copyInput.equals("null")) {
+            return DataType.NULL;
+        }
+
+        try {
+            LocalDateTime.parse(
+                    input,
+                    new DateTimeFormatterBuilder()
+                            .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+                            .toFormatter());
+            return DataType.TIMESTAMP;
+        } catch (DateTimeParseException ex) {
+            // Not timestamp
+        }
+
+        try {
+            LocalDate.parse(
+                    input,
+                    new DateTimeFormatterBuilder()
+                            .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE)
+                            .toFormatter());
+            return DataType.DATE;
+        } catch (DateTimeParseException ex) {
+            // Not date
+        }
+
+        try {
+            LocalTime.parse(
+                    input,
+                    new DateTimeFormatterBuilder()
+                            .appendOptional(DateTimeFormatter.ISO_LOCAL_TIME)
+                            .toFormatter());
+            return DataType.TIME;
+        } catch (DateTimeParseException ex) {
+            // Not time
+        }
+
+        try (JsonReader reader = new JsonReader(new StringReader(input))) {
+            new Gson().getAdapter(JsonObject.class).read(reader);
+            reader.hasNext();
+            return DataType.JSON_OBJECT;
+        } catch (IOException | JsonSyntaxException e) {
+            // Not a strict JSON object
+        }
+
+        try {
+            Document.parse(input);
+            return DataType.BSON;
+        } catch (JsonParseException | BsonInvalidOperationException e) {
+            // Not BSON
+        }
+
+        return DataType.STRING;
+    }
+
+    private static void assertSameDataTypeAsLegacy(String input) {
+        DataType expectedDataType;
+        try {
+            expectedDataType = legacyStringToKnownDataTypeConverter(input);
+        } catch (RuntimeException e) {
+            // Inputs that are not even a document, like `ObjectId('')`, used to fail while being parsed as BSON
+            expectedDataType = DataType.STRING;
+        }
+        assertThat(DataTypeStringUtils.stringToKnownDataTypeConverter(input))
+                .as("Data type of [%s]", input)
+                .isEqualTo(expectedDataType);
+    }
+
+    @Test
+    public void stringToKnownDataTypeConverter_withAllShortStrings_returnsSameAsLegacy() {
+        // Characters that mean something to at least one of the parsers, along with digits of another script
+        final char[] alphabet = "09-+.,eEfdxXpNI :[]{}\"\t\u0663".toCharArray();
+
+        assertSameDataTypeAsLegacy(null);
+        assertSameDataTypeAsLegacy("");
+        for (int length = 1; length <= 3; length++) {
+            final int[] indices = new int[length];
+            final char[] chars = new char[length];
+            while (true) {
+                for (int i = 0; i < length; i++) {
+                    chars[i] = alphabet[indices[i]];
+                }
+                assertSameDataTypeAsLegacy(new String(chars));
+
+                int position = length - 1;
+                while (position >= 0 && ++indices[position] == alphabet.length) {
+                    indices[position--] = 0;
+                }
+                if (position < 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void stringToKnownDataTypeConverter_withEdgeCases_returnsSameAsLegacy() {
+        final List<String> inputs = List.of(
+                "2147483647",
+                "2147483648",
+                "-2147483648",
+                "-2147483649",
+                "9223372036854775807",
+                "9223372036854775808",
+                "-9223372036854775808",
+                "-9223372036854775809",
+                "000000000000000000000000002147483647",
+                "18446744073709551616",
+                "1,000,000",
+                ", 1",
+                "1 ,",
+                " ,\t-1.5",
+                "1_000",
+                "\u0661\u0662\u0663",
+                "\u06f1\u06f2,\u06f3",
+                "\uff11\uff12\uff13",
+                "1.\u0663",
+                "NaN",
+                "-Infinity",
+                "+NaN",
+                "NaNd",
+                "infinity",
+                "0x1.8p3",
+                "-0X1P+2F",
+                "0x.8p1",
+                "0x1.p1",
+                "0x.p1",
+                "0x1p",
+                "1e",
+                "1e+",
+                "1.5e-3d",
+                ".5",
+                "5.",
+                "1.2.3",
+                "1e5.0",
+                " TRUE ",
+                "False",
+                "NULL",
+                "fal\u017fe",
+                "\u212arue",
+                "2021-03-24 14:05:34",
+                "+12021-03-24 14:05:34",
+                "2021-03-24  14:05:34",
+                "2021-02-30 14:05:34",
+                "2021-03-24",
+                "2021-13-24",
+                "-2021-03-24",
+                "14:05",
+                "14:05:34.123456789",
+                "24:00",
+                "{}",
+                " \n{\"a\": [1, 2]}",
+                "{\"a\": 1} {}",
+                "{a: 1}",
+                "{\"_id\": ObjectId(\"5f9b3b3b9d9b3b3b9d9b3b3b\")}",
+                "{\"a\": ",
+                "\u2028{\"a\": 1}",
+                "ObjectId('')",
+                "[]",
+                "[ \t]",
+                "[1, 2]",
+                "[\"a\"",
+                "Abracadabra",
+                "2.1 In order to understand recursion, one must first understand recursion.");
+
+        inputs.forEach(DataTypeStringUtilsTest::assertSameDataTypeAsLegacy);
+    }
+
+    @Test
+    public void stringToKnownDataTypeConverter_withRandomNumbers_returnsSameAsLegacy() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            final double number = random.nextGaussian() * Math.pow(10, random.nextInt(60) - 30);
+            final long integer = random.nextLong() >> random.nextInt(64);
+            final String input =
+                    switch (i % 5) {
+                        case 0 -> Double.toString(number);
+                        case 1 -> Float.toString((float) number);
+                        case 2 -> Long.toString(integer);
+                        case 3 -> String.format("%,d", integer);
+                        default -> Double.toHexString(number);
+                    };
+            assertSameDataTypeAsLegacy(input);
+        }
+    }
+
+    @Test
+    public void stringToKnownDataTypes_withColumn_returnsDataTypeOfEachValue() {
+        final String[] values = {"1", "1", "true", null, "2021-03-24", "2021-03-24", "", "1.5", null, "{\"a\": 1}"};
+
+        final DataType[] dataTypes = DataTypeStringUtils.stringToKnownDataTypes(values);
+
+        assertThat(dataTypes)
+                .containsExactly(
+                        DataType.INTEGER,
+                        DataType.INTEGER,
+                        DataType.BOOLEAN,
+                        DataType.NULL,
+                        DataType.DATE,
+                        DataType.DATE,
+                        DataType.STRING,
+                        DataType.FLOAT,
+                        DataType.NULL,
+                        DataType.JSON_OBJECT);
+    }
 }
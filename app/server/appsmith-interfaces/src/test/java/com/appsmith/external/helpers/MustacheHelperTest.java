@@ -619,4 +619,60 @@ public class MustacheHelperTest {
                         "gtSymbol", "&gt;"));
         assertThat(rendered).isEqualTo("Testing html lt < and gt > symbols");
     }
+
+    @Test
+    public void compile_WithBindings_RendersSameAsTokens() {
+        final String template = "SELECT * FROM users WHERE id = {{ Table1.selectedRow.id }} AND name = '{{Input1.text}}'"
+                + " AND note = '{{ \"}}\" }}' AND missing = {{missing}} {{";
+        final CompiledMustacheTemplate compiledTemplate = MustacheHelper.compile(template);
+
+        assertThat(compiledTemplate.getBindingCount()).isEqualTo(4);
+        assertThat(MustacheHelper.compile(template)).isSameAs(compiledTemplate);
+
+        final Map<String, String> context = Map.of(
+                "Table1.selectedRow.id", "42",
+                "Input1.text", "Ada",
+                "\"}}\"", "braces");
+        final StringBuilder expected = new StringBuilder();
+        for (MustacheBindingToken token : tokenize(template)) {
+            final String value = token.getValue();
+            final String key = value.startsWith("{{") && value.endsWith("}}")
+                    ? value.substring(2, value.length() - 2).trim()
+                    : null;
+            expected.append(key != null && context.containsKey(key) ? context.get(key) : value);
+        }
+
+        assertThat(compiledTemplate.render(context)).isEqualTo(expected.toString());
+        assertThat(render(template, context))
+                .isEqualTo("SELECT * FROM users WHERE id = 42 AND name = 'Ada' AND note = 'braces' AND missing ="
+                        + " {{missing}} {{");
+    }
+
+    @Test
+    public void render_WithoutBindings_ReturnsTemplate() {
+        final String template = "SELECT * FROM users LIMIT 10;";
+        assertThat(render(template, Map.of("key1", "value1"))).isSameAs(template);
+        assertThat(render("", Map.of())).isEmpty();
+        assertThat(render(null, Map.of())).isEmpty();
+    }
+
+    @Test
+    public void renderFieldValues_WhenCalledRepeatedly_RendersEveryConfiguration() {
+        for (int i = 0; i < 3; i++) {
+            ActionConfiguration configuration = new ActionConfiguration();
+            configuration.setBody("SELECT * FROM users WHERE id = {{ id }};");
+            configuration.setPath("/users/{{ id }}");
+            configuration.setHeaders(List.of(new Property("X-Request-Id", "{{ requestId }}")));
+            configuration.setFormData(new HashMap<>(Map.of("limit", "{{ limit }}")));
+            configuration.setTimeoutInMillisecond("1000");
+
+            renderFieldValues(configuration, Map.of("id", String.valueOf(i), "requestId", "request" + i, "limit", "10"));
+
+            assertThat(configuration.getBody()).isEqualTo("SELECT * FROM users WHERE id = " + i + ";");
+            assertThat(configuration.getPath()).isEqualTo("/users/" + i);
+            assertThat(configuration.getHeaders().get(0).getValue()).isEqualTo("request" + i);
+            assertThat(configuration.getFormData()).containsEntry("limit", "10");
+            assertThat(configuration.getTimeoutInMillisecond()).isEqualTo(1000);
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.MustacheBindingToken;
+import com.appsmith.external.models.Param;
+import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PreparedQueryTest {
+
+    private static final String QUERY = "SELECT * FROM users WHERE id = {{Input1.text}} AND name = '{{ Input2.text }}'"
+            + " OR manager_id = {{Input1.text}};";
+
+    /**
+     * Collects the values in the order that they are substituted, along with the params that they came from.
+     */
+    private static class CollectingSubstitution implements SmartSubstitutionInterface {
+        private final List<String> values = new ArrayList<>();
+        private final List<Param> params = new ArrayList<>();
+
+        @Override
+        public Object substituteValueInInput(
+                int index,
+                String binding,
+                String value,
+                Object input,
+                List<Map.Entry<String, String>> insertedParams,
+                Object... args) {
+            assertEquals(values.size() + 1, index);
+            values.add(value);
+            params.add((Param) args[args.length - 1]);
+            return input;
+        }
+    }
+
+    @Test
+    public void of_WithBindings_RewritesSameAsMustacheHelper() {
+        List<MustacheBindingToken> expectedBindings = MustacheHelper.extractMustacheKeysInOrder(QUERY);
+        String expectedQuery = MustacheHelper.replaceMustacheWithQuestionMark(QUERY, expectedBindings);
+
+        PreparedQuery preparedQuery = PreparedQuery.of(QUERY);
+
+        assertThat(preparedQuery.getBindings()).isEqualTo(expectedBindings);
+        assertThat(preparedQuery.getBindings())
+                .extracting(MustacheBindingToken::getValue)
+                .containsExactly("Input1.text", "Input2.text", "Input1.text");
+        assertThat(preparedQuery.getQuestionMarkQuery())
+                .isEqualTo(expectedQuery)
+                .isEqualTo("SELECT * FROM users WHERE id = ? AND name = ? OR manager_id = ?;");
+    }
+
+    @Test
+    public void of_WhenCalledAgain_ReturnsSameRewrittenQuery() {
+        PreparedQuery preparedQuery = PreparedQuery.of(QUERY);
+
+        assertThat(PreparedQuery.of(new String(QUERY))).isSameAs(preparedQuery);
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> preparedQuery.getBindings().add(new MustacheBindingToken("Input3.text", 0, false)));
+    }
+
+    @Test
+    public void replaceQuestionMarkWithDollarIndex_WithQuestionMarks_NumbersThemInOrder() {
+        assertEquals(
+                "SELECT * FROM users WHERE id = $1 AND name = $2 OR manager_id = $3;",
+                SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex(
+                        PreparedQuery.of(QUERY).getQuestionMarkQuery()));
+        assertEquals("$1", SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex("?"));
+        assertEquals("SELECT 1", SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex("SELECT 1"));
+    }
+
+    @Test
+    public void smartSubstitutionOfBindings_WithParams_SubstitutesFirstParamOfEachBinding() {
+        Param firstParam = new Param(" Input1.text ", "1");
+        Param secondParam = new Param("Input2.text", "Jane");
+        Param duplicateParam = new Param("Input1.text", "2");
+        CollectingSubstitution substitution = new CollectingSubstitution();
+
+        substitution.smartSubstitutionOfBindings(
+                QUERY,
+                PreparedQuery.of(QUERY).getBindings(),
+                List.of(firstParam, secondParam, duplicateParam),
+                new ArrayList<>());
+
+        assertThat(substitution.values).containsExactly("1", "Jane", "1");
+        assertThat(substitution.params).containsExactly(firstParam, secondParam, firstParam);
+    }
+
+    @Test
+    public void smartSubstitutionOfBindings_WithMissingParam_ThrowsError() {
+        CollectingSubstitution substitution = new CollectingSubstitution();
+
+        AppsmithPluginException exception = assertThrows(
+                AppsmithPluginException.class,
+                () -> substitution.smartSubstitutionOfBindings(
+                        QUERY,
+                        PreparedQuery.of(QUERY).getBindings(),
+                        List.of(new Param("Input1.text", "1")),
+                        new ArrayList<>()));
+
+        assertEquals(
+                AppsmithPluginError.SMART_SUBSTITUTION_VALUE_MISSING.getAppErrorCode(), exception.getAppErrorCode());
+    }
+}
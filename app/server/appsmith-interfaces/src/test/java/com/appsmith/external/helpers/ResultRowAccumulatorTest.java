@@ -0,0 +1,98 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ResultRowAccumulatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<Map<String, Object>> generateRows(int rowCount) {
+        List<Map<String, Object>> rowsList = new ArrayList<>();
+        for (int i = 0; i < rowCount; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("bigId", (long) i * Integer.MAX_VALUE);
+            row.put("name", "name-" + i);
+            row.put("price", i / 3.0);
+            row.put("amount", new BigDecimal(i + ".25"));
+            row.put("active", i % 2 == 0);
+            row.put("deleted", null);
+            row.put("tags", new String[] {"a" + i, "b" + i});
+            row.put("metadata", objectMapper.createObjectNode().put("key", "value-" + i));
+            rowsList.add(row);
+        }
+        return rowsList;
+    }
+
+    @Test
+    public void testGetRows_returnsSameJsonAsValueToTree() {
+        List<Map<String, Object>> rowsList = generateRows(500);
+
+        ResultRowAccumulator rows =
+                new ResultRowAccumulator(objectMapper, Long.MAX_VALUE, AppsmithPluginError.PLUGIN_ERROR);
+        for (Map<String, Object> row : rowsList) {
+            rows.startRow();
+            for (Map.Entry<String, Object> cell : row.entrySet()) {
+                rows.addCell(cell.getKey(), cell.getValue());
+            }
+        }
+
+        assertEquals(objectMapper.valueToTree(rowsList), rows.getRows());
+        assertEquals(500, rows.getRowCount());
+    }
+
+    @Test
+    public void testGetEstimatedSizeInBytes_isCloseToSerializedSize() throws Exception {
+        List<Map<String, Object>> rowsList = generateRows(1000);
+
+        ResultRowAccumulator rows =
+                new ResultRowAccumulator(objectMapper, Long.MAX_VALUE, AppsmithPluginError.PLUGIN_ERROR);
+        for (Map<String, Object> row : rowsList) {
+            rows.addRow(row);
+        }
+
+        int serializedSize = objectMapper.writeValueAsBytes(rows.getRows()).length;
+        // Numbers are accounted for at their maximum width, so the estimate errs on the larger side
+        assertThat(rows.getEstimatedSizeInBytes()).isBetween((long) serializedSize, 2L * serializedSize);
+    }
+
+    @Test
+    public void testAddCell_whenResultGrowsBeyondMaxSize_throwsExceptionRightAway() {
+        ResultRowAccumulator rows = new ResultRowAccumulator(objectMapper, 10_000, AppsmithPluginError.PLUGIN_ERROR);
+        String value = "a".repeat(1000);
+
+        AppsmithPluginException exception = assertThrows(AppsmithPluginException.class, () -> {
+            for (int i = 0; i < 100; i++) {
+                rows.startRow();
+                rows.addCell("text", value);
+            }
+        });
+
+        assertEquals(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode(), exception.getAppErrorCode());
+        // The limit is crossed on the tenth row, no more rows are read after that
+        assertEquals(10, rows.getRowCount());
+    }
+
+    @Test
+    public void testGetRows_withNoRows_returnsEmptyArray() {
+        ResultRowAccumulator rows = new ResultRowAccumulator(objectMapper, 10, AppsmithPluginError.PLUGIN_ERROR);
+
+        ArrayNode result = rows.getRows();
+
+        assertEquals(objectMapper.createArrayNode(), result);
+    }
+}
@@ -0,0 +1,43 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.netty.resources.ConnectionPoolMetrics;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectionPoolMeterRegistrarTest {
+
+    private static ConnectionPoolMetrics poolMetrics(int acquired, int idle, int pending) {
+        ConnectionPoolMetrics metrics = Mockito.mock(ConnectionPoolMetrics.class);
+        Mockito.when(metrics.acquiredSize()).thenReturn(acquired);
+        Mockito.when(metrics.idleSize()).thenReturn(idle);
+        Mockito.when(metrics.pendingAcquireSize()).thenReturn(pending);
+        return metrics;
+    }
+
+    @Test
+    public void registerMetrics_withPoolsOfSeveralHosts_reportsTotalsWithoutHostTags() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConnectionPoolMeterRegistrar registrar = new ConnectionPoolMeterRegistrar(meterRegistry);
+
+        InetSocketAddress firstHost = InetSocketAddress.createUnresolved("first.example.com", 443);
+        InetSocketAddress secondHost = InetSocketAddress.createUnresolved("second.example.com", 443);
+        registrar.registerMetrics("rest-api-provider", "id", firstHost, poolMetrics(2, 3, 1));
+        registrar.registerMetrics("rest-api-provider", "id", secondHost, poolMetrics(5, 0, 4));
+
+        assertThat(meterRegistry.get("appsmith.rest-api.connections.active").gauge().value()).isEqualTo(7);
+        assertThat(meterRegistry.get("appsmith.rest-api.connections.idle").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("appsmith.rest-api.connections.pending").gauge().value()).isEqualTo(5);
+        assertThat(meterRegistry.getMeters())
+                .allSatisfy(meter -> assertThat(meter.getId().getTags()).isEmpty());
+
+        registrar.deRegisterMetrics("rest-api-provider", "id", firstHost);
+
+        assertThat(meterRegistry.get("appsmith.rest-api.connections.active").gauge().value()).isEqualTo(5);
+        assertThat(meterRegistry.get("appsmith.rest-api.connections.pools").gauge().value()).isEqualTo(1);
+    }
+}
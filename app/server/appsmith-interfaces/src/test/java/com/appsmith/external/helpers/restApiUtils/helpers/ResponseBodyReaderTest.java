@@ -0,0 +1,204 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
+import com.appsmith.external.helpers.restApiUtils.helpers.ResponseBodyReader.ResponseBody;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+public class ResponseBodyReaderTest {
+
+    private static final int MAX_BODY_SIZE = 10 * 1024 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final NettyDataBufferFactory nettyDataBufferFactory =
+            new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+
+    private List<DataBuffer> split(byte[] body, int chunkSize) {
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < body.length; i += chunkSize) {
+            buffers.add(nettyDataBufferFactory.wrap(Arrays.copyOfRange(body, i, Math.min(body.length, i + chunkSize))));
+        }
+        return buffers;
+    }
+
+    private static void assertReleased(List<DataBuffer> buffers) {
+        for (DataBuffer buffer : buffers) {
+            ByteBuf nativeBuffer = ((NettyDataBuffer) buffer).getNativeBuffer();
+            assertThat(nativeBuffer.refCnt()).isZero();
+        }
+    }
+
+    @Test
+    public void read_withJsonSplitAcrossBuffers_returnsSameTreeAsReadTree() throws Exception {
+        String json = "{\"name\":\"Appsmith \\u00e9\",\"count\":12345678901,\"ratio\":0.25,\"big\":123456789012345678901234,"
+                + "\"items\":[1,true,null,{\"nested\":[\"a\",\"b\"]}],\"empty\":{}}";
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        // Splits the body in the middle of names, numbers and escapes
+        List<DataBuffer> buffers = split(body, 3);
+
+        ResponseBodyReader reader = new ResponseBodyReader(objectMapper, ResponseDataType.JSON, MAX_BODY_SIZE, -1);
+
+        StepVerifier.create(reader.read(Flux.fromIterable(buffers)))
+                .assertNext(responseBody -> {
+                    assertThat(responseBody.dataType()).isEqualTo(ResponseDataType.JSON);
+                    try {
+                        assertThat(responseBody.body()).isEqualTo(objectMapper.readTree(json));
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                })
+                .verifyComplete();
+        assertReleased(buffers);
+    }
+
+    @Test
+    public void read_withInvalidJson_returnsTrimmedText() {
+        List<DataBuffer> buffers = split(" {\"key\": invalid json text} ".getBytes(StandardCharsets.UTF_8), 4);
+
+        ResponseBodyReader reader = new ResponseBodyReader(objectMapper, ResponseDataType.JSON, MAX_BODY_SIZE, -1);
+
+        StepVerifier.create(reader.read(Flux.fromIterable(buffers)))
+                .assertNext(responseBody -> {
+                    assertThat(responseBody.dataType()).isEqualTo(ResponseDataType.UNDEFINED);
+                    assertThat(responseBody.body()).isEqualTo("{\"key\": invalid json text}");
+                })
+                .verifyComplete();
+        assertReleased(buffers);
+    }
+
+    @Test
+    public void read_withTextSplitInsideCharacter_returnsDecodedText() {
+        String text = "héllo wörld ✓";
+        List<DataBuffer> buffers = split(text.getBytes(StandardCharsets.UTF_8), 2);
+
+        ResponseBodyReader reader = new ResponseBodyReader(objectMapper, ResponseDataType.TEXT, MAX_BODY_SIZE, -1);
+
+        StepVerifier.create(reader.read(Flux.fromIterable(buffers)))
+                .assertNext(responseBody -> assertThat(responseBody.body()).isEqualTo(text))
+                .verifyComplete();
+        assertReleased(buffers);
+    }
+
+    @Test
+    public void read_withBinarySplitAcrossBuffers_returnsBase64OfWholeBody() {
+        byte[] body = new byte[10_000];
+        new Random(42).nextBytes(body);
+        List<DataBuffer> buffers = split(body, 1000 + 1);
+
+        ResponseBodyReader reader =
+                new ResponseBodyReader(objectMapper, ResponseDataType.BINARY, MAX_BODY_SIZE, body.length);
+
+        StepVerifier.create(reader.read(Flux.fromIterable(buffers)))
+                .assertNext(responseBody -> {
+                    assertThat(responseBody.dataType()).isEqualTo(ResponseDataType.BINARY);
+                    assertThat(responseBody.body())
+                            .isEqualTo(Base64.getEncoder().encodeToString(body));
+                })
+                .verifyComplete();
+        assertReleased(buffers);
+    }
+
+    @Test
+    public void read_withEmptyBody_returnsNullBody() {
+        ResponseBodyReader reader = new ResponseBodyReader(objectMapper, ResponseDataType.JSON, MAX_BODY_SIZE, 0);
+
+        StepVerifier.create(reader.read(Flux.empty()))
+                .assertNext(responseBody -> assertThat(responseBody.body()).isNull())
+                .verifyComplete();
+    }
+
+    @Test
+    public void read_withBodyOverLimit_cancelsAndReleasesBuffers() {
+        List<DataBuffer> buffers = split(new byte[1000], 100);
+
+        ResponseBodyReader reader = new ResponseBodyReader(objectMapper, ResponseDataType.JSON, 250, -1);
+
+        StepVerifier.create(reader.read(Flux.fromIterable(buffers)))
+                .expectError(DataBufferLimitException.class)
+                .verify();
+        // Only the buffers up to the one over the limit were read
+        assertReleased(buffers.subList(0, 3));
+    }
+
+    /**
+     * Compares the bytes allocated to read a large JSON body with the reader against those allocated by aggregating
+     * the body into an array and a string before parsing it, as it was read before. The numbers are logged to compare
+     * across runs.
+     */
+    @Test
+    public void read_withLargeJson_allocatesLessThanAggregatingTheBody() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 40_000; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"id\":")
+                    .append(i)
+                    .append(",\"name\":\"user-")
+                    .append(i)
+                    .append("\",\"email\":\"user")
+                    .append(i)
+                    .append("@example.com\",\"active\":true,\"score\":")
+                    .append(i / 7.0)
+                    .append('}');
+        }
+        byte[] body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        List<byte[]> chunks = new ArrayList<>();
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < body.length; i += 16384) {
+            byte[] chunk = Arrays.copyOfRange(body, i, Math.min(body.length, i + 16384));
+            chunks.add(chunk);
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        byte[] aggregated = new byte[body.length];
+        int position = 0;
+        for (byte[] chunk : chunks) {
+            System.arraycopy(chunk, 0, aggregated, position, chunk.length);
+            position += chunk.length;
+        }
+        JsonNode aggregatedTree = objectMapper.readTree(new String(aggregated, StandardCharsets.UTF_8));
+        long aggregatingAllocation = threadMXBean.getThreadAllocatedBytes(threadId) - start;
+
+        start = threadMXBean.getThreadAllocatedBytes(threadId);
+        ResponseBody responseBody = new ResponseBodyReader(
+                        objectMapper, ResponseDataType.JSON, MAX_BODY_SIZE, -1)
+                .read(Flux.fromIterable(buffers))
+                .block();
+        long streamingAllocation = threadMXBean.getThreadAllocatedBytes(threadId) - start;
+
+        log.info(
+                "Reading a {} byte JSON body allocated {} bytes when aggregated and {} bytes when streamed",
+                body.length,
+                aggregatingAllocation,
+                streamingAllocation);
+        assertThat(responseBody.body()).isEqualTo(aggregatedTree);
+        assertThat(streamingAllocation).isLessThan(aggregatingAllocation);
+    }
+}
@@ -0,0 +1,171 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.appsmith.util.WebClientUtils;
+import lombok.extern.slf4j.Slf4j;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+public class RestAPIActivateUtilsTest {
+
+    private static final int REQUEST_COUNT = 200;
+
+    private final RestAPIActivateUtils restAPIActivateUtils = new RestAPIActivateUtils();
+
+    private MockWebServer mockEndpoint;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        mockEndpoint = new MockWebServer();
+        mockEndpoint.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        mockEndpoint.shutdown();
+    }
+
+    private static DatasourceConfiguration createDatasourceConfiguration(SSLDetails.AuthType authType, String cert) {
+        SSLDetails ssl = new SSLDetails();
+        ssl.setAuthType(authType);
+        if (cert != null) {
+            UploadedFile certificateFile = new UploadedFile();
+            certificateFile.setBase64Content(cert);
+            ssl.setCertificateFile(certificateFile);
+        }
+
+        Connection connection = new Connection();
+        connection.setSsl(ssl);
+
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnection(connection);
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void getHttpClient_withSameSettings_returnsSameClient() {
+        HttpClient first = restAPIActivateUtils.getHttpClient(new DatasourceConfiguration(), null);
+        HttpClient second = restAPIActivateUtils.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11);
+
+        assertThat(second).isSameAs(first);
+        assertThat(restAPIActivateUtils.getHttpClient(new DatasourceConfiguration(), HttpProtocol.H2))
+                .isNotSameAs(first);
+    }
+
+    @Test
+    public void getHttpClient_withDifferentTrustedCertificates_returnsDifferentClients() {
+        HttpClient first = restAPIActivateUtils.getHttpClient(
+                createDatasourceConfiguration(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE, "Zmlyc3Q="),
+                HttpProtocol.HTTP11);
+        HttpClient second = restAPIActivateUtils.getHttpClient(
+                createDatasourceConfiguration(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE, "c2Vjb25k"),
+                HttpProtocol.HTTP11);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(restAPIActivateUtils.getHttpClient(
+                        createDatasourceConfiguration(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE, "Zmlyc3Q="),
+                        HttpProtocol.HTTP11))
+                .isSameAs(first);
+    }
+
+    @Test
+    public void getWebClientBuilder_withConsecutiveExecutions_reusesConnection() throws InterruptedException {
+        String url = mockEndpoint.url("/users").toString();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        for (int i = 0; i < 2; i++) {
+            mockEndpoint.enqueue(new MockResponse().setBody("[]"));
+            restAPIActivateUtils
+                    .getWebClientBuilder(actionConfiguration, new DatasourceConfiguration())
+                    .build()
+                    .get()
+                    .uri(url)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+        }
+
+        RecordedRequest firstRequest = mockEndpoint.takeRequest(30, TimeUnit.SECONDS);
+        RecordedRequest secondRequest = mockEndpoint.takeRequest(30, TimeUnit.SECONDS);
+        assertThat(firstRequest.getSequenceNumber()).isZero();
+        // The second request is the second one made on the same connection
+        assertThat(secondRequest.getSequenceNumber()).isEqualTo(1);
+    }
+
+    /**
+     * Compares the latency of executions with the shared clients against that of executions that each open a new
+     * connection, as they did before. The latencies are logged rather than asserted, to compare across runs on the
+     * same machine.
+     */
+    /**
+     * Compares the latencies of requests made with the shared clients against requests that each open a connection.
+     * The latencies are logged rather than asserted, so it only runs with the benchmark tests.
+     */
+    @Test
+    @Tag("benchmark")
+    public void getWebClientBuilder_withSharedClients_logsLatencies() {
+        String url = mockEndpoint.url("/users").toString();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        List<Long> sharedLatencies = measure(url, () -> restAPIActivateUtils
+                .getWebClientBuilder(actionConfiguration, new DatasourceConfiguration())
+                .build());
+        List<Long> newConnectionLatencies = measure(
+                url, () -> WebClientUtils.builder(HttpClient.create(ConnectionProvider.newConnection()))
+                        .build());
+
+        log.info(
+                "Shared clients: p50 {} us, p99 {} us. New connections: p50 {} us, p99 {} us",
+                percentile(sharedLatencies, 50),
+                percentile(sharedLatencies, 99),
+                percentile(newConnectionLatencies, 50),
+                percentile(newConnectionLatencies, 99));
+        assertThat(sharedLatencies).hasSize(REQUEST_COUNT);
+    }
+
+    private List<Long> measure(String url, Supplier<WebClient> webClientSupplier) {
+        List<Long> latencies = new ArrayList<>(REQUEST_COUNT);
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            mockEndpoint.enqueue(new MockResponse().setBody("[]"));
+            long start = System.nanoTime();
+            webClientSupplier
+                    .get()
+                    .get()
+                    .uri(url)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+            latencies.add((System.nanoTime() - start) / 1000);
+        }
+        return latencies;
+    }
+
+    private static long percentile(List<Long> latencies, int percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return sorted.get(Math.min(sorted.size() - 1, sorted.size() * percentile / 100));
+    }
+}
@@ -0,0 +1,178 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.FilterDataServiceCE;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Signal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FilterDataServiceConcurrencyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ArrayNode generateData(int rowCount, int seed) {
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", String.valueOf(i));
+            item.put("orderAmount", ((i * 31 + seed) % 1000) + ".50");
+            item.put("orderStatus", (i + seed) % 3 == 0 ? "READY" : "NOT READY");
+        }
+        return items;
+    }
+
+    private UQIDataFilterParams generateFilterParams(int seed) {
+        Condition condition = new Condition(
+                null,
+                ConditionalOperator.AND,
+                List.of(
+                        new Condition("orderAmount", ConditionalOperator.LT, String.valueOf(100 + seed % 800), null),
+                        new Condition("orderStatus", ConditionalOperator.EQ, "READY", null)),
+                null);
+
+        Map<String, String> sortCondition = new HashMap<>();
+        sortCondition.put(SORT_BY_COLUMN_NAME_KEY, "orderAmount");
+        sortCondition.put(SORT_BY_TYPE_KEY, "Descending");
+
+        return new UQIDataFilterParams(condition, null, List.of(sortCondition), null);
+    }
+
+    @Test
+    public void testFilterDataNew_withConcurrentRequests_returnsSameResultsAsSequentialRequests() throws Exception {
+        FilterDataServiceCE filterDataService = new FilterDataServiceCE(
+                Runtime.getRuntime().availableProcessors(), 1_000_000L, Duration.ofMinutes(1));
+
+        int requestCount = 200;
+        List<JsonNode> expectedResults = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            expectedResults.add(filterDataService.filterDataNew(generateData(2000, i), generateFilterParams(i)));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<JsonNode>> futures = new ArrayList<>();
+            for (int i = 0; i < requestCount; i++) {
+                final int seed = i;
+                Callable<JsonNode> request =
+                        () -> filterDataService.filterDataNew(generateData(2000, seed), generateFilterParams(seed));
+                futures.add(executorService.submit(request));
+            }
+
+            for (int i = 0; i < requestCount; i++) {
+                assertEquals(expectedResults.get(i), futures.get(i).get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFilterDataNewMono_withConcurrentRequests_filtersOffTheCallerThread() {
+        FilterDataServiceCE filterDataService = new FilterDataServiceCE(2, 1_000_000L, Duration.ofMinutes(1));
+
+        int requestCount = 50;
+        List<JsonNode> expectedResults = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            expectedResults.add(filterDataService.filterDataNew(generateData(2000, i), generateFilterParams(i)));
+        }
+
+        String callerThreadName = Thread.currentThread().getName();
+        List<String> filterThreadNames = new CopyOnWriteArrayList<>();
+        List<ArrayNode> results = Flux.range(0, requestCount)
+                .flatMapSequential(seed -> filterDataService
+                        .filterDataNewMono(generateData(2000, seed), generateFilterParams(seed))
+                        .doOnNext(result -> filterThreadNames.add(
+                                Thread.currentThread().getName())))
+                .collectList()
+                .block();
+
+        assertEquals(expectedResults, results);
+        assertThat(filterThreadNames)
+                .hasSize(requestCount)
+                .doesNotContain(callerThreadName)
+                .allMatch(threadName -> threadName.startsWith("in-memory-filter"));
+    }
+
+    @Test
+    public void testFilterDataNewMono_whenNoPermitWithinQueueTimeout_rejectsRequest() {
+        FilterDataServiceCE filterDataService = new FilterDataServiceCE(1, 1_000_000L, Duration.ZERO);
+
+        // The first request takes the only permit, and the ones queued behind it can not wait for it
+        List<Signal<ArrayNode>> results = Flux.range(0, 20)
+                .flatMap(seed -> filterDataService
+                        .filterDataNewMono(generateData(20_000, seed), generateFilterParams(seed))
+                        .materialize())
+                .collectList()
+                .block();
+
+        assertThat(results).anyMatch(Signal::isOnNext);
+        assertThat(results)
+                .filteredOn(Signal::isOnError)
+                .isNotEmpty()
+                .allMatch(signal -> signal.getThrowable() instanceof AppsmithPluginException
+                        && signal.getThrowable().getMessage().startsWith("Too many filtering requests"));
+    }
+
+    @Test
+    public void testFilterDataNew_withMoreCellsThanLimit_throwsException() {
+        FilterDataServiceCE filterDataService = new FilterDataServiceCE(1, 1000L, Duration.ofSeconds(5));
+
+        // 500 rows x 3 columns = 1500 cells
+        ArrayNode items = generateData(500, 0);
+
+        assertThrows(
+                AppsmithPluginException.class, () -> filterDataService.filterDataNew(items, generateFilterParams(0)));
+    }
+
+    @Test
+    public void testFilterDataNew_recordsMetrics() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        try {
+            FilterDataServiceCE filterDataService = new FilterDataServiceCE(1, 1_000_000L, Duration.ofSeconds(5));
+
+            ArrayNode filteredData = filterDataService.filterDataNew(generateData(300, 0), generateFilterParams(0));
+
+            assertThat(meterRegistry.get("appsmith.filter.rows.in").summary().totalAmount())
+                    .isEqualTo(300);
+            assertThat(meterRegistry.get("appsmith.filter.rows.out").summary().totalAmount())
+                    .isEqualTo(filteredData.size());
+            assertThat(meterRegistry.get("appsmith.filter.queue.wait").timer().count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry
+                            .get("appsmith.filter.phase")
+                            .tag("phase", "execute")
+                            .timer()
+                            .count())
+                    .isEqualTo(1);
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.H2FilterDataService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that the columnar filtering engine used by `filterDataNew` returns exactly what the H2 based implementation
+ * returns, for randomly generated data and filter conditions.
+ */
+public class FilterDataServiceParityTest {
+
+    private static final List<String> NAMES =
+            List.of("Michael Lawson", "Lindsay Ferguson", "Tobias Funke", "Byron Fields", "George Edwards", "");
+
+    private static final List<String> COLUMNS =
+            List.of("id", "name", "orderAmount", "quantity", "active", "date", "createdAt");
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FilterDataService filterDataService = FilterDataService.getInstance();
+    private final H2FilterDataService h2FilterDataService = new H2FilterDataService();
+
+    private ArrayNode generateData(Random random, int rowCount) {
+        ArrayNode items = objectMapper.createArrayNode();
+        LocalDate baseDate = LocalDate.of(2021, 9, 1);
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", i + 1);
+            item.put("name", i == 0 ? NAMES.get(0) : NAMES.get(random.nextInt(NAMES.size())));
+            item.put("orderAmount", (1 + random.nextInt(30)) + "." + (10 + random.nextInt(90)));
+            item.put("quantity", i != 0 && random.nextInt(5) == 0 ? "" : String.valueOf(random.nextInt(50)));
+            item.put("active", String.valueOf(random.nextBoolean()));
+            item.put("date", baseDate.plusDays(random.nextInt(60)).toString());
+            LocalDateTime timestamp = baseDate.atStartOfDay().plusMinutes(random.nextInt(60 * 24 * 30));
+            item.put("createdAt", timestamp.format(TIMESTAMP_FORMATTER));
+        }
+        return items;
+    }
+
+    private String randomValueOf(Random random, ArrayNode items, String column) {
+        return items.get(random.nextInt(items.size())).get(column).asText();
+    }
+
+    private Condition generateLeafCondition(Random random, ArrayNode items) {
+        String column = COLUMNS.get(random.nextInt(COLUMNS.size()));
+        List<ConditionalOperator> operators = new ArrayList<>(List.of(
+                ConditionalOperator.LT,
+                ConditionalOperator.LTE,
+                ConditionalOperator.EQ,
+                ConditionalOperator.NOT_EQ,
+                ConditionalOperator.GT,
+                ConditionalOperator.GTE));
+
+        switch (column) {
+            case "name":
+                operators.add(ConditionalOperator.CONTAINS);
+                operators.add(ConditionalOperator.IN);
+                operators.add(ConditionalOperator.NOT_IN);
+                break;
+            case "id":
+            case "quantity":
+            case "orderAmount":
+                operators.add(ConditionalOperator.IN);
+                operators.add(ConditionalOperator.NOT_IN);
+                break;
+            case "active":
+                operators = List.of(ConditionalOperator.EQ, ConditionalOperator.NOT_EQ);
+                break;
+            default:
+                break;
+        }
+
+        ConditionalOperator operator = operators.get(random.nextInt(operators.size()));
+        String value;
+        if (ConditionalOperator.IN.equals(operator) || ConditionalOperator.NOT_IN.equals(operator)) {
+            List<Object> values = new ArrayList<>();
+            for (int i = random.nextInt(4); i >= 0; i--) {
+                String arrayValue = randomValueOf(random, items, column);
+                if ("orderAmount".equals(column)) {
+                    values.add(Double.parseDouble(arrayValue));
+                } else if (!"name".equals(column) && !arrayValue.isEmpty()) {
+                    values.add(Long.parseLong(arrayValue));
+                } else {
+                    values.add(arrayValue);
+                }
+            }
+            try {
+                value = objectMapper.writeValueAsString(values);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        } else if (ConditionalOperator.CONTAINS.equals(operator)) {
+            String name = randomValueOf(random, items, column);
+            value = name.length() > 3 ? name.substring(1, 4) : name;
+        } else if (random.nextInt(10) == 0) {
+            // Empty values are used to look for null values
+            value = "";
+        } else {
+            value = randomValueOf(random, items, column);
+        }
+
+        return new Condition(column, operator, value, null);
+    }
+
+    private Condition generateWhereCondition(Random random, ArrayNode items) {
+        Supplier<ConditionalOperator> logicalOperator =
+                () -> random.nextBoolean() ? ConditionalOperator.AND : ConditionalOperator.OR;
+
+        List<Condition> children = new ArrayList<>();
+        // The first condition is always a leaf condition, since a nested group can only follow another condition
+        children.add(generateLeafCondition(random, items));
+        for (int i = random.nextInt(3); i > 0; i--) {
+            if (random.nextInt(3) == 0) {
+                List<Condition> groupChildren = new ArrayList<>();
+                for (int j = 1 + random.nextInt(2); j > 0; j--) {
+                    groupChildren.add(generateLeafCondition(random, items));
+                }
+                children.add(new Condition(null, logicalOperator.get(), groupChildren, null));
+            } else {
+                children.add(generateLeafCondition(random, items));
+            }
+        }
+
+        return new Condition(null, logicalOperator.get(), children, null);
+    }
+
+    private UQIDataFilterParams generateFilterParams(Random random, ArrayNode items) {
+        Condition condition = random.nextInt(10) == 0 ? null : generateWhereCondition(random, items);
+
+        List<String> projectionColumns = null;
+        if (random.nextBoolean()) {
+            projectionColumns = new ArrayList<>();
+            for (String column : COLUMNS) {
+                if (random.nextBoolean()) {
+                    projectionColumns.add(column);
+                }
+            }
+        }
+
+        List<Map<String, String>> sortBy = null;
+        Map<String, String> paginateBy = null;
+        if (random.nextBoolean()) {
+            sortBy = new ArrayList<>();
+            Map<String, String> sortCondition = new HashMap<>();
+            sortCondition.put(SORT_BY_COLUMN_NAME_KEY, COLUMNS.get(random.nextInt(COLUMNS.size())));
+            sortCondition.put(SORT_BY_TYPE_KEY, random.nextBoolean() ? "Ascending" : "Descending");
+            sortBy.add(sortCondition);
+            // Make the sort order total, since the order of ties is not defined for a limited query.
+            Map<String, String> tieBreaker = new HashMap<>();
+            tieBreaker.put(SORT_BY_COLUMN_NAME_KEY, "id");
+            tieBreaker.put(SORT_BY_TYPE_KEY, "Ascending");
+            sortBy.add(tieBreaker);
+
+            if (random.nextBoolean()) {
+                paginateBy = new HashMap<>();
+                paginateBy.put(PAGINATE_LIMIT_KEY, String.valueOf(1 + random.nextInt(items.size() + 5)));
+                paginateBy.put(PAGINATE_OFFSET_KEY, String.valueOf(random.nextInt(items.size())));
+            }
+        }
+
+        return new UQIDataFilterParams(condition, projectionColumns, sortBy, paginateBy);
+    }
+
+    private void assertSameResult(ArrayNode items, Supplier<UQIDataFilterParams> filterParamsSupplier) {
+        JsonNode expected;
+        try {
+            expected = h2FilterDataService.filterData(items.deepCopy(), filterParamsSupplier.get(), null);
+        } catch (AppsmithPluginException e) {
+            assertThrows(
+                    AppsmithPluginException.class,
+                    () -> filterDataService.filterDataNew(items.deepCopy(), filterParamsSupplier.get()));
+            return;
+        }
+
+        JsonNode actual = filterDataService.filterDataNew(items.deepCopy(), filterParamsSupplier.get());
+        assertEquals(expected, actual, "Mismatch for filter params : " + filterParamsSupplier.get());
+    }
+
+    @Test
+    public void testFilterDataNew_withRandomConditions_matchesH2Results() {
+        for (int i = 0; i < 200; i++) {
+            long seed = 1000L + i;
+            ArrayNode items = generateData(new Random(seed), 50);
+            // A new random with the same seed per call, so that every call gets identical filter params
+            assertSameResult(items, () -> generateFilterParams(new Random(seed * 31), items));
+        }
+    }
+
+    @Test
+    public void testFilterDataNew_withMoreRowsThanInsertBatch_matchesH2Results() {
+        ArrayNode items = generateData(new Random(42), 2500);
+        for (int i = 0; i < 10; i++) {
+            long seed = 4200L + i;
+            assertSameResult(items, () -> generateFilterParams(new Random(seed), items));
+        }
+    }
+
+    @Test
+    public void testFilterDataNew_withConditionTypeMismatch_failsLikeH2() {
+        ArrayNode items = generateData(new Random(7), 10);
+        Supplier<UQIDataFilterParams> filterParamsSupplier = () -> new UQIDataFilterParams(
+                new Condition(
+                        null,
+                        ConditionalOperator.AND,
+                        List.of(new Condition("orderAmount", ConditionalOperator.LT, "not a number", null)),
+                        null),
+                null,
+                null,
+                null);
+
+        assertThrows(
+                AppsmithPluginException.class,
+                () -> h2FilterDataService.filterData(items.deepCopy(), filterParamsSupplier.get(), null));
+        assertThrows(
+                AppsmithPluginException.class,
+                () -> filterDataService.filterDataNew(items.deepCopy(), filterParamsSupplier.get()));
+    }
+}
@@ -5,6 +5,7 @@ import com.appsmith.external.constants.DataType;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.H2FilterDataService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,7 @@ public class FilterDataServiceTest {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final FilterDataService filterDataService = FilterDataService.getInstance();
+    private final H2FilterDataService h2FilterDataService = new H2FilterDataService();
 
     @Test
     public void testGenerateTable() {
@@ -42,7 +44,7 @@ public class FilterDataServiceTest {
                 "name", DataType.STRING,
                 "status", DataType.BOOLEAN);
 
-        String table = filterDataService.generateTable(schema);
+        String table = h2FilterDataService.generateTable(schema);
 
         assertThat(table).isNotNull();
     }
@@ -131,7 +133,7 @@ public class FilterDataServiceTest {
             List<Condition> conditions = (List<Condition>) condition.getValue();
 
             String expression =
-                    filterDataService.generateLogicalExpression(conditions, new ArrayList<>(), schema, operator);
+                    h2FilterDataService.generateLogicalExpression(conditions, new ArrayList<>(), schema, operator);
             assertThat(expression)
                     .isEqualTo(
                             " ( \"i\" >= ? )  and (  ( \"d\" <= ? )  and (  ( \"a\" <= ? )  )  )  and (  ( \"u\" <= ? )  ) ");
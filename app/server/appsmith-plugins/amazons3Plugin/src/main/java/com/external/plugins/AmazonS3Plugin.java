@@ -629,11 +629,11 @@ public class AmazonS3Plugin extends BasePlugin {
                                         formData, LIST_PAGINATE, new TypeReference<Map<String, String>>() {});
 
                                 ArrayNode preFilteringResponse = objectMapper.valueToTree(actionResult);
-                                actionResult = filterDataService.filterDataNew(
-                                        preFilteringResponse,
-                                        new UQIDataFilterParams(condition, null, sortBy, paginateBy));
-
-                                break;
+                                return filterDataService
+                                        .filterDataNewMono(
+                                                preFilteringResponse,
+                                                new UQIDataFilterParams(condition, null, sortBy, paginateBy))
+                                        .cast(Object.class);
                             case UPLOAD_FILE_FROM_BODY: {
                                 requestParams.add(
                                         new RequestParamDTO(ACTION_CONFIGURATION_PATH, path, null, null, null));
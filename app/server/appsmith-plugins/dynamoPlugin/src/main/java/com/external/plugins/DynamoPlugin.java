@@ -13,8 +13,10 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.DynamoErrorMessages;
 import com.external.plugins.exceptions.DynamoPluginError;
+import com.external.utils.SdkBuilderMethods;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
@@ -30,12 +32,20 @@ import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
-import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbRequest;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbResponse;
-import software.amazon.awssdk.services.dynamodb.model.ListTablesResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -43,7 +53,6 @@ import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -51,7 +60,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
@@ -71,6 +86,21 @@ public class DynamoPlugin extends BasePlugin {
     private static final String DYNAMO_TYPE_MAP_LABEL = "M";
     private static final String DYNAMO_TYPE_LIST_LABEL = "L";
 
+    // Number of items over which Scan and Query results are not fetched further, when not set in the configuration
+    private static final int DEFAULT_MAX_PAGINATED_ITEMS = 10_000;
+
+    private static final MethodType ACTION_METHOD_TYPE =
+            MethodType.methodType(CompletableFuture.class, DynamoDbAsyncClient.class, DynamoDbRequest.class);
+
+    // Methods of the client that execute the actions, keyed by the name of the action
+    private static final Map<String, ActionMethod> ACTION_METHODS = new ConcurrentHashMap<>();
+
+    /**
+     * @param requestClass The request class of the action, like `ListTablesRequest`
+     * @param handle       Handle of the client method executing the action, taking the client and the request
+     */
+    private record ActionMethod(Class<?> requestClass, MethodHandle handle) {}
+
     public DynamoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -86,10 +116,26 @@ public class DynamoPlugin extends BasePlugin {
      * https://docs.aws.amazon.com/amazondynamodb/latest/APIReference/API_Operations_Amazon_DynamoDB.html
      */
     @Extension
-    public static class DynamoPluginExecutor implements PluginExecutor<DynamoDbClient> {
+    public static class DynamoPluginExecutor implements PluginExecutor<DynamoDbAsyncClient> {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final int maxPaginatedItems;
+
+        private final int maxResponseSize;
+
+        public DynamoPluginExecutor() {
+            this.maxPaginatedItems = DEFAULT_MAX_PAGINATED_ITEMS;
+            this.maxResponseSize = Integer.MAX_VALUE;
+        }
+
+        public DynamoPluginExecutor(SharedConfig sharedConfig) {
+            this.maxPaginatedItems = sharedConfig.getMaxResponseRows() > 0
+                    ? sharedConfig.getMaxResponseRows()
+                    : DEFAULT_MAX_PAGINATED_ITEMS;
+            this.maxResponseSize = sharedConfig.getMaxResponseSize();
+        }
+
         public Object extractValue(Object rawItem) {
 
             if (!(rawItem instanceof List) && !(rawItem instanceof Map)) {
@@ -181,18 +227,19 @@ public class DynamoPlugin extends BasePlugin {
 
         @Override
         public Mono<ActionExecutionResult> execute(
-                DynamoDbClient ddb,
+                DynamoDbAsyncClient ddb,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration) {
 
             final Map<String, Object> requestData = new HashMap<>();
             final String body = actionConfiguration.getBody();
+            final String action = actionConfiguration.getPath();
             List<RequestParamDTO> requestParams = new ArrayList<>();
+            final AtomicBoolean isPaginationStopped = new AtomicBoolean(false);
 
-            return Mono.fromCallable(() -> {
-                        ActionExecutionResult result = new ActionExecutionResult();
-
-                        final String action = actionConfiguration.getPath();
+            // The request is sent by the client once it has been built, and the response is awaited without blocking
+            // a thread
+            return Mono.defer(() -> {
                         if (!StringUtils.hasLength(action)) {
                             throw new AppsmithPluginException(
                                     AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
@@ -215,33 +262,12 @@ public class DynamoPlugin extends BasePlugin {
                         }
                         requestData.put("parameters", parameters);
 
-                        final Class<?> requestClass;
                         try {
-                            requestClass = Class.forName(
-                                    "software.amazon.awssdk.services.dynamodb.model." + action + "Request");
-                        } catch (ClassNotFoundException e) {
-                            throw new AppsmithPluginException(
-                                    DynamoPluginError.UNKNOWN_ACTION_NAME,
-                                    String.format(DynamoErrorMessages.UNKNOWN_ACTION_NAME_ERROR_MSG, action),
-                                    e.getMessage());
-                        }
-
-                        try {
-                            final Method actionExecuteMethod = DynamoDbClient.class.getMethod(
-                                    // Convert `ListTables` to `listTables`, which is the name of the method to execute
-                                    // this action.
-                                    toLowerCamelCase(action), requestClass);
-                            final Object sdkValue = plainToSdk(parameters, requestClass);
-                            final DynamoDbResponse response =
-                                    (DynamoDbResponse) actionExecuteMethod.invoke(ddb, sdkValue);
-                            Object rawResponse = sdkToPlain(response);
-                            Object transformedResponse =
-                                    getTransformedResponse((Map<String, Object>) rawResponse, action);
-                            result.setBody(transformedResponse);
-                        } catch (InvocationTargetException
-                                | IllegalAccessException
-                                | NoSuchMethodException
-                                | ClassNotFoundException e) {
+                            final ActionMethod actionMethod = getActionMethod(action);
+                            final DynamoDbRequest request =
+                                    (DynamoDbRequest) plainToSdk(parameters, actionMethod.requestClass());
+                            return send(ddb, actionMethod, request, isPaginationStopped);
+                        } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
                             final String errorMessage = (e.getCause() == null ? e : e.getCause()).getMessage();
                             log.warn("Error executing the DynamoDB Action: {}", errorMessage, e);
                             throw new AppsmithPluginException(
@@ -249,7 +275,15 @@ public class DynamoPlugin extends BasePlugin {
                                     DynamoErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
                                     errorMessage);
                         }
-
+                    })
+                    .map(response -> {
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        Object rawResponse = sdkToPlain(response);
+                        result.setBody(getTransformedResponse((Map<String, Object>) rawResponse, action));
+                        if (isPaginationStopped.get()) {
+                            result.setMessages(Set.of(String.format(
+                                    DynamoErrorMessages.PAGINATION_STOPPED_HINT_MSG, maxPaginatedItems)));
+                        }
                         result.setIsExecutionSuccess(true);
                         log.debug("In the DynamoPlugin, got action execution result");
                         return result;
@@ -258,6 +292,7 @@ public class DynamoPlugin extends BasePlugin {
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(false);
                         if (!(error instanceof AppsmithPluginException)) {
+                            log.warn("Error executing the DynamoDB Action: {}", error.getMessage(), error);
                             error = new AppsmithPluginException(
                                     DynamoPluginError.QUERY_EXECUTION_FAILED,
                                     DynamoErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
@@ -274,15 +309,190 @@ public class DynamoPlugin extends BasePlugin {
                         actionExecutionRequest.setRequestParams(requestParams);
                         actionExecutionResult.setRequest(actionExecutionRequest);
                         return actionExecutionResult;
+                    });
+        }
+
+        /**
+         * Sends the request with the client method of the action. Scans and queries that neither set a `Limit` nor
+         * start from an `ExclusiveStartKey` are read through all their pages, until the number of items read reaches
+         * the maximum. The pages read are then returned as a single response, with the `LastEvaluatedKey` of the last
+         * page read. If the items read grow beyond the maximum response size, the execution fails instead.
+         */
+        private Mono<DynamoDbResponse> send(
+                DynamoDbAsyncClient ddb,
+                ActionMethod actionMethod,
+                DynamoDbRequest request,
+                AtomicBoolean isPaginationStopped) {
+
+            if (request instanceof ScanRequest scanRequest
+                    && scanRequest.limit() == null
+                    && CollectionUtils.isEmpty(scanRequest.exclusiveStartKey())) {
+                return readPages(
+                                scanRequest,
+                                ddb::scan,
+                                ScanResponse::items,
+                                ScanResponse::lastEvaluatedKey,
+                                (firstRequest, lastEvaluatedKey) -> firstRequest.toBuilder()
+                                        .exclusiveStartKey(lastEvaluatedKey)
+                                        .build(),
+                                isPaginationStopped)
+                        .map(DynamoPluginExecutor::mergeScanPages);
+            }
+
+            if (request instanceof QueryRequest queryRequest
+                    && queryRequest.limit() == null
+                    && CollectionUtils.isEmpty(queryRequest.exclusiveStartKey())) {
+                return readPages(
+                                queryRequest,
+                                ddb::query,
+                                QueryResponse::items,
+                                QueryResponse::lastEvaluatedKey,
+                                (firstRequest, lastEvaluatedKey) -> firstRequest.toBuilder()
+                                        .exclusiveStartKey(lastEvaluatedKey)
+                                        .build(),
+                                isPaginationStopped)
+                        .map(DynamoPluginExecutor::mergeQueryPages);
+            }
+
+            return Mono.fromFuture(() -> {
+                try {
+                    return (CompletableFuture<DynamoDbResponse>) actionMethod.handle().invokeExact(ddb, request);
+                } catch (Throwable e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            });
+        }
+
+        /**
+         * Reads the pages of a scan or a query one after the other, as long as the last page has a `LastEvaluatedKey`
+         * and the number of items read is under the maximum. Fails with `RESPONSE_SIZE_TOO_LARGE` as soon as the
+         * estimated size of the items read goes over the maximum response size.
+         */
+        private <Q, R> Mono<List<R>> readPages(
+                Q firstRequest,
+                Function<Q, CompletableFuture<R>> sendRequest,
+                Function<R, List<Map<String, AttributeValue>>> getItems,
+                Function<R, Map<String, AttributeValue>> getLastEvaluatedKey,
+                BiFunction<Q, Map<String, AttributeValue>, Q> getNextRequest,
+                AtomicBoolean isPaginationStopped) {
+
+            final AtomicInteger itemCount = new AtomicInteger();
+            final AtomicLong estimatedSizeInBytes = new AtomicLong();
+
+            return Mono.fromFuture(() -> sendRequest.apply(firstRequest))
+                    .expand(page -> {
+                        final List<Map<String, AttributeValue>> items = getItems.apply(page);
+                        if (estimatedSizeInBytes.addAndGet(estimateSizeInBytes(items)) > maxResponseSize) {
+                            log.debug(
+                                    "Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                    maxResponseSize,
+                                    estimatedSizeInBytes.get());
+                            return Mono.error(new AppsmithPluginException(
+                                    DynamoPluginError.RESPONSE_SIZE_TOO_LARGE, maxResponseSize / (1024f * 1024f)));
+                        }
+
+                        final Map<String, AttributeValue> lastEvaluatedKey = getLastEvaluatedKey.apply(page);
+                        if (CollectionUtils.isEmpty(lastEvaluatedKey)) {
+                            return Mono.empty();
+                        }
+                        if (itemCount.addAndGet(items.size()) >= maxPaginatedItems) {
+                            isPaginationStopped.set(true);
+                            return Mono.empty();
+                        }
+                        final Q nextRequest = getNextRequest.apply(firstRequest, lastEvaluatedKey);
+                        return Mono.fromFuture(() -> sendRequest.apply(nextRequest));
                     })
-                    .subscribeOn(scheduler);
+                    .collectList();
+        }
+
+        /**
+         * Estimates the size of items the way DynamoDB accounts for it, that is the lengths of the attribute names and
+         * values, which is close to the size of the items once serialized to JSON.
+         */
+        private static long estimateSizeInBytes(List<Map<String, AttributeValue>> items) {
+            long sizeInBytes = 0;
+            for (Map<String, AttributeValue> item : items) {
+                sizeInBytes += estimateSizeInBytes(item);
+            }
+            return sizeInBytes;
+        }
+
+        private static long estimateSizeInBytes(Map<String, AttributeValue> attributes) {
+            long sizeInBytes = 0;
+            for (Map.Entry<String, AttributeValue> attribute : attributes.entrySet()) {
+                sizeInBytes += attribute.getKey().length() + estimateSizeInBytes(attribute.getValue());
+            }
+            return sizeInBytes;
+        }
+
+        private static long estimateSizeInBytes(AttributeValue value) {
+            if (value.s() != null) {
+                return value.s().length();
+            } else if (value.n() != null) {
+                return value.n().length();
+            } else if (value.b() != null) {
+                return value.b().asByteBuffer().remaining();
+            } else if (value.hasSs()) {
+                return value.ss().stream().mapToLong(String::length).sum();
+            } else if (value.hasNs()) {
+                return value.ns().stream().mapToLong(String::length).sum();
+            } else if (value.hasBs()) {
+                return value.bs().stream().mapToLong(bytes -> bytes.asByteBuffer().remaining()).sum();
+            } else if (value.hasM()) {
+                return estimateSizeInBytes(value.m());
+            } else if (value.hasL()) {
+                return value.l().stream().mapToLong(DynamoPluginExecutor::estimateSizeInBytes).sum();
+            }
+
+            // Booleans and nulls
+            return 1;
+        }
+
+        private static DynamoDbResponse mergeScanPages(List<ScanResponse> pages) {
+            final ScanResponse lastPage = pages.get(pages.size() - 1);
+            if (pages.size() == 1) {
+                return lastPage;
+            }
+
+            final List<Map<String, AttributeValue>> items = new ArrayList<>();
+            int scannedCount = 0;
+            for (ScanResponse page : pages) {
+                items.addAll(page.items());
+                scannedCount += page.scannedCount() == null ? 0 : page.scannedCount();
+            }
+
+            return lastPage.toBuilder()
+                    .items(items)
+                    .count(items.size())
+                    .scannedCount(scannedCount)
+                    .build();
+        }
+
+        private static DynamoDbResponse mergeQueryPages(List<QueryResponse> pages) {
+            final QueryResponse lastPage = pages.get(pages.size() - 1);
+            if (pages.size() == 1) {
+                return lastPage;
+            }
+
+            final List<Map<String, AttributeValue>> items = new ArrayList<>();
+            int scannedCount = 0;
+            for (QueryResponse page : pages) {
+                items.addAll(page.items());
+                scannedCount += page.scannedCount() == null ? 0 : page.scannedCount();
+            }
+
+            return lastPage.toBuilder()
+                    .items(items)
+                    .count(items.size())
+                    .scannedCount(scannedCount)
+                    .build();
         }
 
         @Override
-        public Mono<DynamoDbClient> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DynamoDbAsyncClient> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
 
             return Mono.fromCallable(() -> {
-                        final DynamoDbClientBuilder builder = DynamoDbClient.builder();
+                        final DynamoDbAsyncClientBuilder builder = DynamoDbAsyncClient.builder();
 
                         if (!CollectionUtils.isEmpty(datasourceConfiguration.getEndpoints())) {
                             final Endpoint endpoint =
@@ -309,7 +519,7 @@ public class DynamoPlugin extends BasePlugin {
         }
 
         @Override
-        public void datasourceDestroy(DynamoDbClient client) {
+        public void datasourceDestroy(DynamoDbAsyncClient client) {
             if (client != null) {
                 client.close();
             }
@@ -340,40 +550,60 @@ public class DynamoPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(DynamoDbClient connection) {
-            return Mono.fromCallable(() -> {
-                /*
-                 * - Creating a connection with false credentials does not throw an error. Hence,
-                 *   calling listTables() method to check validity.
-                 */
-                connection.listTables();
-                return new DatasourceTestResult();
-            });
+        public Mono<DatasourceTestResult> testDatasource(DynamoDbAsyncClient connection) {
+            /*
+             * - Creating a connection with false credentials does not throw an error. Hence,
+             *   calling listTables() method to check validity.
+             */
+            return Mono.fromFuture(connection::listTables).thenReturn(new DatasourceTestResult());
         }
 
         @Override
         public Mono<DatasourceStructure> getStructure(
-                DynamoDbClient ddb, DatasourceConfiguration datasourceConfiguration) {
-            return Mono.fromCallable(() -> {
-                        final ListTablesResponse listTablesResponse = ddb.listTables();
-
-                        List<DatasourceStructure.Table> tables = new ArrayList<>();
-                        for (final String tableName : listTablesResponse.tableNames()) {
-                            tables.add(new DatasourceStructure.Table(
-                                    DatasourceStructure.TableType.TABLE,
-                                    null,
-                                    tableName,
-                                    Collections.emptyList(),
-                                    Collections.emptyList(),
-                                    Collections.emptyList()));
-                        }
+                DynamoDbAsyncClient ddb, DatasourceConfiguration datasourceConfiguration) {
+            return Mono.fromFuture(ddb::listTables).map(listTablesResponse -> {
+                List<DatasourceStructure.Table> tables = new ArrayList<>();
+                for (final String tableName : listTablesResponse.tableNames()) {
+                    tables.add(new DatasourceStructure.Table(
+                            DatasourceStructure.TableType.TABLE,
+                            null,
+                            tableName,
+                            Collections.emptyList(),
+                            Collections.emptyList(),
+                            Collections.emptyList()));
+                }
 
-                        return new DatasourceStructure(tables);
-                    })
-                    .subscribeOn(scheduler);
+                return new DatasourceStructure(tables);
+            });
         }
     }
 
+    /**
+     * Gets the method of the client that executes the action, looking it up the first time the action is executed.
+     */
+    private static ActionMethod getActionMethod(String action) throws NoSuchMethodException, IllegalAccessException {
+        ActionMethod actionMethod = ACTION_METHODS.get(action);
+        if (actionMethod == null) {
+            final Class<?> requestClass;
+            try {
+                requestClass = Class.forName("software.amazon.awssdk.services.dynamodb.model." + action + "Request");
+            } catch (ClassNotFoundException e) {
+                throw new AppsmithPluginException(
+                        DynamoPluginError.UNKNOWN_ACTION_NAME,
+                        String.format(DynamoErrorMessages.UNKNOWN_ACTION_NAME_ERROR_MSG, action),
+                        e.getMessage());
+            }
+
+            // Convert `ListTables` to `listTables`, which is the name of the method to execute this action.
+            final Method method = DynamoDbAsyncClient.class.getMethod(toLowerCamelCase(action), requestClass);
+            actionMethod = new ActionMethod(
+                    requestClass, MethodHandles.publicLookup().unreflect(method).asType(ACTION_METHOD_TYPE));
+            ACTION_METHODS.putIfAbsent(action, actionMethod);
+        }
+
+        return actionMethod;
+    }
+
     private static String toLowerCamelCase(String action) {
         return action.substring(0, 1).toLowerCase() + action.substring(1);
     }
@@ -389,15 +619,14 @@ public class DynamoPlugin extends BasePlugin {
      * @throws IllegalAccessException    Thrown if any of the SDK methods' contracts change.
      * @throws InvocationTargetException Thrown if any of the SDK methods' contracts change.
      * @throws NoSuchMethodException     Thrown if any of the SDK methods' contracts change.
-     * @throws ClassNotFoundException    Thrown if any of the builder class could not be found corresponding to the action class.
      */
     public static <T> T plainToSdk(Map<String, Object> mapping, Class<T> type)
-            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, AppsmithPluginException,
-                    ClassNotFoundException {
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, AppsmithPluginException {
 
-        final Class<?> builderType = Class.forName(type.getName() + "$Builder");
+        // The builder methods of the type are looked up once, and then kept for the following requests
+        final SdkBuilderMethods builderMethods = SdkBuilderMethods.of(type);
 
-        final Object builder = type.getMethod("builder").invoke(null);
+        final Object builder = builderMethods.newBuilder();
 
         if (mapping != null) {
             for (final Map.Entry<String, Object> entry : mapping.entrySet()) {
@@ -408,21 +637,22 @@ public class DynamoPlugin extends BasePlugin {
                     // AWS SDK has two data types that are represented as Strings in JSON, namely strings and binary.
                     // We look at the parameter types for the setter method to decide which it should be, and then set
                     // convert the value if needed before calling the setter.
-                    final Method setterMethod = findMethod(builderType, method -> {
-                        final Class<?>[] parameterTypes = method.getParameterTypes();
-                        return method.getName().equals(setterName)
-                                && (SdkBytes.class.isAssignableFrom(parameterTypes[0])
-                                        || String.class.isAssignableFrom(parameterTypes[0]));
-                    });
-                    if (setterMethod == null) {
+                    final SdkBuilderMethods.Setter setter =
+                            builderMethods.findSetter(setterName, String.class, method -> {
+                                final Class<?>[] parameterTypes = method.getParameterTypes();
+                                return method.getName().equals(setterName)
+                                        && (SdkBytes.class.isAssignableFrom(parameterTypes[0])
+                                                || String.class.isAssignableFrom(parameterTypes[0]));
+                            });
+                    if (setter == null) {
                         throw new AppsmithPluginException(
                                 AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                                 String.format(DynamoErrorMessages.INVALID_ATTRIBUTE_ERROR_MSG, entry.getKey()));
                     }
-                    if (SdkBytes.class.isAssignableFrom(setterMethod.getParameterTypes()[0])) {
+                    if (SdkBytes.class.isAssignableFrom(setter.parameterType())) {
                         value = SdkBytes.fromUtf8String((String) value);
                     }
-                    setterMethod.invoke(builder, value);
+                    builderMethods.set(setter, builder, value);
 
                 } else if (value instanceof Boolean
                         || value instanceof Integer
@@ -430,14 +660,19 @@ public class DynamoPlugin extends BasePlugin {
                         || value instanceof Double) {
                     // This will *never* be successful. DynamoDB takes in numeric values as strings, which means the
                     // control should never flow here for numeric types.
-                    builderType.getMethod(setterName, value.getClass()).invoke(builder, value);
+                    builderMethods.set(builderMethods.getSetter(setterName, value.getClass()), builder, value);
 
                 } else if (value instanceof Map) {
                     // For maps, we go recursive, applying this transformation to each value, and replacing with the
                     // result in the map. Generic types in the setter method's signature are used to convert the values.
-                    final Method setterMethod =
-                            findMethod(builderType, m -> m.getName().equals(setterName));
-                    final Type parameterType = setterMethod.getGenericParameterTypes()[0];
+                    final SdkBuilderMethods.Setter setter = builderMethods.findSetter(
+                            setterName, Map.class, m -> m.getName().equals(setterName));
+                    if (setter == null) {
+                        throw new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                String.format(DynamoErrorMessages.INVALID_ATTRIBUTE_ERROR_MSG, entry.getKey()));
+                    }
+                    final Type parameterType = setter.genericParameterType();
                     if (parameterType instanceof ParameterizedType) {
                         final ParameterizedType valueType = (ParameterizedType) parameterType;
                         final Map<String, Object> transformedMap = new HashMap<>();
@@ -456,21 +691,26 @@ public class DynamoPlugin extends BasePlugin {
                             // for objects that are just maps in JSON. So, we make that conversion here.
                             value = plainToSdk((Map) value, (Class<T>) valueType.getRawType());
                         }
-                        setterMethod.invoke(builder, value);
+                        builderMethods.set(setter, builder, value);
                     } else if (parameterType instanceof Class) {
-                        setterMethod.invoke(builder, plainToSdk((Map) value, (Class) parameterType));
+                        builderMethods.set(setter, builder, plainToSdk((Map) value, (Class) parameterType));
                     }
 
                 } else if (value instanceof Collection) {
                     // For linear collections, the process is similar to that of maps.
                     final Collection<Object> valueAsCollection = (Collection) value;
                     // Find method by name and exclude the varargs version of the method.
-                    final Method setterMethod = findMethod(
-                            builderType,
+                    final SdkBuilderMethods.Setter setter = builderMethods.findSetter(
+                            setterName,
+                            Collection.class,
                             m -> m.getName().equals(setterName)
                                     && !m.getParameterTypes()[0].getName().startsWith("[L"));
-                    Type valueType = ((ParameterizedType) setterMethod.getGenericParameterTypes()[0])
-                            .getActualTypeArguments()[0];
+                    if (setter == null) {
+                        throw new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                String.format(DynamoErrorMessages.INVALID_ATTRIBUTE_ERROR_MSG, entry.getKey()));
+                    }
+                    Type valueType = ((ParameterizedType) setter.genericParameterType()).getActualTypeArguments()[0];
                     if (valueType instanceof WildcardType) {
                         // This occurs when the method's parameter is typed as `Collection<? extends Map<...>>`. Example
                         // op: `BatchGetItem`.
@@ -487,7 +727,7 @@ public class DynamoPlugin extends BasePlugin {
                             reTypedList.add(innerValue);
                         }
                     }
-                    setterMethod.invoke(builder, reTypedList);
+                    builderMethods.set(setter, builder, reTypedList);
 
                 } else {
                     throw new AppsmithPluginException(
@@ -499,12 +739,11 @@ public class DynamoPlugin extends BasePlugin {
             }
         }
 
-        return (T) builderType.getMethod("build").invoke(builder);
+        return (T) builderMethods.build(builder);
     }
 
     public static Object plainToSdk(Map<String, Object> mapping, Type type)
-            throws InvocationTargetException, NoSuchMethodException, ClassNotFoundException, AppsmithPluginException,
-                    IllegalAccessException {
+            throws InvocationTargetException, NoSuchMethodException, AppsmithPluginException, IllegalAccessException {
 
         if (mapping == null) {
             return null;
@@ -531,13 +770,6 @@ public class DynamoPlugin extends BasePlugin {
                         DynamoErrorMessages.UNKNOWN_TYPE_FOUND_TO_CONVERT_TO_SDK_STYLE_ERROR_MSG, type.getTypeName()));
     }
 
-    private static Method findMethod(Class<?> builderType, Predicate<Method> predicate) {
-        return Arrays.stream(builderType.getMethods())
-                .filter(predicate)
-                .findFirst()
-                .orElse(null);
-    }
-
     /**
      * Computes the name of the setter method in AWS SDK that will set the value of the field given by the argument.
      *
@@ -14,6 +14,10 @@ public class DynamoErrorMessages extends BasePluginErrorMessages {
 
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG = "Error occurred while executing DynamoDB query.";
 
+    public static final String PAGINATION_STOPPED_HINT_MSG = "Only the first pages of your DynamoDB query result, with "
+            + "at least %d items, have been fetched. You may set `ExclusiveStartKey` to the `LastEvaluatedKey` of the "
+            + "result to fetch the following pages, or set `Limit` to fetch a single page.";
+
     public static final String MISSING_REGION_ERROR_MSG = "Missing region in datasource.";
 
     public static final String INVALID_ATTRIBUTE_ERROR_MSG = "Invalid attribute/value by name %s";
@@ -25,6 +25,15 @@ public enum DynamoPluginError implements BasePluginError {
             ErrorType.INTERNAL_ERROR,
             "{1}",
             "{2}"),
+    RESPONSE_SIZE_TOO_LARGE(
+            504,
+            "PE-DYN-5002",
+            "Response size exceeded the maximum supported size of {0} MB. Please set `Limit` to reduce the amount of data fetched.",
+            AppsmithErrorAction.DEFAULT,
+            "Large Result Set Not Supported",
+            ErrorType.INTERNAL_ERROR,
+            "{1}",
+            "{2}"),
     ;
 
     private final Integer httpErrorCode;
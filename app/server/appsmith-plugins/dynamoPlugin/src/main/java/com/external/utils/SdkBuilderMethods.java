@@ -0,0 +1,151 @@
+package com.external.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * The methods of the builder of an AWS SDK class, i.e. of a request class like `PutItemRequest` or of a model class
+ * like `AttributeValue`. The methods are looked up through reflection the first time they are needed, and kept as
+ * method handles, once per class and per field, so that converting a request doesn't go through reflection again.
+ */
+public class SdkBuilderMethods {
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType BUILD_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+
+    private static final Map<Class<?>, SdkBuilderMethods> BUILDER_METHODS = new ConcurrentHashMap<>();
+
+    /**
+     * A setter of the builder.
+     *
+     * @param handle               Handle of the setter, taking the builder and the value as objects
+     * @param parameterType        Type of the value the setter takes
+     * @param genericParameterType Generic type of the value the setter takes, to convert the elements of collections
+     */
+    public record Setter(MethodHandle handle, Class<?> parameterType, Type genericParameterType) {}
+
+    /**
+     * @param name     Name of the setter
+     * @param category Category of the values the setter is looked up for, like String, Map or Collection
+     */
+    private record SetterKey(String name, Class<?> category) {}
+
+    private final Class<?> builderType;
+    private final MethodHandle factory;
+    private final MethodHandle build;
+    private final Map<SetterKey, Optional<Setter>> setters = new ConcurrentHashMap<>();
+
+    private SdkBuilderMethods(Class<?> type) throws NoSuchMethodException, IllegalAccessException {
+        final Method builderMethod = type.getMethod("builder");
+        this.builderType = builderMethod.getReturnType();
+        this.factory = MethodHandles.publicLookup().unreflect(builderMethod).asType(FACTORY_TYPE);
+        this.build = MethodHandles.publicLookup()
+                .unreflect(builderType.getMethod("build"))
+                .asType(BUILD_TYPE);
+    }
+
+    /**
+     * @param type An AWS SDK class, with a static `builder()` method
+     */
+    public static SdkBuilderMethods of(Class<?> type) throws NoSuchMethodException, IllegalAccessException {
+        SdkBuilderMethods builderMethods = BUILDER_METHODS.get(type);
+        if (builderMethods == null) {
+            builderMethods = new SdkBuilderMethods(type);
+            final SdkBuilderMethods existing = BUILDER_METHODS.putIfAbsent(type, builderMethods);
+            if (existing != null) {
+                builderMethods = existing;
+            }
+        }
+
+        return builderMethods;
+    }
+
+    public Object newBuilder() throws InvocationTargetException {
+        try {
+            return (Object) factory.invokeExact();
+        } catch (Throwable e) {
+            throw toInvocationTargetException(e);
+        }
+    }
+
+    public Object build(Object builder) throws InvocationTargetException {
+        try {
+            return (Object) build.invokeExact(builder);
+        } catch (Throwable e) {
+            throw toInvocationTargetException(e);
+        }
+    }
+
+    public void set(Setter setter, Object builder, Object value) throws InvocationTargetException {
+        try {
+            final Object ignored = (Object) setter.handle().invokeExact(builder, value);
+        } catch (Throwable e) {
+            throw toInvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Finds the first setter of the builder that matches the predicate. The setter found is kept for the name and the
+     * category, so the predicate is expected to always select the same setter for them.
+     *
+     * @return The setter, or null when the builder has no matching setter
+     */
+    public Setter findSetter(String name, Class<?> category, Predicate<Method> predicate)
+            throws IllegalAccessException {
+        final SetterKey key = new SetterKey(name, category);
+        Optional<Setter> setter = setters.get(key);
+        if (setter == null) {
+            final Method method = Arrays.stream(builderType.getMethods())
+                    .filter(predicate)
+                    .findFirst()
+                    .orElse(null);
+            setter = method == null ? Optional.empty() : Optional.of(toSetter(method));
+            setters.putIfAbsent(key, setter);
+        }
+
+        return setter.orElse(null);
+    }
+
+    /**
+     * Gets the setter of the builder that takes exactly the given type.
+     *
+     * @throws NoSuchMethodException When the builder has no such setter
+     */
+    public Setter getSetter(String name, Class<?> parameterType) throws NoSuchMethodException, IllegalAccessException {
+        final Setter setter =
+                findSetter(name, parameterType, method -> method.getName().equals(name)
+                        && Arrays.equals(method.getParameterTypes(), new Class<?>[] {parameterType}));
+        if (setter == null) {
+            throw new NoSuchMethodException(builderType.getName() + "." + name + "(" + parameterType.getName() + ")");
+        }
+
+        return setter;
+    }
+
+    private static Setter toSetter(Method method) throws IllegalAccessException {
+        return new Setter(
+                MethodHandles.publicLookup().unreflect(method).asType(SETTER_TYPE),
+                method.getParameterTypes()[0],
+                method.getGenericParameterTypes()[0]);
+    }
+
+    /**
+     * Reports the errors thrown by the SDK methods the same way as when they were invoked through reflection.
+     */
+    private static InvocationTargetException toInvocationTargetException(Throwable e) {
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new InvocationTargetException(e);
+    }
+}
@@ -8,23 +8,31 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
+import com.appsmith.external.services.SharedConfig;
+import com.external.plugins.exceptions.DynamoErrorMessages;
 import com.external.plugins.exceptions.DynamoPluginError;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.CollectionUtils;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
@@ -38,13 +46,16 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -54,6 +65,34 @@ public class DynamoPluginTest {
 
     private static final DynamoPlugin.DynamoPluginExecutor pluginExecutor = new DynamoPlugin.DynamoPluginExecutor();
 
+    // Number of items in the `largeItems` table, which are read by a scan in several pages
+    private static final int LARGE_ITEM_COUNT = 30;
+
+    private static final int LARGE_ITEM_SIZE = 100 * 1024;
+
+    public static class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseRows() {
+            return 5;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     @Container
     public static GenericContainer container =
@@ -153,6 +192,33 @@ public class DynamoPluginTest {
                                         .build()))
                 .build());
 
+        // The items add up to more than the 1 MB that a single scan reads
+        ddb.createTable(CreateTableRequest.builder()
+                .tableName("largeItems")
+                .attributeDefinitions(AttributeDefinition.builder()
+                        .attributeName("Id")
+                        .attributeType(ScalarAttributeType.S)
+                        .build())
+                .keySchema(KeySchemaElement.builder()
+                        .attributeName("Id")
+                        .keyType(KeyType.HASH)
+                        .build())
+                .provisionedThroughput(ProvisionedThroughput.builder()
+                        .readCapacityUnits(5L)
+                        .writeCapacityUnits(5L)
+                        .build())
+                .build());
+
+        final String payload = "x".repeat(LARGE_ITEM_SIZE);
+        for (int i = 0; i < LARGE_ITEM_COUNT; i++) {
+            ddb.putItem(PutItemRequest.builder()
+                    .tableName("largeItems")
+                    .item(Map.of(
+                            "Id", AttributeValue.builder().s(String.valueOf(i)).build(),
+                            "Payload", AttributeValue.builder().s(payload).build()))
+                    .build());
+        }
+
         Endpoint endpoint = new Endpoint();
         endpoint.setHost(host);
         endpoint.setPort(port.longValue());
@@ -516,6 +582,168 @@ public class DynamoPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testScan_withItemsOverOnePage_returnsItemsOfAllPages() {
+        StepVerifier.create(execute("Scan", "{\n  \"TableName\": \"largeItems\"\n}\n"))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    final Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    final List<Map<String, Object>> items = (List<Map<String, Object>>) body.get("Items");
+                    assertEquals(LARGE_ITEM_COUNT, items.size());
+                    assertEquals(LARGE_ITEM_COUNT, body.get("Count"));
+                    assertEquals(
+                            LARGE_ITEM_COUNT,
+                            items.stream().map(item -> item.get("Id")).distinct().count());
+                    assertTrue(CollectionUtils.isEmpty((Map<?, ?>) body.get("LastEvaluatedKey")));
+                    assertTrue(CollectionUtils.isEmpty(result.getMessages()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testScan_withLimit_returnsSinglePage() {
+        StepVerifier.create(execute("Scan", "{\n  \"TableName\": \"largeItems\",\n  \"Limit\": 3\n}\n"))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    final Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    assertEquals(3, ((List<?>) body.get("Items")).size());
+                    assertFalse(CollectionUtils.isEmpty((Map<?, ?>) body.get("LastEvaluatedKey")));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testScan_withItemsOverMaxPaginatedItems_stopsWithLastEvaluatedKey() {
+        final DynamoPlugin.DynamoPluginExecutor limitedPluginExecutor =
+                new DynamoPlugin.DynamoPluginExecutor(new MockSharedConfig());
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("Scan");
+        actionConfiguration.setBody("{\n  \"TableName\": \"largeItems\"\n}\n");
+
+        final Mono<ActionExecutionResult> resultMono = limitedPluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> limitedPluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    final Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    // A single page of about 1 MB already holds more than 5 items
+                    final int itemCount = ((List<?>) body.get("Items")).size();
+                    assertTrue(itemCount >= 5 && itemCount < LARGE_ITEM_COUNT);
+                    assertFalse(CollectionUtils.isEmpty((Map<?, ?>) body.get("LastEvaluatedKey")));
+                    assertEquals(
+                            Set.of(String.format(DynamoErrorMessages.PAGINATION_STOPPED_HINT_MSG, 5)),
+                            result.getMessages());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testScan_withItemsOverMaxResponseSize_returnsError() {
+        final DynamoPlugin.DynamoPluginExecutor limitedPluginExecutor =
+                new DynamoPlugin.DynamoPluginExecutor(new MockSharedConfig() {
+                    @Override
+                    public int getMaxResponseSize() {
+                        // Crossed on the second page of about 1 MB
+                        return 3 * 512 * 1024;
+                    }
+
+                    @Override
+                    public int getMaxResponseRows() {
+                        return 0;
+                    }
+                });
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("Scan");
+        actionConfiguration.setBody("{\n  \"TableName\": \"largeItems\"\n}\n");
+
+        final Mono<ActionExecutionResult> resultMono = limitedPluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> limitedPluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            DynamoPluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(),
+                            result.getPluginErrorDetails().getAppsmithErrorCode());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecute_withUnknownAttribute_returnsInvalidAttributeError() {
+        StepVerifier.create(execute("Scan", "{\n  \"TableName\": \"cities\",\n  \"Unknown\": [\"a\"]\n}\n"))
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertTrue(((String) result.getBody())
+                            .contains(String.format(DynamoErrorMessages.INVALID_ATTRIBUTE_ERROR_MSG, "Unknown")));
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * Measures the throughput of concurrent GetItem executions on the async client, against that of the same
+     * executions on the blocking client run on the bounded elastic scheduler, as they were run before. The numbers are
+     * logged rather than asserted, to compare across runs on the same machine.
+     */
+    @Test
+    @Tag("benchmark")
+    public void testGetItem_withConcurrentExecutions_logsThroughput() {
+        final int executionCount = 2000;
+        final int concurrency = 64;
+        final String body = "{\n  \"TableName\": \"cities\",\n  \"Key\": {\n    \"Id\": {\n      \"S\": \"1\"\n"
+                + "    }\n  }\n}\n";
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("GetItem");
+        actionConfiguration.setBody(body);
+
+        final DynamoDbAsyncClient asyncClient = pluginExecutor.datasourceCreate(dsConfig).block();
+        // Warms up the client and the cached methods
+        pluginExecutor.execute(asyncClient, dsConfig, actionConfiguration).block();
+
+        long start = System.nanoTime();
+        final Long successCount = Flux.range(0, executionCount)
+                .flatMap(i -> pluginExecutor.execute(asyncClient, dsConfig, actionConfiguration), concurrency)
+                .filter(ActionExecutionResult::getIsExecutionSuccess)
+                .count()
+                .block();
+        final long asyncNanos = System.nanoTime() - start;
+        pluginExecutor.datasourceDestroy(asyncClient);
+
+        final DynamoDbClient blockingClient = DynamoDbClient.builder()
+                .region(Region.AP_SOUTH_1)
+                .endpointOverride(URI.create("http://localhost:" + container.getMappedPort(8000)))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("dummy", "dummy")))
+                .build();
+        final GetItemRequest request = GetItemRequest.builder()
+                .tableName("cities")
+                .key(Map.of("Id", AttributeValue.builder().s("1").build()))
+                .build();
+        blockingClient.getItem(request);
+
+        start = System.nanoTime();
+        Flux.range(0, executionCount)
+                .flatMap(
+                        i -> Mono.fromCallable(() -> blockingClient.getItem(request))
+                                .subscribeOn(Schedulers.boundedElastic()),
+                        concurrency)
+                .blockLast();
+        final long blockingNanos = System.nanoTime() - start;
+        blockingClient.close();
+
+        log.info(
+                "{} concurrent GetItem executions: {} ops/sec with the async client, {} ops/sec with a blocking client",
+                executionCount,
+                executionCount * TimeUnit.SECONDS.toNanos(1) / asyncNanos,
+                executionCount * TimeUnit.SECONDS.toNanos(1) / blockingNanos);
+        assertEquals(executionCount, successCount.intValue());
+    }
+
     @Test
     public void verifyUniquenessOfDynamoDBPluginErrorCode() {
         assert (Arrays.stream(DynamoPluginError.values())
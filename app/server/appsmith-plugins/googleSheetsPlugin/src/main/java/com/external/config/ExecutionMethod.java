@@ -89,6 +89,15 @@ public interface ExecutionMethod {
         return response;
     }
 
+    /**
+     * Transforms the response the same way as {@link #transformExecutionResponse}. Methods that have to do blocking
+     * work in the transformation override this to keep that work off the thread the response was received on.
+     */
+    default Mono<JsonNode> transformExecutionResponseMono(
+            JsonNode response, MethodConfig methodConfig, Set<String> userAuthorizedSheetIds) {
+        return Mono.fromCallable(() -> transformExecutionResponse(response, methodConfig, userAuthorizedSheetIds));
+    }
+
     /**
      * Method for custom DataType Mapping based on plugin,
      * so here in GoogleSheet, DataTypes like Integer, Long, Float will be processed as Double as required.
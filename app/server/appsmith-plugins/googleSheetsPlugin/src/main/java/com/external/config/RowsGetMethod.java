@@ -16,6 +16,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -140,6 +141,34 @@ public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMe
     @Override
     public JsonNode transformExecutionResponse(
             JsonNode response, MethodConfig methodConfig, Set<String> userAuthorizedSheetIds) {
+        ArrayNode rows = getRows(response, methodConfig);
+
+        if (!rows.isEmpty() && isFilterConfigured(methodConfig)) {
+            return filterDataService.filterDataNew(rows, getFilterParams(methodConfig), getDataTypeConversionMap());
+        }
+
+        return rows;
+    }
+
+    /**
+     * Filters the rows without blocking the thread the response was received on, as the filtering may have to wait
+     * for its turn.
+     */
+    @Override
+    public Mono<JsonNode> transformExecutionResponseMono(
+            JsonNode response, MethodConfig methodConfig, Set<String> userAuthorizedSheetIds) {
+        return Mono.fromCallable(() -> getRows(response, methodConfig)).flatMap(rows -> {
+            if (!rows.isEmpty() && isFilterConfigured(methodConfig)) {
+                return filterDataService
+                        .filterDataNewMono(rows, getFilterParams(methodConfig), getDataTypeConversionMap())
+                        .cast(JsonNode.class);
+            }
+
+            return Mono.just(rows);
+        });
+    }
+
+    private ArrayNode getRows(JsonNode response, MethodConfig methodConfig) {
         if (response == null) {
             throw new AppsmithPluginException(
                     GSheetsPluginError.QUERY_EXECUTION_FAILED, ErrorMessages.MISSING_VALID_RESPONSE_ERROR_MSG);
@@ -177,22 +206,21 @@ public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMe
             collectedCells.add(rowObject.getValueMap());
         }
 
-        ArrayNode preFilteringResponse = this.objectMapper.valueToTree(collectedCells);
-
-        // where condition needs to applied only when the filter format is where clause
-        // For filter format of cell range, we do not need to apply where clause
-        if (isWhereConditionConfigured(methodConfig) && "ROWS".equalsIgnoreCase(methodConfig.getQueryFormat())) {
-            return filterDataService.filterDataNew(
-                    preFilteringResponse,
-                    new UQIDataFilterParams(
-                            methodConfig.getWhereConditions(),
-                            methodConfig.getProjection(),
-                            methodConfig.getSortBy(),
-                            methodConfig.getPaginateBy()),
-                    getDataTypeConversionMap());
-        }
+        return this.objectMapper.valueToTree(collectedCells);
+    }
+
+    // where condition needs to applied only when the filter format is where clause
+    // For filter format of cell range, we do not need to apply where clause
+    private boolean isFilterConfigured(MethodConfig methodConfig) {
+        return isWhereConditionConfigured(methodConfig) && "ROWS".equalsIgnoreCase(methodConfig.getQueryFormat());
+    }
 
-        return preFilteringResponse;
+    private UQIDataFilterParams getFilterParams(MethodConfig methodConfig) {
+        return new UQIDataFilterParams(
+                methodConfig.getWhereConditions(),
+                methodConfig.getProjection(),
+                methodConfig.getSortBy(),
+                methodConfig.getPaginateBy());
     }
 
     @Override
@@ -211,6 +239,12 @@ public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMe
         return this.transformExecutionResponse(response, methodConfig, userAuthorizedSheetIds);
     }
 
+    @Override
+    public Mono<JsonNode> transformTriggerResponseMono(
+            JsonNode response, MethodConfig methodConfig, Set<String> userAuthorizedSheetIds) {
+        return this.transformExecutionResponseMono(response, methodConfig, userAuthorizedSheetIds);
+    }
+
     private Set<String> sanitizeHeaders(ArrayNode headers, int valueSize) {
         final Set<String> headerSet = new LinkedHashSet<>();
         int headerSize = headers.size();
@@ -2,6 +2,7 @@ package com.external.config;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.Set;
 
@@ -27,4 +28,13 @@ public interface TriggerMethod {
      * Transforms the response from the end point into an Appsmith friendly structure
      */
     JsonNode transformTriggerResponse(JsonNode response, MethodConfig methodConfig, Set<String> userAuthorizedSheetIds);
+
+    /**
+     * Transforms the response the same way as {@link #transformTriggerResponse}. Methods that have to do blocking work
+     * in the transformation override this to keep that work off the thread the response was received on.
+     */
+    default Mono<JsonNode> transformTriggerResponseMono(
+            JsonNode response, MethodConfig methodConfig, Set<String> userAuthorizedSheetIds) {
+        return Mono.fromCallable(() -> transformTriggerResponse(response, methodConfig, userAuthorizedSheetIds));
+    }
 }
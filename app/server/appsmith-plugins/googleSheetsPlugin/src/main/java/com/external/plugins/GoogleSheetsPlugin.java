@@ -190,7 +190,7 @@ public class GoogleSheetsPlugin extends BasePlugin {
                                                         .getToken()))
                                 .exchange()
                                 .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                                .map(response -> {
+                                .flatMap(response -> {
                                     // Populate result object
                                     ActionExecutionResult result = new ActionExecutionResult();
 
@@ -222,22 +222,13 @@ public class GoogleSheetsPlugin extends BasePlugin {
 
                                     // Choose body depending on response status
                                     byte[] body = response.getBody();
+                                    JsonNode jsonNodeBody;
                                     try {
                                         if (body == null) {
                                             body = new byte[0];
                                         }
                                         String jsonBody = new String(body);
-                                        JsonNode jsonNodeBody = objectMapper.readTree(jsonBody);
-
-                                        if (response.getStatusCode().is2xxSuccessful()) {
-                                            result.setBody(executionMethod.transformExecutionResponse(
-                                                    jsonNodeBody, methodConfig, userAuthorizedSheetIds));
-                                        } else {
-                                            result.setBody(jsonNodeBody
-                                                    .get("error")
-                                                    .get("message")
-                                                    .asText());
-                                        }
+                                        jsonNodeBody = objectMapper.readTree(jsonBody);
                                     } catch (IOException e) {
                                         throw Exceptions.propagate(new AppsmithPluginException(
                                                 AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
@@ -245,7 +236,19 @@ public class GoogleSheetsPlugin extends BasePlugin {
                                                 e.getMessage()));
                                     }
 
-                                    return result;
+                                    if (response.getStatusCode().is2xxSuccessful()) {
+                                        return executionMethod
+                                                .transformExecutionResponseMono(
+                                                        jsonNodeBody, methodConfig, userAuthorizedSheetIds)
+                                                .map(transformedBody -> {
+                                                    result.setBody(transformedBody);
+                                                    return result;
+                                                });
+                                    }
+
+                                    result.setBody(
+                                            jsonNodeBody.get("error").get("message").asText());
+                                    return Mono.just(result);
                                 })
                                 .onErrorResume(e -> {
                                     errorResult.setBody(Exceptions.unwrap(e).getMessage());
@@ -343,7 +346,7 @@ public class GoogleSheetsPlugin extends BasePlugin {
                             "Bearer " + oauth2.getAuthenticationResponse().getToken()))
                     .exchange()
                     .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                    .map(response -> {
+                    .flatMap(response -> {
                         // Choose body depending on response status
                         byte[] body = response.getBody();
 
@@ -360,11 +363,13 @@ public class GoogleSheetsPlugin extends BasePlugin {
                         }
 
                         if (response.getStatusCode().is2xxSuccessful()) {
-                            final JsonNode triggerResponse = triggerMethod.transformTriggerResponse(
-                                    jsonNodeBody, methodConfig, userAuthorizedSheetIds);
-                            final TriggerResultDTO triggerResultDTO = new TriggerResultDTO();
-                            triggerResultDTO.setTrigger(triggerResponse);
-                            return triggerResultDTO;
+                            return triggerMethod
+                                    .transformTriggerResponseMono(jsonNodeBody, methodConfig, userAuthorizedSheetIds)
+                                    .map(triggerResponse -> {
+                                        final TriggerResultDTO triggerResultDTO = new TriggerResultDTO();
+                                        triggerResultDTO.setTrigger(triggerResponse);
+                                        return triggerResultDTO;
+                                    });
                         } else {
                             throw Exceptions.propagate(new AppsmithPluginException(
                                     GSheetsPluginError.QUERY_EXECUTION_FAILED,
@@ -7,6 +7,7 @@ public class FieldName {
     public static final String SMART_SUBSTITUTION = "smartSubstitution";
     public static final String COMMAND = "command";
     public static final String COLLECTION = "collection";
+    public static final String MAX_DOCUMENTS = "maxDocuments";
 
     // Command paths
     public static final String FIND = "find";
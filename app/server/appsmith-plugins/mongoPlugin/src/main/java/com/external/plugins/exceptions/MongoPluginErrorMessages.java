@@ -43,6 +43,13 @@ public class MongoPluginErrorMessages {
 
     public static final String MONGO_CLIENT_NULL_ERROR_MSG = "Mongo client object is null.";
 
+    public static final String MAX_DOCUMENTS_INVALID_ERROR_MSG =
+            "Maximum documents to fetch must be a positive number, but was : %s";
+
+    public static final String RESULT_TRUNCATED_MSG = "Only the first %d documents of the result were fetched. Add a"
+            + " filter or a limit to the query, or raise the maximum documents to fetch in the query settings, to get"
+            + " the rest of them.";
+
     /*
     ************************************************************************************************************************************************
                                        Error messages related to validation of datasource.
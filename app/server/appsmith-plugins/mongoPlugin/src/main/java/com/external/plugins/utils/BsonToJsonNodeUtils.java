@@ -0,0 +1,172 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDbPointer;
+import org.bson.BsonReader;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Reads BSON straight into a Jackson tree, without decoding it into a {@link org.bson.Document} and without going
+ * through a JSON string first.
+ * <p>
+ * Object ids, dates and decimals are converted the same way as the extended JSON output of the driver was cleaned up
+ * before: object ids become their hex string, dates become ISO-8601 instants and decimals become numbers. The types
+ * that have no JSON equivalent are kept in their relaxed extended JSON form, e.g. `{"$timestamp": {"t": 1, "i": 2}}`.
+ */
+public class BsonToJsonNodeUtils {
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    private BsonToJsonNodeUtils() {
+        // Prevents instantiation
+    }
+
+    public static ObjectNode toJsonNode(RawBsonDocument document) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+            return readDocument(reader);
+        }
+    }
+
+    /**
+     * Reads the value that the reader is positioned at, i.e. after its type and name have been read.
+     */
+    public static JsonNode readValue(BsonReader reader) {
+        final BsonType bsonType = reader.getCurrentBsonType();
+        switch (bsonType) {
+            case DOCUMENT:
+                return readDocument(reader);
+            case ARRAY:
+                return readArray(reader);
+            case DOUBLE:
+                return readDouble(reader.readDouble());
+            case STRING:
+                return nodeFactory.textNode(reader.readString());
+            case BINARY:
+                BsonBinary binary = reader.readBinaryData();
+                ObjectNode binaryNode = nodeFactory.objectNode();
+                binaryNode
+                        .putObject("$binary")
+                        .put("base64", Base64.getEncoder().encodeToString(binary.getData()))
+                        .put("subType", String.format("%02X", binary.getType()));
+                return binaryNode;
+            case UNDEFINED:
+                reader.readUndefined();
+                return nodeFactory.objectNode().put("$undefined", true);
+            case OBJECT_ID:
+                return nodeFactory.textNode(reader.readObjectId().toHexString());
+            case BOOLEAN:
+                return nodeFactory.booleanNode(reader.readBoolean());
+            case DATE_TIME:
+                return nodeFactory.textNode(
+                        DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(reader.readDateTime())));
+            case NULL:
+                reader.readNull();
+                return nodeFactory.nullNode();
+            case REGULAR_EXPRESSION:
+                BsonRegularExpression regularExpression = reader.readRegularExpression();
+                ObjectNode regularExpressionNode = nodeFactory.objectNode();
+                regularExpressionNode
+                        .putObject("$regularExpression")
+                        .put("pattern", regularExpression.getPattern())
+                        .put("options", regularExpression.getOptions());
+                return regularExpressionNode;
+            case DB_POINTER:
+                BsonDbPointer dbPointer = reader.readDBPointer();
+                ObjectNode dbPointerNode = nodeFactory.objectNode();
+                dbPointerNode
+                        .putObject("$dbPointer")
+                        .put("$ref", dbPointer.getNamespace())
+                        .put("$id", dbPointer.getId().toHexString());
+                return dbPointerNode;
+            case JAVASCRIPT:
+                return nodeFactory.objectNode().put("$code", reader.readJavaScript());
+            case SYMBOL:
+                return nodeFactory.objectNode().put("$symbol", reader.readSymbol());
+            case JAVASCRIPT_WITH_SCOPE:
+                ObjectNode codeWithScopeNode = nodeFactory.objectNode().put("$code", reader.readJavaScriptWithScope());
+                codeWithScopeNode.set("$scope", readDocument(reader));
+                return codeWithScopeNode;
+            case INT32:
+                return nodeFactory.numberNode(reader.readInt32());
+            case TIMESTAMP:
+                BsonTimestamp timestamp = reader.readTimestamp();
+                ObjectNode timestampNode = nodeFactory.objectNode();
+                ObjectNode timestampFields = timestampNode.putObject("$timestamp");
+                timestampFields.set("t", readInt64(Integer.toUnsignedLong(timestamp.getTime())));
+                timestampFields.set("i", readInt64(Integer.toUnsignedLong(timestamp.getInc())));
+                return timestampNode;
+            case INT64:
+                return readInt64(reader.readInt64());
+            case DECIMAL128:
+                return readDecimal128(reader.readDecimal128());
+            case MIN_KEY:
+                reader.readMinKey();
+                return nodeFactory.objectNode().put("$minKey", 1);
+            case MAX_KEY:
+                reader.readMaxKey();
+                return nodeFactory.objectNode().put("$maxKey", 1);
+            default:
+                throw new IllegalStateException("Unexpected BSON type " + bsonType);
+        }
+    }
+
+    public static ObjectNode readDocument(BsonReader reader) {
+        final ObjectNode objectNode = nodeFactory.objectNode();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String name = reader.readName();
+            objectNode.set(name, readValue(reader));
+        }
+        reader.readEndDocument();
+        return objectNode;
+    }
+
+    private static ArrayNode readArray(BsonReader reader) {
+        final ArrayNode arrayNode = nodeFactory.arrayNode();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            arrayNode.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return arrayNode;
+    }
+
+    private static JsonNode readDouble(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return nodeFactory.objectNode().put("$numberDouble", Double.toString(value));
+        }
+        return DoubleNode.valueOf(value);
+    }
+
+    private static JsonNode readInt64(long value) {
+        // Small longs are read back as ints from the JSON, keep them that way
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return nodeFactory.numberNode((int) value);
+        }
+        return nodeFactory.numberNode(value);
+    }
+
+    private static JsonNode readDecimal128(Decimal128 value) {
+        if (value.isNaN() || value.isInfinite()) {
+            return nodeFactory.objectNode().put("$numberDecimal", value.toString());
+        }
+        // Not `bigDecimalValue()`, which fails for a negative zero
+        return DecimalNode.valueOf(new BigDecimal(value.toString()));
+    }
+}
@@ -0,0 +1,170 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.io.BsonInput;
+
+import java.util.List;
+
+/**
+ * Reads the output of a command, and of the `getMore` commands that follow it when the command returns a cursor. The
+ * documents of every batch of the cursor are collected in a single array, until the cursor is exhausted or either the
+ * maximum number of documents or the maximum size is reached. The size is the size of the documents in BSON.
+ * <p>
+ * The documents are read from the raw bytes of the output straight into the array, one batch at a time.
+ */
+public class CommandResultReader {
+
+    private static final String CURSOR = "cursor";
+    private static final String CURSOR_ID = "id";
+    private static final String NAMESPACE = "ns";
+    private static final String FIRST_BATCH = "firstBatch";
+    private static final String NEXT_BATCH = "nextBatch";
+
+    private final int maxDocuments;
+    private final long maxSizeInBytes;
+    private final ArrayNode documents = JsonNodeFactory.instance.arrayNode();
+
+    private boolean hasCursor;
+    private long cursorId;
+    private String collectionName;
+    private long sizeInBytes;
+    private boolean truncated;
+
+    public CommandResultReader(int maxDocuments, long maxSizeInBytes) {
+        this.maxDocuments = maxDocuments;
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * Reads the output of a command. The documents of the cursor in the output, if any, are added to
+     * {@link #getDocuments()}.
+     *
+     * @return all the other fields of the output
+     */
+    public ObjectNode read(RawBsonDocument output) {
+        final ObjectNode fields = JsonNodeFactory.instance.objectNode();
+        try (BsonBinaryReader reader = new BsonBinaryReader(output.getByteBuffer().asNIO())) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                final String name = reader.readName();
+                if (CURSOR.equals(name) && reader.getCurrentBsonType() == BsonType.DOCUMENT) {
+                    readCursor(reader);
+                } else {
+                    fields.set(name, BsonToJsonNodeUtils.readValue(reader));
+                }
+            }
+            reader.readEndDocument();
+        }
+        return fields;
+    }
+
+    private void readCursor(BsonBinaryReader reader) {
+        hasCursor = true;
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String name = reader.readName();
+            if (CURSOR_ID.equals(name) && reader.getCurrentBsonType() == BsonType.INT64) {
+                cursorId = reader.readInt64();
+            } else if (NAMESPACE.equals(name) && reader.getCurrentBsonType() == BsonType.STRING) {
+                // The namespace is `<database>.<collection>`, and the collection name may contain dots itself
+                final String namespace = reader.readString();
+                collectionName = namespace.substring(namespace.indexOf('.') + 1);
+            } else if ((FIRST_BATCH.equals(name) || NEXT_BATCH.equals(name))
+                    && reader.getCurrentBsonType() == BsonType.ARRAY) {
+                readBatch(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+    }
+
+    private void readBatch(BsonBinaryReader reader) {
+        final BsonInput input = reader.getBsonInput();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (truncated || documents.size() >= maxDocuments) {
+                truncated = true;
+                reader.skipValue();
+                continue;
+            }
+
+            final int start = input.getPosition();
+            final JsonNode document = BsonToJsonNodeUtils.readValue(reader);
+            final int documentSize = input.getPosition() - start;
+
+            if (sizeInBytes + documentSize > maxSizeInBytes) {
+                truncated = true;
+                continue;
+            }
+            sizeInBytes += documentSize;
+            documents.add(document);
+        }
+        reader.readEndArray();
+    }
+
+    /**
+     * @return whether the output contained a cursor
+     */
+    public boolean hasCursor() {
+        return hasCursor;
+    }
+
+    /**
+     * @return whether the cursor has more documents on the server and neither of the limits has been reached yet
+     */
+    public boolean hasMoreBatches() {
+        return isCursorOpen() && !isTruncated();
+    }
+
+    /**
+     * @return whether the cursor still exists on the server, i.e. it has not been exhausted
+     */
+    public boolean isCursorOpen() {
+        return cursorId != 0 && collectionName != null;
+    }
+
+    /**
+     * @return whether some documents of the result were left out because of the limits
+     */
+    public boolean isTruncated() {
+        return truncated || (isCursorOpen() && documents.size() >= maxDocuments);
+    }
+
+    public ArrayNode getDocuments() {
+        return documents;
+    }
+
+    public int getMaxDocuments() {
+        return maxDocuments;
+    }
+
+    /**
+     * @return the command that fetches the next batch of the cursor, no larger than the number of documents that can
+     * still be added
+     */
+    public BsonDocument getMoreCommand() {
+        return new BsonDocument("getMore", new BsonInt64(cursorId))
+                .append("collection", new BsonString(collectionName))
+                .append("batchSize", new BsonInt32(maxDocuments - documents.size()));
+    }
+
+    /**
+     * @return the command that closes the cursor on the server, when the rest of its documents are not needed
+     */
+    public BsonDocument killCursorsCommand() {
+        return new BsonDocument("killCursors", new BsonString(collectionName))
+                .append("cursors", new BsonArray(List.of(new BsonInt64(cursorId))));
+    }
+}
@@ -0,0 +1,212 @@
+package com.external.plugins;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.SSLDetails;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.external.plugins.constants.FieldName.BODY;
+import static com.external.plugins.constants.FieldName.COMMAND;
+import static com.external.plugins.constants.FieldName.MAX_DOCUMENTS;
+import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for reading results that span more than one batch of a cursor
+ */
+@Slf4j
+@Testcontainers
+public class MongoPluginCursorTest {
+    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor();
+
+    // Enough for the results of the tests to span several batches of a cursor
+    private static final int EVENT_COUNT = 2_000;
+
+    private static final int LARGE_EVENT_COUNT = 50_000;
+
+    private static String address;
+    private static Integer port;
+
+    @SuppressWarnings("rawtypes")
+    @Container
+    public static MongoDBContainer mongoContainer = MongoTestDBContainerManager.getMongoDBForTest();
+
+    @BeforeAll
+    public static void setUp() {
+        address = mongoContainer.getHost();
+        port = mongoContainer.getFirstMappedPort();
+
+        insertEvents("events", EVENT_COUNT);
+    }
+
+    private static void insertEvents(String collectionName, int eventCount) {
+        String uri = "mongodb://" + address + ":" + port;
+        try (MongoClient mongoClient = MongoClients.create(uri)) {
+            List<Document> events = new ArrayList<>(eventCount);
+            for (int i = 0; i < eventCount; i++) {
+                events.add(new Document("seq", i)
+                        .append("type", i % 2 == 0 ? "click" : "view")
+                        .append("user", "user" + (i % 500))
+                        .append("at", new Date(1_600_000_000_000L + i * 1000L)));
+            }
+            Mono.from(mongoClient.getDatabase("test").getCollection(collectionName).insertMany(events))
+                    .block();
+        }
+    }
+
+    private DatasourceConfiguration createDatasourceConfiguration() {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setHost(address);
+        endpoint.setPort(port.longValue());
+
+        Connection connection = new Connection();
+        connection.setMode(Connection.Mode.READ_WRITE);
+        connection.setType(Connection.Type.DIRECT);
+        connection.setDefaultDatabaseName("test");
+        connection.setSsl(new SSLDetails());
+        connection.getSsl().setAuthType(SSLDetails.AuthType.DEFAULT);
+
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setConnection(connection);
+        dsConfig.setEndpoints(List.of(endpoint));
+
+        return dsConfig;
+    }
+
+    private ActionConfiguration createRawActionConfiguration(String body, Object maxDocuments) {
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, BODY, body);
+        if (maxDocuments != null) {
+            setDataValueSafelyInFormData(configMap, MAX_DOCUMENTS, maxDocuments);
+        }
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+        return actionConfiguration;
+    }
+
+    private Mono<ActionExecutionResult> execute(ActionConfiguration actionConfiguration) {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        return pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> pluginExecutor.executeParameterized(
+                        conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+    }
+
+    @Test
+    public void testFindWithoutLimit_ReturnsDocumentsBeyondFirstBatch() {
+        // The first batch of a find has 101 documents
+        ActionConfiguration actionConfiguration = createRawActionConfiguration(
+                "{ find: \"events\", filter: { seq: { $lt: 1200 } }, sort: { seq: 1 } }", null);
+
+        StepVerifier.create(execute(actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode body = (ArrayNode) result.getBody();
+                    assertEquals(1200, body.size());
+                    assertEquals(1199, body.get(1199).get("seq").intValue());
+                    assertEquals("2020-09-13T12:26:40Z", body.get(0).get("at").asText());
+                    assertNull(result.getMessages());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testAggregateWithMaxDocuments_ReturnsFirstDocumentsWithMessage() {
+        ActionConfiguration actionConfiguration = createRawActionConfiguration(
+                "{ aggregate: \"events\", pipeline: [ { $match: { type: \"click\" } }, { $sort: { seq: 1 } } ],"
+                        + " cursor: { batchSize: 100 } }",
+                "250");
+
+        StepVerifier.create(execute(actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode body = (ArrayNode) result.getBody();
+                    assertEquals(250, body.size());
+                    assertEquals(498, body.get(249).get("seq").intValue());
+                    assertEquals(1, result.getMessages().size());
+                    assertTrue(result.getMessages().iterator().next().startsWith("Only the first 250 documents"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindWithInvalidMaxDocuments_ReturnsError() {
+        ActionConfiguration actionConfiguration = createRawActionConfiguration("{ find: \"events\" }", "-1");
+
+        StepVerifier.create(execute(actionConfiguration))
+                .expectErrorMatches(error -> error.getMessage().contains("Maximum documents to fetch"))
+                .verify();
+    }
+
+    @Test
+    public void testFindOfWholeCollection_ReturnsEveryDocument() {
+        ActionConfiguration actionConfiguration =
+                createRawActionConfiguration("{ find: \"events\", sort: { seq: 1 } }", EVENT_COUNT);
+
+        StepVerifier.create(execute(actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode body = (ArrayNode) result.getBody();
+                    assertEquals(EVENT_COUNT, body.size());
+                    assertEquals(EVENT_COUNT - 1, body.get(EVENT_COUNT - 1).get("seq").intValue());
+                    assertNull(result.getMessages());
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * Reads a 50k document collection with a single find. The timings are logged rather than asserted, to compare
+     * against earlier runs on the same machine. It seeds its own collection, so it only runs with the benchmark tests.
+     */
+    @Test
+    @Tag("benchmark")
+    public void testFindOfLargeCollection_ReturnsEveryDocument() {
+        insertEvents("largeEvents", LARGE_EVENT_COUNT);
+        ActionConfiguration actionConfiguration =
+                createRawActionConfiguration("{ find: \"largeEvents\", sort: { seq: 1 } }", LARGE_EVENT_COUNT);
+
+        List<Long> latencies = new ArrayList<>();
+        for (int run = 0; run < 5; run++) {
+            Instant start = Instant.now();
+            ActionExecutionResult result = execute(actionConfiguration).block();
+            latencies.add(Instant.now().toEpochMilli() - start.toEpochMilli());
+
+            assertTrue(result.getIsExecutionSuccess());
+            ArrayNode body = (ArrayNode) result.getBody();
+            assertEquals(LARGE_EVENT_COUNT, body.size());
+            assertEquals(LARGE_EVENT_COUNT - 1, body.get(LARGE_EVENT_COUNT - 1).get("seq").intValue());
+            assertNull(result.getMessages());
+        }
+
+        log.info("Find of {} documents took {} ms on each run", LARGE_EVENT_COUNT, latencies);
+    }
+}
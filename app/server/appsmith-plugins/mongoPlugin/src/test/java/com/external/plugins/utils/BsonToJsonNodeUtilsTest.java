@@ -0,0 +1,94 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinary;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BsonToJsonNodeUtilsTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static RawBsonDocument toRawBson(Document document) {
+        return new RawBsonDocument(document, new DocumentCodec());
+    }
+
+    @Test
+    public void toJsonNode_WithSpecialTypes_ConvertsThemToPlainJsonValues() {
+        ObjectId objectId = new ObjectId("5f1c8e1a9d3b2a4c6e8f0a1b");
+        Document document = new Document("_id", objectId)
+                .append("dob", new Date(1656671557318L))
+                .append("oldDob", new Date(-493033770000L))
+                .append("netWorth", Decimal128.parse("123456.789012"))
+                .append("luckyNumber", 987654321L)
+                .append("aLong", 9_000_000_000_000_000_000L)
+                .append("age", 20)
+                .append("score", 2.5)
+                .append("active", true)
+                .append("nothing", null)
+                .append("tags", List.of("a", new Document("b", 1)));
+
+        ObjectNode node = BsonToJsonNodeUtils.toJsonNode(toRawBson(document));
+
+        assertEquals("5f1c8e1a9d3b2a4c6e8f0a1b", node.get("_id").asText());
+        assertEquals("2022-07-01T10:32:37.318Z", node.get("dob").asText());
+        assertEquals("1954-05-18T14:10:30Z", node.get("oldDob").asText());
+        assertEquals(new BigDecimal("123456.789012"), node.get("netWorth").decimalValue());
+        assertEquals("123456.789012", node.get("netWorth").toString());
+        assertTrue(node.get("luckyNumber").isInt());
+        assertEquals(987654321, node.get("luckyNumber").intValue());
+        assertEquals(9_000_000_000_000_000_000L, node.get("aLong").longValue());
+        assertEquals(20, node.get("age").intValue());
+        assertEquals(2.5, node.get("score").doubleValue());
+        assertTrue(node.get("active").booleanValue());
+        assertTrue(node.get("nothing").isNull());
+        assertEquals("[\"a\",{\"b\":1}]", node.get("tags").toString());
+    }
+
+    @Test
+    public void toJsonNode_WithTypesWithoutJsonEquivalent_KeepsThemInExtendedJson() throws Exception {
+        Document document = new Document("ts", new BsonTimestamp(1421006159, 4))
+                .append("data", new BsonBinary(new byte[] {1, 2, 3}))
+                .append("pattern", new BsonRegularExpression("^a", "i"))
+                .append("ratio", Double.NaN)
+                .append("user", new Document("$ref", "users").append("$id", "1").append("$db", "test"));
+
+        ObjectNode node = BsonToJsonNodeUtils.toJsonNode(toRawBson(document));
+
+        assertEquals(objectMapper.readTree("{\"$timestamp\": {\"t\": 1421006159, \"i\": 4}}"), node.get("ts"));
+        assertEquals(
+                objectMapper.readTree("{\"$binary\": {\"base64\": \"AQID\", \"subType\": \"00\"}}"), node.get("data"));
+        assertEquals(
+                objectMapper.readTree("{\"$regularExpression\": {\"pattern\": \"^a\", \"options\": \"i\"}}"),
+                node.get("pattern"));
+        assertEquals(objectMapper.readTree("{\"$numberDouble\": \"NaN\"}"), node.get("ratio"));
+        assertEquals(
+                objectMapper.readTree("{\"$ref\": \"users\", \"$id\": \"1\", \"$db\": \"test\"}"),
+                node.get("user"));
+    }
+
+    @Test
+    public void toJsonNode_WithNestedDocuments_KeepsFieldOrder() {
+        Document document =
+                new Document("b", 1).append("a", new Document("d", 2).append("c", 3)).append("e", 4);
+
+        JsonNode node = BsonToJsonNodeUtils.toJsonNode(toRawBson(document));
+
+        assertEquals("{\"b\":1,\"a\":{\"d\":2,\"c\":3},\"e\":4}", node.toString());
+    }
+}
@@ -0,0 +1,92 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandResultReaderTest {
+
+    private static RawBsonDocument cursorOutput(String batchName, int from, int to, long cursorId) {
+        List<Document> batch = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            batch.add(new Document("_id", i).append("name", "user" + i));
+        }
+        Document cursor = new Document(batchName, batch).append("id", cursorId).append("ns", "test.users.archived");
+        return new RawBsonDocument(new Document("cursor", cursor).append("ok", 1.0), new DocumentCodec());
+    }
+
+    @Test
+    public void read_WithExhaustedCursor_CollectsFirstBatch() {
+        CommandResultReader resultReader = new CommandResultReader(100, Long.MAX_VALUE);
+
+        ObjectNode fields = resultReader.read(cursorOutput("firstBatch", 0, 3, 0));
+
+        assertTrue(resultReader.hasCursor());
+        assertFalse(resultReader.hasMoreBatches());
+        assertFalse(resultReader.isCursorOpen());
+        assertFalse(resultReader.isTruncated());
+        assertEquals(3, resultReader.getDocuments().size());
+        assertEquals("user2", resultReader.getDocuments().get(2).get("name").asText());
+        assertEquals(1, fields.get("ok").intValue());
+        assertFalse(fields.has("cursor"));
+    }
+
+    @Test
+    public void read_WithOpenCursor_CollectsEveryBatch() {
+        CommandResultReader resultReader = new CommandResultReader(100, Long.MAX_VALUE);
+
+        resultReader.read(cursorOutput("firstBatch", 0, 3, 42));
+
+        assertTrue(resultReader.hasMoreBatches());
+        assertEquals(
+                BsonDocument.parse("{getMore: {$numberLong: '42'}, collection: 'users.archived', batchSize: 97}"),
+                resultReader.getMoreCommand());
+
+        resultReader.read(cursorOutput("nextBatch", 3, 5, 0));
+
+        assertFalse(resultReader.hasMoreBatches());
+        assertFalse(resultReader.isTruncated());
+        assertEquals(5, resultReader.getDocuments().size());
+        assertEquals(4, resultReader.getDocuments().get(4).get("_id").intValue());
+    }
+
+    @Test
+    public void read_WhenMaxDocumentsReached_StopsAndClosesCursor() {
+        CommandResultReader resultReader = new CommandResultReader(4, Long.MAX_VALUE);
+
+        resultReader.read(cursorOutput("firstBatch", 0, 3, 42));
+        resultReader.read(cursorOutput("nextBatch", 3, 6, 42));
+
+        assertEquals(4, resultReader.getDocuments().size());
+        assertTrue(resultReader.isTruncated());
+        assertFalse(resultReader.hasMoreBatches());
+        assertTrue(resultReader.isCursorOpen());
+        assertEquals(
+                BsonDocument.parse("{killCursors: 'users.archived', cursors: [{$numberLong: '42'}]}"),
+                resultReader.killCursorsCommand());
+    }
+
+    @Test
+    public void read_WhenMaxSizeReached_StopsBeforeTheDocumentThatCrossesIt() {
+        RawBsonDocument output = cursorOutput("firstBatch", 0, 10, 0);
+        int documentSize = new RawBsonDocument(new Document("_id", 0).append("name", "user0"), new DocumentCodec())
+                .getByteBuffer()
+                .remaining();
+        CommandResultReader resultReader = new CommandResultReader(100, documentSize * 3L + 1);
+
+        resultReader.read(output);
+
+        assertEquals(3, resultReader.getDocuments().size());
+        assertTrue(resultReader.isTruncated());
+    }
+}
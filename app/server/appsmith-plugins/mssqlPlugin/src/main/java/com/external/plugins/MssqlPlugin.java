@@ -7,7 +7,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
-import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PreparedQuery;
+import com.appsmith.external.helpers.ResultRowAccumulator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -24,6 +25,7 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.MssqlErrorMessages;
 import com.external.plugins.exceptions.MssqlPluginError;
 import com.external.plugins.utils.MssqlDatasourceUtils;
@@ -95,6 +97,8 @@ public class MssqlPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
+    private static final int STATEMENT_POOLING_CACHE_SIZE = 100;
+
     private static final long MS_SQL_DEFAULT_PORT = 1433L;
 
     public static final MssqlDatasourceUtils mssqlDatasourceUtils = new MssqlDatasourceUtils();
@@ -113,6 +117,16 @@ public class MssqlPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        private final int maxResponseSize;
+
+        public MssqlPluginExecutor() {
+            this.maxResponseSize = Integer.MAX_VALUE;
+        }
+
+        public MssqlPluginExecutor(SharedConfig sharedConfig) {
+            this.maxResponseSize = sharedConfig.getMaxResponseSize();
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -168,9 +182,11 @@ public class MssqlPlugin extends BasePlugin {
 
             // Prepared Statement
             // First extract all the bindings in order
-            List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
-            // Replace all the bindings with a `?` as expected in a prepared statement.
-            String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+            // and replace them with a `?` as expected in a prepared statement. This is only done the first time that
+            // the query is run, after which the rewritten query is reused.
+            PreparedQuery prepared = PreparedQuery.of(query);
+            List<MustacheBindingToken> mustacheKeysInOrder = prepared.getBindings();
+            String updatedQuery = prepared.getQuestionMarkQuery();
             actionConfiguration.setBody(updatedQuery);
             return executeCommon(hikariDSConnection, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO);
         }
@@ -197,7 +213,8 @@ public class MssqlPlugin extends BasePlugin {
                         Statement statement = null;
                         PreparedStatement preparedQuery = null;
                         ResultSet resultSet = null;
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        ResultRowAccumulator rows = new ResultRowAccumulator(
+                                objectMapper, maxResponseSize, MssqlPluginError.RESPONSE_SIZE_TOO_LARGE);
                         final List<String> columnsList = new ArrayList<>();
 
                         try {
@@ -272,7 +289,7 @@ public class MssqlPlugin extends BasePlugin {
                             }
 
                             MssqlExecuteUtils.populateRowsAndColumns(
-                                    rowsList,
+                                    rows,
                                     columnsList,
                                     resultSet,
                                     isResultSet,
@@ -297,7 +314,7 @@ public class MssqlPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rows.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug("In the MssqlPlugin, got action execution result");
@@ -563,6 +580,10 @@ public class MssqlPlugin extends BasePlugin {
         // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
         // should get tracked (may be falsely for long running queries) as leaked connection
         hikariConfig.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        // Keep the statements that have been prepared on each connection, so that running the same query again does not
+        // prepare it on the server again. The driver has statement pooling turned off by default.
+        hikariConfig.addDataSourceProperty("disableStatementPooling", "false");
+        hikariConfig.addDataSourceProperty("statementPoolingCacheSize", String.valueOf(STATEMENT_POOLING_CACHE_SIZE));
 
         authentication = (DBAuth) datasourceConfiguration.getAuthentication();
         if (authentication.getUsername() != null) {
@@ -1,5 +1,6 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.helpers.ResultRowAccumulator;
 import org.apache.commons.lang.ObjectUtils;
 
 import java.sql.Connection;
@@ -12,7 +13,6 @@ import java.text.MessageFormat;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -66,7 +66,7 @@ public class MssqlExecuteUtils {
     }
 
     public static void populateRowsAndColumns(
-            List<Map<String, Object>> rowsList,
+            ResultRowAccumulator rows,
             List<String> columnsList,
             ResultSet resultSet,
             boolean isResultSet,
@@ -80,15 +80,14 @@ public class MssqlExecuteUtils {
                     ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                     : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-            rowsList.add(Map.of("affectedRows", updateCount));
+            rows.addRow(Map.of("affectedRows", updateCount));
         } else {
             ResultSetMetaData metaData = resultSet.getMetaData();
             int colCount = metaData.getColumnCount();
             columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
             while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
+                rows.startRow();
 
                 for (int i = 1; i <= colCount; i++) {
                     Object value;
@@ -121,10 +120,8 @@ public class MssqlExecuteUtils {
                         value = resultSet.getObject(i);
                     }
 
-                    row.put(metaData.getColumnName(i), value);
+                    rows.addCell(metaData.getColumnName(i), value);
                 }
-
-                rowsList.add(row);
             }
         }
     }
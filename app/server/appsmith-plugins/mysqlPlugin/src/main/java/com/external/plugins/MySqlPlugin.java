@@ -6,7 +6,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
-import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PreparedQuery;
+import com.appsmith.external.helpers.ResultRowAccumulator;
 import com.appsmith.external.helpers.SSHTunnelContext;
 import com.appsmith.external.helpers.SSHUtils;
 import com.appsmith.external.models.ActionConfiguration;
@@ -27,6 +28,7 @@ import com.appsmith.external.models.SSHConnection;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.datatypes.MySQLSpecificDataTypes;
 import com.external.plugins.exceptions.MySQLErrorMessages;
 import com.external.plugins.exceptions.MySQLPluginError;
@@ -76,6 +78,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
@@ -170,6 +173,20 @@ public class MySqlPlugin extends BasePlugin {
         private static final int PREPARED_STATEMENT_INDEX = 0;
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final int maxResponseSize;
+        private final int maxResponseRows;
+
+        public MySqlPluginExecutor() {
+            this.maxResponseSize = Integer.MAX_VALUE;
+            this.maxResponseRows = Integer.MAX_VALUE;
+        }
+
+        public MySqlPluginExecutor(SharedConfig sharedConfig) {
+            this.maxResponseSize = sharedConfig.getMaxResponseSize();
+            this.maxResponseRows =
+                    sharedConfig.getMaxResponseRows() > 0 ? sharedConfig.getMaxResponseRows() : Integer.MAX_VALUE;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -238,9 +255,11 @@ public class MySqlPlugin extends BasePlugin {
 
             // This has to be executed as Prepared Statement
             // First extract all the bindings in order
-            List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
-            // Replace all the bindings with a ? as expected in a prepared statement.
-            String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+            // and replace them with a ? as expected in a prepared statement. This is only done the first time that
+            // the query is run, after which the rewritten query is reused.
+            PreparedQuery prepared = PreparedQuery.of(query);
+            List<MustacheBindingToken> mustacheKeysInOrder = prepared.getBindings();
+            String updatedQuery = prepared.getQuestionMarkQuery();
             // Set the query with bindings extracted and replaced with '?' back in config
             actionConfiguration.setBody(updatedQuery);
             return executeCommon(
@@ -315,7 +334,9 @@ public class MySqlPlugin extends BasePlugin {
 
             boolean isSelectOrShowOrDescQuery = getIsSelectOrShowOrDescQuery(finalQuery);
 
-            final List<Map<String, Object>> rowsList = new ArrayList<>(50);
+            final ResultRowAccumulator rows = new ResultRowAccumulator(
+                    objectMapper, maxResponseSize, MySQLPluginError.RESPONSE_SIZE_TOO_LARGE);
+            final AtomicBoolean isTruncated = new AtomicBoolean(false);
             final List<String> columnsList = new ArrayList<>();
             Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(finalQuery) : finalQuery;
@@ -350,11 +371,22 @@ public class MySqlPlugin extends BasePlugin {
                                                     CONNECTION_VALIDITY_CHECK_FAILED_ERROR_MSG));
                                         });
 
-                                Mono<List<Map<String, Object>>> resultMono;
+                                Mono<ResultRowAccumulator> resultMono;
                                 if (isSelectOrShowOrDescQuery) {
+                                    /*
+                                     The rows are added to the result as the driver reads them. Once the row limit is
+                                     reached, or the size limit is crossed, the subscription to the rows is cancelled,
+                                     so that the rest of the rows are not held in memory. The driver still drains them
+                                     from the socket before the connection goes back to the pool.
+                                    */
                                     resultMono = resultFlux
                                             .flatMap(result -> result.map((row, meta) -> {
-                                                rowsList.add(getRow(row, meta));
+                                                if (rows.getRowCount() >= maxResponseRows) {
+                                                    isTruncated.set(true);
+                                                    return FALSE;
+                                                }
+
+                                                addRow(rows, row, meta);
 
                                                 if (columnsList.isEmpty()) {
                                                     meta.getColumnMetadatas().stream()
@@ -362,27 +394,33 @@ public class MySqlPlugin extends BasePlugin {
                                                                     columnsList.add(columnMetadata.getName()));
                                                 }
 
-                                                return result;
+                                                return TRUE;
                                             }))
-                                            .collectList()
-                                            .thenReturn(rowsList);
+                                            .takeWhile(TRUE::equals)
+                                            .then(Mono.just(rows));
                                 } else {
                                     resultMono = resultFlux
                                             .flatMap(Result::getRowsUpdated)
                                             .collectList()
                                             .map(list -> list.get(list.size() - 1))
                                             .map(rowsUpdated -> {
-                                                rowsList.add(Map.of(
+                                                rows.addRow(Map.of(
                                                         "affectedRows", ObjectUtils.defaultIfNull(rowsUpdated, 0)));
-                                                return rowsList;
+                                                return rows;
                                             });
                                 }
 
                                 return resultMono
                                         .map(res -> {
                                             ActionExecutionResult result = new ActionExecutionResult();
-                                            result.setBody(objectMapper.valueToTree(rowsList));
-                                            result.setMessages(populateHintMessages(columnsList));
+                                            result.setBody(rows.getRows());
+                                            Set<String> messages = populateHintMessages(columnsList);
+                                            if (isTruncated.get()) {
+                                                messages.add(String.format(
+                                                        MySQLErrorMessages.RESULT_TRUNCATED_HINT_MSG,
+                                                        maxResponseRows));
+                                            }
+                                            result.setMessages(messages);
                                             result.setIsExecutionSuccess(true);
                                             log.debug("In the MySqlPlugin, got action execution result");
                                             return result;
@@ -561,12 +599,12 @@ public class MySqlPlugin extends BasePlugin {
 
         /**
          * 1. Parse the actual row objects returned by r2dbc driver for mysql statements.
-         * 2. Return the row as a map {column_name -> column_value}.
+         * 2. Add the row to the rows of the result, as {column_name -> column_value}.
          */
-        private Map<String, Object> getRow(Row row, RowMetadata meta) {
+        private void addRow(ResultRowAccumulator rows, Row row, RowMetadata meta) {
             Iterator<ColumnDefinitionPacket> iterator =
                     (Iterator<ColumnDefinitionPacket>) meta.getColumnMetadatas().iterator();
-            Map<String, Object> processedRow = new LinkedHashMap<>();
+            rows.startRow();
 
             while (iterator.hasNext()) {
                 ColumnDefinitionPacket metaData = iterator.next();
@@ -605,10 +643,8 @@ public class MySqlPlugin extends BasePlugin {
                     columnValue = row.get(columnName);
                 }
 
-                processedRow.put(columnName, columnValue);
+                rows.addCell(columnName, columnValue);
             }
-
-            return processedRow;
         }
 
         /**
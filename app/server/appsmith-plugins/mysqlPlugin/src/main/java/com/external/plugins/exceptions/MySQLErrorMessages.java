@@ -17,6 +17,9 @@ public class MySQLErrorMessages extends BasePluginErrorMessages {
 
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG = "Your MySQL query failed to execute.";
 
+    public static final String RESULT_TRUNCATED_HINT_MSG = "Your MySQL query result has been truncated to its first "
+            + "%d rows. You may use the SQL keyword 'LIMIT' to fetch fewer rows, or paginate through the result.";
+
     public static final String UNEXPECTED_SSL_OPTION_ERROR_MSG =
             "The Appsmith server has found an unexpected SSL option: %s.";
 
@@ -18,6 +18,7 @@ import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSHConnection;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.MySQLErrorMessages;
 import com.external.plugins.exceptions.MySQLPluginError;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -31,6 +32,7 @@ import io.r2dbc.spi.ConnectionFactoryOptions;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.mariadb.r2dbc.MariadbConnectionConfiguration;
 import org.mariadb.r2dbc.MariadbConnectionFactory;
@@ -54,6 +56,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
@@ -1629,4 +1632,139 @@ public class MySqlPluginTest {
                 })
                 .verifyComplete();
     }
+
+    private static MySqlPlugin.MySqlPluginExecutor createPluginExecutorWithLimits(int maxSize, int maxRows) {
+        return new MySqlPlugin.MySqlPluginExecutor(new SharedConfig() {
+            @Override
+            public int getCodecSize() {
+                return 10 * 1024 * 1024;
+            }
+
+            @Override
+            public int getMaxResponseSize() {
+                return maxSize;
+            }
+
+            @Override
+            public int getMaxResponseRows() {
+                return maxRows;
+            }
+
+            @Override
+            public String getRemoteExecutionUrl() {
+                return "";
+            }
+        });
+    }
+
+    /**
+     * A query returning 10 to the power of the given digit count rows, made of the cross join of as many tables of
+     * ten digits each.
+     */
+    private static String createRowsQuery(int digitCount) {
+        String digits = "(SELECT 0 AS n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 "
+                + "UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9)";
+        List<String> aliases = IntStream.rangeClosed(1, digitCount)
+                .mapToObj(digit -> "d" + digit)
+                .toList();
+        return "SELECT "
+                + IntStream.range(0, digitCount)
+                        .mapToObj(digit -> aliases.get(digit) + ".n * " + (long) Math.pow(10, digit))
+                        .collect(Collectors.joining(" + "))
+                + " AS id, 'some text to make the row a little larger' AS text FROM "
+                + aliases.stream().map(alias -> digits + " " + alias).collect(Collectors.joining(", "));
+    }
+
+    @Test
+    public void testExecute_withMoreRowsThanMaxResponseRows_truncatesResultAndReleasesConnection() {
+        assertResultTruncatedAndConnectionReleased(createRowsQuery(4));
+    }
+
+    /**
+     * Same as {@link #testExecute_withMoreRowsThanMaxResponseRows_truncatesResultAndReleasesConnection()}, with a
+     * million rows left to skip. It only runs with the benchmark tests.
+     */
+    @Test
+    @Tag("benchmark")
+    public void testExecute_withMillionRowsMoreThanMaxResponseRows_truncatesResultAndReleasesConnection() {
+        assertResultTruncatedAndConnectionReleased(createRowsQuery(6));
+    }
+
+    private void assertResultTruncatedAndConnectionReleased(String query) {
+        MySqlPlugin.MySqlPluginExecutor limitedPluginExecutor =
+                createPluginExecutorWithLimits(Integer.MAX_VALUE, 1000);
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+
+        ActionConfiguration followingActionConfiguration = new ActionConfiguration();
+        followingActionConfiguration.setBody("SELECT 1 AS one");
+        followingActionConfiguration.setPluginSpecifiedTemplates(
+                List.of(new Property("preparedStatement", "false")));
+
+        Mono<Tuple2<ActionExecutionResult, ActionExecutionResult>> executeMono = limitedPluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(connectionContext -> limitedPluginExecutor
+                        .executeParameterized(
+                                connectionContext, new ExecuteActionDTO(), dsConfig, actionConfiguration)
+                        .zipWith(Mono.defer(() -> limitedPluginExecutor.executeParameterized(
+                                connectionContext,
+                                new ExecuteActionDTO(),
+                                dsConfig,
+                                followingActionConfiguration))));
+
+        StepVerifier.create(executeMono)
+                .assertNext(results -> {
+                    ActionExecutionResult result = results.getT1();
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(1000, ((ArrayNode) result.getBody()).size());
+                    assertTrue(result.getMessages()
+                            .contains(String.format(MySQLErrorMessages.RESULT_TRUNCATED_HINT_MSG, 1000)));
+
+                    // The connection can be used again once the rest of the result has been skipped
+                    ActionExecutionResult followingResult = results.getT2();
+                    assertTrue(followingResult.getIsExecutionSuccess());
+                    assertEquals(
+                            1, ((ArrayNode) followingResult.getBody()).get(0).get("one").asInt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecute_withResultLargerThanMaxResponseSize_returnsError() {
+        assertResponseSizeTooLargeError(createRowsQuery(4));
+    }
+
+    /**
+     * Same as {@link #testExecute_withResultLargerThanMaxResponseSize_returnsError()}, with a million rows left to
+     * skip. It only runs with the benchmark tests.
+     */
+    @Test
+    @Tag("benchmark")
+    public void testExecute_withMillionRowsLargerThanMaxResponseSize_returnsError() {
+        assertResponseSizeTooLargeError(createRowsQuery(6));
+    }
+
+    private void assertResponseSizeTooLargeError(String query) {
+        MySqlPlugin.MySqlPluginExecutor limitedPluginExecutor = createPluginExecutorWithLimits(10000, 0);
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+
+        Mono<ActionExecutionResult> executeMono = limitedPluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(connectionContext -> limitedPluginExecutor.executeParameterized(
+                        connectionContext, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            MySQLPluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(),
+                            result.getPluginErrorDetails().getAppsmithErrorCode());
+                })
+                .verifyComplete();
+    }
 }
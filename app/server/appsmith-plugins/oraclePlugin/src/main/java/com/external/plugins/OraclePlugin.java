@@ -6,7 +6,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
-import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PreparedQuery;
+import com.appsmith.external.helpers.ResultRowAccumulator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -20,6 +21,7 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.OracleErrorMessages;
 import com.external.plugins.exceptions.OraclePluginError;
 import com.external.plugins.utils.OracleDatasourceUtils;
@@ -92,6 +94,16 @@ public class OraclePlugin extends BasePlugin {
     public static class OraclePluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
         public static final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final int maxResponseSize;
+
+        public OraclePluginExecutor() {
+            this.maxResponseSize = Integer.MAX_VALUE;
+        }
+
+        public OraclePluginExecutor(SharedConfig sharedConfig) {
+            this.maxResponseSize = sharedConfig.getMaxResponseSize();
+        }
+
         @Override
         public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             try {
@@ -162,9 +174,11 @@ public class OraclePlugin extends BasePlugin {
             }
 
             // First extract all the bindings in order
-            List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
-            // Replace all the bindings with a ? as expected in a prepared statement.
-            String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+            // and replace them with a ? as expected in a prepared statement. This is only done the first time that
+            // the query is run, after which the rewritten query is reused.
+            PreparedQuery prepared = PreparedQuery.of(query);
+            List<MustacheBindingToken> mustacheKeysInOrder = prepared.getBindings();
+            String updatedQuery = prepared.getQuestionMarkQuery();
             /**
              * PL/SQL cmds have a block structure of the following format: DECLARE...BEGIN...EXCEPTION...END
              * Ref: https://blogs.oracle.com/connect/post/building-with-blocks
@@ -229,7 +243,8 @@ public class OraclePlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        ResultRowAccumulator rows = new ResultRowAccumulator(
+                                objectMapper, maxResponseSize, OraclePluginError.RESPONSE_SIZE_TOO_LARGE);
                         final List<String> columnsList = new ArrayList<>();
 
                         Statement statement = null;
@@ -266,7 +281,7 @@ public class OraclePlugin extends BasePlugin {
                             }
 
                             populateRowsAndColumns(
-                                    rowsList,
+                                    rows,
                                     columnsList,
                                     resultSet,
                                     isResultSet,
@@ -291,7 +306,7 @@ public class OraclePlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rows.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug(Thread.currentThread().getName()
@@ -1,5 +1,6 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.helpers.ResultRowAccumulator;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import oracle.jdbc.OracleArray;
 import oracle.jdbc.OracleBlob;
@@ -16,7 +17,6 @@ import java.text.MessageFormat;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -116,7 +116,7 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
     }
 
     public static void populateRowsAndColumns(
-            List<Map<String, Object>> rowsList,
+            ResultRowAccumulator rows,
             List<String> columnsList,
             ResultSet resultSet,
             Boolean isResultSet,
@@ -129,15 +129,14 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
                     ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                     : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-            rowsList.add(Map.of(AFFECTED_ROWS_KEY, updateCount));
+            rows.addRow(Map.of(AFFECTED_ROWS_KEY, updateCount));
         } else {
             ResultSetMetaData metaData = resultSet.getMetaData();
             int colCount = metaData.getColumnCount();
             columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
             while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
+                rows.startRow();
 
                 for (int i = 1; i <= colCount; i++) {
                     Object value;
@@ -184,10 +183,8 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
                         value = resultSet.getObject(i).toString();
                     }
 
-                    row.put(metaData.getColumnName(i), value);
+                    rows.addCell(metaData.getColumnName(i), value);
                 }
-
-                rowsList.add(row);
             }
         }
     }
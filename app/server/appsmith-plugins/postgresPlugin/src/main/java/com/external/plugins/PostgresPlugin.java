@@ -8,7 +8,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
-import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PreparedQuery;
+import com.appsmith.external.helpers.ResultRowAccumulator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -85,7 +86,6 @@ import static com.appsmith.external.constants.PluginConstants.PluginName.POSTGRE
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -127,8 +127,6 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     public static final Long DEFAULT_POSTGRES_PORT = 5432L;
 
     private static int MAX_SIZE_SUPPORTED;
@@ -262,9 +260,11 @@ public class PostgresPlugin extends BasePlugin {
             // Prepared Statement
 
             // First extract all the bindings in order
-            List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
-            // Replace all the bindings with a ? as expected in a prepared statement.
-            String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+            // and replace them with a ? as expected in a prepared statement. This is only done the first time that
+            // the query is run, after which the rewritten query is reused.
+            PreparedQuery prepared = PreparedQuery.of(query);
+            List<MustacheBindingToken> mustacheKeysInOrder = prepared.getBindings();
+            String updatedQuery = prepared.getQuestionMarkQuery();
             List<DataType> explicitCastDataTypes = extractExplicitCasting(updatedQuery);
             actionConfiguration.setBody(updatedQuery);
             return executeCommon(
@@ -348,7 +348,8 @@ public class PostgresPlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        ResultRowAccumulator rows = new ResultRowAccumulator(
+                                objectMapper, MAX_SIZE_SUPPORTED, PostgresPluginError.RESPONSE_SIZE_TOO_LARGE);
                         final List<String> columnsList = new ArrayList<>();
 
                         Statement statement = null;
@@ -404,7 +405,7 @@ public class PostgresPlugin extends BasePlugin {
                                         ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                                         : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-                                rowsList.add(Map.of("affectedRows", updateCount));
+                                rows.addRow(Map.of("affectedRows", updateCount));
 
                             } else {
 
@@ -412,28 +413,9 @@ public class PostgresPlugin extends BasePlugin {
                                 int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
-                                int iterator = 0;
                                 while (resultSet.next()) {
 
-                                    // Only check the data size at low frequency to ensure the performance is not
-                                    // impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug(
-                                                    "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
-                                                    MAX_SIZE_SUPPORTED,
-                                                    objectSize);
-                                            return Mono.error(new AppsmithPluginException(
-                                                    PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
-                                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
-                                    }
-
-                                    // Use `LinkedHashMap` here so that the column ordering is preserved in the
-                                    // response.
-                                    Map<String, Object> row = new LinkedHashMap<>(colCount);
+                                    rows.startRow();
 
                                     for (int i = 1; i <= colCount; i++) {
                                         Object value;
@@ -487,12 +469,10 @@ public class PostgresPlugin extends BasePlugin {
                                             }
                                         }
 
-                                        row.put(metaData.getColumnName(i), value);
+                                        // The size of the result is accounted for as each cell is added, and the
+                                        // execution fails as soon as it grows beyond the maximum supported size.
+                                        rows.addCell(metaData.getColumnName(i), value);
                                     }
-
-                                    rowsList.add(row);
-
-                                    iterator++;
                                 }
                             }
 
@@ -558,7 +538,7 @@ public class PostgresPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rows.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug("In the PostgresPlugin, got action execution result");
@@ -26,8 +26,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -53,10 +55,12 @@ import java.util.stream.Stream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+@Slf4j
 @Testcontainers
 public class PostgresPluginTest {
 
@@ -793,6 +797,97 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testPreparedStatementWhenExecutedWithDifferentValues_ReturnsMatchingRows() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        final String query =
+                "SELECT id, username FROM public.\"users\" WHERE id = {{Input1.text}} AND username <> {{Input2.text}};";
+
+        HikariDataSource pool = pluginExecutor.datasourceCreate(dsConfig).block();
+        try {
+            for (int id = 1; id <= 3; id++) {
+                // The body of the action configuration is rewritten by every execution, as it is by the server
+                ActionConfiguration actionConfiguration = new ActionConfiguration();
+                actionConfiguration.setBody(query);
+                actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "true")));
+
+                Param idParam = new Param("Input1.text", String.valueOf(id));
+                idParam.setClientDataType(ClientDataType.NUMBER);
+                Param usernameParam = new Param("Input2.text", "user-" + id);
+                usernameParam.setClientDataType(ClientDataType.STRING);
+                ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+                executeActionDTO.setParams(List.of(idParam, usernameParam));
+
+                ActionExecutionResult result = pluginExecutor
+                        .executeParameterized(pool, executeActionDTO, dsConfig, actionConfiguration)
+                        .block();
+
+                assertTrue(result.getIsExecutionSuccess());
+                ArrayNode rows = (ArrayNode) result.getBody();
+                assertEquals(1, rows.size());
+                assertEquals(id, rows.get(0).get("id").asInt());
+            }
+        } finally {
+            pluginExecutor.datasourceDestroy(pool);
+        }
+    }
+
+    /**
+     * Logs the latency of the first and of the repeated executions of the same parameterized query. It runs the query
+     * 300 times, so it only runs with the benchmark tests.
+     */
+    @Test
+    @Tag("benchmark")
+    public void testPreparedStatementWhenRepeatedWithDifferentValues_ReturnsMatchingRows() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        final String query =
+                "SELECT id, username FROM public.\"users\" WHERE id = {{Input1.text}} AND username <> {{Input2.text}};";
+        final int executionCount = 300;
+
+        HikariDataSource pool = pluginExecutor.datasourceCreate(dsConfig).block();
+        long[] latenciesInNanos = new long[executionCount];
+        try {
+            for (int i = 0; i < executionCount; i++) {
+                // The body of the action configuration is rewritten by every execution, as it is by the server
+                ActionConfiguration actionConfiguration = new ActionConfiguration();
+                actionConfiguration.setBody(query);
+                actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "true")));
+
+                int id = i % 3 + 1;
+                Param idParam = new Param("Input1.text", String.valueOf(id));
+                idParam.setClientDataType(ClientDataType.NUMBER);
+                Param usernameParam = new Param("Input2.text", "user-" + i);
+                usernameParam.setClientDataType(ClientDataType.STRING);
+                ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+                executeActionDTO.setParams(List.of(idParam, usernameParam));
+
+                long startNanos = System.nanoTime();
+                ActionExecutionResult result = pluginExecutor
+                        .executeParameterized(pool, executeActionDTO, dsConfig, actionConfiguration)
+                        .block();
+                latenciesInNanos[i] = System.nanoTime() - startNanos;
+
+                assertTrue(result.getIsExecutionSuccess());
+                ArrayNode rows = (ArrayNode) result.getBody();
+                assertEquals(1, rows.size());
+                assertEquals(id, rows.get(0).get("id").asInt());
+            }
+        } finally {
+            pluginExecutor.datasourceDestroy(pool);
+        }
+
+        long firstExecutionNanos = latenciesInNanos[0];
+        long[] repeatedExecutionNanos = Arrays.stream(latenciesInNanos, 1, executionCount)
+                .sorted()
+                .toArray();
+        log.info(
+                "Parameterized query latency over {} executions: first {} us, repeated p50 {} us, p95 {} us",
+                executionCount,
+                firstExecutionNanos / 1000,
+                repeatedExecutionNanos[repeatedExecutionNanos.length / 2] / 1000,
+                repeatedExecutionNanos[repeatedExecutionNanos.length * 95 / 100] / 1000);
+    }
+
     @Test
     public void testPreparedStatementWithDoubleQuotes() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -1507,6 +1602,27 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecute_withResultLargerThanMaxResponseSize_returnsError() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        // 20 rows of ~1KB each, larger than the 10000 bytes supported by the mock shared config
+        actionConfiguration.setBody("SELECT repeat('a', 1000) AS text FROM generate_series(1, 20);");
+
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            PostgresPluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(),
+                            result.getPluginErrorDetails().getAppsmithErrorCode());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testPreparedStatementWithJsonDataType() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -1,5 +1,6 @@
 package com.external.plugins;
 
+import com.appsmith.external.connectionpoolconfig.configurations.ConnectionPoolConfig;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.ActionConfiguration;
@@ -9,33 +10,41 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.external.plugins.exceptions.RedisErrorMessages;
 import com.external.plugins.exceptions.RedisPluginError;
+import com.external.utils.RedisConnectionPool;
+import com.external.utils.RedisReplyOutput;
 import com.external.utils.RedisURIUtils;
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TransactionResult;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
-import redis.clients.jedis.Jedis;
-import redis.clients.jedis.JedisPool;
-import redis.clients.jedis.JedisPoolConfig;
-import redis.clients.jedis.Protocol;
-import redis.clients.jedis.exceptions.JedisException;
-import redis.clients.jedis.util.SafeEncoder;
 
 import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -50,21 +59,57 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 @Slf4j
 public class RedisPlugin extends BasePlugin {
     private static final int CONNECTION_TIMEOUT = 60;
-    private static final String CMD_KEY = "cmd";
-    private static final String ARGS_KEY = "args";
+
+    // Event loops of the clients, shared by the connection pools of all the datasources
+    private static final ClientResources CLIENT_RESOURCES = DefaultClientResources.create();
+
+    // Matches the command and its arguments, see getCommands
+    private static final Pattern COMMAND_PATTERN = Pattern.compile("\\\"[^\\\"]+\\\"|'[^']+'|[\\S]+");
+
+    // Also matches the line breaks outside of quotes, which separate the commands of a pipeline or a transaction
+    private static final Pattern SCRIPT_PATTERN = Pattern.compile("\\\"[^\\\"]+\\\"|'[^']+'|[\\S]+|\\n");
 
     public RedisPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
+    /**
+     * How the query of an action is executed, set by the first plugin specified template of the action.
+     */
+    enum ExecutionMode {
+        // The whole query is a single command
+        SINGLE,
+        // Each line of the query is a command, and the commands are sent all at once
+        PIPELINE,
+        // Each line of the query is a command, and the commands are sent all at once, between MULTI and EXEC
+        TRANSACTION
+    }
+
+    /**
+     * @param type A command of Redis, like GET
+     * @param args The arguments of the command, as they were written in the query
+     */
+    private record RedisCommand(CommandType type, List<String> args) {
+
+        CommandArgs<String, String> toCommandArgs() {
+            return new CommandArgs<>(StringCodec.UTF8).addValues(args);
+        }
+    }
+
     @Extension
-    public static class RedisPluginExecutor implements PluginExecutor<JedisPool> {
+    public static class RedisPluginExecutor implements PluginExecutor<RedisConnectionPool> {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final ConnectionPoolConfig connectionPoolConfig;
+
+        public RedisPluginExecutor(ConnectionPoolConfig connectionPoolConfig) {
+            this.connectionPoolConfig = connectionPoolConfig;
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(
-                JedisPool jedisPool,
+                RedisConnectionPool connectionPool,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration) {
 
@@ -72,15 +117,6 @@ public class RedisPlugin extends BasePlugin {
             List<RequestParamDTO> requestParams =
                     List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
 
-            Jedis jedis;
-            try {
-                jedis = jedisPool.getResource();
-            } catch (Exception e) {
-                return Mono.error(new AppsmithPluginException(
-                        RedisPluginError.QUERY_EXECUTION_FAILED,
-                        RedisErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                        e.getMessage()));
-            }
             return Mono.fromCallable(() -> {
                         if (StringUtils.isNullOrEmpty(query)) {
                             return Mono.error(new AppsmithPluginException(
@@ -88,51 +124,46 @@ public class RedisPlugin extends BasePlugin {
                                     String.format(RedisErrorMessages.BODY_IS_NULL_OR_EMPTY_ERROR_MSG, query)));
                         }
 
-                        Map cmdAndArgs = getCommandAndArgs(query.trim());
-                        if (!cmdAndArgs.containsKey(CMD_KEY)) {
+                        final ExecutionMode executionMode = getExecutionMode(actionConfiguration);
+                        final List<RedisCommand> commands =
+                                getCommands(query.trim(), executionMode != ExecutionMode.SINGLE);
+                        if (commands.isEmpty()) {
                             return Mono.error(new AppsmithPluginException(
                                     AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                                     RedisErrorMessages.QUERY_PARSING_FAILED_ERROR_MSG));
                         }
 
-                        Protocol.Command command;
-                        try {
-                            // Commands are in upper case
-                            command = Protocol.Command.valueOf((String) cmdAndArgs.get(CMD_KEY));
-                        } catch (IllegalArgumentException exc) {
-                            return Mono.error(new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    String.format(
-                                            RedisErrorMessages.INVALID_REDIS_COMMAND_ERROR_MSG,
-                                            cmdAndArgs.get(CMD_KEY))));
-                        }
-
-                        Object commandOutput;
-                        if (cmdAndArgs.containsKey(ARGS_KEY)) {
-                            commandOutput = jedis.sendCommand(command, (String[]) cmdAndArgs.get(ARGS_KEY));
-                        } else {
-                            commandOutput = jedis.sendCommand(command);
-                        }
-
+                        return connectionPool.withConnection(connection -> {
+                            final Mono<Object> output =
+                                    switch (executionMode) {
+                                        case SINGLE -> getCommandResult(sendCommand(connection, commands.get(0)));
+                                        case PIPELINE -> sendPipeline(connection, commands);
+                                        case TRANSACTION -> sendTransaction(connection, commands);
+                                    };
+
+                            return output.flatMap(commandOutput -> resetDatabaseIfSelected(
+                                            connection, connectionPool, commands)
+                                    .thenReturn(commandOutput));
+                        });
+                    })
+                    .flatMap(obj -> obj)
+                    .map(commandOutput -> {
                         ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
-                        actionExecutionResult.setBody(
-                                objectMapper.valueToTree(removeQuotes(processCommandOutput(commandOutput))));
+                        actionExecutionResult.setBody(objectMapper.valueToTree(removeQuotes(commandOutput)));
                         actionExecutionResult.setIsExecutionSuccess(true);
 
                         log.debug("In the RedisPlugin, got action execution result");
-                        return Mono.just(actionExecutionResult);
+                        return actionExecutionResult;
                     })
-                    .flatMap(obj -> obj)
-                    .map(obj -> (ActionExecutionResult) obj)
                     .onErrorResume(error -> {
-                        error.printStackTrace();
+                        log.warn("Error executing the Redis query", error);
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(false);
                         if (!(error instanceof AppsmithPluginException)) {
                             error = new AppsmithPluginException(
                                     RedisPluginError.QUERY_EXECUTION_FAILED,
                                     RedisErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    error.getMessage());
+                                    getErrorMessage(error));
                         }
                         result.setErrorInfo(error);
                         return Mono.just(result);
@@ -145,18 +176,113 @@ public class RedisPlugin extends BasePlugin {
                         ActionExecutionResult result = actionExecutionResult;
                         result.setRequest(request);
                         return result;
-                    })
-                    .doFinally(signalType -> {
-                        /**
-                         * - Return resource back to the pool.
-                         * - https://stackoverflow.com/questions/54902337/is-it-necessary-to-use-jedis-close
-                         * - https://www.baeldung.com/jedis-java-redis-client-library:
-                         */
-                        if (jedis != null) {
-                            jedis.close();
-                        }
-                    })
-                    .subscribeOn(scheduler);
+                    });
+        }
+
+        private ExecutionMode getExecutionMode(ActionConfiguration actionConfiguration) {
+            final List<Property> templates = actionConfiguration.getPluginSpecifiedTemplates();
+            if (CollectionUtils.isEmpty(templates)
+                    || templates.get(0) == null
+                    || templates.get(0).getValue() == null) {
+                return ExecutionMode.SINGLE;
+            }
+
+            final String executionMode = String.valueOf(templates.get(0).getValue());
+            try {
+                return ExecutionMode.valueOf(executionMode);
+            } catch (IllegalArgumentException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format(RedisErrorMessages.UNKNOWN_EXECUTION_MODE_ERROR_MSG, executionMode));
+            }
+        }
+
+        private Mono<Object> sendCommand(StatefulRedisConnection<String, String> connection, RedisCommand command) {
+            return Mono.fromCompletionStage(
+                    connection.async().dispatch(command.type(), new RedisReplyOutput(), command.toCommandArgs()));
+        }
+
+        /**
+         * Sends all the commands in a single write, without waiting for the reply of a command before sending the
+         * next one. A command that fails doesn't fail the others, and its result is its error instead.
+         */
+        private Mono<Object> sendPipeline(
+                StatefulRedisConnection<String, String> connection, List<RedisCommand> commands) {
+            final List<RedisFuture<Object>> replies = new ArrayList<>();
+            connection.setAutoFlushCommands(false);
+            try {
+                for (RedisCommand command : commands) {
+                    replies.add(connection
+                            .async()
+                            .dispatch(command.type(), new RedisReplyOutput(), command.toCommandArgs()));
+                }
+                connection.flushCommands();
+            } finally {
+                connection.setAutoFlushCommands(true);
+            }
+
+            return getCommandResults(replies);
+        }
+
+        /**
+         * Sends all the commands in a single write, between MULTI and EXEC, so that they are executed together. The
+         * transaction fails as a whole when one of the commands could not be queued.
+         */
+        private Mono<Object> sendTransaction(
+                StatefulRedisConnection<String, String> connection, List<RedisCommand> commands) {
+            final RedisAsyncCommands<String, String> async = connection.async();
+            final List<RedisFuture<Object>> replies = new ArrayList<>();
+            final RedisFuture<TransactionResult> exec;
+            connection.setAutoFlushCommands(false);
+            try {
+                async.multi();
+                for (RedisCommand command : commands) {
+                    replies.add(async.dispatch(command.type(), new RedisReplyOutput(), command.toCommandArgs()));
+                }
+                exec = async.exec();
+                connection.flushCommands();
+            } finally {
+                connection.setAutoFlushCommands(true);
+            }
+
+            return Mono.fromCompletionStage(exec).flatMap(transactionResult -> {
+                if (transactionResult.wasDiscarded()) {
+                    return Mono.error(new AppsmithPluginException(
+                            RedisPluginError.QUERY_EXECUTION_FAILED,
+                            RedisErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                            RedisErrorMessages.TRANSACTION_DISCARDED_ERROR_MSG));
+                }
+
+                // The replies of the commands are completed by the reply of EXEC
+                return getCommandResults(replies);
+            });
+        }
+
+        /**
+         * @return The result of each command, in the order of the commands
+         */
+        private Mono<Object> getCommandResults(List<RedisFuture<Object>> replies) {
+            return Flux.fromIterable(replies)
+                    .concatMap(reply -> getCommandResult(Mono.fromCompletionStage(reply))
+                            .onErrorResume(error -> Mono.just(List.of(Map.of("error", getErrorMessage(error))))))
+                    .collectList()
+                    .map(results -> (Object) results);
+        }
+
+        /**
+         * - Connections are returned to the pool with the database of the datasource selected, as they are when they
+         * are opened, so that a SELECT in a query doesn't change the database of the following executions.
+         */
+        private Mono<Void> resetDatabaseIfSelected(
+                StatefulRedisConnection<String, String> connection,
+                RedisConnectionPool connectionPool,
+                List<RedisCommand> commands) {
+            if (commands.stream().noneMatch(command -> command.type() == CommandType.SELECT)) {
+                return Mono.empty();
+            }
+
+            return Mono.fromCompletionStage(connection.async().select(connectionPool.getDatabase()))
+                    .then();
         }
 
         /**
@@ -182,7 +308,11 @@ public class RedisPlugin extends BasePlugin {
             return result;
         }
 
-        private Map getCommandAndArgs(String query) {
+        /**
+         * Parses the commands of the query, along with their arguments. A single command is parsed out of the whole
+         * query, unless the query is a script, in which case each line of the query is a command.
+         */
+        private List<RedisCommand> getCommands(String query, boolean isScript) {
             /**
              * - This regex matches either a whole word, or anything inside double quotes. If something is inside
              * single quotes then it gets matched like a whole word
@@ -193,92 +323,89 @@ public class RedisPlugin extends BasePlugin {
              * (4) "my val"
              * (5) '{"a":"b"}'
              * Please note that the above example string is not a valid redis cmd and is only mentioned here for info.
+             * - The regex for scripts also matches the line breaks that are not inside quotes, which end the commands.
              */
-            String redisCmdRegex = "\\\"[^\\\"]+\\\"|'[^']+'|[\\S]+";
-            Pattern pattern = Pattern.compile(redisCmdRegex);
-            Matcher matcher = pattern.matcher(query);
-            Map<String, Object> cmdAndArgs = new HashMap<>();
-            List<String> args = new ArrayList<>();
+            Matcher matcher = (isScript ? SCRIPT_PATTERN : COMMAND_PATTERN).matcher(query);
+            List<RedisCommand> commands = new ArrayList<>();
+            List<String> words = new ArrayList<>();
             while (matcher.find()) {
-                if (!cmdAndArgs.containsKey(CMD_KEY)) {
-                    cmdAndArgs.put(CMD_KEY, matcher.group().toUpperCase());
-                } else {
-                    args.add(matcher.group());
+                if (!"\n".equals(matcher.group())) {
+                    words.add(matcher.group());
+                } else if (!words.isEmpty()) {
+                    commands.add(toCommand(words));
+                    words = new ArrayList<>();
                 }
             }
 
-            if (args.size() > 0) {
-                cmdAndArgs.put(ARGS_KEY, args.toArray(new String[0]));
+            if (!words.isEmpty()) {
+                commands.add(toCommand(words));
+            }
+
+            return commands;
+        }
+
+        private RedisCommand toCommand(List<String> words) {
+            // Commands are in upper case
+            final String command = words.get(0).toUpperCase();
+            try {
+                return new RedisCommand(CommandType.valueOf(command), words.subList(1, words.size()));
+            } catch (IllegalArgumentException exc) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format(RedisErrorMessages.INVALID_REDIS_COMMAND_ERROR_MSG, command));
             }
+        }
 
-            return cmdAndArgs;
+        private Mono<Object> getCommandResult(Mono<Object> reply) {
+            return reply.<Object>map(this::processCommandOutput).defaultIfEmpty(processCommandOutput(null));
         }
 
         // This will be updated as we encounter different outputs.
-        private List<Map<String, String>> processCommandOutput(Object commandOutput) {
+        private List<Map<String, Object>> processCommandOutput(Object commandOutput) {
             if (commandOutput == null) {
                 return List.of(Map.of("result", "null"));
-            } else if (commandOutput instanceof byte[]) {
-                return List.of(Map.of("result", SafeEncoder.encode((byte[]) commandOutput)));
             } else if (commandOutput instanceof List) {
-                List<byte[]> commandList = (List<byte[]>) commandOutput;
+                List<Object> commandList = (List<Object>) commandOutput;
                 return commandList.stream()
-                        .map(obj -> Map.of("result", SafeEncoder.encode(obj)))
+                        .map(obj -> Map.of("result", processReplyElement(obj)))
                         .collect(Collectors.toList());
             } else {
                 return List.of(Map.of("result", String.valueOf(commandOutput)));
             }
         }
 
-        /**
-         * - Config taken from https://www.baeldung.com/jedis-java-redis-client-library
-         * - To understand what these config mean:
-         * https://www.infoworld.com/article/2071834/pool-resources-using-apache-s-commons-pool-framework.html
-         */
-        private JedisPoolConfig buildPoolConfig() {
-            final JedisPoolConfig poolConfig = new JedisPoolConfig();
-            poolConfig.setMaxTotal(5);
-            poolConfig.setMaxIdle(5);
-            poolConfig.setMinIdle(0);
-            poolConfig.setTestOnBorrow(true);
-            poolConfig.setTestOnReturn(true);
-            poolConfig.setTestWhileIdle(true);
-            poolConfig.setMinEvictableIdleTimeMillis(Duration.ofSeconds(60).toMillis());
-            poolConfig.setTimeBetweenEvictionRunsMillis(Duration.ofSeconds(30).toMillis());
-            poolConfig.setNumTestsPerEvictionRun(3);
-            poolConfig.setBlockWhenExhausted(true);
-            return poolConfig;
+        private Object processReplyElement(Object element) {
+            if (element instanceof List) {
+                return ((List<Object>) element).stream().map(this::processReplyElement).collect(Collectors.toList());
+            }
+
+            return String.valueOf(element);
         }
 
         @Override
-        public Mono<JedisPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
-            return Mono.fromCallable(() -> {
-                        final JedisPoolConfig poolConfig = buildPoolConfig();
-                        int timeout =
-                                (int) Duration.ofSeconds(CONNECTION_TIMEOUT).toMillis();
+        public Mono<RedisConnectionPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            return connectionPoolConfig
+                    .getMaxConnectionPoolSize()
+                    .flatMap(maxPoolSize -> Mono.fromCallable(() -> {
                         URI uri = RedisURIUtils.getURI(datasourceConfiguration);
-                        JedisPool jedisPool = new JedisPool(poolConfig, uri, timeout);
-                        return jedisPool;
-                    })
+                        return new RedisConnectionPool(
+                                CLIENT_RESOURCES,
+                                RedisURI.create(uri),
+                                maxPoolSize,
+                                Duration.ofSeconds(CONNECTION_TIMEOUT));
+                    }))
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(JedisPool jedisPool) {
-            // Schedule on elastic thread pool and subscribe immediately.
-            Mono.fromSupplier(() -> {
-                        try {
-                            if (jedisPool != null) {
-                                jedisPool.destroy();
-                            }
-                        } catch (JedisException e) {
-                            log.debug("Error destroying Jedis pool.");
-                        }
-
-                        return Mono.empty();
-                    })
-                    .subscribeOn(scheduler)
-                    .subscribe();
+        public void datasourceDestroy(RedisConnectionPool connectionPool) {
+            if (connectionPool != null) {
+                connectionPool.closeAsync().whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.debug("Error destroying Redis connection pool.", error);
+                    }
+                });
+            }
         }
 
         @Override
@@ -345,31 +472,41 @@ public class RedisPlugin extends BasePlugin {
             return false;
         }
 
-        private Mono<Void> verifyPing(JedisPool connectionPool) {
-            String pingResponse;
-            try {
-                Jedis jedis = connectionPool.getResource();
-                pingResponse = jedis.ping();
-            } catch (Exception exc) {
-                return Mono.error(exc);
-            }
-
-            if (!"PONG".equals(pingResponse)) {
-                return Mono.error(new RuntimeException(
-                        String.format(RedisErrorMessages.NO_PONG_RESPONSE_ERROR_MSG, pingResponse)));
-            }
+        private Mono<Void> verifyPing(RedisConnectionPool connectionPool) {
+            return connectionPool
+                    .withConnection(connection -> Mono.fromCompletionStage(
+                            connection.async().ping()))
+                    .flatMap(pingResponse -> {
+                        if (!"PONG".equals(pingResponse)) {
+                            return Mono.error(new RuntimeException(
+                                    String.format(RedisErrorMessages.NO_PONG_RESPONSE_ERROR_MSG, pingResponse)));
+                        }
 
-            return Mono.empty();
+                        return Mono.empty();
+                    });
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(JedisPool connectionPool) {
+        public Mono<DatasourceTestResult> testDatasource(RedisConnectionPool connectionPool) {
 
             return Mono.just(connectionPool)
                     .flatMap(c -> verifyPing(connectionPool))
                     .then(Mono.just(new DatasourceTestResult()))
-                    .onErrorResume(error ->
-                            Mono.just(new DatasourceTestResult(error.getCause().getMessage())));
+                    .onErrorResume(error -> Mono.just(new DatasourceTestResult(getErrorMessage(error))));
+        }
+
+        /**
+         * - The errors of the client are wrapped by the futures of its commands and by its connection pool. The
+         * message of a connection error is the one of the error raised when connecting.
+         */
+        private static String getErrorMessage(Throwable error) {
+            for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+                if (cause instanceof RedisConnectionException) {
+                    return cause.getMessage();
+                }
+            }
+
+            return error.getMessage();
         }
     }
 }
@@ -13,6 +13,14 @@ public class RedisErrorMessages extends BasePluginErrorMessages {
 
     public static final String INVALID_REDIS_COMMAND_ERROR_MSG = "Not a valid Redis command: %s";
 
+    public static final String UNKNOWN_EXECUTION_MODE_ERROR_MSG =
+            "Unknown execution mode: %s. The query can be executed as a single command, a pipeline or a transaction.";
+
+    public static final String TRANSACTION_DISCARDED_ERROR_MSG =
+            "The transaction has been discarded, as a key it watches has been modified before it was executed.";
+
+    public static final String CONNECTION_FAILED_ERROR_MSG = "Failed connecting to %s:%d";
+
     public static final String NO_PONG_RESPONSE_ERROR_MSG = "Expected PONG in response of PING but got %s";
 
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG =
@@ -0,0 +1,99 @@
+package com.external.utils;
+
+import com.external.plugins.exceptions.RedisErrorMessages;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.support.AsyncConnectionPoolSupport;
+import io.lettuce.core.support.BoundedAsyncPool;
+import io.lettuce.core.support.BoundedPoolConfig;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * A bounded pool of non-blocking connections to a Redis server. Connections are not pinged when they are borrowed or
+ * returned, as the client reconnects them by itself when they are dropped. Connections are only opened when they are
+ * first needed, and are kept open until the pool is closed.
+ */
+public class RedisConnectionPool {
+
+    private final RedisClient client;
+    private final RedisURI redisURI;
+    private final BoundedAsyncPool<StatefulRedisConnection<String, String>> pool;
+
+    /**
+     * @param clientResources The event loops and the timer of the client, shared by all the pools
+     * @param redisURI        The address, credentials and database of the server
+     * @param maxPoolSize     The number of connections over which executions wait for a connection to be returned
+     * @param timeout         The time after which connecting or waiting for the reply of a command fails
+     */
+    public RedisConnectionPool(ClientResources clientResources, RedisURI redisURI, int maxPoolSize, Duration timeout) {
+        this.redisURI = redisURI;
+        this.redisURI.setTimeout(timeout);
+
+        this.client = RedisClient.create(clientResources, redisURI);
+        this.client.setOptions(ClientOptions.builder()
+                // Replies are read as RESP2, which is the protocol supported by all Redis versions
+                .protocolVersion(ProtocolVersion.RESP2)
+                .socketOptions(SocketOptions.builder().connectTimeout(timeout).build())
+                .build());
+
+        this.pool = AsyncConnectionPoolSupport.createBoundedObjectPool(
+                this::connect,
+                BoundedPoolConfig.builder()
+                        .maxTotal(maxPoolSize)
+                        .maxIdle(maxPoolSize)
+                        .minIdle(0)
+                        .testOnCreate(false)
+                        .testOnAcquire(false)
+                        .testOnRelease(false)
+                        .build());
+    }
+
+    /**
+     * Borrows a connection for the time the action runs, and returns it to the pool once the action completes, fails
+     * or is cancelled. The connection is used by the action alone while it runs.
+     */
+    public <T> Mono<T> withConnection(Function<StatefulRedisConnection<String, String>, Mono<T>> action) {
+        return Mono.usingWhen(
+                Mono.fromFuture(pool::acquire),
+                action,
+                connection -> Mono.fromFuture(() -> pool.release(connection)));
+    }
+
+    /**
+     * @return The database selected by the connections when they are opened
+     */
+    public int getDatabase() {
+        return redisURI.getDatabase();
+    }
+
+    public CompletableFuture<Void> closeAsync() {
+        return pool.closeAsync().thenCompose(ignored -> client.shutdownAsync());
+    }
+
+    private CompletionStage<StatefulRedisConnection<String, String>> connect() {
+        return client.connectAsync(StringCodec.UTF8, redisURI).handle((connection, error) -> {
+            if (error != null) {
+                throw new CompletionException(new RedisConnectionException(
+                        String.format(
+                                RedisErrorMessages.CONNECTION_FAILED_ERROR_MSG,
+                                redisURI.getHost(),
+                                redisURI.getPort()),
+                        error));
+            }
+            return connection;
+        });
+    }
+}
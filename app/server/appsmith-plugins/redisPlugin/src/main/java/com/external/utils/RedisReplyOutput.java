@@ -0,0 +1,84 @@
+package com.external.utils;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.CommandOutput;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Collects the reply of any Redis command, the way it was sent by the server: bulk and status replies are read as
+ * strings, integer replies as longs, and arrays as lists, nested as deep as the reply is. An error reply fails the
+ * command, unless it is an element of an array, in which case its message is added to the array.
+ */
+public class RedisReplyOutput extends CommandOutput<String, String, Object> {
+
+    // Arrays of the reply that still expect elements, the innermost first
+    private final Deque<OpenArray> openArrays = new ArrayDeque<>();
+
+    private record OpenArray(List<Object> elements, int count) {}
+
+    public RedisReplyOutput() {
+        super(StringCodec.UTF8, null);
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        add(bytes == null ? null : codec.decodeValue(bytes));
+    }
+
+    @Override
+    public void set(long integer) {
+        add(integer);
+    }
+
+    @Override
+    public void set(double number) {
+        add(number);
+    }
+
+    @Override
+    public void set(boolean value) {
+        add(value);
+    }
+
+    @Override
+    public void setError(ByteBuffer error) {
+        if (openArrays.isEmpty()) {
+            super.setError(error);
+        } else {
+            add(decodeAscii(error));
+        }
+    }
+
+    @Override
+    public void multi(int count) {
+        if (count < 0) {
+            // A null array
+            add(null);
+            return;
+        }
+
+        final List<Object> elements = new ArrayList<>(count);
+        add(elements);
+        if (count > 0) {
+            openArrays.push(new OpenArray(elements, count));
+        }
+    }
+
+    private void add(Object value) {
+        if (openArrays.isEmpty()) {
+            output = value;
+            return;
+        }
+
+        openArrays.peek().elements().add(value);
+        while (!openArrays.isEmpty()
+                && openArrays.peek().elements().size() == openArrays.peek().count()) {
+            openArrays.pop();
+        }
+    }
+}
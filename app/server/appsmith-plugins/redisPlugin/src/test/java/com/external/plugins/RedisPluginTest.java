@@ -1,5 +1,6 @@
 package com.external.plugins;
 
+import com.appsmith.external.connectionpoolconfig.configurations.ConnectionPoolConfig;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -7,29 +8,35 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.external.plugins.exceptions.RedisErrorMessages;
 import com.external.plugins.exceptions.RedisPluginError;
+import com.external.utils.RedisConnectionPool;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
-import redis.clients.jedis.JedisPool;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -47,7 +54,15 @@ public class RedisPluginTest {
     private static String host;
     private static Integer port;
 
-    private RedisPlugin.RedisPluginExecutor pluginExecutor = new RedisPlugin.RedisPluginExecutor();
+    private RedisPlugin.RedisPluginExecutor pluginExecutor =
+            new RedisPlugin.RedisPluginExecutor(new MockConnectionPoolConfig());
+
+    public class MockConnectionPoolConfig implements ConnectionPoolConfig {
+        @Override
+        public Mono<Integer> getMaxConnectionPoolSize() {
+            return Mono.just(5);
+        }
+    }
 
     @BeforeAll
     public static void setup() {
@@ -55,6 +70,14 @@ public class RedisPluginTest {
         port = redis.getFirstMappedPort();
     }
 
+    private static ActionConfiguration createActionConfiguration(
+            String query, RedisPlugin.ExecutionMode executionMode) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property(null, executionMode.name())));
+        return actionConfiguration;
+    }
+
     private DatasourceConfiguration createDatasourceConfiguration() {
         Endpoint endpoint = new Endpoint();
         endpoint.setHost(host);
@@ -69,11 +92,11 @@ public class RedisPluginTest {
     @Test
     public void itShouldCreateDatasource() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
-        StepVerifier.create(jedisPoolMono).assertNext(Assertions::assertNotNull).verifyComplete();
+        StepVerifier.create(connectionPoolMono).assertNext(Assertions::assertNotNull).verifyComplete();
 
-        pluginExecutor.datasourceDestroy(jedisPoolMono.block());
+        pluginExecutor.datasourceDestroy(connectionPoolMono.block());
     }
 
     @Test
@@ -183,12 +206,12 @@ public class RedisPluginTest {
     @Test
     public void itShouldThrowErrorIfEmptyBody() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
-                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono.flatMap(
+                connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(result -> {
@@ -202,13 +225,13 @@ public class RedisPluginTest {
     @Test
     public void itShouldThrowErrorIfInvalidRedisCommand() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("LOL");
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
-                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono.flatMap(
+                connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(result -> {
@@ -222,13 +245,13 @@ public class RedisPluginTest {
     @Test
     public void itShouldExecuteCommandWithoutArgs() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("PING");
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
-                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono.flatMap(
+                connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
@@ -243,13 +266,13 @@ public class RedisPluginTest {
     @Test
     public void itShouldExecuteCommandWithArgs() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         // Getting a non-existent key
         ActionConfiguration getActionConfiguration = new ActionConfiguration();
         getActionConfiguration.setBody("GET key");
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
-                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, getActionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono.flatMap(connectionPool ->
+                pluginExecutor.execute(connectionPool, datasourceConfiguration, getActionConfiguration));
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
                     assertNotNull(actionExecutionResult);
@@ -278,8 +301,8 @@ public class RedisPluginTest {
         ActionConfiguration setActionConfigurationManyKeys = new ActionConfiguration();
         setActionConfigurationManyKeys.setBody("mset key1 value key2 \"value\" key3 \"my value\" key4 'value' key5 'my "
                 + "value' key6 '{\"a\":\"b\"}'");
-        actionExecutionResultMono = jedisPoolMono.flatMap(jedisPool ->
-                pluginExecutor.execute(jedisPool, datasourceConfiguration, setActionConfigurationManyKeys));
+        actionExecutionResultMono = connectionPoolMono.flatMap(connectionPool ->
+                pluginExecutor.execute(connectionPool, datasourceConfiguration, setActionConfigurationManyKeys));
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
                     assertNotNull(actionExecutionResult);
@@ -292,8 +315,8 @@ public class RedisPluginTest {
         // Verify the keys
         ActionConfiguration getActionConfigurationManyKeys = new ActionConfiguration();
         getActionConfigurationManyKeys.setBody("mget key1 key2 key3 key4 key5 key6");
-        actionExecutionResultMono = jedisPoolMono.flatMap(jedisPool ->
-                pluginExecutor.execute(jedisPool, datasourceConfiguration, getActionConfigurationManyKeys));
+        actionExecutionResultMono = connectionPoolMono.flatMap(connectionPool ->
+                pluginExecutor.execute(connectionPool, datasourceConfiguration, getActionConfigurationManyKeys));
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
                     assertNotNull(actionExecutionResult);
@@ -315,13 +338,13 @@ public class RedisPluginTest {
         DBAuth auth = new DBAuth();
         auth.setDatabaseName("7"); // set database to select
         datasourceConfiguration.setAuthentication(auth);
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("CLIENT INFO");
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
-                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono.flatMap(
+                connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
@@ -338,13 +361,13 @@ public class RedisPluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         DBAuth auth = new DBAuth();
         datasourceConfiguration.setAuthentication(auth);
-        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<RedisConnectionPool> connectionPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("CLIENT INFO");
 
-        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
-                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+        Mono<ActionExecutionResult> actionExecutionResultMono = connectionPoolMono.flatMap(
+                connectionPool -> pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(actionExecutionResultMono)
                 .assertNext(actionExecutionResult -> {
@@ -356,6 +379,227 @@ public class RedisPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void itShouldExecutePipelineWithResultPerCommand() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        RedisConnectionPool connectionPool =
+                pluginExecutor.datasourceCreate(datasourceConfiguration).block();
+
+        ActionConfiguration actionConfiguration = createActionConfiguration(
+                "SET pipelineKey 'my\nvalue'\nGET pipelineKey\n\nINCR pipelineKey\nMGET pipelineKey missingKey",
+                RedisPlugin.ExecutionMode.PIPELINE);
+
+        StepVerifier.create(pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration))
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode results = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(4, results.size());
+                    assertEquals("OK", results.get(0).get(0).get("result").asText());
+                    // Line breaks inside quotes are part of the argument
+                    assertEquals("my\nvalue", results.get(1).get(0).get("result").asText());
+                    // A failed command doesn't fail the others
+                    assertTrue(results.get(2).get(0).get("error").asText().contains("not an integer"));
+                    assertEquals("my\nvalue", results.get(3).get(0).get("result").asText());
+                    assertEquals("null", results.get(3).get(1).get("result").asText());
+                })
+                .verifyComplete();
+
+        pluginExecutor.datasourceDestroy(connectionPool);
+    }
+
+    @Test
+    public void itShouldExecuteTransactionWithResultPerCommand() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        RedisConnectionPool connectionPool =
+                pluginExecutor.datasourceCreate(datasourceConfiguration).block();
+
+        ActionConfiguration actionConfiguration = createActionConfiguration(
+                "SET counter 10\nINCRBY counter 5\nLPUSH counterList a b", RedisPlugin.ExecutionMode.TRANSACTION);
+
+        StepVerifier.create(pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration))
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode results = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(3, results.size());
+                    assertEquals("OK", results.get(0).get(0).get("result").asText());
+                    assertEquals("15", results.get(1).get(0).get("result").asText());
+                    assertEquals("2", results.get(2).get(0).get("result").asText());
+                })
+                .verifyComplete();
+
+        // A command that can't be queued aborts the whole transaction
+        ActionConfiguration abortedActionConfiguration =
+                createActionConfiguration("SET counter 20\nINCRBY counter", RedisPlugin.ExecutionMode.TRANSACTION);
+        StepVerifier.create(
+                        pluginExecutor.execute(connectionPool, datasourceConfiguration, abortedActionConfiguration))
+                .assertNext(actionExecutionResult -> assertFalse(actionExecutionResult.getIsExecutionSuccess()))
+                .verifyComplete();
+
+        ActionConfiguration getActionConfiguration = new ActionConfiguration();
+        getActionConfiguration.setBody("GET counter");
+        StepVerifier.create(pluginExecutor.execute(connectionPool, datasourceConfiguration, getActionConfiguration))
+                .assertNext(actionExecutionResult -> assertEquals(
+                        "15",
+                        ((ArrayNode) actionExecutionResult.getBody())
+                                .get(0)
+                                .get("result")
+                                .asText()))
+                .verifyComplete();
+
+        pluginExecutor.datasourceDestroy(connectionPool);
+    }
+
+    @Test
+    public void itShouldThrowErrorIfUnknownExecutionMode() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        RedisConnectionPool connectionPool =
+                pluginExecutor.datasourceCreate(datasourceConfiguration).block();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("PING");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property(null, "BATCH")));
+
+        StepVerifier.create(pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration))
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+
+        pluginExecutor.datasourceDestroy(connectionPool);
+    }
+
+    @Test
+    public void itShouldResetDatabaseSelectedInScript() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        RedisConnectionPool connectionPool =
+                pluginExecutor.datasourceCreate(datasourceConfiguration).block();
+
+        ActionConfiguration selectActionConfiguration =
+                createActionConfiguration("SELECT 3\nCLIENT INFO", RedisPlugin.ExecutionMode.PIPELINE);
+        StepVerifier.create(pluginExecutor.execute(connectionPool, datasourceConfiguration, selectActionConfiguration))
+                .assertNext(actionExecutionResult -> assertTrue(((ArrayNode) actionExecutionResult.getBody())
+                        .get(1)
+                        .get(0)
+                        .get("result")
+                        .asText()
+                        .contains("db=3")))
+                .verifyComplete();
+
+        ActionConfiguration clientInfoActionConfiguration = new ActionConfiguration();
+        clientInfoActionConfiguration.setBody("CLIENT INFO");
+        StepVerifier.create(
+                        pluginExecutor.execute(connectionPool, datasourceConfiguration, clientInfoActionConfiguration))
+                .assertNext(actionExecutionResult -> assertTrue(((ArrayNode) actionExecutionResult.getBody())
+                        .get(0)
+                        .get("result")
+                        .asText()
+                        .contains("db=0")))
+                .verifyComplete();
+
+        pluginExecutor.datasourceDestroy(connectionPool);
+    }
+
+    @Test
+    public void itShouldNotPingConnectionsBorrowedFromPool() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        RedisConnectionPool connectionPool =
+                pluginExecutor.datasourceCreate(datasourceConfiguration).block();
+
+        ActionConfiguration getActionConfiguration = new ActionConfiguration();
+        getActionConfiguration.setBody("GET key");
+
+        long pingCountBefore = getPingCount(connectionPool, datasourceConfiguration);
+        for (int i = 0; i < 20; i++) {
+            pluginExecutor
+                    .execute(connectionPool, datasourceConfiguration, getActionConfiguration)
+                    .block();
+        }
+        long pingCountAfter = getPingCount(connectionPool, datasourceConfiguration);
+
+        assertEquals(pingCountBefore, pingCountAfter);
+
+        pluginExecutor.datasourceDestroy(connectionPool);
+    }
+
+    private long getPingCount(RedisConnectionPool connectionPool, DatasourceConfiguration datasourceConfiguration) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("INFO commandstats");
+        String commandStats = ((ArrayNode) pluginExecutor
+                        .execute(connectionPool, datasourceConfiguration, actionConfiguration)
+                        .block()
+                        .getBody())
+                .get(0)
+                .get("result")
+                .asText();
+
+        Matcher matcher = Pattern.compile("cmdstat_ping:calls=(\\d+)").matcher(commandStats);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    /**
+     * Compares the time taken to read keys with an execution per key, as dashboards did before, against the time taken
+     * to read them with a single pipeline. The times are logged rather than asserted, to compare across runs on the
+     * same machine.
+     */
+    @Test
+    @Tag("benchmark")
+    public void itShouldLogTimeToReadKeysWithPipelineAndWithExecutionPerKey() {
+        final int keyCount = 50;
+        final int runCount = 20;
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        RedisConnectionPool connectionPool =
+                pluginExecutor.datasourceCreate(datasourceConfiguration).block();
+
+        ActionConfiguration setActionConfiguration = new ActionConfiguration();
+        setActionConfiguration.setBody("MSET "
+                + IntStream.range(0, keyCount)
+                        .mapToObj(i -> "benchmarkKey" + i + " value" + i)
+                        .collect(Collectors.joining(" ")));
+        pluginExecutor
+                .execute(connectionPool, datasourceConfiguration, setActionConfiguration)
+                .block();
+
+        List<ActionConfiguration> getActionConfigurations = IntStream.range(0, keyCount)
+                .mapToObj(i -> {
+                    ActionConfiguration actionConfiguration = new ActionConfiguration();
+                    actionConfiguration.setBody("GET benchmarkKey" + i);
+                    return actionConfiguration;
+                })
+                .collect(Collectors.toList());
+        ActionConfiguration pipelineActionConfiguration = createActionConfiguration(
+                IntStream.range(0, keyCount)
+                        .mapToObj(i -> "GET benchmarkKey" + i)
+                        .collect(Collectors.joining("\n")),
+                RedisPlugin.ExecutionMode.PIPELINE);
+
+        long executionPerKeyNanos = 0;
+        long pipelineNanos = 0;
+        for (int run = 0; run < runCount; run++) {
+            long start = System.nanoTime();
+            Flux.fromIterable(getActionConfigurations)
+                    .flatMap(actionConfiguration ->
+                            pluginExecutor.execute(connectionPool, datasourceConfiguration, actionConfiguration))
+                    .blockLast();
+            executionPerKeyNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            ActionExecutionResult result = pluginExecutor
+                    .execute(connectionPool, datasourceConfiguration, pipelineActionConfiguration)
+                    .block();
+            pipelineNanos += System.nanoTime() - start;
+            assertEquals(keyCount, ((ArrayNode) result.getBody()).size());
+        }
+
+        log.info(
+                "Reading {} keys took {} us with an execution per key and {} us with a pipeline, on average",
+                keyCount,
+                executionPerKeyNanos / runCount / 1000,
+                pipelineNanos / runCount / 1000);
+
+        pluginExecutor.datasourceDestroy(connectionPool);
+    }
+
     @Test
     public void verifyUniquenessOfRedisPluginErrorCode() {
         assert (Arrays.stream(RedisPluginError.values())
@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.ResultRowAccumulator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -12,7 +13,9 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
+import com.external.plugins.exceptions.SnowflakePluginError;
 import com.external.utils.SqlUtils;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
@@ -67,6 +70,16 @@ public class SnowflakePlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final int maxResponseSize;
+
+        public SnowflakePluginExecutor() {
+            this.maxResponseSize = Integer.MAX_VALUE;
+        }
+
+        public SnowflakePluginExecutor(SharedConfig sharedConfig) {
+            this.maxResponseSize = sharedConfig.getMaxResponseSize();
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(
                 HikariDataSource connection,
@@ -116,7 +129,13 @@ public class SnowflakePlugin extends BasePlugin {
 
                         try {
                             // Connection staleness is checked as part of this method call.
-                            return getRowsFromQueryResult(connectionFromPool, query);
+                            return getRowsFromQueryResult(
+                                    connectionFromPool,
+                                    query,
+                                    new ResultRowAccumulator(
+                                            objectMapper,
+                                            maxResponseSize,
+                                            SnowflakePluginError.RESPONSE_SIZE_TOO_LARGE));
                         } catch (AppsmithPluginException | StaleConnectionException e) {
                             throw e;
                         } finally {
@@ -142,9 +161,9 @@ public class SnowflakePlugin extends BasePlugin {
                             }
                         }
                     })
-                    .map(rowsList -> {
+                    .map(rows -> {
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rows);
                         result.setIsExecutionSuccess(true);
                         ActionExecutionRequest request = new ActionExecutionRequest();
                         request.setQuery(query);
@@ -2,8 +2,10 @@ package com.external.utils;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.ResultRowAccumulator;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
 
@@ -33,6 +35,50 @@ public class ExecutionUtils {
     public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query)
             throws AppsmithPluginException, StaleConnectionException {
         List<Map<String, Object>> rowsList = new ArrayList<>();
+        executeQuery(connection, query, (resultSet, metaData, colCount) -> {
+            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+            Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+            for (int i = 1; i <= colCount; i++) {
+                row.put(metaData.getColumnName(i), resultSet.getObject(i));
+            }
+            rowsList.add(row);
+        });
+
+        return rowsList;
+    }
+
+    /**
+     * Execute query and collect the resulting table into the given accumulator, which fails the execution as soon as
+     * the result grows beyond the maximum supported size.
+     *
+     * @param connection - Connection object to execute query.
+     * @param query      - Query string
+     * @param rows       - Accumulator that the rows are collected into.
+     * @return Rows from the response table, as a json array.
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static ArrayNode getRowsFromQueryResult(Connection connection, String query, ResultRowAccumulator rows)
+            throws AppsmithPluginException, StaleConnectionException {
+        executeQuery(connection, query, (resultSet, metaData, colCount) -> {
+            rows.startRow();
+
+            for (int i = 1; i <= colCount; i++) {
+                rows.addCell(metaData.getColumnName(i), resultSet.getObject(i));
+            }
+        });
+
+        return rows.getRows();
+    }
+
+    @FunctionalInterface
+    private interface RowConsumer {
+        void accept(ResultSet resultSet, ResultSetMetaData metaData, int colCount) throws SQLException;
+    }
+
+    private static void executeQuery(Connection connection, String query, RowConsumer rowConsumer)
+            throws AppsmithPluginException, StaleConnectionException {
         ResultSet resultSet = null;
         Statement statement = null;
         try {
@@ -49,14 +95,7 @@ public class ExecutionUtils {
             int colCount = metaData.getColumnCount();
 
             while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                for (int i = 1; i <= colCount; i++) {
-                    Object value = resultSet.getObject(i);
-                    row.put(metaData.getColumnName(i), value);
-                }
-                rowsList.add(row);
+                rowConsumer.accept(resultSet, metaData, colCount);
             }
         } catch (SQLException e) {
             if (e instanceof SnowflakeReauthenticationRequest) {
@@ -85,7 +124,5 @@ public class ExecutionUtils {
                 }
             }
         }
-
-        return rowsList;
     }
 }
@@ -72,6 +72,8 @@ public interface ActionCollectionServiceCE extends CrudService<ActionCollection,
 
     Mono<List<ActionCollection>> archiveActionCollectionByApplicationId(String applicationId, AclPermission permission);
 
+    Mono<Long> publishActionCollections(String applicationId, AclPermission permission);
+
     void populateDefaultResources(
             ActionCollection actionCollection, ActionCollection branchedActionCollection, String branchName);
 
@@ -25,6 +25,7 @@ import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.BaseService;
 import com.appsmith.server.solutions.ActionPermission;
 import com.appsmith.server.solutions.ApplicationPermission;
+import com.mongodb.client.result.UpdateResult;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
@@ -483,6 +484,27 @@ public class ActionCollectionServiceCEImpl extends BaseService<ActionCollectionR
                 .collectList();
     }
 
+    /**
+     * This method publishes all the action collections of an application
+     * 1. It deletes the collections, along with their actions, which were deleted in the edit mode.
+     * 2. It updates the rest of the collections in bulk by setting publishedCollection=unpublishedCollection
+     *
+     * @param applicationId
+     * @param permission
+     * @return Number of collections that were published
+     */
+    @Override
+    public Mono<Long> publishActionCollections(String applicationId, AclPermission permission) {
+        // delete the collections that were deleted in edit mode
+        return repository
+                .findDeletedUnpublishedActionCollectionsByApplicationId(applicationId, permission)
+                .flatMap(actionCollection -> this.archiveById(actionCollection.getId()))
+                .then()
+                // copy the unpublished collection dto to published collection dto
+                .then(repository.publishActionCollections(applicationId, permission))
+                .map(UpdateResult::getMatchedCount);
+    }
+
     @Override
     public Flux<ActionCollection> findByPageId(String pageId) {
         return repository.findByPageId(pageId);
@@ -17,6 +17,9 @@ public class SharedConfigImpl implements SharedConfig {
     @Value("${appsmith.plugin.response.size.max:5}")
     private float maxPluginResponseSize = 5;
 
+    @Value("${appsmith.plugin.response.rows.max:0}")
+    private int maxPluginResponseRows = 0;
+
     private final CloudServicesConfig cloudServicesConfig;
 
     @Override
@@ -29,6 +32,11 @@ public class SharedConfigImpl implements SharedConfig {
         return (int) (this.maxPluginResponseSize * 1024 * 1024);
     }
 
+    @Override
+    public int getMaxResponseRows() {
+        return this.maxPluginResponseRows;
+    }
+
     @Override
     public String getRemoteExecutionUrl() {
         return cloudServicesConfig.getBaseUrl() + "/api/v1/actions/execute";
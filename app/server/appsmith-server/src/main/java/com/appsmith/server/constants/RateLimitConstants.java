@@ -5,4 +5,5 @@ public class RateLimitConstants {
             "Your account is suspended for 24 hours. Please reset your password to continue";
     public static final String BUCKET_KEY_FOR_LOGIN_API = "login";
     public static final String BUCKET_KEY_FOR_TEST_DATASOURCE_API = "test_datasource_or_execute_query";
+    public static final String BUCKET_KEY_FOR_EXECUTE_ACTION_API = "execute_action";
 }
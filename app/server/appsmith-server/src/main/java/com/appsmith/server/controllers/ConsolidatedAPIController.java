@@ -8,9 +8,14 @@ import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.services.ConsolidatedAPIService;
 import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -28,11 +33,15 @@ import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.CON
 public class ConsolidatedAPIController {
     private final ConsolidatedAPIService consolidatedAPIService;
     private final ObservationRegistry observationRegistry;
+    private final ObjectMapper objectMapper;
 
     public ConsolidatedAPIController(
-            ConsolidatedAPIService consolidatedAPIService, ObservationRegistry observationRegistry) {
+            ConsolidatedAPIService consolidatedAPIService,
+            ObservationRegistry observationRegistry,
+            ObjectMapper objectMapper) {
         this.consolidatedAPIService = consolidatedAPIService;
         this.observationRegistry = observationRegistry;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -62,9 +71,13 @@ public class ConsolidatedAPIController {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
-    @JsonView(Views.Public.class)
+    /**
+     * Same as the endpoint for the edit mode, for the view mode. The response carries a strong ETag of its body, so a
+     * request whose `If-None-Match` header has the ETag of the current response is answered with a 304 and no body.
+     * The response is private to the user and has to be revalidated on every page load.
+     */
     @GetMapping("/view")
-    public Mono<ResponseDTO<ConsolidatedAPIResponseDTO>> getAllDataForFirstPageLoadForViewMode(
+    public Mono<ResponseEntity<byte[]>> getAllDataForFirstPageLoadForViewMode(
             @RequestParam(required = false) String applicationId,
             @RequestParam(required = false) String defaultPageId,
             @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
@@ -80,6 +93,15 @@ public class ConsolidatedAPIController {
                 .getConsolidatedInfoForPageLoad(defaultPageId, applicationId, branchName, ApplicationMode.PUBLISHED)
                 .map(consolidatedAPIResponseDTO ->
                         new ResponseDTO<>(HttpStatus.OK.value(), consolidatedAPIResponseDTO, null))
+                .flatMap(responseDTO -> Mono.fromCallable(() -> objectMapper
+                        .writerWithView(Views.Public.class)
+                        .writeValueAsBytes(responseDTO)))
+                // The If-None-Match header of the request is checked against the ETag by the result handler
+                .map(body -> ResponseEntity.ok()
+                        .eTag("\"" + DigestUtils.sha256Hex(body) + "\"")
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body))
                 .name(CONSOLIDATED_API_ROOT_VIEW)
                 .tap(Micrometer.observation(observationRegistry));
     }
@@ -146,10 +146,11 @@ public class DatasourceControllerCE {
     public Mono<ResponseDTO<DatasourceStructure>> getStructure(
             @PathVariable String datasourceId,
             @RequestParam(required = false, defaultValue = "false") Boolean ignoreCache,
+            @RequestParam(required = false) String schemaName,
             @RequestHeader(name = FieldName.HEADER_ENVIRONMENT_ID, required = false) String environmentId) {
         log.debug("Going to get structure for datasource with id: '{}'.", datasourceId);
         return datasourceStructureSolution
-                .getStructure(datasourceId, BooleanUtils.isTrue(ignoreCache), environmentId)
+                .getStructure(datasourceId, BooleanUtils.isTrue(ignoreCache), environmentId, schemaName)
                 .map(structure -> new ResponseDTO<>(HttpStatus.OK.value(), structure, null));
     }
 
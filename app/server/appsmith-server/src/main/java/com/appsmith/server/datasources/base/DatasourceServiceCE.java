@@ -101,4 +101,6 @@ public interface DatasourceServiceCE {
     Mono<Boolean> consumeTokenIfAvailable(DatasourceStorage datasourceStorage);
 
     Mono<Boolean> blockEndpointForConnectionRequest(DatasourceStorage datasourceStorage);
+
+    Mono<Boolean> consumeExecutionTokenIfAvailable(DatasourceStorage datasourceStorage);
 }
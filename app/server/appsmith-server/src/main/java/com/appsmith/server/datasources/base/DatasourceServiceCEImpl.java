@@ -675,6 +675,29 @@ public class DatasourceServiceCEImpl implements DatasourceServiceCE {
         });
     }
 
+    /*
+     * This method consumes a token from the execution bucket of the endpoint of the datasource, when executions are
+     * rate limited. Endpoints are identified the same way as for connection requests, and executions on datasources
+     * without an endpoint identifier are never limited.
+     */
+    @Override
+    public Mono<Boolean> consumeExecutionTokenIfAvailable(DatasourceStorage datasourceStorage) {
+        if (!rateLimitService.isRateLimited(RateLimitConstants.BUCKET_KEY_FOR_EXECUTE_ACTION_API)) {
+            return Mono.just(true);
+        }
+
+        return this.getRateLimitIdentifier(datasourceStorage)
+                .flatMap(rateLimitIdentifier -> {
+                    if (isBlank(rateLimitIdentifier)) {
+                        return Mono.just(true);
+                    }
+
+                    return rateLimitService.tryIncreaseCounter(
+                            RateLimitConstants.BUCKET_KEY_FOR_EXECUTE_ACTION_API, rateLimitIdentifier);
+                })
+                .defaultIfEmpty(true);
+    }
+
     @Override
     public Mono<Datasource> findByNameAndWorkspaceId(
             String name, String workspaceId, Optional<AclPermission> permission) {
@@ -14,7 +14,19 @@ public class DatasourceContext<T> {
 
     Instant creationTime;
 
+    // Updated every time the context is handed out for reuse, to find the contexts that have been idle for long
+    volatile Instant lastAccessTime;
+
+    // Plugin that created the connection, needed to destroy the connection when the context is evicted
+    String pluginId;
+
+    String pluginName;
+
+    // Set when the creation of the connection has failed, so that the context gets replaced on the next request
+    volatile boolean inErrorState;
+
     public DatasourceContext() {
         creationTime = Instant.now();
+        lastAccessTime = creationTime;
     }
 }
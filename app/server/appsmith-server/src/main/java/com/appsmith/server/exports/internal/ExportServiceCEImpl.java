@@ -20,6 +20,7 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.exports.exportable.ExportableService;
 import com.appsmith.server.exports.internal.artifactbased.ArtifactBasedExportService;
+import com.appsmith.server.helpers.JsonStreamingUtils;
 import com.appsmith.server.migrations.JsonSchemaVersions;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
@@ -27,6 +28,8 @@ import com.appsmith.server.services.WorkspaceService;
 import com.google.gson.Gson;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -291,10 +294,15 @@ public class ExportServiceCEImpl implements ExportServiceCE {
         return exportByArtifactIdAndBranchName(artifactId, branchName, artifactJsonType)
                 .doOnNext(artifactExchangeJson -> artifactExchangeJson.setModifiedResources(null))
                 .map(artifactExchangeJson -> {
-                    String stringifiedFile = gson.toJson(artifactExchangeJson);
                     String artifactName =
                             artifactExchangeJson.getExportableArtifact().getName();
-                    Object jsonObject = gson.fromJson(stringifiedFile, Object.class);
+                    // The json is written straight to the response as it is serialized, instead of being held in
+                    // memory as a whole
+                    Flux<DataBuffer> jsonDataBuffers = JsonStreamingUtils.toJsonDataBuffers(
+                            gson,
+                            artifactExchangeJson,
+                            DefaultDataBufferFactory.sharedInstance,
+                            JsonStreamingUtils.DEFAULT_CHUNK_SIZE_IN_BYTES);
                     HttpHeaders responseHeaders = new HttpHeaders();
                     ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
                             .filename(artifactName + ".json", StandardCharsets.UTF_8)
@@ -303,7 +311,7 @@ public class ExportServiceCEImpl implements ExportServiceCE {
                     responseHeaders.setContentType(MediaType.APPLICATION_JSON);
 
                     ExportFileDTO exportFileDTO = new ExportFileDTO();
-                    exportFileDTO.setArtifactResource(jsonObject);
+                    exportFileDTO.setArtifactResource(jsonDataBuffers);
                     exportFileDTO.setHttpHeaders(responseHeaders);
                     return exportFileDTO;
                 });
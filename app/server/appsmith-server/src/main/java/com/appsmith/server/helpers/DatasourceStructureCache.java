@@ -0,0 +1,228 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.models.DatasourceStructure.Column;
+import com.appsmith.external.models.DatasourceStructure.ForeignKey;
+import com.appsmith.external.models.DatasourceStructure.PrimaryKey;
+import com.appsmith.external.models.DatasourceStructure.Table;
+import com.appsmith.external.models.DatasourceStructure.Template;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Keeps the structures of datasources in memory, so that opening the editor doesn't read and deserialize them from
+ * the database every time. The structures of warehouse datasources may take a few megabytes each, so the cache is
+ * bounded by the estimated size of the structures rather than by their number. The structures of datasources that are
+ * not read for the expiry time are dropped.
+ * <p>
+ * The cache never fetches a structure from the datasource by itself, as that scans the whole catalog of the
+ * datasource. A structure is only fetched again when the user asks for it to be refreshed, like before.
+ * <p>
+ * When an instance fetches a new structure, it publishes an invalidation over Redis pub/sub, so that the other
+ * instances drop their copy and read the new structure from the database on the next request.
+ */
+@Slf4j
+@Component
+public class DatasourceStructureCache {
+
+    private static final String CACHE_NAME = "datasourceStructures";
+
+    public static final String INVALIDATION_CHANNEL = "appsmith:datasource-structure:invalidations";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Rough size of an object header and its references, added for every object of the structure
+    private static final int OBJECT_OVERHEAD_IN_BYTES = 48;
+
+    // Templates are built out of the table, so their configuration is estimated instead of walked through
+    private static final int TEMPLATE_CONFIGURATION_IN_BYTES = 512;
+
+    @Value("${appsmith.datasource.structure.cache.max-weight:100000000}")
+    private long maxWeight = 100_000_000;
+
+    @Value("${appsmith.datasource.structure.cache.expiry-seconds:86400}")
+    private long expirySeconds = 86400;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    // Identifies the invalidations published by this instance, which it doesn't need to apply
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public record Key(String datasourceId, String environmentId) {}
+
+    record InvalidationMessage(String instanceId, Key key) {}
+
+    private Cache<Key, DatasourceStructure> cache;
+
+    private Disposable invalidationSubscription;
+
+    public DatasourceStructureCache(
+            MeterRegistry meterRegistry, ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+        this.meterRegistry = meterRegistry;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+    }
+
+    @PostConstruct
+    public void createCache() {
+        cache = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumWeight(maxWeight)
+                        .<Key, DatasourceStructure>weigher((key, structure) ->
+                                (int) Math.min(Integer.MAX_VALUE, estimateSizeInBytes(structure)))
+                        .expireAfterAccess(Duration.ofSeconds(expirySeconds))
+                        .recordStats()
+                        .build(),
+                CACHE_NAME);
+        Gauge.builder("appsmith.datasource.structure.cache.hit.ratio", cache, cache -> cache.stats()
+                        .hitRate())
+                .description("Share of the datasource structure reads that were served from memory")
+                .register(meterRegistry);
+        invalidationSubscription = subscribeToInvalidations();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    private Disposable subscribeToInvalidations() {
+        return reactiveRedisOperations
+                .listenTo(ChannelTopic.of(INVALIDATION_CHANNEL))
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::onInvalidationMessage)
+                .doOnError(error ->
+                        log.error("Error listening to datasource structure invalidations, resubscribing", error))
+                // Missing invalidations would keep outdated structures around until they expire, hence keep listening
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofMinutes(1)))
+                .subscribe();
+    }
+
+    private void onInvalidationMessage(String message) {
+        try {
+            InvalidationMessage invalidation = objectMapper.readValue(message, InvalidationMessage.class);
+            if (!instanceId.equals(invalidation.instanceId())) {
+                cache.invalidate(invalidation.key());
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Unable to read datasource structure invalidation message {}", message, e);
+        }
+    }
+
+    public DatasourceStructure get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(Key key, DatasourceStructure structure) {
+        cache.put(key, structure);
+    }
+
+    /**
+     * Puts the structure that was just fetched from the datasource and saved, and has the other instances drop their
+     * copy of it. Failing to publish the invalidation is only logged, the other instances then keep their copy until
+     * it expires.
+     */
+    public Mono<Void> putAndInvalidateOthers(Key key, DatasourceStructure structure) {
+        put(key, structure);
+
+        final String message;
+        try {
+            message = objectMapper.writeValueAsString(new InvalidationMessage(instanceId, key));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+
+        return reactiveRedisOperations
+                .convertAndSend(INVALIDATION_CHANNEL, message)
+                .doOnError(error -> log.error("Unable to publish datasource structure invalidation {}", message, error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * Estimates the memory taken by the structure from the length of the strings in it, two bytes per character.
+     */
+    static long estimateSizeInBytes(DatasourceStructure structure) {
+        long size = OBJECT_OVERHEAD_IN_BYTES;
+        if (structure == null || structure.getTables() == null) {
+            return size;
+        }
+
+        for (Table table : structure.getTables()) {
+            size += OBJECT_OVERHEAD_IN_BYTES + sizeOf(table.getSchema()) + sizeOf(table.getName());
+
+            if (table.getColumns() != null) {
+                for (Column column : table.getColumns()) {
+                    size += OBJECT_OVERHEAD_IN_BYTES
+                            + sizeOf(column.getName())
+                            + sizeOf(column.getType())
+                            + sizeOf(column.getDefaultValue());
+                }
+            }
+
+            if (table.getKeys() != null) {
+                for (DatasourceStructure.Key key : table.getKeys()) {
+                    size += OBJECT_OVERHEAD_IN_BYTES;
+                    if (key instanceof PrimaryKey primaryKey) {
+                        size += sizeOf(primaryKey.getName()) + sizeOf(primaryKey.getColumnNames());
+                    } else if (key instanceof ForeignKey foreignKey) {
+                        size += sizeOf(foreignKey.getName())
+                                + sizeOf(foreignKey.getFromColumns())
+                                + sizeOf(foreignKey.getToColumns());
+                    }
+                }
+            }
+
+            if (table.getTemplates() != null) {
+                for (Template template : table.getTemplates()) {
+                    size += OBJECT_OVERHEAD_IN_BYTES
+                            + sizeOf(template.getTitle())
+                            + sizeOf(template.getBody())
+                            + (template.getConfiguration() == null ? 0 : TEMPLATE_CONFIGURATION_IN_BYTES);
+                }
+            }
+        }
+
+        return size;
+    }
+
+    private static long sizeOf(String value) {
+        return value == null ? 0 : 2L * value.length();
+    }
+
+    private static long sizeOf(Collection<String> values) {
+        if (values == null) {
+            return 0;
+        }
+
+        long size = 0;
+        for (String value : values) {
+            size += OBJECT_OVERHEAD_IN_BYTES + sizeOf(value);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,190 @@
+package com.appsmith.server.helpers;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+
+public class JsonStreamingUtils {
+
+    public static final int DEFAULT_CHUNK_SIZE_IN_BYTES = 64 * 1024;
+
+    public static final Duration DEFAULT_DEMAND_TIMEOUT = Duration.ofMinutes(1);
+
+    private JsonStreamingUtils() {}
+
+    /**
+     * Same as {@link #toJsonDataBuffers(Gson, Object, DataBufferFactory, int, Duration)}, waiting at most
+     * {@link #DEFAULT_DEMAND_TIMEOUT} for each buffer to be requested.
+     */
+    public static Flux<DataBuffer> toJsonDataBuffers(
+            Gson gson, Object src, DataBufferFactory dataBufferFactory, int chunkSizeInBytes) {
+        return toJsonDataBuffers(gson, src, dataBufferFactory, chunkSizeInBytes, DEFAULT_DEMAND_TIMEOUT);
+    }
+
+    /**
+     * Serializes the given object to JSON, as a stream of buffers of about the given size. Gson writes the object
+     * straight into the buffers, on a bounded elastic thread, and the serialization pauses whenever a buffer is full
+     * until it is requested downstream. Hence, only the buffers that have been requested and the one being filled are
+     * held in memory, and never the complete JSON document.
+     *
+     * @param gson              Gson instance used for the serialization
+     * @param src               Object to serialize
+     * @param dataBufferFactory Factory used to allocate the buffers
+     * @param chunkSizeInBytes  Size after which a buffer is emitted, the last buffer can be smaller
+     * @param demandTimeout     Time to wait for a full buffer to be requested, after which the serialization fails
+     *                          with a {@link TimeoutException}, so that a stalled consumer does not keep the thread
+     * @return Flux of the buffers holding the JSON, in order
+     */
+    public static Flux<DataBuffer> toJsonDataBuffers(
+            Gson gson, Object src, DataBufferFactory dataBufferFactory, int chunkSizeInBytes, Duration demandTimeout) {
+        return Flux.<DataBuffer>create(
+                        sink -> {
+                            final DataBufferOutputStream outputStream = new DataBufferOutputStream(
+                                    sink, dataBufferFactory, chunkSizeInBytes, demandTimeout);
+                            // Carries the settings of the Gson instance, like serializing nulls and escaping HTML
+                            try (JsonWriter jsonWriter = gson.newJsonWriter(
+                                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+                                gson.toJson(src, src.getClass(), jsonWriter);
+                            } catch (Exception e) {
+                                if (!sink.isCancelled()) {
+                                    final TimeoutException timeoutException = outputStream.getTimeoutException();
+                                    sink.error(timeoutException != null ? timeoutException : e);
+                                }
+                                return;
+                            }
+                            sink.complete();
+                        },
+                        FluxSink.OverflowStrategy.ERROR)
+                // Requests must not be scheduled on the thread that is serializing, since it waits for them
+                .subscribeOn(Schedulers.boundedElastic(), false)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * Output stream that emits its content as a buffer every time it reaches the chunk size, and on close. Before
+     * emitting a buffer, it waits until one is requested from the sink.
+     */
+    private static class DataBufferOutputStream extends OutputStream {
+
+        private final FluxSink<DataBuffer> sink;
+        private final DataBufferFactory dataBufferFactory;
+        private final int chunkSizeInBytes;
+        private final long demandTimeoutInNanos;
+        private final ByteArrayOutputStream chunk;
+        private final Object demandLock = new Object();
+
+        private TimeoutException timeoutException;
+
+        private boolean isAborted = false;
+
+        DataBufferOutputStream(
+                FluxSink<DataBuffer> sink,
+                DataBufferFactory dataBufferFactory,
+                int chunkSizeInBytes,
+                Duration demandTimeout) {
+            this.sink = sink;
+            this.dataBufferFactory = dataBufferFactory;
+            this.chunkSizeInBytes = chunkSizeInBytes;
+            this.demandTimeoutInNanos = demandTimeout.toNanos();
+            this.chunk = new ByteArrayOutputStream(chunkSizeInBytes);
+            sink.onRequest(requested -> notifyDemandChange());
+            sink.onCancel(this::notifyDemandChange);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            chunk.write(b);
+            if (chunk.size() >= chunkSizeInBytes) {
+                emitChunk();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                final int writtenLength = Math.min(length, chunkSizeInBytes - chunk.size());
+                chunk.write(bytes, offset, writtenLength);
+                offset += writtenLength;
+                length -= writtenLength;
+                if (chunk.size() >= chunkSizeInBytes) {
+                    emitChunk();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (chunk.size() > 0) {
+                emitChunk();
+            }
+        }
+
+        /**
+         * @return The cause of the failure if no buffer was requested in time, null otherwise
+         */
+        TimeoutException getTimeoutException() {
+            return timeoutException;
+        }
+
+        private void notifyDemandChange() {
+            synchronized (demandLock) {
+                demandLock.notifyAll();
+            }
+        }
+
+        private void emitChunk() throws IOException {
+            if (isAborted) {
+                // Closing the writers after a failure flushes them, which must not wait for a request again
+                throw new IOException("The serialization was aborted");
+            }
+            awaitDemand();
+            final DataBuffer buffer = dataBufferFactory.allocateBuffer(chunk.size());
+            buffer.write(chunk.toByteArray());
+            chunk.reset();
+            sink.next(buffer);
+        }
+
+        private void awaitDemand() throws IOException {
+            final long deadline = System.nanoTime() + demandTimeoutInNanos;
+            synchronized (demandLock) {
+                while (sink.requestedFromDownstream() == 0 && !sink.isCancelled()) {
+                    final long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        isAborted = true;
+                        timeoutException = new TimeoutException(
+                                "No buffer of the JSON was requested within " + Duration.ofNanos(demandTimeoutInNanos));
+                        throw new IOException(timeoutException);
+                    }
+                    try {
+                        demandLock.wait(remainingNanos / 1_000_000, (int) (remainingNanos % 1_000_000));
+                    } catch (InterruptedException e) {
+                        isAborted = true;
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException();
+                    }
+                }
+            }
+
+            if (sink.isCancelled()) {
+                // Stops the serialization, nothing is read from the stream anymore
+                isAborted = true;
+                throw new IOException(new CancellationException());
+            }
+        }
+    }
+}
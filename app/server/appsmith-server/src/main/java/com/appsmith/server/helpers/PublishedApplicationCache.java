@@ -0,0 +1,124 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.CustomJSLib;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.dtos.ActionCollectionViewDTO;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the parts of the consolidated page load response of a published application that only change when the
+ * application is published again, i.e. its current theme, themes, actions, action collections and custom JS libraries.
+ * <p>
+ * The entries are keyed by the branched application, the time at which it was last published, its policies and the
+ * permission groups of the user. Everything in an entry is read with the permissions of the first user of these
+ * permission groups, so it is the same for every other user of the same permission groups. The policies of the
+ * resources of an application are derived from its own, hence a change of the access to the application, like making
+ * it public or changing the permissions of a role on it, changes the key too, on every instance. The entries of an
+ * application are evicted when it is published.
+ */
+@Slf4j
+@Component
+public class PublishedApplicationCache {
+
+    private static final String CACHE_NAME = "publishedApplicationResources";
+
+    @Value("${appsmith.consolidated-api.published.cache.max-size:1000}")
+    private long maxSize = 1000;
+
+    @Value("${appsmith.consolidated-api.published.cache.expiry-seconds:3600}")
+    private long expirySeconds = 3600;
+
+    private final MeterRegistry meterRegistry;
+
+    public record Key(
+            String applicationId,
+            String lastDeployedAt,
+            Set<Policy> applicationPolicies,
+            Set<String> permissionGroupIds) {
+
+        public Key {
+            // Copied, since the key must not change once it is in the cache
+            applicationPolicies = applicationPolicies == null ? Set.of() : copyPolicies(applicationPolicies);
+            permissionGroupIds = Set.copyOf(permissionGroupIds);
+        }
+
+        private static Set<Policy> copyPolicies(Set<Policy> policies) {
+            return policies.stream()
+                    .map(policy -> new Policy(
+                            policy.getPermission(),
+                            policy.getPermissionGroups() == null
+                                    ? Set.of()
+                                    : Set.copyOf(policy.getPermissionGroups())))
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    }
+
+    public record PublishedApplicationResources(
+            Theme currentTheme,
+            List<Theme> themes,
+            List<ActionViewDTO> actions,
+            List<ActionCollectionViewDTO> actionCollections,
+            List<CustomJSLib> customJSLibs) {}
+
+    private AsyncCache<Key, PublishedApplicationResources> cache;
+
+    public PublishedApplicationCache(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void createCache() {
+        cache = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(Duration.ofSeconds(expirySeconds))
+                        .recordStats()
+                        .buildAsync(),
+                CACHE_NAME);
+        Gauge.builder("appsmith.consolidated-api.published.cache.hit.ratio", cache, cache -> cache.synchronous()
+                        .stats()
+                        .hitRate())
+                .description("Share of the published page loads whose application resources were already read")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the resources of the key, reading them with the given Mono when they are not cached yet. Concurrent
+     * calls for the same key share a single read. A read that fails or completes empty is not cached.
+     */
+    public Mono<PublishedApplicationResources> get(Key key, Supplier<Mono<PublishedApplicationResources>> loader) {
+        // The read is subscribed to by the cache, so it has to be given the context of the request for the permissions
+        return Mono.deferContextual(contextView -> Mono.fromFuture(
+                () -> cache.get(
+                        key, (cacheKey, executor) -> loader.get().contextWrite(contextView).toFuture()),
+                true));
+    }
+
+    /**
+     * Evicts the resources of every user of the application, whatever time it was last published at.
+     *
+     * @param applicationId The id of the branched application
+     */
+    public void evict(String applicationId) {
+        cache.synchronous().asMap().keySet().removeIf(key -> key.applicationId().equals(applicationId));
+        log.debug("Evicted the cached published resources of application {}", applicationId);
+    }
+}
@@ -15,16 +15,15 @@ import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.solutions.ReleaseNotesService;
 import com.appsmith.util.WebClientUtils;
-import joptsimple.internal.Strings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.bson.Document;
 import org.springframework.boot.SpringApplication;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.http.HttpHeaders;
-import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.BodyInserters;
 import reactor.core.publisher.Mono;
 
@@ -234,7 +233,7 @@ public class InstanceConfigHelperCEImpl implements InstanceConfigHelperCE {
                     log.error(
                             "Error while getting mongo db version. Hence current mongo db version will remain unavailable in context",
                             error);
-                    return Mono.just(Strings.EMPTY);
+                    return Mono.just(StringUtils.EMPTY);
                 });
     }
 
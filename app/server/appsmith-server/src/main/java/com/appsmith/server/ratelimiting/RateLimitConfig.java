@@ -1,43 +1,65 @@
 package com.appsmith.server.ratelimiting;
 
 import com.appsmith.server.constants.RateLimitConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
-import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
 import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.AsyncProxyManager;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.cluster.RedisClusterClient;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Configuration
 @Slf4j
 public class RateLimitConfig {
-    private static final Map<String, BucketConfiguration> apiConfigurationMap = new HashMap<>();
+    private final Map<String, BucketConfiguration> apiConfigurationMap = new HashMap<>();
 
-    @Autowired
     private final AbstractRedisClient redisClient;
 
-    public RateLimitConfig(AbstractRedisClient redisClient) {
+    /*
+     The proxy of a bucket only holds its key and configuration, the state of the bucket stays in redis.
+     Keeping the proxies saves building one on every request for the users and endpoints that are seen often.
+    */
+    private final Cache<String, AsyncBucketProxy> bucketProxies = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    private AsyncProxyManager<byte[]> asyncProxyManager;
+
+    public RateLimitConfig(
+            AbstractRedisClient redisClient,
+            @Value("${appsmith.rate-limit.action-execution.max-requests:0}") int actionExecutionMaxRequests,
+            @Value("${appsmith.rate-limit.action-execution.refill-seconds:1}") long actionExecutionRefillSeconds) {
         this.redisClient = redisClient;
-    }
 
-    static {
         apiConfigurationMap.put(
                 RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API, createBucketConfiguration(Duration.ofDays(1), 5));
         apiConfigurationMap.put(
                 RateLimitConstants.BUCKET_KEY_FOR_TEST_DATASOURCE_API,
                 createBucketConfiguration(Duration.ofSeconds(5), 3));
+        // Executions are only limited per endpoint when a limit is configured
+        if (actionExecutionMaxRequests > 0) {
+            apiConfigurationMap.put(
+                    RateLimitConstants.BUCKET_KEY_FOR_EXECUTE_ACTION_API,
+                    createBucketConfiguration(
+                            Duration.ofSeconds(actionExecutionRefillSeconds), actionExecutionMaxRequests));
+        }
         // Add more API configurations as needed
     }
 
@@ -61,24 +83,29 @@ public class RateLimitConfig {
                 .build();
     }
 
-    @Bean
-    public Map<String, BucketProxy> apiBuckets() {
-        Map<String, BucketProxy> apiBuckets = new HashMap<>();
-
-        apiConfigurationMap.forEach((apiIdentifier, configuration) ->
-                apiBuckets.put(apiIdentifier, proxyManager().builder().build(apiIdentifier.getBytes(), configuration)));
+    @PostConstruct
+    public void createAsyncProxyManager() {
+        // Goes through the bean, so that every bucket is managed by the same proxy manager
+        asyncProxyManager = proxyManager().asAsync();
+    }
 
-        return apiBuckets;
+    public boolean isRateLimited(String apiIdentifier) {
+        return apiConfigurationMap.containsKey(apiIdentifier);
     }
 
-    public BucketProxy getOrCreateAPIUserSpecificBucket(String apiIdentifier, String userId) {
+    /**
+     * Returns the bucket of the user for the API. The bucket is created in redis with the configuration of the API the
+     * first time a token is consumed from it, and keeps its configuration after that. None of this blocks, every call
+     * to redis is made through the asynchronous commands of lettuce.
+     */
+    public AsyncBucketProxy getOrCreateAPIUserSpecificBucket(String apiIdentifier, String userId) {
         String bucketIdentifier = apiIdentifier + userId;
-        Optional<BucketConfiguration> bucketProxy = proxyManager().getProxyConfiguration(bucketIdentifier.getBytes());
-        if (bucketProxy.isPresent()) {
-            return proxyManager().builder().build(bucketIdentifier.getBytes(), bucketProxy.get());
-        }
-
-        return proxyManager().builder().build(bucketIdentifier.getBytes(), apiConfigurationMap.get(apiIdentifier));
+        return bucketProxies.get(bucketIdentifier, key -> {
+            BucketConfiguration configuration = apiConfigurationMap.get(apiIdentifier);
+            return asyncProxyManager
+                    .builder()
+                    .build(key.getBytes(), () -> CompletableFuture.completedFuture(configuration));
+        });
     }
 
     private static BucketConfiguration createBucketConfiguration(Duration refillDuration, int limit) {
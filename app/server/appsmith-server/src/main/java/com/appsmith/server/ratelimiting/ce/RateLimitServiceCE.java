@@ -6,6 +6,8 @@ import reactor.core.publisher.Mono;
 import java.time.Duration;
 
 public interface RateLimitServiceCE {
+    boolean isRateLimited(String apiIdentifier);
+
     Mono<Boolean> tryIncreaseCounter(String apiIdentifier, String userIdentifier);
 
     Mono<Void> resetCounter(String apiIdentifier, String userIdentifier);
@@ -4,14 +4,11 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.RedisUtils;
 import com.appsmith.server.ratelimiting.RateLimitConfig;
-import io.github.bucket4j.distributed.BucketProxy;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
-import java.util.Map;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -19,8 +16,6 @@ import static java.lang.Boolean.TRUE;
 @Slf4j
 public class RateLimitServiceCEImpl implements RateLimitServiceCE {
 
-    private final Scheduler scheduler = Schedulers.boundedElastic();
-    private final Map<String, BucketProxy> apiBuckets;
     private final RateLimitConfig rateLimitConfig;
     // this number of tokens can later be customised per API in the configuration.
     private final Integer DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST = 1;
@@ -28,23 +23,26 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
     private final RedisUtils redisUtils;
     private final String BLOCKED_HOSTNAME_PREFIX = "blocked";
 
-    public RateLimitServiceCEImpl(
-            Map<String, BucketProxy> apiBuckets, RateLimitConfig rateLimitConfig, RedisUtils redisUtils) {
-        this.apiBuckets = apiBuckets;
+    public RateLimitServiceCEImpl(RateLimitConfig rateLimitConfig, RedisUtils redisUtils) {
         this.rateLimitConfig = rateLimitConfig;
         this.redisUtils = redisUtils;
     }
 
+    @Override
+    public boolean isRateLimited(String apiIdentifier) {
+        return rateLimitConfig.isRateLimited(apiIdentifier);
+    }
+
     @Override
     public Mono<Boolean> tryIncreaseCounter(String apiIdentifier, String userIdentifier) {
 
         return sanitizeInput(apiIdentifier, userIdentifier)
-                .flatMap(isInputValid -> {
-                    BucketProxy userSpecificBucket =
-                            rateLimitConfig.getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier);
-
-                    return Mono.just(userSpecificBucket.tryConsume(DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST));
-                })
+                // The bucket is read and updated in redis asynchronously, so this doesn't block the calling thread
+                .flatMap(isInputValid -> Mono.fromFuture(() -> rateLimitConfig
+                        .getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier)
+                        .tryConsume(DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST)))
+                // The future completes on an I/O thread of the redis client, which must not run the callers' work
+                .publishOn(Schedulers.boundedElastic())
                 .map(isSuccessful -> {
                     if (FALSE.equals(isSuccessful)) {
                         log.debug(
@@ -55,27 +53,18 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
                     }
 
                     return isSuccessful;
-                })
-                // Since we are interacting with redis, we want to make sure that the operation is done on a separate
-                // thread pool
-                .subscribeOn(scheduler);
+                });
     }
 
     @Override
     public Mono<Void> resetCounter(String apiIdentifier, String userIdentifier) {
 
         return sanitizeInput(apiIdentifier, userIdentifier)
-                .flatMap(isInputValid -> {
-                    rateLimitConfig
-                            .getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier)
-                            .reset();
-
-                    return Mono.just(TRUE);
-                })
-                .then()
-                // Since we are interacting with redis, we want to make sure that the operation is done on a separate
-                // thread pool
-                .subscribeOn(scheduler);
+                .flatMap(isInputValid -> Mono.fromFuture(() -> rateLimitConfig
+                        .getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier)
+                        .reset()))
+                .publishOn(Schedulers.boundedElastic())
+                .then();
     }
 
     /* **************************************************************************************************** */
@@ -109,10 +98,7 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
                     }
 
                     return isSuccessful;
-                })
-                // Since we are interacting with redis, we want to make sure that the operation is done on a separate
-                // thread pool
-                .subscribeOn(scheduler);
+                });
     }
 
     /*
@@ -136,10 +122,7 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
                     }
 
                     return isSuccessful;
-                })
-                // Since we are interacting with redis, we want to make sure that the operation is done on a separate
-                // thread pool
-                .subscribeOn(scheduler);
+                });
     }
 
     private Mono<Boolean> sanitizeInput(String apiIdentifier, String userIdentifier) {
@@ -150,12 +133,11 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
         return Mono.just(userIdentifier)
                 .flatMap(username -> {
                     // Handle the case where API itself is not rate limited.
-                    if (!apiBuckets.containsKey(apiIdentifier)) {
+                    if (!rateLimitConfig.isRateLimited(apiIdentifier)) {
                         return Mono.error(new AppsmithException(AppsmithError.UNSUPPORTED_OPERATION));
                     }
 
                     return Mono.just(true);
-                })
-                .subscribeOn(scheduler);
+                });
     }
 }
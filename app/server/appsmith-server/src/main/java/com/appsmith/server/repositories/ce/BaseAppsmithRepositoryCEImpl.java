@@ -24,6 +24,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.Fields;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -509,4 +511,26 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 .collectList()
                 .then();
     }
+
+    /**
+     * Copies the value of one field into another, in all the documents matching the given criteria. The copy runs as a
+     * single update pipeline within MongoDB, so unlike {@link #bulkUpdate(List)}, none of the documents are read into
+     * the server and written back. As the update does not go through auditing, the update time of the documents is set
+     * to the time of the update on the database.
+     *
+     * @param criteria         Criteria for the documents to update. Deleted documents are always left out.
+     * @param sourceField      Field whose value is copied
+     * @param destinationField Field that the value is copied into
+     * @param permission       Permission that the current user needs on the documents, if any
+     * @return Result of the update, with the number of documents that matched the criteria
+     */
+    public Mono<UpdateResult> copyFieldValueInAll(
+            List<Criteria> criteria, String sourceField, String destinationField, AclPermission permission) {
+        UpdateDefinition copyFieldValue = AggregationUpdate.update()
+                .set(destinationField)
+                .toValueOf(Fields.field(sourceField))
+                .set(FieldName.UPDATED_AT)
+                .toValue("$$NOW");
+        return queryBuilder().criteria(criteria).permission(permission).updateAll(copyFieldValue);
+    }
 }
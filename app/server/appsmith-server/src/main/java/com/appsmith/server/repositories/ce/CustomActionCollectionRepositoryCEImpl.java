@@ -8,6 +8,7 @@ import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.QActionCollection;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
+import com.mongodb.client.result.UpdateResult;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
@@ -319,4 +320,31 @@ public class CustomActionCollectionRepositoryCEImpl extends BaseAppsmithReposito
         }
         return queryBuilder().criteria(criteria).permission(permission).all();
     }
+
+    @Override
+    public Flux<ActionCollection> findDeletedUnpublishedActionCollectionsByApplicationId(
+            String applicationId, AclPermission permission) {
+        Criteria applicationCriterion = where(fieldName(QActionCollection.actionCollection.applicationId))
+                .is(applicationId);
+        Criteria deletedCriterion = where(
+                        completeFieldName(QActionCollection.actionCollection.unpublishedCollection.deletedAt))
+                .ne(null);
+
+        return queryBuilder()
+                .criteria(applicationCriterion, deletedCriterion)
+                .permission(permission)
+                .all();
+    }
+
+    @Override
+    public Mono<UpdateResult> publishActionCollections(String applicationId, AclPermission permission) {
+        Criteria applicationCriterion = where(fieldName(QActionCollection.actionCollection.applicationId))
+                .is(applicationId);
+
+        return copyFieldValueInAll(
+                List.of(applicationCriterion),
+                fieldName(QActionCollection.actionCollection.unpublishedCollection),
+                fieldName(QActionCollection.actionCollection.publishedCollection),
+                permission);
+    }
 }
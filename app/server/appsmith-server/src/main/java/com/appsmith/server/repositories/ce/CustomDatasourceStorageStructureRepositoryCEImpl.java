@@ -14,6 +14,8 @@ import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Component
@@ -41,7 +43,11 @@ public class CustomDatasourceStorageStructureRepositoryCEImpl
             String datasourceId, String environmentId, DatasourceStructure structure) {
         return mongoOperations.upsert(
                 new Query().addCriteria(getDatasourceIdAndEnvironmentIdCriteria(datasourceId, environmentId)),
-                Update.update(fieldName(QDatasourceStorageStructure.datasourceStorageStructure.structure), structure),
+                // The update time tells how old the structure is, as the upsert doesn't go through auditing
+                Update.update(fieldName(QDatasourceStorageStructure.datasourceStorageStructure.structure), structure)
+                        .set(
+                                fieldName(QDatasourceStorageStructure.datasourceStorageStructure.updatedAt),
+                                Instant.now()),
                 DatasourceStorageStructure.class);
     }
 }
@@ -8,6 +8,7 @@ import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.helpers.DSLMigrationUtils;
 import com.appsmith.server.helpers.GitFileUtils;
+import com.appsmith.server.helpers.PublishedApplicationCache;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.helpers.ce.GitAutoCommitHelper;
 import com.appsmith.server.layouts.UpdateLayoutService;
@@ -64,7 +65,8 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
             DSLMigrationUtils dslMigrationUtils,
             GitAutoCommitHelper gitAutoCommitHelper,
             ClonePageService<NewAction> actionClonePageService,
-            ClonePageService<ActionCollection> actionCollectionClonePageService) {
+            ClonePageService<ActionCollection> actionCollectionClonePageService,
+            PublishedApplicationCache publishedApplicationCache) {
 
         super(
                 workspaceService,
@@ -96,6 +98,7 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
                 dslMigrationUtils,
                 gitAutoCommitHelper,
                 actionClonePageService,
-                actionCollectionClonePageService);
+                actionCollectionClonePageService,
+                publishedApplicationCache);
     }
 }
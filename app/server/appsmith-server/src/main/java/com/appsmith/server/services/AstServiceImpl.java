@@ -3,6 +3,7 @@ package com.appsmith.server.services;
 import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.configurations.InstanceConfig;
 import com.appsmith.server.services.ce.AstServiceCEImpl;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -10,7 +11,7 @@ import org.springframework.stereotype.Service;
 @Service
 public class AstServiceImpl extends AstServiceCEImpl implements AstService {
 
-    public AstServiceImpl(CommonConfig commonConfig, InstanceConfig instanceConfig) {
-        super(commonConfig, instanceConfig);
+    public AstServiceImpl(CommonConfig commonConfig, InstanceConfig instanceConfig, MeterRegistry meterRegistry) {
+        super(commonConfig, instanceConfig, meterRegistry);
     }
 }
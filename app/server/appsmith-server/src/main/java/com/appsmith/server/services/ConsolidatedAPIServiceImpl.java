@@ -25,10 +25,13 @@ import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.UserProfileDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PublishedApplicationCache;
+import com.appsmith.server.helpers.PublishedApplicationCache.PublishedApplicationResources;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.solutions.ApplicationPermission;
 import com.appsmith.server.themes.base.ThemeService;
 import io.micrometer.observation.ObservationRegistry;
 import io.opentelemetry.api.trace.Span;
@@ -47,7 +50,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.PluginConstants.PLUGINS_THAT_ALLOW_QUERY_CREATION_WITHOUT_DATASOURCE;
@@ -102,6 +107,9 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
     private final DatasourceService datasourceService;
     private final MockDataService mockDataService;
     private final ObservationRegistry observationRegistry;
+    private final ApplicationPermission applicationPermission;
+    private final PermissionGroupService permissionGroupService;
+    private final PublishedApplicationCache publishedApplicationCache;
 
     public ConsolidatedAPIServiceImpl(
             SessionUserService sessionUserService,
@@ -119,7 +127,10 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
             ApplicationService applicationService,
             DatasourceService datasourceService,
             MockDataService mockDataService,
-            ObservationRegistry observationRegistry) {
+            ObservationRegistry observationRegistry,
+            ApplicationPermission applicationPermission,
+            PermissionGroupService permissionGroupService,
+            PublishedApplicationCache publishedApplicationCache) {
         this.sessionUserService = sessionUserService;
         this.userService = userService;
         this.userDataService = userDataService;
@@ -136,6 +147,9 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
         this.datasourceService = datasourceService;
         this.mockDataService = mockDataService;
         this.observationRegistry = observationRegistry;
+        this.applicationPermission = applicationPermission;
+        this.permissionGroupService = permissionGroupService;
+        this.publishedApplicationCache = publishedApplicationCache;
     }
 
     <T> ResponseDTO<T> getSuccessResponse(T data) {
@@ -157,6 +171,19 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
                 INTERNAL_SERVER_ERROR_STATUS, new ErrorDTO(INTERNAL_SERVER_ERROR_CODE, error.getMessage())));
     }
 
+    /**
+     * Returns the response from the cached resources of the published application when they could be read, and from
+     * the given Mono otherwise.
+     */
+    <T> Mono<ResponseDTO<T>> getPublishedResourceResponseMono(
+            Mono<Optional<PublishedApplicationResources>> publishedResourcesMono,
+            Function<PublishedApplicationResources, T> resource,
+            Mono<ResponseDTO<T>> uncachedResponseMono) {
+        return publishedResourcesMono.flatMap(publishedResources -> publishedResources.isPresent()
+                ? Mono.just(getSuccessResponse(resource.apply(publishedResources.get())))
+                : uncachedResponseMono);
+    }
+
     public static String getQualifiedSpanName(String spanName, ApplicationMode mode) {
         return ApplicationMode.PUBLISHED.equals(mode)
                 ? CONSOLIDATED_API_PREFIX + VIEW + spanName
@@ -328,26 +355,72 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
 
         /* Fetch view specific data */
         if (isViewMode) {
+            /* The published application is read with the permissions of the user on every page load, and the time at
+             * which it was last published and its policies, along with the permission groups of the user, key its
+             * cached resources. When any of them cannot be read, every resource is read on its own and reports its own
+             * error.
+             */
+            Mono<Optional<PublishedApplicationResources>> publishedResourcesMonoCache = applicationIdMonoCache
+                    .flatMap(appId -> Mono.zip(
+                                    applicationService.findByBranchNameAndDefaultApplicationId(
+                                            branchName, appId, applicationPermission.getReadPermission()),
+                                    permissionGroupService.getSessionUserPermissionGroupIds())
+                            .flatMap(tuple -> publishedApplicationCache.get(
+                                    new PublishedApplicationCache.Key(
+                                            tuple.getT1().getId(),
+                                            tuple.getT1().getLastDeployedAt(),
+                                            tuple.getT1().getPolicies(),
+                                            tuple.getT2()),
+                                    () -> getPublishedApplicationResources(appId, branchName, mode))))
+                    .map(Optional::of)
+                    .onErrorResume(error -> {
+                        log.debug("Reading the published resources of the application without the cache", error);
+                        return Mono.empty();
+                    })
+                    .defaultIfEmpty(Optional.empty())
+                    .cache();
+
+            Mono<ResponseDTO<Theme>> publishedApplicationThemeResponseDTOMono = getPublishedResourceResponseMono(
+                    publishedResourcesMonoCache,
+                    PublishedApplicationResources::currentTheme,
+                    applicationThemeResponseDTOMono);
+
+            Mono<ResponseDTO<List>> publishedThemesListResponseDTOMono = getPublishedResourceResponseMono(
+                    publishedResourcesMonoCache,
+                    publishedResources -> (List) publishedResources.themes(),
+                    ThemesListResponseDTOMono);
+
+            Mono<ResponseDTO<List>> publishedJSLibsResponseDTOMono = getPublishedResourceResponseMono(
+                    publishedResourcesMonoCache,
+                    publishedResources -> (List) publishedResources.customJSLibs(),
+                    allJSLibsInContextDTOResponseDTOMono);
+
             /* Get list of all actions in view mode */
-            Mono<ResponseDTO<List>> listOfActionViewResponseDTOMono = applicationIdMonoCache
-                    .flatMap(appId -> newActionService
-                            .getActionsForViewMode(appId, branchName)
-                            .collectList())
-                    .map(res -> (List) res)
-                    .map(this::getSuccessResponse)
-                    .onErrorResume(error -> getErrorResponseMono(error, List.class))
-                    .name(getQualifiedSpanName(ACTIONS_SPAN, mode))
-                    .tap(Micrometer.observation(observationRegistry));
+            Mono<ResponseDTO<List>> listOfActionViewResponseDTOMono = getPublishedResourceResponseMono(
+                    publishedResourcesMonoCache,
+                    publishedResources -> (List) publishedResources.actions(),
+                    applicationIdMonoCache
+                            .flatMap(appId -> newActionService
+                                    .getActionsForViewMode(appId, branchName)
+                                    .collectList())
+                            .map(res -> (List) res)
+                            .map(this::getSuccessResponse)
+                            .onErrorResume(error -> getErrorResponseMono(error, List.class))
+                            .name(getQualifiedSpanName(ACTIONS_SPAN, mode))
+                            .tap(Micrometer.observation(observationRegistry)));
 
             /* Get list of all action collections in view mode */
-            Mono<ResponseDTO<List>> listOfActionCollectionViewResponseDTOMono = applicationIdMonoCache
-                    .flatMap(appId -> actionCollectionService
-                            .getActionCollectionsForViewMode(appId, branchName)
-                            .collectList())
-                    .map(res -> (List) res)
-                    .map(this::getSuccessResponse)
-                    .onErrorResume(error -> getErrorResponseMono(error, List.class))
-                    .name(getQualifiedSpanName(ACTION_COLLECTIONS_SPAN, mode));
+            Mono<ResponseDTO<List>> listOfActionCollectionViewResponseDTOMono = getPublishedResourceResponseMono(
+                    publishedResourcesMonoCache,
+                    publishedResources -> (List) publishedResources.actionCollections(),
+                    applicationIdMonoCache
+                            .flatMap(appId -> actionCollectionService
+                                    .getActionCollectionsForViewMode(appId, branchName)
+                                    .collectList())
+                            .map(res -> (List) res)
+                            .map(this::getSuccessResponse)
+                            .onErrorResume(error -> getErrorResponseMono(error, List.class))
+                            .name(getQualifiedSpanName(ACTION_COLLECTIONS_SPAN, mode)));
 
             /* This list contains the Mono objects corresponding to all the data points required for view mode. All
              * the Mono objects in this list will be evaluated via Mono.zip operator.
@@ -357,11 +430,11 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
                     tenantResponseDTOMono,
                     featureFlagsForCurrentUserResponseDTOMonoCache,
                     applicationPagesDTOResponseDTOMonoCache,
-                    applicationThemeResponseDTOMono,
-                    ThemesListResponseDTOMono,
+                    publishedApplicationThemeResponseDTOMono,
+                    publishedThemesListResponseDTOMono,
                     listOfActionViewResponseDTOMono,
                     listOfActionCollectionViewResponseDTOMono,
-                    allJSLibsInContextDTOResponseDTOMono,
+                    publishedJSLibsResponseDTOMono,
                     productAlertResponseDTOMono));
 
             if (!isBlank(defaultPageId)) {
@@ -588,6 +661,29 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
         }
     }
 
+    /**
+     * Reads the resources of the published application that are cached across page loads. Any error is left for the
+     * caller to fall back to reading every resource on its own.
+     */
+    private Mono<PublishedApplicationResources> getPublishedApplicationResources(
+            String applicationId, String branchName, ApplicationMode mode) {
+        return Mono.zip(
+                        themeService.getApplicationTheme(applicationId, mode, branchName),
+                        themeService
+                                .getApplicationThemes(applicationId, branchName)
+                                .collectList(),
+                        newActionService
+                                .getActionsForViewMode(applicationId, branchName)
+                                .collectList(),
+                        actionCollectionService
+                                .getActionCollectionsForViewMode(applicationId, branchName)
+                                .collectList(),
+                        customJSLibService.getAllJSLibsInContext(
+                                applicationId, CreatorContextType.APPLICATION, branchName, true))
+                .map(tuple -> new PublishedApplicationResources(
+                        tuple.getT1(), tuple.getT2(), tuple.getT3(), tuple.getT4(), tuple.getT5()));
+    }
+
     private boolean isPossibleToCreateQueryWithoutDatasource(Plugin plugin) {
         return PLUGINS_THAT_ALLOW_QUERY_CREATION_WITHOUT_DATASOURCE.contains(plugin.getPackageName());
     }
@@ -37,6 +37,7 @@ import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.DSLMigrationUtils;
 import com.appsmith.server.helpers.GitFileUtils;
 import com.appsmith.server.helpers.GitUtils;
+import com.appsmith.server.helpers.PublishedApplicationCache;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.helpers.UserPermissionUtils;
 import com.appsmith.server.helpers.ce.GitAutoCommitHelper;
@@ -130,6 +131,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private final GitAutoCommitHelper gitAutoCommitHelper;
     private final ClonePageService<NewAction> actionClonePageService;
     private final ClonePageService<ActionCollection> actionCollectionClonePageService;
+    private final PublishedApplicationCache publishedApplicationCache;
 
     public static final Integer EVALUATION_VERSION = 2;
 
@@ -1042,6 +1044,8 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     public Mono<Application> publish(String applicationId, boolean isPublishedManually) {
         return publishAndGetMetadata(applicationId, isPublishedManually)
                 .flatMap(tuple2 -> {
+                    // Page loads in view mode must not be served what was published before
+                    publishedApplicationCache.evict(applicationId);
                     ApplicationPublishingMetaDTO metaDTO = tuple2.getT2();
                     return sendApplicationPublishedEvent(metaDTO);
                 })
@@ -1141,21 +1145,8 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 .countActionsByPluginType(applicationId)
                 .collectMap(PluginTypeAndCountDTO::getPluginType, PluginTypeAndCountDTO::getCount);
 
-        Mono<List<ActionCollection>> publishedActionCollectionsListMono = actionCollectionService
-                .findAllByApplicationIdAndViewMode(applicationId, false, actionPermission.getEditPermission(), null)
-                .flatMap(collection -> {
-                    // If the collection was deleted in edit mode, now this can be safely deleted from the repository
-                    if (collection.getUnpublishedCollection().getDeletedAt() != null) {
-                        return actionCollectionService
-                                .archiveById(collection.getId())
-                                .then(Mono.empty());
-                    }
-                    // Publish the collection by copying the unpublished collectionDTO to published collectionDTO
-                    collection.setPublishedCollection(collection.getUnpublishedCollection());
-                    return Mono.just(collection);
-                })
-                .flatMap(actionCollectionService::save)
-                .collectList()
+        Mono<Long> publishedActionCollectionsCountMono = actionCollectionService
+                .publishActionCollections(applicationId, actionPermission.getEditPermission())
                 .cache(); // caching because it's needed to send analytics attributes after publishing the app
 
         ApplicationPublishingMetaDTO applicationPublishingMetaDTO = ApplicationPublishingMetaDTO.builder()
@@ -1164,12 +1155,12 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 .applicationPagesMono(publishApplicationAndPages)
                 .updatedPublishedJSLibDTOsMono(Mono.just(updatedPublishedJSLibDTOs))
                 .actionCountByPluginTypeMapMono(actionCountByPluginTypeMapMono)
-                .publishedActionCollectionsListMono(publishedActionCollectionsListMono)
+                .publishedActionCollectionsCountMono(publishedActionCollectionsCountMono)
                 .build();
 
         return publishApplicationAndPages
                 .flatMap(
-                        newPages -> Mono.when(publishActionsMono, publishedActionCollectionsListMono, publishThemeMono))
+                        newPages -> Mono.when(publishActionsMono, publishedActionCollectionsCountMono, publishThemeMono))
                 .then(Mono.just(Tuples.of(applicationMono, applicationPublishingMetaDTO)));
     }
 
@@ -1184,8 +1175,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
 
         Mono<List<ApplicationPage>> publishApplicationAndPages = publishingMetaDTO.getApplicationPagesMono();
         Mono<Map<PluginType, Integer>> publishedActionsFlux = publishingMetaDTO.getActionCountByPluginTypeMapMono();
-        Mono<List<ActionCollection>> publishedActionsCollectionFlux =
-                publishingMetaDTO.getPublishedActionCollectionsListMono();
+        Mono<Long> publishedActionCollectionsCountMono = publishingMetaDTO.getPublishedActionCollectionsCountMono();
         Mono<Set<CustomJSLibContextDTO>> publishedJSLibDTOsMono = publishingMetaDTO.getUpdatedPublishedJSLibDTOsMono();
         String applicationId = publishingMetaDTO.getApplicationId();
         boolean isPublishedManually = publishingMetaDTO.isPublishedManually();
@@ -1195,7 +1185,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
         return Mono.zip(
                         publishApplicationAndPages,
                         publishedActionsFlux,
-                        publishedActionsCollectionFlux,
+                        publishedActionCollectionsCountMono,
                         // not using existing applicationMono because we need the latest Application after published
                         applicationService.findById(applicationId, applicationPermission.getEditPermission()),
                         publishedJSLibDTOsMono,
@@ -1226,7 +1216,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     extraProperties.put(
                             "queryCount",
                             (dbQueryCount + apiCount + jsFuncCount + saasQueryCount + remoteQueryCount + aiQueryCount));
-                    extraProperties.put("actionCollectionCount", objects.getT3().size());
+                    extraProperties.put("actionCollectionCount", objects.getT3());
                     extraProperties.put("jsLibsCount", objects.getT5().size());
                     extraProperties.put("appId", defaultIfNull(application.getId(), ""));
                     extraProperties.put("appName", defaultIfNull(application.getName(), ""));
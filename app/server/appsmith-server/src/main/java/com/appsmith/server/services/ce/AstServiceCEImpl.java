@@ -7,12 +7,19 @@ import com.appsmith.server.configurations.InstanceConfig;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.util.WebClientUtils;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.BodyInserters;
@@ -25,23 +32,30 @@ import reactor.util.function.Tuples;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
-@RequiredArgsConstructor
 public class AstServiceCEImpl implements AstServiceCE {
 
     private final CommonConfig commonConfig;
 
     private final InstanceConfig instanceConfig;
 
+    private final MeterRegistry meterRegistry;
+
     private final WebClient webClient = WebClientUtils.create(ConnectionProvider.builder("rts-provider")
             .maxConnections(100)
             .maxIdleTime(Duration.ofSeconds(30))
@@ -52,6 +66,49 @@ public class AstServiceCEImpl implements AstServiceCE {
 
     private static final long MAX_API_RESPONSE_TIME_IN_MS = 50;
 
+    private static final String REFERENCES_CACHE_NAME = "astReferences";
+
+    // Total length of the binding values for which the references are kept in memory
+    @Value("${appsmith.ast.references.cache.max-weight:20000000}")
+    private long maxReferencesCacheWeight = 20_000_000;
+
+    /**
+     * The references found in a binding value only depend on the binding value and the evaluation version, hence they
+     * are cached by the two. The same bindings show up across pages and on every save of a page, so most of them are
+     * served from here instead of going to RTS.
+     */
+    private AsyncCache<ReferencesCacheKey, Set<String>> referencesCache;
+
+    private Timer rtsReferencesCallTimer;
+
+    record ReferencesCacheKey(String bindingValue, int evalVersion) {}
+
+    public AstServiceCEImpl(CommonConfig commonConfig, InstanceConfig instanceConfig, MeterRegistry meterRegistry) {
+        this.commonConfig = commonConfig;
+        this.instanceConfig = instanceConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void createReferencesCache() {
+        referencesCache = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumWeight(maxReferencesCacheWeight)
+                        .<ReferencesCacheKey, Set<String>>weigher((key, references) -> key.bindingValue().length())
+                        .recordStats()
+                        .buildAsync(),
+                REFERENCES_CACHE_NAME);
+        Gauge.builder("appsmith.ast.references.cache.hit.ratio", referencesCache, cache -> cache.synchronous()
+                        .stats()
+                        .hitRate())
+                .description("Share of the binding values whose references were found without calling RTS")
+                .register(meterRegistry);
+        rtsReferencesCallTimer = Timer.builder("appsmith.ast.references.rts.calls")
+                .description("Time taken by RTS to find the references in a batch of binding values")
+                .register(meterRegistry);
+    }
+
     @Override
     public Mono<Map<MustacheBindingToken, String>> replaceValueInMustacheKeys(
             Set<MustacheBindingToken> mustacheKeySet,
@@ -115,24 +172,61 @@ public class AstServiceCEImpl implements AstServiceCE {
                         Mono.just(new HashSet<>(MustacheHelper.getPossibleParentsOld(bindingValue))));
             });
         }
-        return webClient
-                .post()
-                .uri(commonConfig.getRtsBaseUrl() + "/rts-api/v1/ast/multiple-script-data")
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(BodyInserters.fromValue(new GetIdentifiersRequestBulk(bindingValues, evalVersion)))
-                .retrieve()
-                .bodyToMono(GetIdentifiersResponseBulk.class)
-                .retryWhen(Retry.max(3))
-                .flatMapIterable(getIdentifiersResponse -> getIdentifiersResponse.data)
-                .index()
-                .flatMap(tuple2 -> {
-                    long currentIndex = tuple2.getT1();
-                    Set<String> references = tuple2.getT2().getReferences();
-                    return Mono.zip(Mono.just(bindingValues.get((int) currentIndex)), Mono.just(references));
-                });
+
+        final List<ReferencesCacheKey> cacheKeys = bindingValues.stream()
+                .map(bindingValue -> new ReferencesCacheKey(bindingValue, evalVersion))
+                .toList();
+
+        // Binding values that are already known are served from memory, and the ones that are being looked up by a
+        // concurrent request are waited upon. Only the rest are sent to RTS, in one call.
+        return Mono.fromFuture(() -> referencesCache.getAll(cacheKeys, this::getPossibleReferencesFromRts), true)
+                .flatMapIterable(referencesByKey -> cacheKeys.stream()
+                        // Binding values that RTS returned no references for are skipped, as they are not cached
+                        .filter(referencesByKey::containsKey)
+                        .map(cacheKey -> Tuples.of(cacheKey.bindingValue(), referencesByKey.get(cacheKey)))
+                        .toList());
         // TODO: add error handling scenario for when RTS is not accessible in fat container
     }
 
+    private CompletableFuture<Map<ReferencesCacheKey, Set<String>>> getPossibleReferencesFromRts(
+            Set<? extends ReferencesCacheKey> cacheKeys, Executor executor) {
+        final List<ReferencesCacheKey> missingKeys = new ArrayList<>(cacheKeys);
+        final List<String> scripts =
+                missingKeys.stream().map(ReferencesCacheKey::bindingValue).toList();
+        // All the keys of a lookup share the evaluation version
+        final int evalVersion = missingKeys.get(0).evalVersion();
+
+        return Mono.defer(() -> {
+                    final long startNanos = System.nanoTime();
+                    return webClient
+                            .post()
+                            .uri(commonConfig.getRtsBaseUrl() + "/rts-api/v1/ast/multiple-script-data")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(BodyInserters.fromValue(new GetIdentifiersRequestBulk(scripts, evalVersion)))
+                            .retrieve()
+                            .bodyToMono(GetIdentifiersResponseBulk.class)
+                            .retryWhen(Retry.max(3))
+                            .doFinally(signalType -> rtsReferencesCallTimer.record(
+                                    System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+                })
+                .map(getIdentifiersResponse -> {
+                    final Map<ReferencesCacheKey, Set<String>> referencesByKey = new HashMap<>();
+                    // Only the binding values that have a counterpart in the response are cached
+                    final int responseCount = getIdentifiersResponse.data == null
+                            ? 0
+                            : Math.min(missingKeys.size(), getIdentifiersResponse.data.size());
+                    for (int i = 0; i < responseCount; i++) {
+                        Set<String> references = getIdentifiersResponse.data.get(i).getReferences();
+                        // The references are shared by all the lookups of the binding value, hence read only
+                        referencesByKey.put(
+                                missingKeys.get(i),
+                                references == null ? Set.of() : Collections.unmodifiableSet(references));
+                    }
+                    return referencesByKey;
+                })
+                .toFuture();
+    }
+
     @Override
     public Mono<Map<MustacheBindingToken, String>> refactorNameInDynamicBindings(
             Set<MustacheBindingToken> bindingValues,
@@ -20,22 +20,36 @@ import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 @Slf4j
 public class DatasourceContextServiceCEImpl implements DatasourceContextServiceCE {
 
     // DatasourceContextIdentifier contains datasourceId & environmentId which is mapped to DatasourceContext
-    protected final Map<DatasourceContextIdentifier, Mono<? extends DatasourceContext<?>>> datasourceContextMonoMap;
-    protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
+    // All the transitions of a datasource's context happen within the compute methods of this map, hence it must
+    // remain a ConcurrentHashMap
+    protected final ConcurrentHashMap<DatasourceContextIdentifier, Mono<? extends DatasourceContext<?>>>
+            datasourceContextMonoMap;
     protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
@@ -44,9 +58,28 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     private final ConfigService configService;
     private final DatasourcePermission datasourcePermission;
 
+    private final MeterRegistry meterRegistry;
+
     private final AppsmithException TOO_MANY_REQUESTS_EXCEPTION =
             new AppsmithException(AppsmithError.TOO_MANY_FAILED_DATASOURCE_CONNECTION_REQUESTS);
 
+    private static final String CONTEXT_METRIC_PREFIX = "appsmith.datasource.context.";
+    private static final String PLUGIN_TAG = "plugin";
+    private static final String REASON_TAG = "reason";
+    private static final String EVICTION_REASON_IDLE = "idle";
+    private static final String EVICTION_REASON_SIZE = "size";
+
+    // Maximum number of datasource contexts (and hence connections / connection pools) kept open for reuse
+    @Value("${appsmith.datasource.context.cache.max-size:500}")
+    private int maxCachedDatasourceContexts = 500;
+
+    // Datasource contexts that haven't been used for this long are destroyed
+    @Value("${appsmith.datasource.context.cache.max-idle-minutes:30}")
+    private long maxDatasourceContextIdleMinutes = 30;
+
+    // Plugins for which the live contexts gauge has already been registered
+    private final Set<String> pluginsWithLiveContextGauge = ConcurrentHashMap.newKeySet();
+
     @Autowired
     public DatasourceContextServiceCEImpl(
             @Lazy DatasourceService datasourceService,
@@ -54,32 +87,34 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
             ConfigService configService,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            MeterRegistry meterRegistry) {
         this.datasourceService = datasourceService;
         this.datasourceStorageService = datasourceStorageService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.datasourceContextMap = new ConcurrentHashMap<>();
         this.datasourceContextMonoMap = new ConcurrentHashMap<>();
-        this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
-     * This method defines a critical section that can be executed only by one thread at a time per datasource id - i
-     * .e. if two threads want to create datasource for different datasource ids then they would not be synchronized.
-     * Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
-     * resulted in a data race condition resulting in multiple orphan connections.
+     * Returns a cached source publisher which upon subscription produces / returns the latest datasource context /
+     * connection for the given datasource. Earlier multiple threads could subscribe to a publisher that created
+     * connection to a datasource - which resulted in a data race condition resulting in multiple orphan connections.
      * Ref: https://github.com/appsmithorg/appsmith/issues/14117
-     * This method caches the result from the source publisher and forces concurrent subscriptions to re-use the cached
-     * value. Hence, even if multiple threads subscribe to the same source publisher they get the pre-computed cached
-     * value instead of creating a new connection for each subscription of the source publisher.
+     * <p>
+     * The decision to reuse, replace or create the context is taken atomically per datasource within
+     * {@link ConcurrentHashMap#compute}, so all the concurrent requests for a cold datasource get the same publisher,
+     * without any of them waiting on a lock. The publisher caches its result, hence even if it is subscribed multiple
+     * times the connection gets created only once. Connections that are stale or in error state are destroyed once the
+     * map has been updated, on the bounded elastic scheduler instead of the calling thread.
      *
      * @param datasourceStorage           - datasource storage for which a new datasource context / connection needs to be created
      * @param plugin
      * @param pluginExecutor              - plugin executor associated with the datasource's plugin
-     * @param monitor                     - unique monitor object per datasource id. Lock is acquired on this monitor object.
      * @param datasourceContextIdentifier - key for the datasourceContextMaps.
      * @return a cached source publisher which upon subscription produces / returns the latest datasource context /
      * connection.
@@ -88,69 +123,202 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             DatasourceStorage datasourceStorage,
             Plugin plugin,
             PluginExecutor<Object> pluginExecutor,
-            Object monitor,
             DatasourceContextIdentifier datasourceContextIdentifier) {
-        synchronized (monitor) {
-            /* Destroy any connection that is stale or in error state to free up resource */
-            final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
-            final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-
-            if (isStale || isInErrorState) {
-                final Object connection =
-                        datasourceContextMap.get(datasourceContextIdentifier).getConnection();
-                if (connection != null) {
-                    try {
-                        // Basically remove entry from both cache maps
-                        pluginExecutor.datasourceDestroy(connection);
-                    } catch (Exception e) {
-                        log.info("Error destroying stale datasource connection", e);
+        if (!datasourceContextIdentifier.isKeyValid() || !shouldCacheContextForThisPlugin(plugin)) {
+            return createDatasourceContextMono(datasourceStorage, plugin, pluginExecutor, new DatasourceContext<>());
+        }
+
+        final AtomicBoolean isNewContextCreated = new AtomicBoolean(false);
+        final AtomicReference<DatasourceContext<?>> replacedDatasourceContext = new AtomicReference<>();
+        final Mono<? extends DatasourceContext<?>> datasourceContextMono = datasourceContextMonoMap.compute(
+                datasourceContextIdentifier, (key, cachedDatasourceContextMono) -> {
+                    final DatasourceContext<?> cachedDatasourceContext = datasourceContextMap.get(key);
+
+                    /*
+                     * If a publisher with cached value already exists then return it. Please note that even if this
+                     * publisher is evaluated multiple times the actual datasource creation will only happen once and
+                     * get cached and the same value would directly be returned to further evaluations / subscriptions.
+                     */
+                    if (cachedDatasourceContextMono != null
+                            && cachedDatasourceContext != null
+                            && !getIsStale(datasourceStorage, key)
+                            && !cachedDatasourceContext.isInErrorState()) {
+                        log.debug("Cached resource context mono exists. Returning the same.");
+                        // Contexts without a connection, or still connecting, are only ever handed out from here
+                        cachedDatasourceContext.setLastAccessTime(Instant.now());
+                        return cachedDatasourceContextMono;
                     }
-                }
-                datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                datasourceContextMap.remove(datasourceContextIdentifier);
-            }
 
-            /*
-             * If a publisher with cached value already exists then return it. Please note that even if this publisher is
-             * evaluated multiple times the actual datasource creation will only happen once and get cached and the same
-             * value would directly be returned to further evaluations / subscriptions.
-             */
-            if (datasourceContextIdentifier.getDatasourceId() != null
-                    && datasourceContextMonoMap.get(datasourceContextIdentifier) != null) {
-                log.debug("Cached resource context mono exists. Returning the same.");
-                return datasourceContextMonoMap.get(datasourceContextIdentifier);
-            }
+                    /* Any connection that is stale or in error state is destroyed once the map has been updated */
+                    replacedDatasourceContext.set(cachedDatasourceContext);
+
+                    /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add)
+                    with the new connection in the context map. */
+                    final DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+                    datasourceContextMap.put(key, datasourceContext);
+                    isNewContextCreated.set(true);
+                    return createDatasourceContextMono(datasourceStorage, plugin, pluginExecutor, datasourceContext);
+                });
+
+        final DatasourceContext<?> staleDatasourceContext = replacedDatasourceContext.get();
+        if (staleDatasourceContext != null) {
+            destroyDatasourceConnection(Mono.just(pluginExecutor), staleDatasourceContext.getConnection());
+        }
 
-            /* Create a fresh datasource context */
-            DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
-            if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
-                /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
-                the new connection in the context map. */
-                datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
+        if (isNewContextCreated.get()) {
+            // The size bound is enforced outside the compute block, since eviction updates other entries of the map
+            registerLiveContextGauge(getPluginNameForMetrics(plugin));
+            evictLeastRecentlyUsedDatasourceContexts();
+        }
+
+        return datasourceContextMono;
+    }
+
+    /**
+     * Creates a publisher that creates the connection for the given context on its first subscription, and caches the
+     * result for all further subscriptions.
+     */
+    private Mono<DatasourceContext<Object>> createDatasourceContextMono(
+            DatasourceStorage datasourceStorage,
+            Plugin plugin,
+            PluginExecutor<Object> pluginExecutor,
+            DatasourceContext<Object> datasourceContext) {
+        datasourceContext.setPluginId(plugin.getId());
+        datasourceContext.setPluginName(getPluginNameForMetrics(plugin));
+
+        final Timer creationTimer = Timer.builder(CONTEXT_METRIC_PREFIX + "creation")
+                .description("Time taken to create a datasource connection")
+                .tag(PLUGIN_TAG, datasourceContext.getPluginName())
+                .register(meterRegistry);
+        Mono<Object> connectionMonoCache = Mono.defer(() -> {
+                    final long creationStartNanos = System.nanoTime();
+                    return pluginExecutor
+                            .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
+                            .doFinally(signalType -> creationTimer.record(
+                                    System.nanoTime() - creationStartNanos, TimeUnit.NANOSECONDS));
+                })
+                .cache();
+
+        return connectionMonoCache
+                .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
+                .map(connection -> {
+                    /* When a connection object exists and makes sense for the plugin, we put it in the
+                    context. Example, DB plugins. */
+                    datasourceContext.setConnection(connection);
+                    return datasourceContext;
+                })
+                .defaultIfEmpty(
+                        /* When a connection object doesn't make sense for the plugin, we get an empty mono
+                        and we just return the context object as is. */
+                        datasourceContext)
+                // Marks the context to be replaced on the next request, instead of handing out the cached error
+                .doOnError(error -> datasourceContext.setInErrorState(true))
+                .cache(); /* Cache the value so that further evaluations don't result in new connections */
+    }
+
+    /**
+     * Destroys the connection on the bounded elastic scheduler, since destroying a connection may block.
+     */
+    private void destroyDatasourceConnection(Mono<? extends PluginExecutor> pluginExecutorMono, Object connection) {
+        if (connection == null) {
+            return;
+        }
+
+        pluginExecutorMono
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(pluginExecutor -> pluginExecutor.datasourceDestroy(connection))
+                .doOnError(error -> log.info("Error destroying datasource connection", error))
+                .onErrorResume(error -> Mono.empty())
+                .subscribe();
+    }
+
+    private static String getPluginNameForMetrics(Plugin plugin) {
+        return plugin.getPackageName() != null ? plugin.getPackageName() : "unknown";
+    }
+
+    private void registerLiveContextGauge(String pluginName) {
+        if (!pluginsWithLiveContextGauge.add(pluginName)) {
+            return;
+        }
+
+        Gauge.builder(
+                        CONTEXT_METRIC_PREFIX + "live",
+                        datasourceContextMap,
+                        contextMap -> contextMap.values().stream()
+                                .filter(datasourceContext -> pluginName.equals(datasourceContext.getPluginName()))
+                                .count())
+                .description("Number of datasource contexts kept open for reuse")
+                .tag(PLUGIN_TAG, pluginName)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Destroys the datasource contexts that haven't been used for longer than the configured idle time. Without this
+     * the connections, or connection pools, of every datasource ever executed would stay open for the lifetime of the
+     * server.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public void evictIdleDatasourceContexts() {
+        final Instant idleThreshold = Instant.now().minus(Duration.ofMinutes(maxDatasourceContextIdleMinutes));
+
+        datasourceContextMap.forEach((datasourceContextIdentifier, datasourceContext) -> {
+            if (datasourceContext.getLastAccessTime().isBefore(idleThreshold)) {
+                evictDatasourceContext(datasourceContextIdentifier, datasourceContext, EVICTION_REASON_IDLE);
             }
+        });
+    }
 
-            Mono<Object> connectionMonoCache = pluginExecutor
-                    .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
-                    .cache();
-
-            Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
-                    .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
-                    .map(connection -> {
-                        /* When a connection object exists and makes sense for the plugin, we put it in the
-                        context. Example, DB plugins. */
-                        datasourceContext.setConnection(connection);
-                        return datasourceContext;
-                    })
-                    .defaultIfEmpty(
-                            /* When a connection object doesn't make sense for the plugin, we get an empty mono
-                            and we just return the context object as is. */
-                            datasourceContext)
-                    .cache(); /* Cache the value so that further evaluations don't result in new connections */
-
-            if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
-                datasourceContextMonoMap.put(datasourceContextIdentifier, datasourceContextMonoCache);
+    /**
+     * Destroys the least recently used datasource contexts until the number of cached contexts is within the
+     * configured maximum.
+     */
+    protected void evictLeastRecentlyUsedDatasourceContexts() {
+        int excessContexts = datasourceContextMap.size() - maxCachedDatasourceContexts;
+        if (excessContexts <= 0) {
+            return;
+        }
+
+        datasourceContextMap.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getValue().getLastAccessTime()))
+                .limit(excessContexts)
+                .toList()
+                .forEach(entry -> evictDatasourceContext(entry.getKey(), entry.getValue(), EVICTION_REASON_SIZE));
+    }
+
+    private void evictDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            DatasourceContext<?> datasourceContext,
+            String reason) {
+        final AtomicBoolean isEvicted = new AtomicBoolean(false);
+        datasourceContextMonoMap.computeIfPresent(datasourceContextIdentifier, (key, datasourceContextMono) -> {
+            // Only evict the context if it hasn't been replaced in the meantime
+            if (!datasourceContextMap.remove(key, datasourceContext)) {
+                return datasourceContextMono;
             }
-            return datasourceContextMonoCache;
+            isEvicted.set(true);
+            return null;
+        });
+        if (!isEvicted.get()) {
+            return;
+        }
+
+        log.debug(
+                "Evicting datasource context for datasource id {} due to {}",
+                datasourceContextIdentifier.getDatasourceId(),
+                reason);
+        meterRegistry
+                .counter(
+                        CONTEXT_METRIC_PREFIX + "evictions",
+                        PLUGIN_TAG,
+                        String.valueOf(datasourceContext.getPluginName()),
+                        REASON_TAG,
+                        reason)
+                .increment();
+
+        if (datasourceContext.getPluginId() != null) {
+            destroyDatasourceConnection(
+                    pluginExecutorHelper.getPluginExecutor(pluginService.findById(datasourceContext.getPluginId())),
+                    datasourceContext.getConnection());
         }
     }
 
@@ -192,28 +360,8 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     Plugin plugin = tuple2.getT1();
                     PluginExecutor<Object> pluginExecutor = tuple2.getT2();
 
-                    /**
-                     * Keep one monitor object against each datasource id. The synchronized method
-                     * `getCachedDatasourceContextMono` would then acquire lock on the monitor object which is unique
-                     * for each datasourceId hence ensuring that if competing threads want to create datasource context
-                     * on different datasource id then they are not blocked on each other and can run concurrently.
-                     * Only threads that want to create a new datasource context on the same datasource id would be
-                     * synchronized.
-                     */
-                    Object monitor = new Object();
-                    if (datasourceContextIdentifier.isKeyValid()) {
-                        if (datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier) == null) {
-                            synchronized (this) {
-                                datasourceContextSynchronizationMonitorMap.computeIfAbsent(
-                                        datasourceContextIdentifier, k -> new Object());
-                            }
-                        }
-
-                        monitor = datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier);
-                    }
-
                     return getCachedDatasourceContextMono(
-                            datasourceStorage, plugin, pluginExecutor, monitor, datasourceContextIdentifier);
+                            datasourceStorage, plugin, pluginExecutor, datasourceContextIdentifier);
                 });
     }
 
@@ -231,17 +379,14 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     }
 
     /**
-     * This function checks if the cached datasource context mono is in error state
+     * This function checks if the cached datasource context mono has failed to create the connection
      *
      * @param datasourceContextIdentifier
      * @return boolean
      */
     private boolean getIsInErrorState(DatasourceContextIdentifier datasourceContextIdentifier) {
-        return datasourceContextMonoMap.get(datasourceContextIdentifier) != null
-                && datasourceContextMonoMap
-                        .get(datasourceContextIdentifier)
-                        .toFuture()
-                        .isCompletedExceptionally();
+        final DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+        return datasourceContext != null && datasourceContext.isInErrorState();
     }
 
     public boolean isValidDatasourceContextAvailable(
@@ -266,9 +411,13 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     "This is a dry run or an embedded datasourceStorage. The datasourceStorage context would not exist in this "
                             + "scenario");
         } else {
-            if (isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
+            // The context may get evicted right after the check, in which case it is simply created again
+            DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+            if (datasourceContext != null
+                    && isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
                 log.debug("Resource context exists. Returning the same.");
-                return Mono.just(datasourceContextMap.get(datasourceContextIdentifier));
+                datasourceContext.setLastAccessTime(Instant.now());
+                return Mono.just(datasourceContext);
             }
         }
 
@@ -343,18 +492,32 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             return Mono.empty();
         }
 
-        DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
-        if (datasourceContext == null) {
+        if (datasourceContextMap.get(datasourceContextIdentifier) == null) {
             // No resource context exists for this resource. Return void.
             return Mono.empty();
         }
         return pluginExecutorHelper
                 .getPluginExecutor(pluginService.findById(datasourceStorage.getPluginId()))
-                .map(pluginExecutor -> {
+                .flatMap(pluginExecutor -> {
+                    final AtomicReference<DatasourceContext<?>> removedDatasourceContext = new AtomicReference<>();
+                    datasourceContextMonoMap.compute(datasourceContextIdentifier, (key, datasourceContextMono) -> {
+                        removedDatasourceContext.set(datasourceContextMap.remove(key));
+                        return null;
+                    });
+
+                    final DatasourceContext<?> datasourceContext = removedDatasourceContext.get();
+                    if (datasourceContext == null) {
+                        return Mono.empty();
+                    }
+
                     log.info("Clearing datasource context for datasource storage ID {}.", datasourceStorage.getId());
-                    pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
-                    datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                    return datasourceContextMap.remove(datasourceContextIdentifier);
+                    return Mono.fromRunnable(() -> {
+                                if (datasourceContext.getConnection() != null) {
+                                    pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
+                                }
+                            })
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .thenReturn(datasourceContext);
                 });
     }
 
@@ -395,7 +558,6 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
      * Generates the custom key that is used in:
      * datasourceContextMap
      * datasourceContextMonoMap
-     * datasourceContextSynchronizationMonitorMap
      *
      * @param datasourceStorage
      * @return an DatasourceContextIdentifier object
@@ -2,6 +2,7 @@ package com.appsmith.server.solutions;
 
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
+import com.appsmith.server.helpers.DatasourceStructureCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.AnalyticsService;
@@ -26,7 +27,8 @@ public class DatasourceStructureSolutionImpl extends DatasourceStructureSolution
             DatasourceStructureService datasourceStructureService,
             AnalyticsService analyticsService,
             EnvironmentPermission environmentPermission,
-            FeatureFlagService featureFlagService) {
+            FeatureFlagService featureFlagService,
+            DatasourceStructureCache datasourceStructureCache) {
         super(
                 datasourceService,
                 datasourceStorageService,
@@ -37,6 +39,7 @@ public class DatasourceStructureSolutionImpl extends DatasourceStructureSolution
                 datasourceStructureService,
                 analyticsService,
                 environmentPermission,
-                featureFlagService);
+                featureFlagService,
+                datasourceStructureCache);
     }
 }
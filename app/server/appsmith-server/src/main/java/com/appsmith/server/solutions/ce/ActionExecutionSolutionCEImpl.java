@@ -11,7 +11,9 @@ import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Connection;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.PluginType;
@@ -50,11 +52,22 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringEscapeUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.codec.multipart.Part;
@@ -69,6 +82,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -76,7 +90,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -88,6 +104,7 @@ import static com.appsmith.external.constants.CommonFieldName.REDACTED_DATA;
 import static com.appsmith.external.constants.spans.ActionSpan.ACTION_EXECUTION_CACHED_DATASOURCE;
 import static com.appsmith.external.constants.spans.ActionSpan.ACTION_EXECUTION_DATASOURCE_CONTEXT;
 import static com.appsmith.external.constants.spans.ActionSpan.ACTION_EXECUTION_EDITOR_CONFIG;
+import static com.appsmith.external.constants.spans.ActionSpan.ACTION_EXECUTION_PLAN;
 import static com.appsmith.external.constants.spans.ActionSpan.ACTION_EXECUTION_REQUEST_PARSING;
 import static com.appsmith.external.constants.spans.ActionSpan.ACTION_EXECUTION_SERVER_EXECUTION;
 import static com.appsmith.external.helpers.DataTypeStringUtils.getDisplayDataTypes;
@@ -117,6 +134,44 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     private final EnvironmentPermission environmentPermission;
     private final ConfigService configService;
     private final TenantService tenantService;
+    private final MeterRegistry meterRegistry;
+
+    private static final String EXECUTION_PLANS_CACHE_NAME = "actionExecutionPlans";
+
+    // Time for which a resolved plugin and its executor are reused, before they are looked up again
+    @Value("${appsmith.action.execution.plans.cache.expiry-seconds:600}")
+    private long executionPlansExpirySeconds = 600;
+
+    /**
+     * What is needed to execute any action of a plugin, apart from the action and its datasource. The plugin is read
+     * from the database and its executor is looked up from the plugin manager, both of which only change when the
+     * server is restarted, so they are resolved once per plugin instead of once per execution.
+     * <p>
+     * The action and the datasource storage are still read for every execution, since reading them is what checks
+     * the execute permissions of the user, and plugins render the datasource configuration in place.
+     */
+    protected record ExecutionPlan(Plugin plugin, PluginExecutor pluginExecutor) {}
+
+    private AsyncCache<String, ExecutionPlan> executionPlans;
+
+    private static final String COALESCED_EXECUTIONS_CACHE_NAME = "coalescedActionExecutions";
+
+    // Number of results that are shared by identical executions, including the executions still running
+    @Value("${appsmith.action.execution.coalescing.cache.max-size:100}")
+    private long coalescedExecutionsMaxSize = 100;
+
+    /**
+     * Identifies the executions that return the same result: the same action in view mode, on the same environment,
+     * with the same evaluated params. The executions that start while the first one is running share its result, and
+     * the result is kept for `reuseInMillis` after it is returned.
+     */
+    protected record CoalescingKey(String actionId, String environmentId, String paramsHash, long reuseInMillis) {}
+
+    private AsyncCache<CoalescingKey, ActionExecutionResult> coalescedExecutions;
+
+    private Counter executedExecutionsCounter;
+
+    private Counter coalescedExecutionsCounter;
 
     static final String PARAM_KEY_REGEX = "^k\\d+$";
     static final String BLOB_KEY_REGEX =
@@ -144,7 +199,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             DatasourceStorageService datasourceStorageService,
             EnvironmentPermission environmentPermission,
             ConfigService configService,
-            TenantService tenantService) {
+            TenantService tenantService,
+            MeterRegistry meterRegistry) {
         this.newActionService = newActionService;
         this.actionPermission = actionPermission;
         this.observationRegistry = observationRegistry;
@@ -164,6 +220,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         this.environmentPermission = environmentPermission;
         this.configService = configService;
         this.tenantService = tenantService;
+        this.meterRegistry = meterRegistry;
 
         this.patternList.add(Pattern.compile(PARAM_KEY_REGEX));
         this.patternList.add(Pattern.compile(BLOB_KEY_REGEX));
@@ -171,6 +228,69 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         this.patternList.add(Pattern.compile(PARAMETER_MAP));
     }
 
+    @PostConstruct
+    public void createCaches() {
+        executionPlans = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofSeconds(executionPlansExpirySeconds))
+                        .recordStats()
+                        .buildAsync(),
+                EXECUTION_PLANS_CACHE_NAME);
+        Gauge.builder("appsmith.action.execution.plans.cache.hit.ratio", executionPlans, cache -> cache.synchronous()
+                        .stats()
+                        .hitRate())
+                .description("Share of the action executions whose plugin and executor were already resolved")
+                .register(meterRegistry);
+
+        coalescedExecutions = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(coalescedExecutionsMaxSize)
+                        .expireAfter(new Expiry<CoalescingKey, ActionExecutionResult>() {
+                            @Override
+                            public long expireAfterCreate(
+                                    CoalescingKey key, ActionExecutionResult result, long currentTime) {
+                                return getReuseDuration(key, result);
+                            }
+
+                            // Called with the result when the execution completes
+                            @Override
+                            public long expireAfterUpdate(
+                                    CoalescingKey key,
+                                    ActionExecutionResult result,
+                                    long currentTime,
+                                    long currentDuration) {
+                                return getReuseDuration(key, result);
+                            }
+
+                            @Override
+                            public long expireAfterRead(
+                                    CoalescingKey key,
+                                    ActionExecutionResult result,
+                                    long currentTime,
+                                    long currentDuration) {
+                                return currentDuration;
+                            }
+                        })
+                        .recordStats()
+                        .buildAsync(),
+                COALESCED_EXECUTIONS_CACHE_NAME);
+        executedExecutionsCounter = Counter.builder("appsmith.action.execution.coalescing")
+                .tag("outcome", "executed")
+                .description("Executions of actions that share their results which ran the action")
+                .register(meterRegistry);
+        coalescedExecutionsCounter = Counter.builder("appsmith.action.execution.coalescing")
+                .tag("outcome", "coalesced")
+                .description("Executions of actions that share their results which got the result of another one")
+                .register(meterRegistry);
+    }
+
+    // Failed executions are not reused once they are returned, they are only shared with the ones already waiting
+    private static long getReuseDuration(CoalescingKey key, ActionExecutionResult result) {
+        return TRUE.equals(result.getIsExecutionSuccess()) ? TimeUnit.MILLISECONDS.toNanos(key.reuseInMillis()) : 0;
+    }
+
     /**
      * Executes the action(queries) by creating executeActionDTO and sending it to the plugin for further execution
      *
@@ -248,8 +368,9 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
 
         // 3. Instantiate the implementation class based on the query type
         Mono<DatasourceStorage> datasourceStorageMono = getCachedDatasourceStorage(actionDTOMono, environmentId);
-        Mono<Plugin> pluginMono = getCachedPluginForActionExecution(datasourceStorageMono);
-        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
+        Mono<ExecutionPlan> executionPlanMono = getCachedExecutionPlan(datasourceStorageMono);
+        Mono<Plugin> pluginMono = executionPlanMono.map(ExecutionPlan::plugin);
+        Mono<PluginExecutor> pluginExecutorMono = executionPlanMono.map(ExecutionPlan::pluginExecutor);
 
         // 4. Execute the query
         Mono<ActionExecutionResult> actionExecutionResultMono = getActionExecutionResult(
@@ -589,9 +710,34 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
      */
     protected Mono<Plugin> getCachedPluginForActionExecution(Mono<DatasourceStorage> datasourceStorageMono) {
 
+        return getCachedExecutionPlan(datasourceStorageMono).map(ExecutionPlan::plugin);
+    }
+
+    /**
+     * Fetches the execution plan for the plugin of the datasource, which is built on the first execution of an action
+     * of the plugin and then served from memory
+     *
+     * @param datasourceStorageMono
+     * @return executionPlanMono if the plugin is found, else throws error
+     */
+    protected Mono<ExecutionPlan> getCachedExecutionPlan(Mono<DatasourceStorage> datasourceStorageMono) {
+
         return datasourceStorageMono
-                .flatMap(datasourceStorage -> pluginService.findById(datasourceStorage.getPluginId()))
-                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN)));
+                .flatMap(datasourceStorage -> Mono.fromFuture(
+                        () -> executionPlans.get(
+                                datasourceStorage.getPluginId(),
+                                (pluginId, cacheExecutor) -> buildExecutionPlan(pluginId).toFuture()),
+                        true))
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN)))
+                .name(ACTION_EXECUTION_PLAN)
+                .tap(Micrometer.observation(observationRegistry))
+                .cache();
+    }
+
+    protected Mono<ExecutionPlan> buildExecutionPlan(String pluginId) {
+        Mono<Plugin> pluginMono = pluginService.findById(pluginId).cache();
+
+        return pluginMono.zipWith(pluginExecutorHelper.getPluginExecutor(pluginMono), ExecutionPlan::new);
     }
 
     /**
@@ -745,13 +891,22 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
 
                     setAutoGeneratedHeaders(plugin, actionDTO, httpHeaders);
 
-                    Mono<ActionExecutionResult> actionExecutionResultMono = verifyDatasourceAndMakeRequest(
-                                    executeActionDTO, actionDTO, datasourceStorage, plugin, pluginExecutor)
-                            .timeout(Duration.ofMillis(timeoutDuration));
+                    Mono<ActionExecutionResult> actionExecutionResultMono = datasourceService
+                            .consumeExecutionTokenIfAvailable(datasourceStorage)
+                            .flatMap(wasTokenAvailable -> {
+                                if (!wasTokenAvailable) {
+                                    return Mono.error(new AppsmithException(AppsmithError.TOO_MANY_REQUESTS));
+                                }
 
-                    return actionExecutionResultMono
+                                return verifyDatasourceAndMakeRequest(
+                                        executeActionDTO, actionDTO, datasourceStorage, plugin, pluginExecutor);
+                            })
+                            .timeout(Duration.ofMillis(timeoutDuration))
                             .onErrorMap(executionExceptionMapper(actionDTO, timeoutDuration))
-                            .onErrorResume(executionExceptionHandler(actionDTO))
+                            .onErrorResume(executionExceptionHandler(actionDTO));
+
+                    return coalesceExecution(
+                                    executeActionDTO, actionDTO, datasourceStorage, actionExecutionResultMono)
                             .elapsed()
                             // Now send the analytics event for this execution
                             .flatMap(tuple1 -> {
@@ -772,6 +927,67 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 });
     }
 
+    /**
+     * Shares the result of the execution with the identical executions of the action, when the action is configured
+     * to. Only executions in view mode are shared, since in edit mode the request is sent back to the user and every
+     * execution is expected to reach the datasource. Only executions on read-only datasources are shared, since on any
+     * other datasource the action may write, and every write is expected to reach the datasource. The action and the
+     * datasource have already been read with the permissions of the user by then.
+     *
+     * @param executionMono The execution, which does not fail
+     * @return the result of the execution, or of an identical one that started before it
+     */
+    protected Mono<ActionExecutionResult> coalesceExecution(
+            ExecuteActionDTO executeActionDTO,
+            ActionDTO actionDTO,
+            DatasourceStorage datasourceStorage,
+            Mono<ActionExecutionResult> executionMono) {
+        Integer coalescingDuration = actionDTO.getActionConfiguration().getCoalesceExecutionsInMillisecond();
+        if (!TRUE.equals(executeActionDTO.getViewMode()) || coalescingDuration == null || coalescingDuration <= 0) {
+            return executionMono;
+        }
+
+        DatasourceConfiguration datasourceConfiguration = datasourceStorage.getDatasourceConfiguration();
+        boolean isReadOnly = datasourceConfiguration != null
+                && datasourceConfiguration.getConnection() != null
+                && Connection.Mode.READ_ONLY.equals(
+                        datasourceConfiguration.getConnection().getMode());
+        if (!isReadOnly) {
+            return executionMono;
+        }
+
+        final String paramsHash;
+        try {
+            paramsHash = DigestUtils.sha256Hex(objectMapper.writeValueAsBytes(
+                    Arrays.asList(executeActionDTO.getParams(), executeActionDTO.getPaginationField())));
+        } catch (JsonProcessingException e) {
+            log.debug("Executing action {} on its own as its params could not be hashed", actionDTO.getId(), e);
+            return executionMono;
+        }
+
+        CoalescingKey key = new CoalescingKey(
+                executeActionDTO.getActionId(), datasourceStorage.getEnvironmentId(), paramsHash, coalescingDuration);
+
+        // The execution is subscribed to by the cache, so it has to be given the context of the request
+        return Mono.deferContextual(contextView -> {
+            AtomicBoolean isExecuted = new AtomicBoolean(false);
+            return Mono.fromFuture(
+                            () -> coalescedExecutions.get(key, (cacheKey, executor) -> {
+                                isExecuted.set(true);
+                                return executionMono.contextWrite(contextView).toFuture();
+                            }),
+                            true)
+                    .doOnNext(result -> (isExecuted.get() ? executedExecutionsCounter : coalescedExecutionsCounter)
+                            .increment())
+                    // Every execution sets its own fields on the result afterwards, so each gets its own copy
+                    .map(result -> {
+                        ActionExecutionResult copy = new ActionExecutionResult();
+                        BeanUtils.copyProperties(result, copy);
+                        return copy;
+                    });
+        });
+    }
+
     @Override
     public Mono<ActionDTO> getValidActionForExecution(ExecuteActionDTO executeActionDTO) {
         return newActionService
@@ -10,6 +10,13 @@ public interface DatasourceStructureSolutionCE {
 
     Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache, String environmentName);
 
+    /**
+     * Same as {@link #getStructure(String, boolean, String)}, with only the tables of the given schema when it is not
+     * empty. The whole structure of the datasource is still fetched, the other schemas are only left out of the result.
+     */
+    Mono<DatasourceStructure> getStructure(
+            String datasourceId, boolean ignoreCache, String environmentName, String schemaName);
+
     Mono<DatasourceStructure> getStructure(DatasourceStorage datasourceStorage, boolean ignoreCache);
 
     Mono<ActionExecutionResult> getSchemaPreviewData(
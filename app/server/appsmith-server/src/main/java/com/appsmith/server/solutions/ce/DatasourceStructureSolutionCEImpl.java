@@ -17,6 +17,7 @@ import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.DatasourceStructureCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.AnalyticsService;
@@ -30,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 
 import static com.appsmith.server.helpers.DatasourceAnalyticsUtils.getAnalyticsPropertiesForTestEventStatus;
@@ -51,9 +53,16 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
     private final AnalyticsService analyticsService;
     private final EnvironmentPermission environmentPermission;
     private final FeatureFlagService featureFlagService;
+    private final DatasourceStructureCache datasourceStructureCache;
 
     @Override
     public Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache, String environmentId) {
+        return getStructure(datasourceId, ignoreCache, environmentId, null);
+    }
+
+    @Override
+    public Mono<DatasourceStructure> getStructure(
+            String datasourceId, boolean ignoreCache, String environmentId, String schemaName) {
         return datasourceService
                 .findById(datasourceId, datasourcePermission.getExecutePermission())
                 .zipWhen(datasource -> datasourceService.getTrueEnvironmentId(
@@ -64,6 +73,7 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                 .flatMap(tuple2 -> datasourceStorageService.findByDatasourceAndEnvironmentIdForExecution(
                         tuple2.getT1(), tuple2.getT2()))
                 .flatMap(datasourceStorage -> getStructure(datasourceStorage, ignoreCache))
+                .map(structure -> filterBySchema(structure, schemaName))
                 .onErrorMap(
                         IllegalArgumentException.class,
                         error -> new AppsmithPluginException(
@@ -99,9 +109,8 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                     .then(Mono.just(new DatasourceStructure()));
         }
 
-        Mono<DatasourceStorageStructure> configurationStructureMono =
-                datasourceStructureService.getByDatasourceIdAndEnvironmentId(
-                        datasourceStorage.getDatasourceId(), datasourceStorage.getEnvironmentId());
+        DatasourceStructureCache.Key cacheKey = new DatasourceStructureCache.Key(
+                datasourceStorage.getDatasourceId(), datasourceStorage.getEnvironmentId());
 
         Mono<DatasourceStructure> fetchAndStoreNewStructureMono = pluginExecutorHelper
                 .getPluginExecutor(pluginService.findById(datasourceStorage.getPluginId()))
@@ -164,15 +173,30 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                                             ? Mono.empty()
                                             : datasourceStructureService
                                                     .saveStructure(datasourceId, environmentId, structure)
+                                                    .then(Mono.defer(() -> datasourceStructureCache
+                                                            .putAndInvalidateOthers(cacheKey, structure)))
                                                     .thenReturn(structure));
                 });
 
+        // Structures that were read before are served from memory instead of being read from the database again
+        if (!ignoreCache && hasText(datasourceStorage.getDatasourceId())) {
+            DatasourceStructure cachedStructure = datasourceStructureCache.get(cacheKey);
+            if (cachedStructure != null) {
+                return Mono.just(cachedStructure);
+            }
+        }
+
+        Mono<DatasourceStorageStructure> configurationStructureMono =
+                datasourceStructureService.getByDatasourceIdAndEnvironmentId(
+                        datasourceStorage.getDatasourceId(), datasourceStorage.getEnvironmentId());
+
         // This mono, when computed, will load the structure of the datasourceStorage by calling the plugin method.
         return configurationStructureMono
                 .flatMap(configurationStructure -> {
                     if (!ignoreCache && configurationStructure.getStructure() != null) {
 
                         // Return the cached structure if available.
+                        datasourceStructureCache.put(cacheKey, configurationStructure.getStructure());
                         return Mono.just(configurationStructure.getStructure());
                     } else return Mono.empty();
                 })
@@ -180,6 +204,22 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                 .defaultIfEmpty(new DatasourceStructure());
     }
 
+    /**
+     * Keeps only the tables of the given schema in the response, which keeps the responses for large datasources
+     * small. The plugins have no way to fetch a single schema, so the whole structure is still fetched from the
+     * datasource and kept. The structure is returned as is when no schema is given.
+     */
+    private static DatasourceStructure filterBySchema(DatasourceStructure structure, String schemaName) {
+        if (!hasText(schemaName) || structure.getTables() == null) {
+            return structure;
+        }
+
+        List<DatasourceStructure.Table> tables = structure.getTables().stream()
+                .filter(table -> schemaName.equals(table.getSchema()))
+                .toList();
+        return new DatasourceStructure(tables, structure.getError());
+    }
+
     @Override
     public Mono<ActionExecutionResult> getSchemaPreviewData(
             String datasourceId, String environmentId, Template queryTemplate) {
@@ -0,0 +1,93 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.DatasourceStructure;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.listener.Topic;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class DatasourceStructureCacheTest {
+
+    private static final DatasourceStructureCache.Key KEY = new DatasourceStructureCache.Key("datasourceId", "envId");
+
+    // Stands in for the Redis channel shared by the instances
+    private Sinks.Many<ReactiveSubscription.Message<String, String>> channel;
+
+    private DatasourceStructureCache instance1;
+
+    private DatasourceStructureCache instance2;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        channel = Sinks.many().multicast().directBestEffort();
+
+        ReactiveRedisOperations<String, String> reactiveRedisOperations = Mockito.mock(ReactiveRedisOperations.class);
+        Mockito.when(reactiveRedisOperations.listenTo(any(Topic.class))).thenAnswer(invocation -> channel.asFlux());
+        Mockito.when(reactiveRedisOperations.convertAndSend(anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    channel.emitNext(
+                            new ReactiveSubscription.ChannelMessage<>(
+                                    invocation.getArgument(0), invocation.getArgument(1)),
+                            Sinks.EmitFailureHandler.FAIL_FAST);
+                    return Mono.just(1L);
+                });
+
+        instance1 = new DatasourceStructureCache(new SimpleMeterRegistry(), reactiveRedisOperations);
+        instance1.createCache();
+        instance2 = new DatasourceStructureCache(new SimpleMeterRegistry(), reactiveRedisOperations);
+        instance2.createCache();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        instance1.destroy();
+        instance2.destroy();
+    }
+
+    private static DatasourceStructure createStructure(String tableName) {
+        DatasourceStructure.Table table = new DatasourceStructure.Table(
+                DatasourceStructure.TableType.TABLE, null, tableName, List.of(), List.of(), List.of());
+        DatasourceStructure structure = new DatasourceStructure();
+        structure.setTables(List.of(table));
+        return structure;
+    }
+
+    @Test
+    public void putAndInvalidateOthers_whenStructureIsFetchedOnOneInstance_dropsItFromTheOthers() {
+        DatasourceStructure oldStructure = createStructure("oldTable");
+        DatasourceStructure newStructure = createStructure("newTable");
+        instance1.put(KEY, oldStructure);
+        instance2.put(KEY, oldStructure);
+
+        instance1.putAndInvalidateOthers(KEY, newStructure).block();
+
+        assertThat(instance1.get(KEY)).isSameAs(newStructure);
+        assertThat(instance2.get(KEY)).isNull();
+    }
+
+    @Test
+    public void putAndInvalidateOthers_withOtherKey_keepsTheStructureOfTheOthers() {
+        DatasourceStructure structure = createStructure("table");
+        instance2.put(KEY, structure);
+
+        instance1
+                .putAndInvalidateOthers(
+                        new DatasourceStructureCache.Key("otherDatasourceId", "envId"), createStructure("other"))
+                .block();
+
+        assertThat(instance2.get(KEY)).isSameAs(structure);
+    }
+}
@@ -0,0 +1,210 @@
+package com.appsmith.server.helpers;
+
+import com.google.gson.Gson;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonStreamingUtilsTest {
+
+    private static final Gson gson = new Gson();
+
+    private static final int CHUNK_SIZE_IN_BYTES = 8 * 1024;
+
+    /**
+     * Buffer factory that keeps track of the buffers it allocated, to find how many of them are alive at a time
+     */
+    private static class TrackingDataBufferFactory extends NettyDataBufferFactory {
+        private final List<NettyDataBuffer> allocatedBuffers = new CopyOnWriteArrayList<>();
+
+        TrackingDataBufferFactory() {
+            super(UnpooledByteBufAllocator.DEFAULT);
+        }
+
+        @Override
+        public NettyDataBuffer allocateBuffer(int initialCapacity) {
+            NettyDataBuffer buffer = super.allocateBuffer(initialCapacity);
+            allocatedBuffers.add(buffer);
+            return buffer;
+        }
+
+        long getLiveBufferCount() {
+            return allocatedBuffers.stream()
+                    .filter(buffer -> buffer.getNativeBuffer().refCnt() > 0)
+                    .count();
+        }
+    }
+
+    /**
+     * A synthetic application with 60 pages, each with a large DSL and a number of actions
+     */
+    private Map<String, Object> createLargeApplication() {
+        List<Map<String, Object>> pages = new ArrayList<>();
+        List<Map<String, Object>> actions = new ArrayList<>();
+        for (int pageIndex = 0; pageIndex < 60; pageIndex++) {
+            List<Map<String, Object>> widgets = new ArrayList<>();
+            for (int widgetIndex = 0; widgetIndex < 100; widgetIndex++) {
+                Map<String, Object> widget = new LinkedHashMap<>();
+                widget.put("widgetName", "Text" + widgetIndex);
+                widget.put("type", "TEXT_WIDGET");
+                widget.put("text", "{{Query" + widgetIndex + ".data[0].name}} ünïcödé");
+                widget.put("topRow", widgetIndex * 4);
+                widgets.add(widget);
+            }
+            Map<String, Object> page = new LinkedHashMap<>();
+            page.put("name", "Page" + pageIndex);
+            page.put("dsl", Map.of("widgetName", "MainContainer", "children", widgets));
+            pages.add(page);
+
+            for (int actionIndex = 0; actionIndex < 20; actionIndex++) {
+                actions.add(Map.of(
+                        "name", "Query" + actionIndex,
+                        "pageName", "Page" + pageIndex,
+                        "body", "SELECT * FROM users WHERE id = {{Table1.selectedRow.id}} LIMIT 10;"));
+            }
+        }
+
+        Map<String, Object> application = new LinkedHashMap<>();
+        application.put("exportedApplication", Map.of("name", "Large application"));
+        application.put("pageList", pages);
+        application.put("actionList", actions);
+        return application;
+    }
+
+    @Test
+    public void toJsonDataBuffers_withLargeApplication_writesSameJsonAsGson() {
+        Map<String, Object> application = createLargeApplication();
+        TrackingDataBufferFactory dataBufferFactory = new TrackingDataBufferFactory();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StepVerifier.create(JsonStreamingUtils.toJsonDataBuffers(
+                                gson, application, dataBufferFactory, CHUNK_SIZE_IN_BYTES)
+                        .doOnNext(buffer -> {
+                            byte[] bytes = new byte[buffer.readableByteCount()];
+                            buffer.read(bytes);
+                            outputStream.writeBytes(bytes);
+                            DataBufferUtils.release(buffer);
+                        }))
+                .thenConsumeWhile(buffer -> true)
+                .verifyComplete();
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(gson.toJson(application));
+        assertThat(dataBufferFactory.getLiveBufferCount()).isZero();
+    }
+
+    @Test
+    public void toJsonDataBuffers_withSlowConsumer_keepsOnlyRequestedBuffersInMemory() throws InterruptedException {
+        Map<String, Object> application = createLargeApplication();
+        TrackingDataBufferFactory dataBufferFactory = new TrackingDataBufferFactory();
+        AtomicInteger maxLiveBufferCount = new AtomicInteger();
+        AtomicInteger bufferCount = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        JsonStreamingUtils.toJsonDataBuffers(gson, application, dataBufferFactory, CHUNK_SIZE_IN_BYTES)
+                .subscribe(new BaseSubscriber<>() {
+                    @Override
+                    protected void hookOnSubscribe(Subscription subscription) {
+                        request(1);
+                    }
+
+                    @Override
+                    protected void hookOnNext(DataBuffer buffer) {
+                        bufferCount.incrementAndGet();
+                        maxLiveBufferCount.accumulateAndGet(
+                                (int) dataBufferFactory.getLiveBufferCount(), Math::max);
+                        DataBufferUtils.release(buffer);
+                        request(1);
+                    }
+
+                    @Override
+                    protected void hookOnComplete() {
+                        completed.countDown();
+                    }
+                });
+
+        assertThat(completed.await(30, TimeUnit.SECONDS)).isTrue();
+        // The application is serialized into a buffer per chunk, but a buffer is only written once it is requested
+        int jsonSizeInBytes = gson.toJson(application).getBytes(StandardCharsets.UTF_8).length;
+        assertThat(bufferCount.get()).isGreaterThanOrEqualTo(jsonSizeInBytes / CHUNK_SIZE_IN_BYTES);
+        assertThat(maxLiveBufferCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void toJsonDataBuffers_withStalledConsumer_writesNoMoreThanRequested() {
+        Map<String, Object> application = createLargeApplication();
+        TrackingDataBufferFactory dataBufferFactory = new TrackingDataBufferFactory();
+
+        StepVerifier.create(
+                        JsonStreamingUtils.toJsonDataBuffers(gson, application, dataBufferFactory, CHUNK_SIZE_IN_BYTES)
+                                .doOnNext(DataBufferUtils::release),
+                        2)
+                .expectNextCount(2)
+                .expectNoEvent(Duration.ofMillis(500))
+                .thenCancel()
+                .verify();
+
+        assertThat(dataBufferFactory.allocatedBuffers.size()).isEqualTo(2);
+        assertThat(dataBufferFactory.getLiveBufferCount()).isZero();
+    }
+
+    @Test
+    public void toJsonDataBuffers_withConsumerStalledPastDemandTimeout_failsWithTimeout() {
+        Map<String, Object> application = createLargeApplication();
+        TrackingDataBufferFactory dataBufferFactory = new TrackingDataBufferFactory();
+
+        StepVerifier.create(
+                        JsonStreamingUtils.toJsonDataBuffers(
+                                        gson,
+                                        application,
+                                        dataBufferFactory,
+                                        CHUNK_SIZE_IN_BYTES,
+                                        Duration.ofMillis(200))
+                                .doOnNext(DataBufferUtils::release),
+                        1)
+                .expectNextCount(1)
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(10));
+
+        assertThat(dataBufferFactory.allocatedBuffers.size()).isEqualTo(1);
+        assertThat(dataBufferFactory.getLiveBufferCount()).isZero();
+    }
+
+    @Test
+    public void toJsonDataBuffers_whenCancelled_stopsSerializingAndReleasesBuffers() {
+        Map<String, Object> application = createLargeApplication();
+        TrackingDataBufferFactory dataBufferFactory = new TrackingDataBufferFactory();
+
+        Flux<DataBuffer> firstBuffers = JsonStreamingUtils.toJsonDataBuffers(
+                        gson, application, dataBufferFactory, CHUNK_SIZE_IN_BYTES)
+                .take(3)
+                .doOnNext(DataBufferUtils::release);
+
+        StepVerifier.create(firstBuffers).expectNextCount(3).verifyComplete();
+
+        // Buffers are only written when they are requested, so nothing is left being serialized after cancellation
+        assertThat(dataBufferFactory.getLiveBufferCount()).isZero();
+        assertThat(dataBufferFactory.allocatedBuffers.size()).isEqualTo(3);
+    }
+}
@@ -14,6 +14,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -169,4 +171,58 @@ public class CustomActionCollectionRepositoryCEImplTest {
         testFindAllActionCollectionsByNamePageIdsViewModeAndBranch(false);
         testFindAllActionCollectionsByNamePageIdsViewModeAndBranch(true);
     }
+
+    @Test
+    public void publishActionCollections_WhenApplicationIdMatches_CollectionsPublished() {
+        String applicationId1 = UUID.randomUUID().toString();
+        String applicationId2 = UUID.randomUUID().toString();
+
+        List<ActionCollection> actionCollections = new ArrayList<>();
+        for (String applicationId : List.of(applicationId1, applicationId1, applicationId2)) {
+            ActionCollection actionCollection = new ActionCollection();
+            actionCollection.setApplicationId(applicationId);
+            ActionCollectionDTO unpublishedCollection = new ActionCollectionDTO();
+            unpublishedCollection.setName("JSObject1");
+            unpublishedCollection.setBody("export default { myFun1: () => 1 }");
+            actionCollection.setUnpublishedCollection(unpublishedCollection);
+            actionCollection.setPublishedCollection(new ActionCollectionDTO());
+            actionCollections.add(actionCollection);
+        }
+
+        actionCollectionRepository.saveAll(actionCollections).blockLast();
+        // MongoDB keeps milliseconds, hence the update time can match the start of the publish to the millisecond
+        Instant publishStartedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        Mono<Long> publishedCountMono = actionCollectionRepository
+                .publishActionCollections(applicationId1, null)
+                .map(updateResult -> updateResult.getMatchedCount());
+
+        StepVerifier.create(publishedCountMono).expectNext(2L).verifyComplete();
+
+        StepVerifier.create(actionCollectionRepository
+                        .findByApplicationId(applicationId1)
+                        .collectList())
+                .assertNext(app1Collections -> {
+                    assertThat(app1Collections).hasSize(2);
+                    app1Collections.forEach(actionCollection -> {
+                        assertThat(actionCollection.getPublishedCollection().getName())
+                                .isEqualTo("JSObject1");
+                        assertThat(actionCollection.getPublishedCollection().getBody())
+                                .isEqualTo(actionCollection.getUnpublishedCollection().getBody());
+                        assertThat(actionCollection.getUpdatedAt()).isAfterOrEqualTo(publishStartedAt);
+                    });
+                })
+                .verifyComplete();
+
+        StepVerifier.create(actionCollectionRepository
+                        .findByApplicationId(applicationId2)
+                        .collectList())
+                .assertNext(app2Collections -> {
+                    assertThat(app2Collections).hasSize(1);
+                    assertThat(app2Collections.get(0).getPublishedCollection().getName())
+                            .isNull();
+                    assertThat(app2Collections.get(0).getUpdatedAt()).isBeforeOrEqualTo(publishStartedAt);
+                })
+                .verifyComplete();
+    }
 }
@@ -1,5 +1,6 @@
 package com.appsmith.server.repositories.ce;
 
+import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.PluginType;
@@ -7,6 +8,7 @@ import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.dtos.PluginTypeAndCountDTO;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.solutions.ActionPermission;
+import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,6 +27,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+@Slf4j
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
 public class CustomNewActionRepositoryCEImplTest {
@@ -289,4 +292,63 @@ public class CustomNewActionRepositoryCEImplTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void publishActions_WithLargeApplication_PublishesWithoutReadingActionsIntoServer() {
+        String applicationId = UUID.randomUUID().toString();
+        String referenceApplicationId = UUID.randomUUID().toString();
+        int actionCount = 900;
+
+        List<NewAction> actionList = new ArrayList<>();
+        for (int i = 0; i < actionCount; i++) {
+            actionList.add(createLargeUnpublishedAction(applicationId, i));
+            actionList.add(createLargeUnpublishedAction(referenceApplicationId, i));
+        }
+        newActionRepository.saveAll(actionList).blockLast();
+
+        // Publishing the way it used to be done, by reading all the actions and writing them back, for reference
+        long roundTripStart = System.nanoTime();
+        newActionRepository
+                .findByApplicationId(referenceApplicationId)
+                .map(action -> {
+                    action.setPublishedAction(action.getUnpublishedAction());
+                    return action;
+                })
+                .collectList()
+                .flatMap(newActionRepository::bulkUpdate)
+                .block();
+        long roundTripMillis = (System.nanoTime() - roundTripStart) / 1_000_000;
+
+        long pipelineStart = System.nanoTime();
+        newActionRepository.publishActions(applicationId, null).block();
+        long pipelineMillis = (System.nanoTime() - pipelineStart) / 1_000_000;
+
+        log.info(
+                "Published {} actions in {} ms with an update pipeline, and in {} ms with a round trip of the documents",
+                actionCount,
+                pipelineMillis,
+                roundTripMillis);
+
+        StepVerifier.create(newActionRepository.findByApplicationId(applicationId).collectList())
+                .assertNext(actions -> {
+                    assertThat(actions).hasSize(actionCount);
+                    actions.forEach(action -> {
+                        ActionDTO unpublishedAction = action.getUnpublishedAction();
+                        ActionDTO publishedAction = action.getPublishedAction();
+                        assertThat(publishedAction.getName()).isEqualTo(unpublishedAction.getName());
+                        assertThat(publishedAction.getActionConfiguration().getBody())
+                                .isEqualTo(unpublishedAction.getActionConfiguration().getBody());
+                    });
+                })
+                .verifyComplete();
+    }
+
+    private NewAction createLargeUnpublishedAction(String applicationId, int index) {
+        NewAction action = createUnpublishedAction(applicationId, PluginType.DB);
+        action.getUnpublishedAction().setName("Query" + index);
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT * FROM users WHERE id = {{Table1.selectedRow.id}};\n".repeat(100));
+        action.getUnpublishedAction().setActionConfiguration(actionConfiguration);
+        return action;
+    }
 }
@@ -2,10 +2,12 @@ package com.appsmith.server.services;
 
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
 import com.appsmith.server.domains.CustomJSLib;
 import com.appsmith.server.domains.Plugin;
@@ -24,6 +26,7 @@ import com.appsmith.server.dtos.PageNameIdDTO;
 import com.appsmith.server.dtos.ProductAlertResponseDTO;
 import com.appsmith.server.dtos.UserProfileDTO;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PublishedApplicationCache;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -43,9 +46,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.appsmith.external.constants.PluginConstants.PackageName.APPSMITH_AI_PLUGIN;
 import static com.appsmith.external.constants.PluginConstants.PackageName.GRAPHQL_PLUGIN;
@@ -57,6 +62,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -118,6 +125,12 @@ public class ConsolidatedAPIServiceImplTest {
     @MockBean
     NewPageRepository mockNewPageRepository;
 
+    @SpyBean
+    PermissionGroupService spyPermissionGroupService;
+
+    @Autowired
+    PublishedApplicationCache publishedApplicationCache;
+
     @Test
     public void testErrorWhenModeIsNullAndPageIdAvailable() {
         Mono<ConsolidatedAPIResponseDTO> consolidatedInfoForPageLoad =
@@ -359,6 +372,100 @@ public class ConsolidatedAPIServiceImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testPageLoadResponseForViewMode_readsPublishedResourcesOnceUntilPublished() {
+        User sampleUser = new User();
+        when(mockSessionUserService.getCurrentUser()).thenReturn(Mono.just(sampleUser));
+        when(mockUserService.buildUserProfileDTO(any())).thenReturn(Mono.just(new UserProfileDTO()));
+        when(mockUserDataService.getFeatureFlagsForCurrentUser()).thenReturn(Mono.just(new HashMap<>()));
+        when(mockTenantService.getTenantConfiguration()).thenReturn(Mono.just(new Tenant()));
+        when(mockProductAlertService.getSingleApplicableMessage()).thenReturn(Mono.just(List.of()));
+        when(spyNewPageService.findApplicationPages(anyString(), any(), anyString(), any()))
+                .thenReturn(Mono.just(new ApplicationPagesDTO()));
+
+        Application sampleApplication = new Application();
+        sampleApplication.setId("cachedAppId");
+        sampleApplication.setLastDeployedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        doReturn(Mono.just(sampleApplication))
+                .when(spyApplicationService)
+                .findByBranchNameAndDefaultApplicationId(anyString(), anyString(), any(AclPermission.class));
+        doReturn(Mono.just(Set.of("samplePermissionGroupId")))
+                .when(spyPermissionGroupService)
+                .getSessionUserPermissionGroupIds();
+
+        Theme sampleTheme = new Theme();
+        sampleTheme.setName("sampleTheme");
+        doReturn(Mono.just(sampleTheme)).when(spyThemeService).getApplicationTheme(anyString(), any(), anyString());
+        doReturn(Flux.just(sampleTheme)).when(spyThemeService).getApplicationThemes(anyString(), anyString());
+        doReturn(Mono.just(List.of(new CustomJSLib())))
+                .when(spyCustomJSLibService)
+                .getAllJSLibsInContext(anyString(), any(), anyString(), anyBoolean());
+
+        ActionViewDTO sampleActionViewDTO = new ActionViewDTO();
+        sampleActionViewDTO.setName("sampleActionViewDTO");
+        doReturn(Flux.just(sampleActionViewDTO))
+                .when(spyNewActionService)
+                .getActionsForViewMode(anyString(), anyString());
+        doReturn(Flux.just(new ActionCollectionViewDTO()))
+                .when(spyActionCollectionService)
+                .getActionCollectionsForViewMode(anyString(), anyString());
+
+        for (int pageLoad = 0; pageLoad < 2; pageLoad++) {
+            StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoad(
+                            null, "cachedAppId", "branch", ApplicationMode.PUBLISHED))
+                    .assertNext(consolidatedAPIResponseDTO -> {
+                        assertEquals(
+                                "sampleActionViewDTO",
+                                consolidatedAPIResponseDTO
+                                        .getPublishedActions()
+                                        .getData()
+                                        .get(0)
+                                        .getName());
+                        assertEquals(
+                                "sampleTheme",
+                                consolidatedAPIResponseDTO
+                                        .getCurrentTheme()
+                                        .getData()
+                                        .getName());
+                        assertEquals(
+                                1,
+                                consolidatedAPIResponseDTO
+                                        .getCustomJSLibraries()
+                                        .getData()
+                                        .size());
+                    })
+                    .verifyComplete();
+        }
+        verify(spyNewActionService, times(1)).getActionsForViewMode(anyString(), anyString());
+        verify(spyThemeService, times(1)).getApplicationTheme(anyString(), any(), anyString());
+
+        // Publishing the application evicts its resources, so that the next page load reads them again
+        publishedApplicationCache.evict("cachedAppId");
+
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoad(
+                        null, "cachedAppId", "branch", ApplicationMode.PUBLISHED))
+                .assertNext(consolidatedAPIResponseDTO -> assertEquals(
+                        1,
+                        consolidatedAPIResponseDTO
+                                .getPublishedActions()
+                                .getData()
+                                .size()))
+                .verifyComplete();
+        verify(spyNewActionService, times(2)).getActionsForViewMode(anyString(), anyString());
+
+        // Changing the access to the application changes its policies, so that the next page load reads them again
+        sampleApplication.setPolicies(Set.of(Policy.builder()
+                .permission(AclPermission.READ_APPLICATIONS.getValue())
+                .permissionGroups(Set.of("publicPermissionGroupId"))
+                .build()));
+
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoad(
+                        null, "cachedAppId", "branch", ApplicationMode.PUBLISHED))
+                .expectNextCount(1)
+                .verifyComplete();
+        verify(spyNewActionService, times(3)).getActionsForViewMode(anyString(), anyString());
+    }
+
     @Test
     public void testPageLoadResponseForEditMode() {
         User sampleUser = new User();
@@ -41,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
@@ -52,8 +53,12 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 
@@ -63,6 +68,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
@@ -176,11 +182,9 @@ public class DatasourceContextServiceTest {
 
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), null);
-
-        Object monitor = new Object();
         // Create one instance of datasource connection
         Mono<DatasourceContext<?>> dsContextMono1 = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         Datasource datasource = new Datasource();
         datasource.setId("id1");
@@ -208,7 +212,7 @@ public class DatasourceContextServiceTest {
         Mono<DatasourceContext<?>> dsContextMono2 = datasourceService
                 .archiveById("id1")
                 .flatMap(deleted -> datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier));
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier));
 
         StepVerifier.create(dsContextMono1)
                 .assertNext(dsContext1 -> {
@@ -223,6 +227,95 @@ public class DatasourceContextServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testDatasourceCache_afterContextIsIdle_evictsAndDestroysConnection() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+
+        Plugin mockPlugin = new Plugin();
+        mockPlugin.setId("mockPluginId");
+        mockPlugin.setPackageName("mock-plugin");
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1")).when(spyMockPluginExecutor).datasourceCreate(any());
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(spyMockPluginExecutor));
+        doReturn(Mono.just(mockPlugin)).when(pluginService).findById("mockPluginId");
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId("idleDatasourceId");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        datasourceStorage.setWorkspaceId(workspaceId);
+
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        DatasourceContext<?> datasourceContext = (DatasourceContext<?>) datasourceContextService
+                .getCachedDatasourceContextMono(
+                        datasourceStorage,
+                        mockPlugin,
+                        spyMockPluginExecutor,
+                        datasourceContextIdentifier)
+                .block();
+        assertNotNull(datasourceContext);
+        assertTrue(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+
+        // A context that has been used recently must not be evicted
+        datasourceContextService.evictIdleDatasourceContexts();
+        assertTrue(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+
+        datasourceContext.setLastAccessTime(Instant.now().minus(Duration.ofDays(1)));
+        datasourceContextService.evictIdleDatasourceContexts();
+
+        assertFalse(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+        Mockito.verify(spyMockPluginExecutor, Mockito.timeout(5000)).datasourceDestroy("connection_1");
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testDatasourceCache_whenContextWithoutConnectionIsReused_doesNotEvictIt() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+
+        Plugin mockPlugin = new Plugin();
+        mockPlugin.setId("mockPluginId");
+        mockPlugin.setPackageName("mock-plugin");
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        // Plugins like SMTP have no connection to keep in the context
+        doReturn(Mono.empty()).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId("connectionlessDatasourceId");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        datasourceStorage.setWorkspaceId(workspaceId);
+
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        DatasourceContext<?> datasourceContext = (DatasourceContext<?>) datasourceContextService
+                .getCachedDatasourceContextMono(
+                        datasourceStorage, mockPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
+                .block();
+        assertNotNull(datasourceContext);
+
+        datasourceContext.setLastAccessTime(Instant.now().minus(Duration.ofDays(1)));
+        // Reusing the context marks it as recently used, even though it has no connection
+        datasourceContextService
+                .getCachedDatasourceContextMono(
+                        datasourceStorage, mockPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
+                .block();
+        datasourceContextService.evictIdleDatasourceContexts();
+
+        DatasourceContext<?> reusedDatasourceContext = (DatasourceContext<?>) datasourceContextService
+                .getCachedDatasourceContextMono(
+                        datasourceStorage, mockPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
+                .block();
+        assertSame(datasourceContext, reusedDatasourceContext);
+        Mockito.verify(spyMockPluginExecutor, Mockito.times(1)).datasourceCreate(any());
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void checkDecryptionOfAuthenticationDTOTest() {
@@ -376,15 +469,13 @@ public class DatasourceContextServiceTest {
 
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
-
-        Object monitor = new Object();
         DatasourceContext<?> dsContext1 = (DatasourceContext<?>) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         DatasourceContext<?> dsContext2 = (DatasourceContext<?>) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
 
         /* They can only be equal if the `datasourceCreate` method was called only once */
@@ -392,6 +483,66 @@ public class DatasourceContextServiceTest {
         assertEquals("connection_1", dsContext1.getConnection());
     }
 
+    /**
+     * This test checks that when several executions hit a cold datasource at the same time, the connection is created
+     * only once and every execution gets the same context.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testCachedDatasourceCreate_withConcurrentRequestsOnColdDatasource_createsConnectionOnce() {
+        getLatenciesOfConcurrentRequestsOnColdDatasource("cold_datasource", 10);
+    }
+
+    /**
+     * Same as {@link #testCachedDatasourceCreate_withConcurrentRequestsOnColdDatasource_createsConnectionOnce()}, with
+     * 200 executions, and logs their p99 latency. It only runs with the benchmark tests.
+     */
+    @Test
+    @Tag("benchmark")
+    @WithUserDetails(value = "api_user")
+    public void testCachedDatasourceCreate_withManyConcurrentRequestsOnColdDatasource_createsConnectionOnce() {
+        int requestCount = 200;
+        List<Long> latenciesInMillis =
+                getLatenciesOfConcurrentRequestsOnColdDatasource("busy_cold_datasource", requestCount);
+
+        long p99LatencyInMillis = latenciesInMillis.get((int) Math.ceil(requestCount * 0.99) - 1);
+        log.debug("p99 latency for {} concurrent requests on a cold datasource : {} ms", requestCount, p99LatencyInMillis);
+    }
+
+    private List<Long> getLatenciesOfConcurrentRequestsOnColdDatasource(String datasourceId, int requestCount) {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+        Plugin emptyPlugin = new Plugin();
+        PluginExecutor<Object> spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1").delayElement(Duration.ofMillis(200)))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId(datasourceId);
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        Mono<Long> latencyInMillisMono = Mono.defer(
+                        () -> datasourceContextService.getCachedDatasourceContextMono(
+                                datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier))
+                .subscribeOn(Schedulers.parallel())
+                .elapsed()
+                .doOnNext(tuple -> assertEquals("connection_1", tuple.getT2().getConnection()))
+                .map(Tuple2::getT1);
+        List<Long> latenciesInMillis = Flux.range(0, requestCount)
+                .flatMap(i -> latencyInMillisMono, requestCount)
+                .collectSortedList()
+                .block();
+
+        assertNotNull(latenciesInMillis);
+        assertEquals(requestCount, latenciesInMillis.size());
+        Mockito.verify(spyMockPluginExecutor, Mockito.times(1)).datasourceCreate(any());
+        return latenciesInMillis;
+    }
+
     /**
      * This test checks that if `getCachedDatasourceCreate` method is called two times for the same datasource id, then
      * the datasource creation happens again and again for UpdatableConnection types
@@ -460,14 +611,11 @@ public class DatasourceContextServiceTest {
 
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(createdDatasource.getId(), defaultEnvironmentId);
-
-        Object monitor = new Object();
         final DatasourceContext<?> dsc1 = (DatasourceContext) datasourceContextService
                 .getCachedDatasourceContextMono(
                         createdDatasourceStorage,
                         emptyPlugin,
                         spyMockPluginExecutor,
-                        monitor,
                         datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc1);
@@ -480,7 +628,6 @@ public class DatasourceContextServiceTest {
                         createdDatasourceStorage,
                         emptyPlugin,
                         spyMockPluginExecutor,
-                        monitor,
                         datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc2);
@@ -516,11 +663,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
@@ -533,7 +678,7 @@ public class DatasourceContextServiceTest {
     /**
      * This test verifies that if a cached datasource context Mono goes to an error state, then that Mono is invalidated
      * and a new datasource context mono is created on calling
-     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, Plugin, PluginExecutor, Object, DatasourceContextIdentifier)}
+     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, Plugin, PluginExecutor, DatasourceContextIdentifier)}
      * and not fetched from the cache.
      */
     @Test
@@ -558,17 +703,15 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
                 .verify();
 
         Mono<DatasourceContext<?>> validDatasourceContextMono = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(validDatasourceContextMono)
                 .assertNext(validDatasourceContext ->
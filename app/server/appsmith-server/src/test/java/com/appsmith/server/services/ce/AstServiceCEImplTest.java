@@ -0,0 +1,203 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.InstanceConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.util.function.Tuple2;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class AstServiceCEImplTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final int EVALUATION_VERSION = 2;
+
+    private MockWebServer mockRts;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AstServiceCEImpl astService;
+
+    // Scripts sent to RTS, per call
+    private final List<List<String>> rtsCalls = new CopyOnWriteArrayList<>();
+
+    // Number of scripts that RTS returns the references of, the rest are left out of the response
+    private volatile int rtsResponseLimit = Integer.MAX_VALUE;
+
+    /**
+     * Mimics RTS by returning the script itself as the only reference found in it
+     */
+    private final Dispatcher rtsDispatcher = new Dispatcher() {
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            try {
+                JsonNode body = objectMapper.readTree(request.getBody().readUtf8());
+                List<String> scripts = new ArrayList<>();
+                ObjectNode response = objectMapper.createObjectNode();
+                ArrayNode data = response.putArray("data");
+                body.get("scripts").forEach(script -> {
+                    scripts.add(script.asText());
+                    if (data.size() < rtsResponseLimit) {
+                        data.addObject().putArray("references").add(script.asText());
+                    }
+                });
+                rtsCalls.add(scripts);
+
+                // Slow enough for concurrent requests to overlap
+                Thread.sleep(100);
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        .setBody(objectMapper.writeValueAsString(response));
+            } catch (IOException | InterruptedException e) {
+                return new MockResponse().setResponseCode(500);
+            }
+        }
+    };
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        mockRts = new MockWebServer();
+        mockRts.setDispatcher(rtsDispatcher);
+        mockRts.start();
+
+        CommonConfig commonConfig = Mockito.mock(CommonConfig.class);
+        Mockito.when(commonConfig.getRtsBaseUrl()).thenReturn("http://localhost:" + mockRts.getPort());
+        InstanceConfig instanceConfig = Mockito.mock(InstanceConfig.class);
+        Mockito.when(instanceConfig.getIsRtsAccessible()).thenReturn(true);
+
+        meterRegistry = new SimpleMeterRegistry();
+        astService = new AstServiceCEImpl(commonConfig, instanceConfig, meterRegistry);
+        astService.createReferencesCache();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        mockRts.shutdown();
+    }
+
+    private List<String> getWidgetBindings(int widgetCount) {
+        return IntStream.range(0, widgetCount)
+                .mapToObj(i -> "Query" + (i % 20) + ".data[" + i + "]")
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Set<String>> getReferences(List<String> bindingValues) {
+        return astService
+                .getPossibleReferencesFromDynamicBinding(bindingValues, EVALUATION_VERSION)
+                .collectMap(Tuple2::getT1, Tuple2::getT2)
+                .block();
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_whenPageIsSavedAgain_servesBindingsWithoutCallingRts() {
+        List<String> bindingValues = getWidgetBindings(200);
+
+        Map<String, Set<String>> referencesOnFirstSave = getReferences(bindingValues);
+        Map<String, Set<String>> referencesOnSecondSave = getReferences(bindingValues);
+
+        assertThat(referencesOnFirstSave).hasSize(200);
+        assertThat(referencesOnSecondSave).isEqualTo(referencesOnFirstSave);
+        bindingValues.forEach(bindingValue ->
+                assertThat(referencesOnSecondSave.get(bindingValue)).containsExactly(bindingValue));
+
+        // The first save looks up all the bindings in one call, the second one is served from memory
+        assertThat(rtsCalls).hasSize(1);
+        assertThat(rtsCalls.get(0)).hasSize(200);
+        assertThat(meterRegistry
+                        .get("appsmith.ast.references.cache.hit.ratio")
+                        .gauge()
+                        .value())
+                .isEqualTo(0.5);
+        assertThat(meterRegistry.get("appsmith.ast.references.rts.calls").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_withSomeKnownBindings_sendsOnlyTheMissesToRts() {
+        List<String> bindingValues = getWidgetBindings(200);
+        getReferences(bindingValues);
+
+        List<String> updatedBindingValues = new ArrayList<>(bindingValues);
+        updatedBindingValues.add("Input1.text");
+        updatedBindingValues.add("Table1.selectedRow.id");
+        Map<String, Set<String>> references = getReferences(updatedBindingValues);
+
+        assertThat(references).hasSize(202);
+        assertThat(rtsCalls).hasSize(2);
+        assertThat(rtsCalls.get(1)).containsExactlyInAnyOrder("Input1.text", "Table1.selectedRow.id");
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_withNewEvalVersion_callsRtsAgain() {
+        List<String> bindingValues = List.of("Input1.text");
+
+        getReferences(bindingValues);
+        astService
+                .getPossibleReferencesFromDynamicBinding(bindingValues, EVALUATION_VERSION + 1)
+                .blockLast();
+
+        assertThat(rtsCalls).hasSize(2);
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_withIncompleteRtsResponse_skipsAndDoesNotCacheTheRest() {
+        List<String> bindingValues = List.of("Input1.text", "Table1.selectedRow.id");
+
+        rtsResponseLimit = 1;
+        Map<String, Set<String>> incompleteReferences = getReferences(bindingValues);
+        // The binding left out of the response is dropped from the cache right after the lookup completes
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(meterRegistry
+                        .get("cache.size")
+                        .gauge()
+                        .value())
+                .isEqualTo(1));
+        rtsResponseLimit = Integer.MAX_VALUE;
+        Map<String, Set<String>> references = getReferences(bindingValues);
+
+        assertThat(incompleteReferences).containsOnlyKeys("Input1.text");
+        assertThat(references).containsOnlyKeys("Input1.text", "Table1.selectedRow.id");
+        // Only the binding that was left out of the first response is looked up again
+        assertThat(rtsCalls).hasSize(2);
+        assertThat(rtsCalls.get(1)).containsExactly("Table1.selectedRow.id");
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_withConcurrentIdenticalRequests_callsRtsOnce() {
+        List<String> bindingValues = getWidgetBindings(200);
+
+        List<Map<String, Set<String>>> results = Flux.range(0, 20)
+                .flatMap(i -> astService
+                        .getPossibleReferencesFromDynamicBinding(bindingValues, EVALUATION_VERSION)
+                        .collectMap(Tuple2::getT1, Tuple2::getT2))
+                .collectList()
+                .block();
+
+        assertThat(results).hasSize(20).allSatisfy(result -> assertThat(result).hasSize(200));
+        assertThat(rtsCalls).hasSize(1);
+    }
+}
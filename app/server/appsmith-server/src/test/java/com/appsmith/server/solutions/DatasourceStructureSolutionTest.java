@@ -17,6 +17,7 @@ import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.Workspace;
+import com.appsmith.server.helpers.DatasourceStructureCache;
 import com.appsmith.server.helpers.MockPluginExecutor;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
@@ -48,6 +49,9 @@ import static com.appsmith.external.models.DatasourceStructure.TableType.TABLE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -90,6 +94,9 @@ public class DatasourceStructureSolutionTest {
     @Autowired
     EnvironmentPermission environmentPermission;
 
+    @Autowired
+    DatasourceStructureCache datasourceStructureCache;
+
     @Autowired
     ApplicationPageService applicationPageService;
 
@@ -465,4 +472,97 @@ public class DatasourceStructureSolutionTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void verifyStructureReadFromMemoryOnceRead() {
+        doReturn(Mono.just(generateDatasourceStructureObject()))
+                .when(datasourceContextService)
+                .retryOnce(any(), any());
+
+        datasourceStructureSolution
+                .getStructure(datasourceId, Boolean.FALSE, defaultEnvironmentId)
+                .block();
+
+        Mono<DatasourceStructure> datasourceStructureMono =
+                datasourceStructureSolution.getStructure(datasourceId, Boolean.FALSE, defaultEnvironmentId);
+
+        StepVerifier.create(datasourceStructureMono)
+                .assertNext(datasourceStructure -> {
+                    assertThat(datasourceStructure.getTables()).hasSize(2);
+                    assertThat(datasourceStructure.getTables().get(0).getName()).isEqualTo("Table1");
+                })
+                .verifyComplete();
+
+        verify(datasourceStructureService, times(1))
+                .getByDatasourceIdAndEnvironmentId(datasourceId, defaultEnvironmentId);
+        verify(datasourceContextService, times(1)).retryOnce(any(), any());
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void verifyCachedStructureNotFetchedAgainUntilRefreshed() {
+        DatasourceStructureCache.Key cacheKey = new DatasourceStructureCache.Key(datasourceId, defaultEnvironmentId);
+        datasourceStructureCache.put(cacheKey, generateDatasourceStructureObject());
+
+        DatasourceStructure.Table table =
+                new DatasourceStructure.Table(TABLE, null, "Table3", List.of(), null, null);
+        doReturn(Mono.just(new DatasourceStructure(List.of(table))))
+                .when(datasourceContextService)
+                .retryOnce(any(), any());
+
+        // The cached structure is returned, without scanning the catalog of the datasource
+        StepVerifier.create(datasourceStructureSolution.getStructure(datasourceId, Boolean.FALSE, defaultEnvironmentId))
+                .assertNext(datasourceStructure -> {
+                    assertThat(datasourceStructure.getTables()).hasSize(2);
+                    assertThat(datasourceStructure.getTables().get(0).getName()).isEqualTo("Table1");
+                })
+                .verifyComplete();
+        verify(datasourceContextService, never()).retryOnce(any(), any());
+
+        // Until the user asks for it to be refreshed, which replaces it both in memory and in the database
+        StepVerifier.create(datasourceStructureSolution.getStructure(datasourceId, Boolean.TRUE, defaultEnvironmentId))
+                .assertNext(datasourceStructure -> assertThat(datasourceStructure.getTables())
+                        .extracting(DatasourceStructure.Table::getName)
+                        .containsExactly("Table3"))
+                .verifyComplete();
+
+        assertThat(datasourceStructureCache.get(cacheKey).getTables())
+                .extracting(DatasourceStructure.Table::getName)
+                .containsExactly("Table3");
+        StepVerifier.create(datasourceStructureService.getByDatasourceIdAndEnvironmentId(
+                        datasourceId, defaultEnvironmentId))
+                .assertNext(datasourceStorageStructure -> assertThat(
+                                datasourceStorageStructure.getStructure().getTables())
+                        .hasSize(1))
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void verifyStructureFilteredBySchema() {
+        DatasourceStructure.Table publicTable =
+                new DatasourceStructure.Table(TABLE, "public", "users", List.of(), null, null);
+        DatasourceStructure.Table salesTable =
+                new DatasourceStructure.Table(TABLE, "sales", "orders", List.of(), null, null);
+        doReturn(Mono.just(new DatasourceStructure(List.of(publicTable, salesTable))))
+                .when(datasourceContextService)
+                .retryOnce(any(), any());
+
+        Mono<DatasourceStructure> datasourceStructureMono = datasourceStructureSolution.getStructure(
+                datasourceId, Boolean.FALSE, defaultEnvironmentId, "sales");
+
+        StepVerifier.create(datasourceStructureMono)
+                .assertNext(datasourceStructure -> {
+                    assertThat(datasourceStructure.getTables()).hasSize(1);
+                    assertThat(datasourceStructure.getTables().get(0).getName()).isEqualTo("orders");
+                })
+                .verifyComplete();
+
+        // The whole structure is still kept for the other schemas
+        StepVerifier.create(datasourceStructureSolution.getStructure(datasourceId, Boolean.FALSE, defaultEnvironmentId))
+                .assertNext(datasourceStructure -> assertThat(datasourceStructure.getTables())
+                        .hasSize(2))
+                .verifyComplete();
+    }
 }
@@ -4,14 +4,20 @@ import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.ParamProperty;
 import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Connection;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.Param;
+import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.PluginExecutorHelper;
@@ -29,6 +35,7 @@ import com.appsmith.server.solutions.ActionPermission;
 import com.appsmith.server.solutions.DatasourcePermission;
 import com.appsmith.server.solutions.EnvironmentPermission;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,15 +67,18 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -142,8 +152,11 @@ class ActionExecutionSolutionCEImplTest {
 
     private Map<String, Object> hints;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     public void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
         actionExecutionSolution = new ActionExecutionSolutionCEImpl(
                 newActionService,
                 actionPermission,
@@ -163,7 +176,9 @@ class ActionExecutionSolutionCEImplTest {
                 datasourceStorageService,
                 environmentPermission,
                 configService,
-                tenantService);
+                tenantService,
+                meterRegistry);
+        actionExecutionSolution.createCaches();
 
         ObservationRegistry.ObservationConfig mockObservationConfig =
                 Mockito.mock(ObservationRegistry.ObservationConfig.class);
@@ -451,4 +466,196 @@ class ActionExecutionSolutionCEImplTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void getCachedExecutionPlan_withRepeatedExecutionsOfPlugin_resolvesPluginOnce() {
+        Plugin plugin = new Plugin();
+        plugin.setId("pluginId");
+        plugin.setPackageName("restapi-plugin");
+        PluginExecutor pluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(pluginService.findById("pluginId")).thenReturn(Mono.just(plugin));
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(pluginExecutor));
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setPluginId("pluginId");
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(actionExecutionSolution.getCachedExecutionPlan(Mono.just(datasourceStorage)))
+                    .assertNext(executionPlan -> {
+                        assertEquals(plugin, executionPlan.plugin());
+                        assertEquals(pluginExecutor, executionPlan.pluginExecutor());
+                    })
+                    .verifyComplete();
+        }
+
+        Mockito.verify(pluginService, Mockito.times(1)).findById("pluginId");
+        Mockito.verify(pluginExecutorHelper, Mockito.times(1)).getPluginExecutor(any());
+        assertEquals(
+                2.0 / 3,
+                meterRegistry
+                        .get("appsmith.action.execution.plans.cache.hit.ratio")
+                        .gauge()
+                        .value(),
+                0.001);
+    }
+
+    @Test
+    public void getCachedExecutionPlan_withMissingPlugin_failsAndDoesNotCacheIt() {
+        Mockito.when(pluginService.findById("missingPluginId")).thenReturn(Mono.empty());
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setPluginId("missingPluginId");
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(actionExecutionSolution.getCachedExecutionPlan(Mono.just(datasourceStorage)))
+                    .expectErrorMatches(e -> e instanceof AppsmithException
+                            && ((AppsmithException) e).getError() == AppsmithError.NO_RESOURCE_FOUND)
+                    .verify();
+        }
+
+        Mockito.verify(pluginService, Mockito.times(2)).findById("missingPluginId");
+    }
+
+    private static ExecuteActionDTO createExecuteActionDTO(boolean viewMode, String paramValue) {
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId("actionId");
+        executeActionDTO.setViewMode(viewMode);
+        executeActionDTO.setParams(List.of(new Param("k0", paramValue)));
+        return executeActionDTO;
+    }
+
+    private static ActionDTO createCoalescedActionDTO() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setCoalesceExecutionsInMillisecond(60000);
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setId("actionId");
+        actionDTO.setActionConfiguration(actionConfiguration);
+        return actionDTO;
+    }
+
+    private static DatasourceStorage createDatasourceStorage(Connection.Mode mode) {
+        Connection connection = new Connection();
+        connection.setMode(mode);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnection(connection);
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId("environmentId");
+        datasourceStorage.setDatasourceConfiguration(datasourceConfiguration);
+        return datasourceStorage;
+    }
+
+    private static Mono<ActionExecutionResult> createExecutionMono(AtomicInteger executionCount) {
+        return Mono.fromCallable(() -> {
+                    executionCount.incrementAndGet();
+                    ActionExecutionResult result = new ActionExecutionResult();
+                    result.setIsExecutionSuccess(true);
+                    result.setBody("rows");
+                    return result;
+                })
+                .delayElement(Duration.ofMillis(200));
+    }
+
+    @Test
+    public void coalesceExecution_withSimultaneousIdenticalExecutions_executesOnce() {
+        AtomicInteger executionCount = new AtomicInteger();
+        DatasourceStorage datasourceStorage = createDatasourceStorage(Connection.Mode.READ_ONLY);
+
+        Mono<List<ActionExecutionResult>> resultsMono = Flux.range(0, 20)
+                .flatMap(i -> actionExecutionSolution.coalesceExecution(
+                        createExecuteActionDTO(true, "1"),
+                        createCoalescedActionDTO(),
+                        datasourceStorage,
+                        createExecutionMono(executionCount)))
+                .collectList();
+
+        StepVerifier.create(resultsMono)
+                .assertNext(results -> {
+                    assertEquals(20, results.size());
+                    assertTrue(results.stream().allMatch(result -> "rows".equals(result.getBody())));
+                    assertNotSame(results.get(0), results.get(1));
+                })
+                .verifyComplete();
+
+        assertEquals(1, executionCount.get());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("appsmith.action.execution.coalescing")
+                        .tag("outcome", "executed")
+                        .counter()
+                        .count());
+        assertEquals(
+                19,
+                meterRegistry
+                        .get("appsmith.action.execution.coalescing")
+                        .tag("outcome", "coalesced")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    public void coalesceExecution_withSimultaneousIdenticalWrites_executesEach() {
+        AtomicInteger executionCount = new AtomicInteger();
+        DatasourceStorage datasourceStorage = createDatasourceStorage(Connection.Mode.READ_WRITE);
+
+        Mono<List<ActionExecutionResult>> resultsMono = Flux.range(0, 2)
+                .flatMap(i -> actionExecutionSolution.coalesceExecution(
+                        createExecuteActionDTO(true, "1"),
+                        createCoalescedActionDTO(),
+                        datasourceStorage,
+                        createExecutionMono(executionCount)))
+                .collectList();
+
+        StepVerifier.create(resultsMono)
+                .assertNext(results -> assertEquals(2, results.size()))
+                .verifyComplete();
+        assertEquals(2, executionCount.get());
+    }
+
+    @Test
+    public void coalesceExecution_withDifferentParamsOrEditMode_executesEach() {
+        AtomicInteger executionCount = new AtomicInteger();
+        DatasourceStorage datasourceStorage = createDatasourceStorage(Connection.Mode.READ_ONLY);
+
+        Mono<List<ActionExecutionResult>> resultsMono = Flux.merge(
+                        actionExecutionSolution.coalesceExecution(
+                                createExecuteActionDTO(true, "1"),
+                                createCoalescedActionDTO(),
+                                datasourceStorage,
+                                createExecutionMono(executionCount)),
+                        actionExecutionSolution.coalesceExecution(
+                                createExecuteActionDTO(true, "2"),
+                                createCoalescedActionDTO(),
+                                datasourceStorage,
+                                createExecutionMono(executionCount)),
+                        actionExecutionSolution.coalesceExecution(
+                                createExecuteActionDTO(false, "1"),
+                                createCoalescedActionDTO(),
+                                datasourceStorage,
+                                createExecutionMono(executionCount)))
+                .collectList();
+
+        StepVerifier.create(resultsMono)
+                .assertNext(results -> assertEquals(3, results.size()))
+                .verifyComplete();
+        assertEquals(3, executionCount.get());
+    }
+
+    @Test
+    public void coalesceExecution_withReadOnlyDatasource_reusesResultAfterItIsReturned() {
+        AtomicInteger executionCount = new AtomicInteger();
+        DatasourceStorage datasourceStorage = createDatasourceStorage(Connection.Mode.READ_ONLY);
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(actionExecutionSolution.coalesceExecution(
+                            createExecuteActionDTO(true, "1"),
+                            createCoalescedActionDTO(),
+                            datasourceStorage,
+                            createExecutionMono(executionCount)))
+                    .assertNext(result -> assertEquals("rows", result.getBody()))
+                    .verifyComplete();
+        }
+
+        assertEquals(1, executionCount.get());
+    }
 }
@@ -72,6 +72,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -92,6 +93,8 @@ import static org.mockito.ArgumentMatchers.any;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
+// The plugin executor is mocked differently across the tests, so it must be resolved again for every execution
+@TestPropertySource(properties = "appsmith.action.execution.plans.cache.expiry-seconds=0")
 @Slf4j
 public class ActionExecutionSolutionCETest {
 
@@ -430,6 +433,45 @@ public class ActionExecutionSolutionCETest {
         executeAndAssertAction(executeActionDTO, mockResult, List.of(new ParsedDataType(DisplayDataType.RAW)));
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testActionExecute_withExecutionRateLimitExceeded_returnsTooManyRequests() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(pluginExecutor));
+        Mockito.when(pluginExecutor.getHintMessages(any(), any()))
+                .thenReturn(Mono.zip(Mono.just(new HashSet<>()), Mono.just(new HashSet<>())));
+        Mockito.doReturn(Mono.just(false))
+                .when(spyDatasourceService)
+                .consumeExecutionTokenIfAvailable(Mockito.any());
+
+        ActionExecutionResult mockResult = new ActionExecutionResult();
+        mockResult.setIsExecutionSuccess(true);
+        mockResult.setBody("response-body");
+
+        ActionDTO action = new ActionDTO();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        action.setActionConfiguration(actionConfiguration);
+        action.setName("testActionExecuteRateLimited");
+        action.setPageId(testPage.getId());
+        action.setDatasource(datasource);
+        ActionDTO createdAction =
+                layoutActionService.createSingleAction(action, Boolean.FALSE).block();
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId(createdAction.getId());
+        executeActionDTO.setViewMode(false);
+
+        StepVerifier.create(executeAction(executeActionDTO, mockResult))
+                .assertNext(result -> {
+                    assertThat(result.getIsExecutionSuccess()).isFalse();
+                    assertThat(result.getStatusCode()).isEqualTo(AppsmithError.TOO_MANY_REQUESTS.getAppErrorCode());
+                })
+                .verifyComplete();
+
+        Mockito.verify(pluginExecutor, Mockito.never())
+                .executeParameterizedWithMetrics(any(), any(), any(), any(), any());
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void testActionExecuteNullRequestBody() {
@@ -1,8 +1,10 @@
 package com.appsmith.caching;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @ComponentScan
+@EnableConfigurationProperties(NearCacheProperties.class)
 public class CachingConfig {}
@@ -0,0 +1,40 @@
+package com.appsmith.caching;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the in-process near caches kept in front of Redis, per cache name.
+ * Example:
+ * <pre>
+ * appsmith.caching.near-cache.caches[permissionGroupsForUser].max-size=10000
+ * appsmith.caching.near-cache.caches[permissionGroupsForUser].ttl=60s
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "appsmith.caching.near-cache")
+public class NearCacheProperties {
+
+    /**
+     * Near cache configuration per cache name. Caches that are not configured here are only kept in Redis.
+     */
+    private Map<String, Spec> caches = new HashMap<>();
+
+    @Data
+    public static class Spec {
+        /**
+         * Maximum number of entries kept in memory for the cache.
+         */
+        private long maxSize = 10_000;
+
+        /**
+         * Time after which an entry is dropped from memory, even if it hasn't been evicted. This bounds how stale an
+         * entry can get if an invalidation message is missed.
+         */
+        private Duration ttl = Duration.ofMinutes(1);
+    }
+}
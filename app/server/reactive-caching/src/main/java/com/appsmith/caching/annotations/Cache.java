@@ -22,4 +22,10 @@ public @interface Cache {
      * All method arguments can be used in the expression
      */
     String key() default "";
+
+    /**
+     * Time in seconds after which the cached value expires. Zero or a negative value keeps the value until it is
+     * evicted.
+     */
+    long ttlSeconds() default 24 * 60 * 60;
 }
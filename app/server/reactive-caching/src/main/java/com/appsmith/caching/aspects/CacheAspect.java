@@ -19,6 +19,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -45,13 +46,15 @@ public class CacheAspect {
      * @param joinPoint The join point of the method call
      * @param cacheName The name of the cache
      * @param key       The key to be used for caching
+     * @param ttl       The time after which the cached result expires
      * @return The result of the method call
      */
-    private Mono<Object> callMonoMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Mono<Object> callMonoMethodAndCache(
+            ProceedingJoinPoint joinPoint, String cacheName, String key, Duration ttl) {
         try {
             return ((Mono<?>) joinPoint.proceed())
-                    .zipWhen(value ->
-                            cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the object
+                    .zipWhen(value -> cacheManager.put(
+                            cacheName, key, value, ttl)) // Call CacheManager.put() to cache the object
                     .flatMap(value -> Mono.just(value.getT1())); // Maps to the original object
         } catch (Throwable e) {
             log.error(
@@ -68,14 +71,15 @@ public class CacheAspect {
      * @param joinPoint The join point
      * @param cacheName The name of the cache
      * @param key       The key to be used for caching
+     * @param ttl       The time after which the cached result expires
      * @return The result of the method call after caching
      */
-    private Flux<?> callFluxMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Flux<?> callFluxMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key, Duration ttl) {
         try {
             return ((Flux<?>) joinPoint.proceed())
                     .collectList() // Collect Flux<T> into Mono<List<T>>
-                    .zipWhen(value ->
-                            cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the list
+                    .zipWhen(value -> cacheManager.put(
+                            cacheName, key, value, ttl)) // Call CacheManager.put() to cache the list
                     .flatMap(value -> Mono.just(value.getT1())) // Maps to the original list
                     .flatMapMany(Flux::fromIterable); // Convert it back to Flux<T>
         } catch (Throwable e) {
@@ -161,20 +165,23 @@ public class CacheAspect {
         String[] parameterNames = signature.getParameterNames();
         Object[] args = joinPoint.getArgs();
         String key = deriveKey(annotation.key(), parameterNames, args);
+        Duration ttl = Duration.ofSeconds(annotation.ttlSeconds());
 
         Class<?> returnType = method.getReturnType();
         if (returnType.isAssignableFrom(Mono.class)) { // If method returns Mono<T>
             return cacheManager
                     .get(cacheName, key)
                     .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(
-                            joinPoint, cacheName,
-                            key))); // defer the creation of Mono until subscription as it will call original function
+                            joinPoint,
+                            cacheName,
+                            key,
+                            ttl))); // defer the creation of Mono until subscription as it will call original function
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { // If method returns Flux<T>
             return cacheManager
                     .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key)
+                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key, ttl)
                             .collectList())) // defer the creation of Flux until subscription as it will call original
                     // function
                     .map(value -> (List<?>) value)
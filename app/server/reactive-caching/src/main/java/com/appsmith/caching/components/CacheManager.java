@@ -2,6 +2,8 @@ package com.appsmith.caching.components;
 
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 public interface CacheManager {
     /**
      * This will log the cache stats with INFO severity.
@@ -25,6 +27,16 @@ public interface CacheManager {
      */
     Mono<Boolean> put(String cacheName, String key, Object value);
 
+    /**
+     * This will put item into the cache, expiring it after the given time.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @param value The value of the item.
+     * @param ttl Time after which the item expires, null or non-positive to never expire.
+     * @return Mono<Boolean> true if put was successful, false otherwise.
+     */
+    Mono<Boolean> put(String cacheName, String key, Object value, Duration ttl);
+
     /**
      * This will remove item from the cache.
      * @param cacheName The name of the cache.
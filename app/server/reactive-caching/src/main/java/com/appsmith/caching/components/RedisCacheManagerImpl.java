@@ -4,12 +4,12 @@ import com.appsmith.caching.model.CacheStats;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
-import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -23,7 +23,8 @@ import java.util.concurrent.ConcurrentHashMap;
 public class RedisCacheManagerImpl implements CacheManager {
 
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
-    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private static final int EVICT_ALL_BATCH_SIZE = 1000;
 
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
@@ -32,9 +33,16 @@ public class RedisCacheManagerImpl implements CacheManager {
      * @param cacheName The name of the cache.
      */
     private void ensureStats(String cacheName) {
-        if (!statsMap.containsKey(cacheName)) {
-            statsMap.put(cacheName, CacheStats.newInstance());
-        }
+        statsMap.computeIfAbsent(cacheName, name -> CacheStats.newInstance());
+    }
+
+    /**
+     * Returns the stats of the given cache, creating them if needed.
+     * @param cacheName The name of the cache.
+     * @return The stats of the cache.
+     */
+    public CacheStats getStats(String cacheName) {
+        return statsMap.computeIfAbsent(cacheName, name -> CacheStats.newInstance());
     }
 
     @Override
@@ -42,10 +50,13 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.keySet().forEach(key -> {
             CacheStats stats = statsMap.get(key);
             log.debug(
-                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
+                    "Cache {} stats: hits = {}, misses = {}, nearCacheHits = {}, nearCacheMisses = {}, "
+                            + "singleEvictions = {}, completeEvictions = {}",
                     key,
                     stats.getHits(),
                     stats.getMisses(),
+                    stats.getNearCacheHits(),
+                    stats.getNearCacheMisses(),
                     stats.getSingleEvictions(),
                     stats.getCompleteEvictions());
         });
@@ -59,11 +70,8 @@ public class RedisCacheManagerImpl implements CacheManager {
     }
 
     @Autowired
-    public RedisCacheManagerImpl(
-            ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+    public RedisCacheManagerImpl(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
-        this.reactiveRedisOperations = reactiveRedisOperations;
     }
 
     @Override
@@ -88,10 +96,18 @@ public class RedisCacheManagerImpl implements CacheManager {
 
     @Override
     public Mono<Boolean> put(String cacheName, String key, Object value) {
+        return put(cacheName, key, value, null);
+    }
+
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value, Duration ttl) {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
         log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return reactiveRedisTemplate.opsForValue().set(path, value);
+        }
+        return reactiveRedisTemplate.opsForValue().set(path, value, ttl);
     }
 
     @Override
@@ -108,9 +124,16 @@ public class RedisCacheManagerImpl implements CacheManager {
         ensureStats(cacheName);
         statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
         String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        // Remove all matching keys with wildcard. The keys are found with SCAN and removed with UNLINK in batches,
+        // since KEYS and DEL block the whole Redis server for as long as it takes to go over all of its keys.
+        ScanOptions scanOptions =
+                ScanOptions.scanOptions().match(path + ":*").count(EVICT_ALL_BATCH_SIZE).build();
+        return reactiveRedisTemplate
+                .scan(scanOptions)
+                .buffer(EVICT_ALL_BATCH_SIZE)
+                .concatMap(keys -> reactiveRedisTemplate.unlink(keys.toArray(new String[0])))
+                .reduce(0L, Long::sum)
+                .doOnNext(count -> log.debug("Cache entries evicted for cache {}: {}", path, count))
+                .then();
     }
 }
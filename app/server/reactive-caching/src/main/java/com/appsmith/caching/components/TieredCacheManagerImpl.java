@@ -0,0 +1,232 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.NearCacheProperties;
+import com.appsmith.caching.model.CacheInvalidationMessage;
+import com.appsmith.caching.model.CacheStats;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TieredCacheManagerImpl is a class that implements the CacheManager interface.
+ * It keeps a bounded in-process near cache in front of Redis for the caches configured in {@link NearCacheProperties},
+ * and delegates to {@link RedisCacheManagerImpl} for everything else. Evictions are published over Redis pub/sub, so
+ * that every node drops the evicted entries from its near cache.
+ */
+@Primary
+@Component
+@ConditionalOnClass({ReactiveRedisTemplate.class})
+@ConditionalOnProperty(prefix = "appsmith.caching.near-cache", name = "enabled", matchIfMissing = true)
+@Slf4j
+public class TieredCacheManagerImpl implements CacheManager {
+
+    public static final String INVALIDATION_CHANNEL = "appsmith:cache:invalidations";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RedisCacheManagerImpl redisCacheManager;
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private final NearCacheProperties nearCacheProperties;
+
+    private final Map<String, NearCache> nearCaches = new ConcurrentHashMap<>();
+
+    private final Disposable invalidationSubscription;
+
+    /**
+     * The entries of a near cache, along with a generation that is bumped on every invalidation. A value read from
+     * Redis is only put in the near cache if no invalidation happened while it was being read, else a value evicted
+     * on another node could be resurrected here.
+     */
+    private record NearCache(Cache<String, Object> entries, AtomicLong generation) {}
+
+    @Autowired
+    public TieredCacheManagerImpl(
+            RedisCacheManagerImpl redisCacheManager,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            NearCacheProperties nearCacheProperties) {
+        this.redisCacheManager = redisCacheManager;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.nearCacheProperties = nearCacheProperties;
+        this.invalidationSubscription = subscribeToInvalidations();
+    }
+
+    private Disposable subscribeToInvalidations() {
+        return reactiveRedisOperations
+                .listenTo(ChannelTopic.of(INVALIDATION_CHANNEL))
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::onInvalidationMessage)
+                .doOnError(error -> log.error("Error listening to cache invalidations, resubscribing", error))
+                // Missing invalidations would keep stale entries around until they expire, hence keep listening
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofMinutes(1)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        invalidationSubscription.dispose();
+    }
+
+    private void onInvalidationMessage(String message) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(message, CacheInvalidationMessage.class);
+            if (invalidation.isAll()) {
+                invalidateAllLocally(invalidation.getCacheName());
+            } else {
+                invalidateLocally(invalidation.getCacheName(), invalidation.getKey());
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Unable to read cache invalidation message {}", message, e);
+        }
+    }
+
+    /**
+     * Returns the near cache for the given cache name, null if no near cache is configured for it.
+     * @param cacheName The name of the cache.
+     */
+    private NearCache getNearCache(String cacheName) {
+        return nearCaches.computeIfAbsent(cacheName, name -> {
+            NearCacheProperties.Spec spec = nearCacheProperties.getCaches().get(name);
+            if (spec == null) {
+                return null;
+            }
+            Cache<String, Object> entries = Caffeine.newBuilder()
+                    .maximumSize(spec.getMaxSize())
+                    .expireAfterWrite(spec.getTtl())
+                    .build();
+            return new NearCache(entries, new AtomicLong());
+        });
+    }
+
+    private void invalidateLocally(String cacheName, String key) {
+        NearCache nearCache = nearCaches.get(cacheName);
+        if (nearCache != null) {
+            nearCache.generation().incrementAndGet();
+            nearCache.entries().invalidate(key);
+        }
+    }
+
+    private void invalidateAllLocally(String cacheName) {
+        NearCache nearCache = nearCaches.get(cacheName);
+        if (nearCache != null) {
+            nearCache.generation().incrementAndGet();
+            nearCache.entries().invalidateAll();
+        }
+    }
+
+    private Mono<Void> publishInvalidation(CacheInvalidationMessage invalidation) {
+        if (getNearCache(invalidation.getCacheName()) == null) {
+            // No node keeps this cache in memory, there's nothing to invalidate
+            return Mono.empty();
+        }
+
+        final String message;
+        try {
+            message = objectMapper.writeValueAsString(invalidation);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+
+        return reactiveRedisOperations
+                .convertAndSend(INVALIDATION_CHANNEL, message)
+                .doOnError(error -> log.error("Unable to publish cache invalidation {}", message, error))
+                // The entry is already gone from Redis, other nodes will drop it from memory when it expires
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    @Override
+    public void logStats() {
+        redisCacheManager.logStats();
+    }
+
+    @Override
+    public Mono<Object> get(String cacheName, String key) {
+        final NearCache nearCache = getNearCache(cacheName);
+        if (nearCache == null) {
+            return redisCacheManager.get(cacheName, key);
+        }
+
+        return Mono.defer(() -> {
+            final CacheStats stats = redisCacheManager.getStats(cacheName);
+            final Object value = nearCache.entries().getIfPresent(key);
+            if (value != null) {
+                stats.getNearCacheHits().incrementAndGet();
+                return Mono.just(value);
+            }
+
+            stats.getNearCacheMisses().incrementAndGet();
+            final long generation = nearCache.generation().get();
+            return redisCacheManager.get(cacheName, key).doOnNext(redisValue -> {
+                if (nearCache.generation().get() == generation) {
+                    nearCache.entries().put(key, redisValue);
+                }
+            });
+        });
+    }
+
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value) {
+        return put(cacheName, key, value, null);
+    }
+
+    /*
+     * The near cache keeps the entry for the ttl configured for it, which is expected to be shorter than the ttl of
+     * the entry in Redis.
+     */
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value, Duration ttl) {
+        final NearCache nearCache = getNearCache(cacheName);
+        if (nearCache == null) {
+            return redisCacheManager.put(cacheName, key, value, ttl);
+        }
+
+        return Mono.defer(() -> {
+            final long generation = nearCache.generation().get();
+            return redisCacheManager.put(cacheName, key, value, ttl).doOnNext(isPut -> {
+                if (Boolean.TRUE.equals(isPut) && nearCache.generation().get() == generation) {
+                    nearCache.entries().put(key, value);
+                }
+            });
+        });
+    }
+
+    /*
+     * The near cache is invalidated both before and after the entry is removed from Redis, since a lookup on this node
+     * that runs in between could otherwise read the old value from Redis and put it back in memory.
+     */
+    @Override
+    public Mono<Void> evict(String cacheName, String key) {
+        return Mono.fromRunnable(() -> invalidateLocally(cacheName, key))
+                .then(Mono.defer(() -> redisCacheManager.evict(cacheName, key)))
+                .then(Mono.fromRunnable(() -> invalidateLocally(cacheName, key)))
+                .then(Mono.defer(() -> publishInvalidation(CacheInvalidationMessage.of(cacheName, key, false))));
+    }
+
+    @Override
+    public Mono<Void> evictAll(String cacheName) {
+        return Mono.fromRunnable(() -> invalidateAllLocally(cacheName))
+                .then(Mono.defer(() -> redisCacheManager.evictAll(cacheName)))
+                .then(Mono.fromRunnable(() -> invalidateAllLocally(cacheName)))
+                .then(Mono.defer(() -> publishInvalidation(CacheInvalidationMessage.of(cacheName, null, true))));
+    }
+}
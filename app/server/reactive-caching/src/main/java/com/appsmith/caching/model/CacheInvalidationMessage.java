@@ -0,0 +1,29 @@
+package com.appsmith.caching.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Message published over Redis pub/sub when a cache entry is evicted, so that other nodes can drop the entry from
+ * their near cache.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class CacheInvalidationMessage {
+    /**
+     * The name of the cache.
+     */
+    private String cacheName;
+
+    /**
+     * The key that was evicted, null if all the keys were evicted.
+     */
+    private String key;
+
+    /**
+     * Whether all the keys of the cache were evicted.
+     */
+    private boolean all;
+}
@@ -22,6 +22,16 @@ public class CacheStats {
      */
     private AtomicInteger misses = new AtomicInteger(0);
 
+    /**
+     * The number of times the in-process near cache was hit, without going to Redis.
+     */
+    private AtomicInteger nearCacheHits = new AtomicInteger(0);
+
+    /**
+     * The number of times the in-process near cache was missed, and the lookup went to Redis.
+     */
+    private AtomicInteger nearCacheMisses = new AtomicInteger(0);
+
     /**
      * The number of times the cache was evicted (single key).
      */
@@ -50,6 +50,40 @@ public class CacheTestService {
         return Mono.empty();
     }
 
+    /**
+     * This method is used to test the expiry of cached values.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "ttlcache", ttlSeconds = 1)
+    public Mono<TestModel> getExpiringObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model);
+    }
+
+    /**
+     * This method is used to test the near cache in front of Redis, configured in the test application properties.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "nearobjectcache")
+    public Mono<TestModel> getNearCachedObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofMillis(200));
+    }
+
+    /**
+     * This method is used to test the eviction functionality for the near cache.
+     * @param id The id
+     * @return Mono<Void> that completes after eviction
+     */
+    @CacheEvict(cacheName = "nearobjectcache")
+    public Mono<Void> evictNearCachedObjectFor(String id) {
+        return Mono.empty();
+    }
+
     /**
      * This method is used to test the caching functionality for Flux<T>.
      * @param id The id
@@ -1,21 +1,37 @@
 package com.appsmith.testcaching.test;
 
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import com.appsmith.caching.components.TieredCacheManagerImpl;
+import com.appsmith.caching.model.CacheInvalidationMessage;
+import com.appsmith.caching.model.CacheStats;
 import com.appsmith.testcaching.model.ArgumentModel;
 import com.appsmith.testcaching.model.TestModel;
 import com.appsmith.testcaching.service.CacheTestService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -28,6 +44,17 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private RedisCacheManagerImpl redisCacheManager;
+
+    @Autowired
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    @Autowired
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -81,6 +108,85 @@ public class TestCachingMethods {
         assertNotEquals(model2, model2_2);
     }
 
+    /**
+     * This Test is used to test that cached values expire after the ttl given in the annotation
+     */
+    @Test
+    public void testCacheExpiry() throws InterruptedException {
+        TestModel model = cacheTestService.getExpiringObjectFor("test1").block();
+        assertEquals(model, cacheTestService.getExpiringObjectFor("test1").block());
+
+        Thread.sleep(2000);
+
+        // If not expired, this will return the same object
+        assertNotEquals(model, cacheTestService.getExpiringObjectFor("test1").block());
+    }
+
+    /**
+     * This Test is used to test that evict all removes every key of the cache over several SCAN batches, and only those
+     */
+    @Test
+    public void testEvictAllWithKeysOverSeveralBatches() {
+        String script = "for i = 1, 5000 do redis.call('set', 'batchedcache:' .. i, '1') end "
+                + "redis.call('set', 'otherbatchedcache:1', '1')";
+        reactiveRedisOperations.execute(RedisScript.of(script)).blockLast();
+
+        cacheManager.evictAll("batchedcache").block();
+
+        assertEquals(
+                0L,
+                reactiveRedisTemplate
+                        .scan(ScanOptions.scanOptions()
+                                .match("batchedcache:*")
+                                .count(1000)
+                                .build())
+                        .count()
+                        .block());
+        assertTrue(reactiveRedisTemplate.hasKey("otherbatchedcache:1").block());
+        reactiveRedisTemplate.delete("otherbatchedcache:1").block();
+    }
+
+    /**
+     * This Test is used to measure how long Redis stalls for other clients while evicting all the keys of a large
+     * cache. It seeds a million keys, so it only runs with the benchmark tests.
+     */
+    @Test
+    @Tag("benchmark")
+    public void testEvictAllWithMillionKeysDoesNotStallRedis() {
+        int keyCount = 1_000_000;
+        int batchSize = 100_000;
+        for (int start = 1; start <= keyCount; start += batchSize) {
+            String script = "for i = " + start + ", " + (start + batchSize - 1)
+                    + " do redis.call('set', 'largecache:' .. i, '1') end";
+            reactiveRedisOperations.execute(RedisScript.of(script)).blockLast();
+        }
+
+        // Ping Redis every 10ms for as long as the eviction is running, and keep the slowest response
+        Mono<Boolean> evictAllMono = cacheManager.evictAll("largecache").thenReturn(true);
+        Long maxPingMillis = Flux.interval(Duration.ofMillis(10))
+                .onBackpressureDrop()
+                .concatMap(i -> reactiveRedisTemplate
+                        .execute(connection -> connection.ping())
+                        .next()
+                        .elapsed()
+                        .map(Tuple2::getT1))
+                .takeUntilOther(evictAllMono)
+                .reduce(0L, Math::max)
+                .block(Duration.ofMinutes(5));
+
+        log.info("Slowest Redis ping while evicting {} keys: {} ms", keyCount, maxPingMillis);
+        assertTrue(maxPingMillis < 1000);
+        assertEquals(
+                0L,
+                reactiveRedisTemplate
+                        .scan(ScanOptions.scanOptions()
+                                .match("largecache:*")
+                                .count(1000)
+                                .build())
+                        .count()
+                        .block());
+    }
+
     /**
      * This Test is used to test SPEL expression in key field.
      */
@@ -116,6 +222,61 @@ public class TestCachingMethods {
         log.info("Time taken for cache operation " + (timeTaken / count) + " nanos");
     }
 
+    /**
+     * Test to measure the Redis round trips saved by the near cache
+     */
+    @Test
+    public void testNearCacheReducesRedisRoundTrips() {
+        TestModel model = cacheTestService.getNearCachedObjectFor("test1").block();
+        CacheStats stats = redisCacheManager.getStats("nearobjectcache");
+        int redisLookups = stats.getHits().get() + stats.getMisses().get();
+        int nearCacheHits = stats.getNearCacheHits().get();
+
+        int count = 100;
+        for (int i = 0; i < count; i++) {
+            assertEquals(model, cacheTestService.getNearCachedObjectFor("test1").block());
+        }
+
+        log.info(
+                "Redis lookups for {} cached calls: {} with near cache, {} without",
+                count,
+                stats.getHits().get() + stats.getMisses().get() - redisLookups,
+                count);
+        assertEquals(redisLookups, stats.getHits().get() + stats.getMisses().get());
+        assertEquals(nearCacheHits + count, stats.getNearCacheHits().get());
+
+        cacheTestService.evictNearCachedObjectFor("test1").block();
+
+        // If not evicted from the near cache with above call, this will return the same object
+        assertNotEquals(model, cacheTestService.getNearCachedObjectFor("test1").block());
+    }
+
+    /**
+     * This Test is used to test that an eviction on another node removes the entry from the near cache of this node
+     */
+    @Test
+    public void testNearCacheInvalidationFromAnotherNode() throws InterruptedException, JsonProcessingException {
+        TestModel model = cacheTestService.getNearCachedObjectFor("test2").block();
+        assertEquals(model, cacheManager.get("nearobjectcache", "test2").block());
+
+        // Evict the way another node would, directly from Redis and then over pub/sub
+        reactiveRedisTemplate.delete("nearobjectcache:test2").block();
+        String message = objectMapper.writeValueAsString(CacheInvalidationMessage.of("nearobjectcache", "test2", false));
+        reactiveRedisOperations
+                .convertAndSend(TieredCacheManagerImpl.INVALIDATION_CHANNEL, message)
+                .block();
+
+        boolean isEvicted = false;
+        for (int i = 0; i < 50 && !isEvicted; i++) {
+            isEvicted = cacheManager.get("nearobjectcache", "test2").blockOptional().isEmpty();
+            if (!isEvicted) {
+                Thread.sleep(100);
+            }
+        }
+        assertTrue(isEvicted);
+        assertNotEquals(model, cacheTestService.getNearCachedObjectFor("test2").block());
+    }
+
     /**
      * Log stats in the end
      */
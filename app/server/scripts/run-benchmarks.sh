@@ -0,0 +1,25 @@
+#!/usr/bin/env bash
+
+# Builds the JMH benchmarks and runs them, writing the results as JSON to appsmith-benchmarks/target/jmh-result.json.
+# Pass --offline first to build without reaching the Maven repositories, once the dependencies have been downloaded.
+# All the other arguments are passed on to JMH, e.g. to run only the filtering benchmarks with one set of parameters:
+#   ./scripts/run-benchmarks.sh FilterDataServiceBenchmark -p rowCount=10000
+#   ./scripts/run-benchmarks.sh --offline FilterDataServiceBenchmark
+# The benchmarks only use synthetic data held in memory, and do not need MongoDB, Redis or RTS.
+
+set -o errexit
+
+# Change to the parent directory of the directory containing this script.
+cd "$(cd "$(dirname "$0")" && pwd)/.."
+
+maven_args=(--batch-mode --activate-profiles benchmarks --projects appsmith-benchmarks --also-make -DskipTests)
+if [[ "${1:-}" == "--offline" ]]; then
+  maven_args+=(--offline)
+  shift
+fi
+
+mvn "${maven_args[@]}" package
+
+java -jar appsmith-benchmarks/target/benchmarks.jar \
+  -rf json -rff appsmith-benchmarks/target/jmh-result.json \
+  "$@"